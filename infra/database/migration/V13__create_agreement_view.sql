@@ -0,0 +1,43 @@
+-- Denormalized read model for agreement queries, kept current from AgreementAdded/Updated/Removed events
+CREATE TABLE company.agreement_view (
+    agreement_id UUID PRIMARY KEY,
+    source UUID NOT NULL,
+    destination UUID NOT NULL,
+    relation_type TEXT NOT NULL,
+    valid_from TIMESTAMP WITH TIME ZONE NOT NULL,
+    valid_to TIMESTAMP WITH TIME ZONE NULL,
+    condition_count INTEGER NOT NULL DEFAULT 0,
+    conditions JSONB NOT NULL DEFAULT '[]'::jsonb,
+    refreshed_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now()
+);
+
+-- Keyset pagination walks agreement_id within a source; the INCLUDE columns let the
+-- type/destination/validity filters be answered without visiting the heap
+CREATE INDEX idx_agreement_view_source
+    ON company.agreement_view(source, agreement_id)
+    INCLUDE (destination, relation_type, valid_from, valid_to, condition_count);
+
+CREATE INDEX idx_agreement_view_source_type
+    ON company.agreement_view(source, relation_type, agreement_id)
+    INCLUDE (destination, valid_from, valid_to, condition_count);
+
+CREATE INDEX idx_agreement_view_source_destination
+    ON company.agreement_view(source, destination, agreement_id)
+    INCLUDE (relation_type, valid_from, valid_to, condition_count);
+
+-- Backfill from the write model
+INSERT INTO company.agreement_view (agreement_id, source, destination, relation_type, valid_from, valid_to, condition_count, conditions)
+SELECT a.id,
+       a.source,
+       a.destination,
+       a.relation_type,
+       a.valid_from,
+       a.valid_to,
+       COUNT(c.id),
+       COALESCE(jsonb_agg(jsonb_build_object(
+               'agreementConditionId', c.id,
+               'conditionType', c.condition_type,
+               'conditions', c.conditions)) FILTER (WHERE c.id IS NOT NULL), '[]'::jsonb)
+FROM company.agreement a
+LEFT JOIN company.agreement_condition c ON c.agreement_id = a.id
+GROUP BY a.id;
@@ -0,0 +1,7 @@
+-- Keyset pagination seeks on (created_at, id) within a company, newest first.
+-- The composite index also serves company_id lookups, so the single-column ones are dropped.
+CREATE INDEX idx_shipment_order_company_created_id
+    ON shipmentorder.shipment_order(company_id, created_at DESC, id DESC);
+
+DROP INDEX IF EXISTS shipmentorder.idx_shipment_order_active_company_id;
+DROP INDEX IF EXISTS shipmentorder.idx_shipment_order_archived_company_id;
@@ -0,0 +1,2 @@
+-- Supports the set-based external_id = ANY(?) duplicate check of batch creation
+CREATE INDEX idx_shipment_order_external_id ON shipmentorder.shipment_order(external_id);
@@ -0,0 +1,8 @@
+-- Unique indexes on a partitioned table must include the partition key, so uniqueness
+-- of (company_id, external_id) is enforced per is_archived partition.
+-- Fails if duplicates already exist; they must be resolved before applying.
+CREATE UNIQUE INDEX uq_shipment_order_company_external_id
+    ON shipmentorder.shipment_order(company_id, external_id, is_archived);
+
+-- Every external_id lookup is now scoped by company, so the unique index supersedes it
+DROP INDEX IF EXISTS shipmentorder.idx_shipment_order_external_id;
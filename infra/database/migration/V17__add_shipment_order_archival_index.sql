@@ -0,0 +1,2 @@
+-- Lets the archival job find the oldest active orders without scanning the partition
+CREATE INDEX idx_shipment_order_active_created_at ON shipmentorder.shipment_order_active(created_at);
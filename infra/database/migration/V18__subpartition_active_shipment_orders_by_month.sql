@@ -0,0 +1,79 @@
+-- Sub-partitions the active partition by created_at month (UTC).
+-- Primary and unique keys on partitioned tables must contain every partition key column,
+-- so the primary key gains created_at and per-company external_id uniqueness of active
+-- orders moves to a key table maintained by trigger.
+
+CREATE OR REPLACE FUNCTION shipmentorder.ensure_shipment_order_active_partition(month DATE) RETURNS TEXT AS $$
+DECLARE
+    start_at       TIMESTAMPTZ := date_trunc('month', month::timestamp) AT TIME ZONE 'UTC';
+    end_at         TIMESTAMPTZ := (date_trunc('month', month::timestamp) + INTERVAL '1 month') AT TIME ZONE 'UTC';
+    partition_name TEXT        := format('shipment_order_active_%s', to_char(month, 'YYYYMM'));
+BEGIN
+    EXECUTE format('CREATE TABLE IF NOT EXISTS shipmentorder.%I PARTITION OF shipmentorder.shipment_order_active FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, start_at, end_at);
+    RETURN partition_name;
+END;
+$$ LANGUAGE plpgsql;
+
+ALTER TABLE shipmentorder.shipment_order DETACH PARTITION shipmentorder.shipment_order_active;
+ALTER TABLE shipmentorder.shipment_order_active RENAME TO shipment_order_active_legacy;
+
+DROP INDEX shipmentorder.uq_shipment_order_company_external_id;
+ALTER TABLE shipmentorder.shipment_order DROP CONSTRAINT shipment_order_pkey;
+ALTER TABLE shipmentorder.shipment_order ADD PRIMARY KEY (id, is_archived, created_at);
+
+CREATE TABLE shipmentorder.shipment_order_active
+    PARTITION OF shipmentorder.shipment_order FOR VALUES IN (false)
+    PARTITION BY RANGE (created_at);
+
+-- Safety net if the partition manager falls behind; expected to stay empty
+CREATE TABLE shipmentorder.shipment_order_active_default
+    PARTITION OF shipmentorder.shipment_order_active DEFAULT;
+
+-- Declared on the partitioned tables so every partition created later inherits them
+CREATE INDEX idx_shipment_order_active_created_at_brin
+    ON shipmentorder.shipment_order_active USING brin (created_at);
+CREATE INDEX idx_shipment_order_company_external_id
+    ON shipmentorder.shipment_order(company_id, external_id);
+
+CREATE UNIQUE INDEX uq_shipment_order_archived_company_external_id
+    ON shipmentorder.shipment_order_archived(company_id, external_id);
+
+CREATE TABLE shipmentorder.shipment_order_active_key (
+    company_id        UUID         NOT NULL,
+    external_id       VARCHAR(255) NOT NULL,
+    shipment_order_id UUID         NOT NULL,
+    PRIMARY KEY (company_id, external_id)
+);
+
+CREATE OR REPLACE FUNCTION shipmentorder.track_shipment_order_active_key() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO shipmentorder.shipment_order_active_key (company_id, external_id, shipment_order_id)
+        VALUES (NEW.company_id, NEW.external_id, NEW.id);
+        RETURN NEW;
+    END IF;
+
+    DELETE FROM shipmentorder.shipment_order_active_key
+    WHERE company_id = OLD.company_id
+      AND external_id = OLD.external_id
+      AND shipment_order_id = OLD.id;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_shipment_order_active_key
+    AFTER INSERT OR DELETE ON shipmentorder.shipment_order_active
+    FOR EACH ROW EXECUTE FUNCTION shipmentorder.track_shipment_order_active_key();
+
+SELECT shipmentorder.ensure_shipment_order_active_partition(month::date)
+FROM generate_series(
+        date_trunc('month', COALESCE((SELECT min(created_at) FROM shipmentorder.shipment_order_active_legacy), now()) AT TIME ZONE 'UTC'),
+        date_trunc('month', now() AT TIME ZONE 'UTC') + INTERVAL '3 months',
+        INTERVAL '1 month') AS month;
+
+INSERT INTO shipmentorder.shipment_order (id, is_archived, company_id, shipper, external_id, created_at, updated_at)
+SELECT id, false, company_id, shipper, external_id, created_at, updated_at
+FROM shipmentorder.shipment_order_active_legacy;
+
+DROP TABLE shipmentorder.shipment_order_active_legacy;
@@ -0,0 +1,3 @@
+-- Source event time of the last applied change per field; NULL means unknown and never wins over a known version
+ALTER TABLE shipmentorder.company ADD COLUMN data_version TIMESTAMPTZ;
+ALTER TABLE shipmentorder.company ADD COLUMN status_version TIMESTAMPTZ;
@@ -0,0 +1,14 @@
+-- Per-company hi/lo counter: nodes reserve blocks of order numbers and hand them out from memory
+CREATE TABLE shipmentorder.shipment_order_number_block (
+    company_id UUID   PRIMARY KEY,
+    next_value BIGINT NOT NULL
+);
+
+-- Continues from the counter previously kept in the company configuration
+INSERT INTO shipmentorder.shipment_order_number_block (company_id, next_value)
+SELECT id, (configuration ->> 'shipmentOrderNumber')::BIGINT + 1
+FROM company.company
+WHERE configuration ? 'shipmentOrderNumber';
+
+-- Orders created before this migration have no number
+ALTER TABLE shipmentorder.shipment_order ADD COLUMN order_number BIGINT;
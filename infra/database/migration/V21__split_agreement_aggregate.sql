@@ -0,0 +1,18 @@
+-- Agreements are now written on their own instead of through the company row, so they carry their own version
+ALTER TABLE company.agreement ADD COLUMN version INTEGER NOT NULL DEFAULT 0;
+
+-- The partial unique index only compared against now(); the exclusion constraint rejects any overlapping
+-- validity window for the same source, destination and type, including concurrent inserts from other nodes.
+-- Existing overlapping rows must be resolved before this migration can run.
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+DROP INDEX IF EXISTS company.idx_agreement_unique_active;
+
+ALTER TABLE company.agreement
+    ADD CONSTRAINT ex_agreement_overlap
+    EXCLUDE USING gist (
+        source WITH =,
+        destination WITH =,
+        relation_type WITH =,
+        tstzrange(valid_from, valid_to, '[)') WITH &&
+    );
@@ -0,0 +1,33 @@
+-- Activity is materialized by the agreement activity scheduler at the validity boundaries, so indexes and
+-- read queries filter on a plain boolean instead of comparing against now(), which a partial index cannot track
+ALTER TABLE company.agreement ADD COLUMN active BOOLEAN NOT NULL DEFAULT false;
+
+UPDATE company.agreement
+SET active = valid_from <= now() AND (valid_to IS NULL OR valid_to > now());
+
+DROP INDEX IF EXISTS company.idx_agreement_active;
+
+CREATE INDEX idx_agreement_active
+    ON company.agreement(source, destination, relation_type)
+    WHERE active;
+
+-- The scheduler looks up the next boundaries: starts of pending agreements and ends of active ones
+CREATE INDEX idx_agreement_pending_valid_from
+    ON company.agreement(valid_from)
+    WHERE NOT active;
+
+CREATE INDEX idx_agreement_active_valid_to
+    ON company.agreement(valid_to)
+    WHERE active AND valid_to IS NOT NULL;
+
+ALTER TABLE company.agreement_view ADD COLUMN active BOOLEAN NOT NULL DEFAULT false;
+
+UPDATE company.agreement_view v
+SET active = a.active
+FROM company.agreement a
+WHERE a.id = v.agreement_id;
+
+CREATE INDEX idx_agreement_view_source_active
+    ON company.agreement_view(source, agreement_id)
+    INCLUDE (destination, relation_type, valid_from, valid_to, condition_count)
+    WHERE active;
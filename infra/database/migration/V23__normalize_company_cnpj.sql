@@ -0,0 +1,7 @@
+-- CNPJs are stored as their 14 digits so lookups compare a fixed-width integer instead of a masked string.
+-- Duplicates must be resolved before this migration can run; from here on the database rejects them.
+ALTER TABLE company.company
+    ALTER COLUMN cnpj TYPE BIGINT USING regexp_replace(cnpj, '\D', '', 'g')::BIGINT;
+
+-- INCLUDE (id) lets the onboarding duplicate check be answered from the index alone
+CREATE UNIQUE INDEX uq_company_cnpj ON company.company(cnpj) INCLUDE (id);
@@ -0,0 +1,7 @@
+-- Contains search on names goes through trigrams; prefix typeahead is served from the read nodes' in-memory index
+-- and CNPJ prefixes are ranges over uq_company_cnpj, so neither needs an index of its own
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_company_name_trgm
+    ON company.company USING gin (lower(name) gin_trgm_ops)
+    WHERE status <> 'D';
@@ -0,0 +1,14 @@
+-- Listing pages newest first, so companies need a creation instant. Ids are UUIDv7, whose first 48 bits are the
+-- creation time in epoch milliseconds, which backfills existing rows without guessing.
+ALTER TABLE company.company ADD COLUMN created_at TIMESTAMPTZ NOT NULL DEFAULT now();
+
+UPDATE company.company
+SET created_at = to_timestamp(('x' || substr(replace(id::text, '-', ''), 1, 12))::bit(48)::bigint / 1000.0);
+
+-- Keyset pagination seeks on (created_at, id) within a status, newest first
+CREATE INDEX idx_company_status_created_id
+    ON company.company(status, created_at DESC, id DESC);
+
+-- The primary key leads with company_id, so filtering by type needs its own index
+CREATE INDEX idx_company_type_type_company
+    ON company.company_type(type, company_id);
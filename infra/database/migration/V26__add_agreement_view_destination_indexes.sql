@@ -0,0 +1,8 @@
+-- Inbound agreements are paged by agreement_id within a destination, mirroring the source-side indexes
+CREATE INDEX idx_agreement_view_destination
+    ON company.agreement_view(destination, agreement_id)
+    INCLUDE (source, relation_type, valid_from, valid_to, condition_count, active);
+
+CREATE INDEX idx_agreement_view_destination_type
+    ON company.agreement_view(destination, relation_type, agreement_id)
+    INCLUDE (source, valid_from, valid_to, condition_count, active);
@@ -0,0 +1,11 @@
+CREATE SCHEMA IF NOT EXISTS quotation;
+
+-- Flat per-kilogram tariff a carrier charges for one service level
+CREATE TABLE quotation.carrier_tariff (
+    carrier_id UUID NOT NULL,
+    service_level TEXT NOT NULL,
+    base_price_cents BIGINT NOT NULL CHECK (base_price_cents >= 0),
+    price_per_kg_cents BIGINT NOT NULL CHECK (price_per_kg_cents >= 0),
+    transit_days INTEGER NOT NULL CHECK (transit_days >= 0),
+    PRIMARY KEY (carrier_id, service_level)
+);
@@ -0,0 +1,11 @@
+-- Lane x weight band rate cards, one compressed columnar snapshot per uploaded version; the highest version is active
+CREATE TABLE quotation.rate_card (
+    carrier_id UUID NOT NULL,
+    version INTEGER NOT NULL CHECK (version > 0),
+    prefix_length INTEGER NOT NULL,
+    lane_count INTEGER NOT NULL,
+    row_count INTEGER NOT NULL,
+    payload BYTEA NOT NULL,
+    uploaded_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (carrier_id, version)
+);
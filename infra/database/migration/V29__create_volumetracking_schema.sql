@@ -0,0 +1,20 @@
+CREATE SCHEMA IF NOT EXISTS volumetracking;
+
+-- Shipments per subject and time bucket; every write node adds its own flushed counts to the same row
+CREATE TABLE volumetracking.volume_rollup (
+    scope TEXT NOT NULL,
+    subject_id UUID NOT NULL,
+    granularity TEXT NOT NULL,
+    bucket_start TIMESTAMPTZ NOT NULL,
+    shipments BIGINT NOT NULL CHECK (shipments >= 0),
+    PRIMARY KEY (scope, subject_id, granularity, bucket_start)
+);
+
+-- Expected ceiling of shipments per bucket, which volume queries report utilization against
+CREATE TABLE volumetracking.capacity (
+    scope TEXT NOT NULL,
+    subject_id UUID NOT NULL,
+    granularity TEXT NOT NULL,
+    max_shipments BIGINT NOT NULL CHECK (max_shipments > 0),
+    PRIMARY KEY (scope, subject_id, granularity)
+);
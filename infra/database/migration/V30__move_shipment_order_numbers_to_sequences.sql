@@ -0,0 +1,35 @@
+-- One sequence per company replaces the upserted counter row. nextval is never rolled back,
+-- so nodes reserve a block on the order's own connection instead of a separate transaction.
+-- INCREMENT BY must match the block size of ShipmentOrderNumberRepositoryImpl.
+
+CREATE OR REPLACE FUNCTION shipmentorder.shipment_order_number_sequence(company_id UUID) RETURNS TEXT AS $$
+    SELECT format('shipmentorder.%I', 'shipment_order_number_' || replace(company_id::TEXT, '-', ''));
+$$ LANGUAGE sql IMMUTABLE;
+
+CREATE OR REPLACE FUNCTION shipmentorder.create_shipment_order_number_sequence(company_id UUID, start_with BIGINT) RETURNS VOID AS $$
+BEGIN
+    EXECUTE format('CREATE SEQUENCE IF NOT EXISTS %s INCREMENT BY 50 START WITH %s',
+                   shipmentorder.shipment_order_number_sequence(company_id), start_with);
+END;
+$$ LANGUAGE plpgsql;
+
+-- Created with the company row, so it exists, committed, before any order of that company can be accepted
+CREATE OR REPLACE FUNCTION shipmentorder.create_company_shipment_order_number_sequence() RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM shipmentorder.create_shipment_order_number_sequence(NEW.company_id, 1);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_company_shipment_order_number_sequence
+    AFTER INSERT ON shipmentorder.company
+    FOR EACH ROW EXECUTE FUNCTION shipmentorder.create_company_shipment_order_number_sequence();
+
+-- Continues from the counter row; companies without one start at 1
+SELECT shipmentorder.create_shipment_order_number_sequence(company_id, next_value)
+FROM shipmentorder.shipment_order_number_block;
+
+SELECT shipmentorder.create_shipment_order_number_sequence(company_id, 1)
+FROM shipmentorder.company;
+
+DROP TABLE shipmentorder.shipment_order_number_block;
@@ -0,0 +1,4 @@
+-- Contains search on CNPJ digits, matching the zero-padded form the search query compares against
+CREATE INDEX idx_company_cnpj_digits_trgm
+    ON company.company USING gin (lpad(cnpj::text, 14, '0') gin_trgm_ops)
+    WHERE status <> 'D';
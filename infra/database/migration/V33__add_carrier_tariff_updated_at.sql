@@ -0,0 +1,2 @@
+-- Read nodes poll this to evict cached quotes priced with a tariff that has since changed
+ALTER TABLE quotation.carrier_tariff ADD COLUMN updated_at TIMESTAMPTZ NOT NULL DEFAULT now();
@@ -0,0 +1,38 @@
+-- One key per company external id across the active and archived partitions, so an archived
+-- order keeps its external id taken. Replaces the active-only key table and the archived-only
+-- unique index. Keys are never deleted: archiving moves the order, not its key.
+-- Fails if an active and an archived order already share a key; resolve those before applying.
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1
+               FROM shipmentorder.shipment_order
+               GROUP BY company_id, external_id
+               HAVING count(*) > 1) THEN
+        RAISE EXCEPTION 'Shipment orders share a company external id across partitions';
+    END IF;
+END;
+$$;
+
+DROP TRIGGER trg_shipment_order_active_key ON shipmentorder.shipment_order_active;
+DROP FUNCTION shipmentorder.track_shipment_order_active_key();
+DROP INDEX shipmentorder.uq_shipment_order_archived_company_external_id;
+
+ALTER TABLE shipmentorder.shipment_order_active_key RENAME TO shipment_order_key;
+ALTER INDEX shipmentorder.shipment_order_active_key_pkey RENAME TO shipment_order_key_pkey;
+
+INSERT INTO shipmentorder.shipment_order_key (company_id, external_id, shipment_order_id)
+SELECT company_id, external_id, id
+FROM shipmentorder.shipment_order_archived;
+
+-- New orders always land in the active partition, and moved rows already hold their key
+CREATE OR REPLACE FUNCTION shipmentorder.insert_shipment_order_key() RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO shipmentorder.shipment_order_key (company_id, external_id, shipment_order_id)
+    VALUES (NEW.company_id, NEW.external_id, NEW.id);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_shipment_order_key
+    AFTER INSERT ON shipmentorder.shipment_order_active
+    FOR EACH ROW EXECUTE FUNCTION shipmentorder.insert_shipment_order_key();
@@ -2,7 +2,9 @@ package br.com.logistics.tms;
 
 import br.com.logistics.tms.commons.infrastructure.config.modules.CommonsModuleConfig;
 import br.com.logistics.tms.commons.infrastructure.config.modules.CompanyModuleConfig;
+import br.com.logistics.tms.commons.infrastructure.config.modules.QuotationModuleConfig;
 import br.com.logistics.tms.commons.infrastructure.config.modules.ShipmentOrderModuleConfig;
+import br.com.logistics.tms.commons.infrastructure.config.modules.VolumeTrackingModuleConfig;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.context.annotation.Configuration;
@@ -15,7 +17,9 @@ import org.springframework.modulith.Modulithic;
 @Import({
         CommonsModuleConfig.class,
         ShipmentOrderModuleConfig.class,
-        CompanyModuleConfig.class
+        CompanyModuleConfig.class,
+        QuotationModuleConfig.class,
+        VolumeTrackingModuleConfig.class
 })
 public class TmsApplication {
 
@@ -0,0 +1,16 @@
+package br.com.logistics.tms.commons.application.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface UseCaseCache {
+    String region();
+
+    long ttlSeconds() default 60;
+
+    long maxEntries() default 10_000;
+}
@@ -80,7 +80,14 @@ public class UseCaseBuilder<INPUT, OUTPUT> {
                     ? mapper.map(externalInput, inputClass)
                     : (INPUT) externalInput;
 
-            final OUTPUT output = useCase.execute(input);
+            Supplier<OUTPUT> execution = () -> useCase.execute(input);
+            for (int i = actionInterceptors.size() - 1; i >= 0; i--) {
+                UseCaseInterceptor interceptor = actionInterceptors.get(i);
+                Supplier<OUTPUT> previous = execution;
+                execution = () -> interceptor.interceptExecution(input, previous);
+            }
+
+            final OUTPUT output = execution.get();
 
             final Object finalOutput = outputClass != null
                     ? mapper.map(output, outputClass)
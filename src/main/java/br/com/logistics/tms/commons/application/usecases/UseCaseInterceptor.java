@@ -5,4 +5,9 @@ import java.util.function.Supplier;
 @FunctionalInterface
 public interface UseCaseInterceptor {
     <T>T intercept(Supplier<T> next);
-}
\ No newline at end of file
+
+    // Wraps only the use case call, after input mapping and before output mapping/presentation
+    default <T>T interceptExecution(Object input, Supplier<T> next) {
+        return next.get();
+    }
+}
@@ -0,0 +1,36 @@
+package br.com.logistics.tms.commons.domain.pagination;
+
+import br.com.logistics.tms.commons.domain.exception.DomainException;
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+public record Cursor(Instant position, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    public Cursor {
+        if (position == null) throw new DomainException("position cannot be null");
+        if (id == null) throw new DomainException("id cannot be null");
+    }
+
+    public String encode() {
+        final String raw = position.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Cursor decode(final String token) {
+        try {
+            final String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            final int separator = raw.indexOf(SEPARATOR);
+            return new Cursor(Instant.parse(raw.substring(0, separator)), UUID.fromString(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new ValidationException("Invalid cursor");
+        }
+    }
+
+}
@@ -0,0 +1,41 @@
+package br.com.logistics.tms.commons.domain.pagination;
+
+import br.com.logistics.tms.commons.domain.exception.DomainException;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Keyset page: {@code nextCursor} is null on the last page and {@code estimatedTotal}
+ * is null unless requested, since an exact count costs a full index scan per call.
+ */
+public record CursorPage<T>(
+        List<T> content,
+        int size,
+        Cursor nextCursor,
+        Long estimatedTotal
+) {
+
+    public CursorPage {
+        if (content == null) throw new DomainException("content cannot be null");
+        if (size < 1) throw new DomainException("size must be >= 1");
+        if (estimatedTotal != null && estimatedTotal < 0) throw new DomainException("estimatedTotal cannot be negative");
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    /**
+     * Builds a page from a query that fetched {@code size + 1} rows; the extra row only signals that more exist.
+     */
+    public static <T> CursorPage<T> of(final List<T> fetched,
+                                       final int size,
+                                       final Function<T, Cursor> cursorOf,
+                                       final Long estimatedTotal) {
+        final boolean hasNext = fetched.size() > size;
+        final List<T> content = hasNext ? List.copyOf(fetched.subList(0, size)) : List.copyOf(fetched);
+        return new CursorPage<>(content, size, hasNext ? cursorOf.apply(content.getLast()) : null, estimatedTotal);
+    }
+
+}
@@ -0,0 +1,15 @@
+package br.com.logistics.tms.commons.domain.pagination;
+
+import br.com.logistics.tms.commons.domain.exception.DomainException;
+
+public record CursorPageRequest(Cursor after, int size, boolean includeTotal) {
+
+    public CursorPageRequest {
+        if (size < 1) throw new DomainException("size must be >= 1");
+    }
+
+    public static CursorPageRequest of(final String token, final int size, final boolean includeTotal) {
+        return new CursorPageRequest(token == null || token.isBlank() ? null : Cursor.decode(token), size, includeTotal);
+    }
+
+}
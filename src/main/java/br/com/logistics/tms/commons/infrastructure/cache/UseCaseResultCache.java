@@ -0,0 +1,147 @@
+package br.com.logistics.tms.commons.infrastructure.cache;
+
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.application.annotation.UseCaseCache;
+import br.com.logistics.tms.commons.application.usecases.UseCaseInterceptor;
+import br.com.logistics.tms.commons.infrastructure.telemetry.Counterable;
+import br.com.logistics.tms.commons.infrastructure.telemetry.MetricCounter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.RecordComponent;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@Component
+public class UseCaseResultCache {
+
+    private final Map<Class<?>, Region> regions = new ConcurrentHashMap<>();
+    private final Map<Class<?>, List<RecordComponent>> idComponents = new ConcurrentHashMap<>();
+    private final MetricCounter hitCounter;
+    private final MetricCounter missCounter;
+    private final MetricCounter evictionCounter;
+
+    public UseCaseResultCache(final Counterable counterable) {
+        this.hitCounter = counterable.createLongCounter("usecase.cache.hits", "Use case results served from cache");
+        this.missCounter = counterable.createLongCounter("usecase.cache.misses", "Use case results computed on cache miss");
+        this.evictionCounter = counterable.createLongCounter("usecase.cache.evictions", "Use case results evicted by size or TTL");
+    }
+
+    public Optional<UseCaseInterceptor> interceptorFor(final Object useCase) {
+        final Class<?> useCaseClass = useCase.getClass();
+        final UseCaseCache config = useCaseClass.getAnnotation(UseCaseCache.class);
+        if (config == null || !DatabaseRole.isReadOnly(useCaseClass)) {
+            return Optional.empty();
+        }
+
+        final Region region = regions.computeIfAbsent(useCaseClass, type -> newRegion(config));
+        return Optional.of(new UseCaseInterceptor() {
+            @Override
+            public <T> T intercept(final Supplier<T> next) {
+                return next.get();
+            }
+
+            @Override
+            public <T> T interceptExecution(final Object input, final Supplier<T> next) {
+                return region.get(input, next);
+            }
+        });
+    }
+
+    public void invalidate(final String regionName, final Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        for (final Region region : regions.values()) {
+            if (region.name().equals(regionName)) {
+                region.invalidate(ids);
+            }
+        }
+    }
+
+    private Region newRegion(final UseCaseCache config) {
+        final Map<String, String> attributes = Map.of("region", config.region());
+        // Caffeine's default eviction is W-TinyLFU, which keeps hot ids resident under scan-like traffic
+        final Cache<Key, Object> cache = Caffeine.newBuilder()
+                .maximumSize(config.maxEntries())
+                .expireAfterWrite(Duration.ofSeconds(config.ttlSeconds()))
+                .removalListener((key, value, cause) -> {
+                    if (cause.wasEvicted()) evictionCounter.add(1, attributes);
+                })
+                .build();
+        return new Region(config.region(), cache, new AtomicLong(), attributes);
+    }
+
+    private Set<UUID> idsOf(final Object input) {
+        final List<RecordComponent> components = idComponents.computeIfAbsent(input.getClass(), type ->
+                Arrays.stream(type.getRecordComponents())
+                        .filter(component -> component.getType() == UUID.class)
+                        .toList());
+
+        final Set<UUID> ids = new HashSet<>();
+        for (final RecordComponent component : components) {
+            try {
+                final Object value = component.getAccessor().invoke(input);
+                if (value != null) ids.add((UUID) value);
+            } catch (final ReflectiveOperationException e) {
+                throw new IllegalStateException("Could not read " + component.getName() + " from " + input.getClass(), e);
+            }
+        }
+        return ids;
+    }
+
+    private record Key(Object input, Set<UUID> ids) {
+    }
+
+    private final class Region {
+
+        private final String name;
+        private final Cache<Key, Object> cache;
+        private final AtomicLong generation;
+        private final Map<String, String> attributes;
+
+        private Region(final String name, final Cache<Key, Object> cache, final AtomicLong generation, final Map<String, String> attributes) {
+            this.name = name;
+            this.cache = cache;
+            this.generation = generation;
+            this.attributes = attributes;
+        }
+
+        String name() {
+            return name;
+        }
+
+        @SuppressWarnings("unchecked")
+        <T> T get(final Object input, final Supplier<T> next) {
+            if (input == null || !input.getClass().isRecord()) {
+                return next.get();
+            }
+
+            final Key key = new Key(input, idsOf(input));
+            final Object cached = cache.getIfPresent(key);
+            if (cached != null) {
+                hitCounter.add(1, attributes);
+                return (T) cached;
+            }
+
+            missCounter.add(1, attributes);
+            final long observed = generation.get();
+            final T result = next.get();
+            // An invalidation that raced with the load means the result may already be stale
+            if (result != null && generation.get() == observed) {
+                cache.put(key, result);
+            }
+            return result;
+        }
+
+        void invalidate(final Collection<UUID> ids) {
+            generation.incrementAndGet();
+            cache.asMap().keySet().removeIf(key -> !Collections.disjoint(key.ids(), ids));
+        }
+    }
+}
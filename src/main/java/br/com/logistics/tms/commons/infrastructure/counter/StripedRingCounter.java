@@ -0,0 +1,96 @@
+package br.com.logistics.tms.commons.infrastructure.counter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free counts per time bucket over a ring of slots, striped by thread so hot counters do not contend on one
+ * cell. Each cell packs a bucket number with its count, so a drain takes a bucket's exact count in one CAS and a
+ * cell only moves on to a later bucket once it has been drained.
+ */
+public final class StripedRingCounter {
+
+    private static final int COUNT_BITS = 24;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+    private static final long MAX_BUCKET = (1L << (Long.SIZE - 1 - COUNT_BITS)) - 1;
+
+    private final int slots;
+    private final int stripeMask;
+    // cells[stripe * slots + bucket % slots] holds bucket << COUNT_BITS | count
+    private final AtomicLongArray cells;
+    // Buckets whose cell is taken by another undrained bucket land here, which is slower but never loses a count
+    private final Map<Long, Long> overflow = new ConcurrentHashMap<>();
+
+    public StripedRingCounter(final int slots, final int stripes) {
+        if (slots <= 0) throw new IllegalArgumentException("slots must be positive");
+        if (stripes <= 0 || Integer.bitCount(stripes) != 1) throw new IllegalArgumentException("stripes must be a power of two");
+        this.slots = slots;
+        this.stripeMask = stripes - 1;
+        this.cells = new AtomicLongArray(slots * stripes);
+    }
+
+    public void increment(final long bucket) {
+        if (bucket < 0 || bucket > MAX_BUCKET) throw new IllegalArgumentException("bucket out of range: " + bucket);
+
+        final long thread = Thread.currentThread().threadId();
+        final int stripe = (int) (thread ^ (thread >>> 16)) & stripeMask;
+        final int index = stripe * slots + (int) (bucket % slots);
+        while (true) {
+            final long cell = cells.get(index);
+            final long held = cell >>> COUNT_BITS;
+            final long count = cell & COUNT_MASK;
+            final long next;
+            if (held == bucket && count < COUNT_MASK) {
+                next = cell + 1;
+            } else if (count == 0 && held < bucket) {
+                next = bucket << COUNT_BITS | 1;
+            } else {
+                overflow.merge(bucket, 1L, Long::sum);
+                return;
+            }
+            if (cells.compareAndSet(index, cell, next)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Puts back counts that were drained but could not be delivered.
+     */
+    public void add(final long bucket, final long count) {
+        if (count > 0) {
+            overflow.merge(bucket, count, Long::sum);
+        }
+    }
+
+    /**
+     * Hands every bucket counted since the previous drain, with its count, to {@code consumer} and resets it.
+     */
+    public void drain(final BucketConsumer consumer) {
+        final Map<Long, Long> drained = new HashMap<>();
+        for (int index = 0; index < cells.length(); index++) {
+            long cell = cells.get(index);
+            while ((cell & COUNT_MASK) != 0) {
+                if (cells.compareAndSet(index, cell, cell & ~COUNT_MASK)) {
+                    drained.merge(cell >>> COUNT_BITS, cell & COUNT_MASK, Long::sum);
+                    break;
+                }
+                cell = cells.get(index);
+            }
+        }
+        for (final Long bucket : overflow.keySet()) {
+            final Long count = overflow.remove(bucket);
+            if (count != null) {
+                drained.merge(bucket, count, Long::sum);
+            }
+        }
+        drained.forEach(consumer::accept);
+    }
+
+    @FunctionalInterface
+    public interface BucketConsumer {
+        void accept(long bucket, long count);
+    }
+}
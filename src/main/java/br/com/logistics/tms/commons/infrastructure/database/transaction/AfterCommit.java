@@ -0,0 +1,28 @@
+package br.com.logistics.tms.commons.infrastructure.database.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public final class AfterCommit implements TransactionSynchronization {
+
+    private final Runnable action;
+
+    private AfterCommit(final Runnable action) {
+        this.action = action;
+    }
+
+    // Without a transaction there is nothing to wait for, so the action runs straight away
+    public static void run(final Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new AfterCommit(action));
+    }
+
+    @Override
+    public void afterCommit() {
+        action.run();
+    }
+}
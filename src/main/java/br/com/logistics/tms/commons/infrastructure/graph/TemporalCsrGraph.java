@@ -0,0 +1,156 @@
+package br.com.logistics.tms.commons.infrastructure.graph;
+
+import java.util.Arrays;
+
+/**
+ * Immutable adjacency in compressed sparse row form, one edge list per label, each edge valid over
+ * the half-open interval {@code [validFrom, validTo)} in epoch millis.
+ */
+public final class TemporalCsrGraph {
+
+    public static final long OPEN_ENDED = Long.MAX_VALUE;
+
+    private final int nodeCount;
+    // offsets[label][node] .. offsets[label][node + 1] index the node's edges in the arrays below
+    private final int[][] offsets;
+    private final int[][] targets;
+    private final int[][] edgeIds;
+    private final long[][] validFrom;
+    private final long[][] validTo;
+
+    private TemporalCsrGraph(final int nodeCount,
+                             final int[][] offsets,
+                             final int[][] targets,
+                             final int[][] edgeIds,
+                             final long[][] validFrom,
+                             final long[][] validTo) {
+        this.nodeCount = nodeCount;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.edgeIds = edgeIds;
+        this.validFrom = validFrom;
+        this.validTo = validTo;
+    }
+
+    public static Builder builder(final int labels) {
+        return new Builder(labels);
+    }
+
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    public int edgeCount() {
+        int count = 0;
+        for (final int[] labelTargets : targets) {
+            count += labelTargets.length;
+        }
+        return count;
+    }
+
+    /**
+     * Visits the edges of {@code node} under {@code label} that are valid at {@code at}.
+     */
+    public void forEachEdge(final int node, final int label, final long at, final EdgeVisitor visitor) {
+        if (node < 0 || node >= nodeCount) {
+            return;
+        }
+
+        final int[] labelOffsets = offsets[label];
+        final long[] from = validFrom[label];
+        final long[] to = validTo[label];
+        for (int edge = labelOffsets[node]; edge < labelOffsets[node + 1]; edge++) {
+            if (from[edge] <= at && at < to[edge]) {
+                visitor.visit(edgeIds[label][edge], targets[label][edge]);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface EdgeVisitor {
+        void visit(int edgeId, int target);
+    }
+
+    public static final class Builder {
+
+        private final int labels;
+        private int size;
+        private int maxNode = -1;
+        private int[] sources = new int[16];
+        private int[] targets = new int[16];
+        private int[] labelOf = new int[16];
+        private int[] edgeIds = new int[16];
+        private long[] validFrom = new long[16];
+        private long[] validTo = new long[16];
+
+        private Builder(final int labels) {
+            if (labels <= 0) throw new IllegalArgumentException("labels must be positive");
+            this.labels = labels;
+        }
+
+        public Builder add(final int source, final int target, final int label, final int edgeId,
+                           final long from, final long to) {
+            if (source < 0 || target < 0) throw new IllegalArgumentException("nodes must not be negative");
+            if (label < 0 || label >= labels) throw new IllegalArgumentException("label out of range: " + label);
+
+            if (size == sources.length) {
+                final int capacity = size * 2;
+                sources = Arrays.copyOf(sources, capacity);
+                targets = Arrays.copyOf(targets, capacity);
+                labelOf = Arrays.copyOf(labelOf, capacity);
+                edgeIds = Arrays.copyOf(edgeIds, capacity);
+                validFrom = Arrays.copyOf(validFrom, capacity);
+                validTo = Arrays.copyOf(validTo, capacity);
+            }
+
+            sources[size] = source;
+            targets[size] = target;
+            labelOf[size] = label;
+            edgeIds[size] = edgeId;
+            validFrom[size] = from;
+            validTo[size] = to;
+            size++;
+            maxNode = Math.max(maxNode, Math.max(source, target));
+            return this;
+        }
+
+        public TemporalCsrGraph build(final int nodeCount) {
+            final int nodes = Math.max(nodeCount, maxNode + 1);
+            final int[][] offsets = new int[labels][nodes + 1];
+            for (int i = 0; i < size; i++) {
+                offsets[labelOf[i]][sources[i] + 1]++;
+            }
+            for (final int[] labelOffsets : offsets) {
+                for (int node = 0; node < nodes; node++) {
+                    labelOffsets[node + 1] += labelOffsets[node];
+                }
+            }
+
+            final int[][] csrTargets = new int[labels][];
+            final int[][] csrEdgeIds = new int[labels][];
+            final long[][] csrFrom = new long[labels][];
+            final long[][] csrTo = new long[labels][];
+            final int[][] cursor = new int[labels][];
+            for (int label = 0; label < labels; label++) {
+                final int edges = offsets[label][nodes];
+                csrTargets[label] = new int[edges];
+                csrEdgeIds[label] = new int[edges];
+                csrFrom[label] = new long[edges];
+                csrTo[label] = new long[edges];
+                cursor[label] = Arrays.copyOf(offsets[label], nodes);
+            }
+
+            // Counting sort by source keeps each node's edges contiguous in one pass
+            for (int i = 0; i < size; i++) {
+                final int label = labelOf[i];
+                final int slot = cursor[label][sources[i]]++;
+                csrTargets[label][slot] = targets[i];
+                csrEdgeIds[label][slot] = edgeIds[i];
+                csrFrom[label][slot] = validFrom[i];
+                csrTo[label][slot] = validTo[i];
+            }
+
+            return new TemporalCsrGraph(nodes, offsets, csrTargets, csrEdgeIds, csrFrom, csrTo);
+        }
+    }
+}
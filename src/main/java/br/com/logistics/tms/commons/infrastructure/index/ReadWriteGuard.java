@@ -0,0 +1,28 @@
+package br.com.logistics.tms.commons.infrastructure.index;
+
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+public final class ReadWriteGuard {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public <T> T read(final Supplier<T> action) {
+        lock.readLock().lock();
+        try {
+            return action.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void write(final Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
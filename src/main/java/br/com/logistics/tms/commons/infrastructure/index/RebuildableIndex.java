@@ -0,0 +1,58 @@
+package br.com.logistics.tms.commons.infrastructure.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * An in-memory index kept current by events and periodically rebuilt from the database. Changes applied while a
+ * rebuild loads its snapshot are replayed on the new index before it is published, so none are lost in the swap.
+ */
+public final class RebuildableIndex<I> {
+
+    private final AtomicReference<I> published = new AtomicReference<>();
+    private final AtomicReference<List<Consumer<I>>> duringRebuild = new AtomicReference<>();
+    private final Object rebuilding = new Object();
+
+    /**
+     * The published index, or null until the first rebuild finishes.
+     */
+    public I current() {
+        return published.get();
+    }
+
+    public I rebuild(final Supplier<I> load) {
+        synchronized (rebuilding) {
+            duringRebuild.set(new ArrayList<>());
+            final I rebuilt;
+            try {
+                rebuilt = load.get();
+            } catch (final RuntimeException e) {
+                duringRebuild.set(null);
+                throw e;
+            }
+
+            synchronized (duringRebuild) {
+                duringRebuild.getAndSet(null).forEach(change -> change.accept(rebuilt));
+                published.set(rebuilt);
+            }
+            return rebuilt;
+        }
+    }
+
+    public void apply(final Consumer<I> change) {
+        synchronized (duringRebuild) {
+            final List<Consumer<I>> pending = duringRebuild.get();
+            if (pending != null) {
+                pending.add(change);
+            }
+
+            final I current = published.get();
+            if (current != null) {
+                change.accept(current);
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package br.com.logistics.tms.commons.infrastructure.scheduling;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+public final class HashedTimingWheel<T> {
+
+    private final List<List<Entry<T>>> buckets;
+    private final Map<T, Instant> deadlines = new HashMap<>();
+    private final long tickMillis;
+    private long lastTick = Long.MIN_VALUE;
+
+    public HashedTimingWheel(final Duration tick, final int wheelSize) {
+        if (tick.toMillis() <= 0) throw new IllegalArgumentException("tick must be at least one millisecond");
+        if (wheelSize <= 0) throw new IllegalArgumentException("wheelSize must be positive");
+
+        this.tickMillis = tick.toMillis();
+        this.buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Replaces any earlier deadline for the same key; deadlines already past fire on the next advance.
+     */
+    public synchronized void schedule(final T key, final Instant deadline) {
+        if (deadline.equals(deadlines.put(key, deadline))) {
+            return;
+        }
+
+        // A slot the wheel already passed would only be visited again after a full rotation
+        final long tick = lastTick == Long.MIN_VALUE ? tickOf(deadline) : Math.max(tickOf(deadline), lastTick + 1);
+        bucketOf(tick).add(new Entry<>(key, deadline));
+    }
+
+    public synchronized void cancel(final T key) {
+        deadlines.remove(key);
+    }
+
+    public synchronized List<T> advance(final Instant now) {
+        final long target = tickOf(now);
+        if (target <= lastTick) {
+            return List.of();
+        }
+
+        // After a long pause every slot is behind, so one pass over the wheel is enough
+        final long from = lastTick == Long.MIN_VALUE || target - lastTick > buckets.size()
+                ? target - buckets.size() + 1
+                : lastTick + 1;
+        lastTick = target;
+
+        final List<T> due = new ArrayList<>();
+        for (long tick = from; tick <= target; tick++) {
+            final Iterator<Entry<T>> entries = bucketOf(tick).iterator();
+            while (entries.hasNext()) {
+                final Entry<T> entry = entries.next();
+                if (!entry.deadline().equals(deadlines.get(entry.key()))) {
+                    // Rescheduled or cancelled since it was placed here
+                    entries.remove();
+                } else if (tickOf(entry.deadline()) <= target) {
+                    entries.remove();
+                    deadlines.remove(entry.key());
+                    due.add(entry.key());
+                }
+            }
+        }
+        return due;
+    }
+
+    public synchronized int size() {
+        return deadlines.size();
+    }
+
+    private List<Entry<T>> bucketOf(final long tick) {
+        return buckets.get((int) Math.floorMod(tick, (long) buckets.size()));
+    }
+
+    private long tickOf(final Instant instant) {
+        return Math.floorDiv(instant.toEpochMilli(), tickMillis);
+    }
+
+    private record Entry<T>(T key, Instant deadline) {
+    }
+}
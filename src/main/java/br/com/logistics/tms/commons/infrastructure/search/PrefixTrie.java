@@ -0,0 +1,191 @@
+package br.com.logistics.tms.commons.infrastructure.search;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * Path-compressed trie from normalized keys to values. Not thread-safe; callers publish a built trie
+ * or guard mutations themselves.
+ */
+public final class PrefixTrie<V> {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^a-z0-9]+");
+
+    private final Node<V> root = new Node<>("");
+    private int size;
+
+    /**
+     * Lower case, accents stripped and any run of other characters collapsed to one space.
+     */
+    public static String normalize(final String text) {
+        if (text == null) {
+            return "";
+        }
+
+        final String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        final String unaccented = MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+        return SEPARATORS.matcher(unaccented).replaceAll(" ").trim();
+    }
+
+    public void put(final String key, final V value) {
+        final String normalized = normalize(key);
+        // An empty key would sit on the root and match every prefix
+        if (!normalized.isEmpty() && insert(root, normalized, value)) {
+            size++;
+        }
+    }
+
+    public void remove(final String key, final V value) {
+        final String normalized = normalize(key);
+        if (!normalized.isEmpty() && delete(root, normalized, value)) {
+            size--;
+        }
+    }
+
+    /**
+     * Values whose key starts with the normalized prefix, in key order, stopping once {@code limit} are found.
+     */
+    public List<V> findByPrefix(final String prefix, final int limit) {
+        final String normalized = normalize(prefix);
+        Node<V> node = root;
+        int matched = 0;
+        while (matched < normalized.length()) {
+            final Node<V> child = node.child(normalized.charAt(matched));
+            if (child == null) {
+                return List.of();
+            }
+
+            final int common = commonPrefix(child.label, normalized, matched);
+            // The prefix may end halfway through an edge, which still covers the whole subtree
+            if (matched + common < normalized.length() && common < child.label.length()) {
+                return List.of();
+            }
+            matched += common;
+            node = child;
+        }
+
+        final Set<V> found = new LinkedHashSet<>();
+        collect(node, found, limit);
+        return List.copyOf(found);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private static <V> boolean insert(final Node<V> start, final String key, final V value) {
+        Node<V> node = start;
+        int offset = 0;
+        while (offset < key.length()) {
+            final Node<V> child = node.child(key.charAt(offset));
+            if (child == null) {
+                final Node<V> leaf = new Node<>(key.substring(offset));
+                node.addChild(leaf);
+                return leaf.values.add(value);
+            }
+
+            final int common = commonPrefix(child.label, key, offset);
+            if (common < child.label.length()) {
+                child.split(common);
+            }
+            offset += common;
+            node = child;
+        }
+        return node.values.add(value);
+    }
+
+    private static <V> boolean delete(final Node<V> node, final String key, final V value) {
+        if (key.isEmpty()) {
+            return node.values.remove(value);
+        }
+
+        final Node<V> child = node.child(key.charAt(0));
+        if (child == null || !key.startsWith(child.label)) {
+            return false;
+        }
+
+        final boolean removed = delete(child, key.substring(child.label.length()), value);
+        if (removed) {
+            node.compact(child);
+        }
+        return removed;
+    }
+
+    private static <V> void collect(final Node<V> node, final Set<V> found, final int limit) {
+        for (final V value : node.values) {
+            if (found.size() >= limit) return;
+            found.add(value);
+        }
+        for (final Node<V> child : node.children) {
+            if (found.size() >= limit) return;
+            collect(child, found, limit);
+        }
+    }
+
+    private static int commonPrefix(final String label, final String key, final int offset) {
+        final int max = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < max && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static final class Node<V> {
+
+        private String label;
+        // Sorted by first character so collection walks keys in order and lookups can binary search
+        private List<Node<V>> children = new ArrayList<>(2);
+        private Set<V> values = new LinkedHashSet<>(1);
+
+        private Node(final String label) {
+            this.label = label;
+        }
+
+        private Node<V> child(final char first) {
+            final int index = indexOf(first);
+            return index >= 0 ? children.get(index) : null;
+        }
+
+        private void addChild(final Node<V> child) {
+            children.add(-indexOf(child.label.charAt(0)) - 1, child);
+        }
+
+        private void split(final int at) {
+            final Node<V> tail = new Node<>(label.substring(at));
+            tail.children = children;
+            tail.values = values;
+            label = label.substring(0, at);
+            children = new ArrayList<>(2);
+            children.add(tail);
+            values = new LinkedHashSet<>(1);
+        }
+
+        // Drops an emptied child and merges a child left with a single grandchild back into one edge
+        private void compact(final Node<V> child) {
+            if (child.values.isEmpty() && child.children.isEmpty()) {
+                children.remove(indexOf(child.label.charAt(0)));
+            } else if (child.values.isEmpty() && child.children.size() == 1) {
+                final Node<V> only = child.children.getFirst();
+                child.label = child.label + only.label;
+                child.children = only.children;
+                child.values = only.values;
+            }
+        }
+
+        private int indexOf(final char first) {
+            int low = 0;
+            int high = children.size() - 1;
+            while (low <= high) {
+                final int mid = (low + high) >>> 1;
+                final char c = children.get(mid).label.charAt(0);
+                if (c < first) low = mid + 1;
+                else if (c > first) high = mid - 1;
+                else return mid;
+            }
+            return -(low + 1);
+        }
+    }
+}
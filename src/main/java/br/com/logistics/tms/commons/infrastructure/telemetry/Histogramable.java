@@ -0,0 +1,7 @@
+package br.com.logistics.tms.commons.infrastructure.telemetry;
+
+public interface Histogramable {
+
+    MetricHistogram createDoubleHistogram(String name, String description, String unit);
+
+}
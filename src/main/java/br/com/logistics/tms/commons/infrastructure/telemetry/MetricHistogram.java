@@ -0,0 +1,9 @@
+package br.com.logistics.tms.commons.infrastructure.telemetry;
+
+import java.util.Map;
+
+public interface MetricHistogram {
+
+    void record(double value, Map<String, String> attributes);
+
+}
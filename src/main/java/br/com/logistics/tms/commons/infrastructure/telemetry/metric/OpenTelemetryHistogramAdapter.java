@@ -0,0 +1,28 @@
+package br.com.logistics.tms.commons.infrastructure.telemetry.metric;
+
+import br.com.logistics.tms.commons.infrastructure.telemetry.Histogramable;
+import br.com.logistics.tms.commons.infrastructure.telemetry.MetricHistogram;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.Meter;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OpenTelemetryHistogramAdapter implements Histogramable {
+
+    private final Meter meter;
+
+    public OpenTelemetryHistogramAdapter(final Meter meter) {
+        this.meter = meter;
+    }
+
+    @Override
+    public MetricHistogram createDoubleHistogram(final String name, final String description, final String unit) {
+        final DoubleHistogram histogram = meter
+                .histogramBuilder(name)
+                .setDescription(description)
+                .setUnit(unit)
+                .build();
+
+        return new OpenTelemetryMetricHistogram(histogram);
+    }
+}
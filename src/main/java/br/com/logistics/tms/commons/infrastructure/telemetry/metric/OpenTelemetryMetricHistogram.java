@@ -0,0 +1,28 @@
+package br.com.logistics.tms.commons.infrastructure.telemetry.metric;
+
+import br.com.logistics.tms.commons.infrastructure.telemetry.MetricHistogram;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+
+import java.util.Map;
+
+public class OpenTelemetryMetricHistogram implements MetricHistogram {
+
+    private final DoubleHistogram histogram;
+
+    public OpenTelemetryMetricHistogram(final DoubleHistogram histogram) {
+        this.histogram = histogram;
+    }
+
+    @Override
+    public void record(final double value, final Map<String, String> attributes) {
+        final AttributesBuilder attributesBuilder = Attributes.builder();
+        for (Map.Entry<String, String> entry : attributes.entrySet()) {
+            attributesBuilder.put(AttributeKey.stringKey(entry.getKey()), entry.getValue());
+        }
+
+        histogram.record(value, attributesBuilder.build());
+    }
+}
@@ -2,6 +2,7 @@ package br.com.logistics.tms.commons.infrastructure.usecases;
 
 import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
 import br.com.logistics.tms.commons.application.usecases.*;
+import br.com.logistics.tms.commons.infrastructure.cache.UseCaseResultCache;
 import br.com.logistics.tms.commons.infrastructure.database.routing.DataSourceContextHolder;
 import br.com.logistics.tms.commons.infrastructure.database.transaction.TransactionContextHolder;
 import br.com.logistics.tms.commons.infrastructure.database.transaction.Transactional;
@@ -9,6 +10,7 @@ import br.com.logistics.tms.commons.infrastructure.presenters.rest.DefaultRestPr
 import br.com.logistics.tms.commons.infrastructure.telemetry.Logable;
 import org.springframework.stereotype.Component;
 
+import java.util.Optional;
 import java.util.function.Supplier;
 
 @Component
@@ -17,23 +19,42 @@ public class RestUseCaseExecutor {
     private final DefaultRestPresenter defaultRestPresenter;
     private final Logable logger;
     private final Transactional transactional;
+    private final UseCaseResultCache useCaseResultCache;
+    private final UseCaseSingleFlight useCaseSingleFlight;
 
     public RestUseCaseExecutor(DefaultRestPresenter defaultRestPresenter,
                                Logable logger,
-                               Transactional transactional) {
+                               Transactional transactional,
+                               UseCaseResultCache useCaseResultCache,
+                               UseCaseSingleFlight useCaseSingleFlight) {
         this.defaultRestPresenter = defaultRestPresenter;
         this.transactional = transactional;
         this.logger = logger;
+        this.useCaseResultCache = useCaseResultCache;
+        this.useCaseSingleFlight = useCaseSingleFlight;
     }
 
     public <INPUT, OUTPUT> UseCaseBuilder<INPUT, OUTPUT> from(UseCase<INPUT, OUTPUT> useCase) {
-        return UseCaseExecutor.from(useCase)
+        final Optional<UseCaseInterceptor> cache = useCaseResultCache.interceptorFor(useCase);
+        final Optional<UseCaseInterceptor> singleFlight = useCaseSingleFlight.interceptorFor(useCase);
+        final UseCaseBuilder<INPUT, OUTPUT> builder = UseCaseExecutor.from(useCase)
                 .presentWith(defaultRestPresenter)
                 .addInterceptor(startLoggingInterceptor(useCase.getClass()))
                 .addInterceptor(((UseCaseInterceptor) logger))
-                .addInterceptor(getReadOnlyInterceptor(useCase))
-                .addInterceptor(((UseCaseInterceptor) transactional))
                 .onException(e -> logger.error(getClass(), "UseCase failed", e));
+
+        if (cache.isEmpty() && singleFlight.isEmpty()) {
+            return builder
+                    .addInterceptor(getReadOnlyInterceptor(useCase))
+                    .addInterceptor(((UseCaseInterceptor) transactional));
+        }
+
+        // Cache hits and flight joiners must not open a transaction or hold a pool connection, so only the real execution does
+        cache.ifPresent(builder::addInterceptor);
+        singleFlight.ifPresent(builder::addInterceptor);
+        return builder
+                .addInterceptor(aroundExecution(getReadOnlyInterceptor(useCase)))
+                .addInterceptor(aroundExecution((UseCaseInterceptor) transactional));
     }
 
     public <INPUT> VoidUseCaseBuilder<INPUT> from(VoidUseCase<INPUT> useCase) {
@@ -55,6 +76,20 @@ public class RestUseCaseExecutor {
         };
     }
 
+    private UseCaseInterceptor aroundExecution(UseCaseInterceptor interceptor) {
+        return new UseCaseInterceptor() {
+            @Override
+            public <T> T intercept(Supplier<T> next) {
+                return next.get();
+            }
+
+            @Override
+            public <T> T interceptExecution(Object input, Supplier<T> next) {
+                return interceptor.intercept(next);
+            }
+        };
+    }
+
     private UseCaseInterceptor getReadOnlyInterceptor(Object useCase) {
         return new UseCaseInterceptor() {
             @Override
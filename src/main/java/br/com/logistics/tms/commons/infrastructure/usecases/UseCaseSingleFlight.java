@@ -0,0 +1,90 @@
+package br.com.logistics.tms.commons.infrastructure.usecases;
+
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.application.annotation.SingleFlight;
+import br.com.logistics.tms.commons.application.usecases.UseCaseInterceptor;
+import br.com.logistics.tms.commons.infrastructure.telemetry.Counterable;
+import br.com.logistics.tms.commons.infrastructure.telemetry.MetricCounter;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+@Component
+public class UseCaseSingleFlight {
+
+    private final Map<Key, CompletableFuture<Object>> flights = new ConcurrentHashMap<>();
+    private final MetricCounter executionCounter;
+    private final MetricCounter coalescedCounter;
+
+    public UseCaseSingleFlight(final Counterable counterable) {
+        this.executionCounter = counterable.createLongCounter("usecase.singleflight.executions", "Read use case executions that led a flight");
+        this.coalescedCounter = counterable.createLongCounter("usecase.singleflight.coalesced", "Read use case calls that joined an in-flight execution");
+    }
+
+    public Optional<UseCaseInterceptor> interceptorFor(final Object useCase) {
+        final Class<?> useCaseClass = useCase.getClass();
+        if (!useCaseClass.isAnnotationPresent(SingleFlight.class) || !DatabaseRole.isReadOnly(useCaseClass)) {
+            return Optional.empty();
+        }
+
+        final Map<String, String> attributes = Map.of("usecase", useCaseClass.getSimpleName());
+        return Optional.of(new UseCaseInterceptor() {
+            @Override
+            public <T> T intercept(final Supplier<T> next) {
+                return next.get();
+            }
+
+            @Override
+            public <T> T interceptExecution(final Object input, final Supplier<T> next) {
+                return join(new Key(useCaseClass, input), attributes, next);
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T join(final Key key, final Map<String, String> attributes, final Supplier<T> next) {
+        if (key.input() == null || !key.input().getClass().isRecord()) {
+            return next.get();
+        }
+
+        final CompletableFuture<Object> flight = new CompletableFuture<>();
+        final CompletableFuture<Object> inFlight = flights.putIfAbsent(key, flight);
+        if (inFlight != null) {
+            coalescedCounter.add(1, attributes);
+            return (T) await(inFlight);
+        }
+
+        executionCounter.add(1, attributes);
+        final T result;
+        try {
+            result = next.get();
+        } catch (final RuntimeException | Error e) {
+            flights.remove(key, flight);
+            flight.completeExceptionally(e);
+            throw e;
+        }
+
+        // Leaving the map before completing means late arrivals start a new flight instead of reading a finished one
+        flights.remove(key, flight);
+        flight.complete(result);
+        return result;
+    }
+
+    private static Object await(final CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            if (e.getCause() instanceof Error cause) throw cause;
+            throw e;
+        }
+    }
+
+    private record Key(Class<?> useCase, Object input) {
+    }
+}
@@ -0,0 +1,32 @@
+package br.com.logistics.tms.company.application.gateways;
+
+import br.com.logistics.tms.company.domain.AgreementCondition;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+public interface AgreementConditionEngine {
+
+    /**
+     * Executable form of an agreement's conditions, compiled once and reused until the conditions change.
+     */
+    AgreementRules rulesFor(UUID agreementId, Set<AgreementCondition> conditions);
+
+    @FunctionalInterface
+    interface AgreementRules {
+
+        /**
+         * Terms the agreement grants a shipment with these attributes, empty when none of its conditions hold.
+         */
+        Optional<AgreementTerms> evaluate(Map<String, Object> shipment);
+    }
+
+    record AgreementTerms(Double discountPercentage,
+                          Integer slaDays,
+                          List<String> providers) {
+    }
+
+}
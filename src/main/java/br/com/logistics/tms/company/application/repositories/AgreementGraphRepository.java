@@ -0,0 +1,29 @@
+package br.com.logistics.tms.company.application.repositories;
+
+import br.com.logistics.tms.company.domain.AgreementType;
+import br.com.logistics.tms.company.domain.CompanyId;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+public interface AgreementGraphRepository {
+
+    /**
+     * Companies reached from {@code start} by following {@code hops} in order over agreements valid at {@code at}.
+     * Served from memory on read nodes, so it is eventually consistent with agreement events.
+     */
+    List<CompanyId> traverse(CompanyId start, List<Hop> hops, Instant at, int limit);
+
+    /**
+     * One step of a traversal; {@link Direction#INBOUND} follows agreements backwards, from destination to source.
+     */
+    record Hop(Set<AgreementType> types, Direction direction) {
+    }
+
+    enum Direction {
+        OUTBOUND,
+        INBOUND
+    }
+
+}
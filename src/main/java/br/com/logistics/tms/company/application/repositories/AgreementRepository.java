@@ -0,0 +1,32 @@
+package br.com.logistics.tms.company.application.repositories;
+
+import br.com.logistics.tms.company.domain.Agreement;
+import br.com.logistics.tms.company.domain.AgreementId;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+public interface AgreementRepository {
+
+    Optional<Agreement> findById(AgreementId agreementId);
+
+    /**
+     * Agreements whose active flag is due to flip by {@code until}, with the instant it flips at.
+     * Boundaries already in the past are included, so missed flips are caught up.
+     */
+    List<AgreementBoundary> findBoundariesUntil(Instant now, Instant until, int limit);
+
+    /**
+     * Rejects an agreement whose validity overlaps another one with the same source, destination and type.
+     */
+    Agreement create(Agreement agreement);
+
+    Agreement update(Agreement agreement);
+
+    void delete(Agreement agreement);
+
+    record AgreementBoundary(AgreementId agreementId, Instant at) {
+    }
+
+}
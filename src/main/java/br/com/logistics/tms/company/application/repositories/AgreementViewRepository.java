@@ -0,0 +1,65 @@
+package br.com.logistics.tms.company.application.repositories;
+
+import br.com.logistics.tms.company.domain.AgreementCondition;
+import br.com.logistics.tms.company.domain.AgreementId;
+import br.com.logistics.tms.company.domain.AgreementType;
+import br.com.logistics.tms.company.domain.CompanyId;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+public interface AgreementViewRepository {
+
+    Optional<AgreementView> findById(AgreementId agreementId);
+
+    /**
+     * Keyset page ordered by agreement id; {@code filter.after()} is the last id of the previous page.
+     */
+    List<AgreementView> findBySource(CompanyId source, AgreementViewFilter filter, int limit);
+
+    /**
+     * Agreements other companies hold with {@code destination}, paged like {@link #findBySource}.
+     */
+    List<AgreementView> findByDestination(CompanyId destination, InboundAgreementFilter filter, int limit);
+
+    /**
+     * Rebuilds the row from the write model, deleting it when the agreement no longer exists.
+     * Idempotent, so redelivered or reordered events converge to the same state.
+     */
+    void refresh(AgreementId agreementId);
+
+    record AgreementView(UUID agreementId,
+                         UUID source,
+                         UUID destination,
+                         AgreementType type,
+                         Instant validFrom,
+                         Instant validTo,
+                         int conditionCount,
+                         Set<AgreementCondition> conditions,
+                         boolean active) {
+    }
+
+    /**
+     * {@code validFrom}/{@code validUntil} keep agreements valid at some instant of that closed window.
+     */
+    record AgreementViewFilter(AgreementType type,
+                               UUID destination,
+                               Boolean active,
+                               Instant validFrom,
+                               Instant validUntil,
+                               UUID after) {
+
+        public AgreementViewFilter(final AgreementType type, final UUID destination, final Boolean active, final UUID after) {
+            this(type, destination, active, null, null, after);
+        }
+    }
+
+    record InboundAgreementFilter(AgreementType type,
+                                  Boolean active,
+                                  UUID after) {
+    }
+
+}
@@ -0,0 +1,31 @@
+package br.com.logistics.tms.company.application.repositories;
+
+import br.com.logistics.tms.commons.domain.Status;
+import br.com.logistics.tms.commons.domain.pagination.CursorPage;
+import br.com.logistics.tms.commons.domain.pagination.CursorPageRequest;
+import br.com.logistics.tms.company.domain.Cnpj;
+import br.com.logistics.tms.company.domain.CompanyId;
+import br.com.logistics.tms.company.domain.CompanyType;
+
+import java.time.Instant;
+import java.util.Set;
+
+public interface CompanyListingRepository {
+
+    /**
+     * Companies newest first, read as rows rather than aggregates, so agreements and configuration are never loaded.
+     */
+    CursorPage<CompanyListing> findAll(CompanyListingFilter filter, CursorPageRequest pageRequest);
+
+    record CompanyListingFilter(CompanyType type, Status status, Instant createdFrom, Instant createdTo) {
+    }
+
+    record CompanyListing(CompanyId companyId,
+                          String name,
+                          Cnpj cnpj,
+                          Status status,
+                          Set<CompanyType> types,
+                          Instant createdAt) {
+    }
+
+}
@@ -1,9 +1,9 @@
 package br.com.logistics.tms.company.application.repositories;
 
-import br.com.logistics.tms.company.domain.AgreementId;
 import br.com.logistics.tms.company.domain.Cnpj;
 import br.com.logistics.tms.company.domain.CompanyId;
 import br.com.logistics.tms.company.domain.Company;
+import br.com.logistics.tms.company.domain.ConfigurationPatch;
 import java.util.Optional;
 
 public interface CompanyRepository {
@@ -12,16 +12,20 @@ public interface CompanyRepository {
 
     Optional<Company> getCompanyByCnpj(Cnpj cnpj);
 
+    boolean existsByCnpj(Cnpj cnpj);
+
     /**
-     * Find company that owns the specified agreement.
-     * Used by RemoveAgreementUseCase to locate source company.
+     * Rejects a company whose CNPJ is already registered, including concurrent registrations from other nodes.
      */
-    Optional<Company> findCompanyByAgreementId(AgreementId agreementId);
-
     Company create(Company company);
 
     Company update(Company company);
 
+    /**
+     * Writes only the patched configuration keys, guarded by the version {@code company} was read with.
+     */
+    Company patchConfigurations(Company company, ConfigurationPatch patch);
+
     void delete(Company company);
 
 }
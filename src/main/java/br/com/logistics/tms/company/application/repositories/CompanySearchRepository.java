@@ -0,0 +1,34 @@
+package br.com.logistics.tms.company.application.repositories;
+
+import br.com.logistics.tms.company.domain.Cnpj;
+import br.com.logistics.tms.company.domain.CompanyId;
+
+import java.util.List;
+
+public interface CompanySearchRepository {
+
+    /**
+     * Companies where the name, or any word of it onwards, starts with {@code prefix}.
+     * Served from memory on read nodes, so it is eventually consistent with company events.
+     */
+    List<CompanySummary> findByNamePrefix(String prefix, int limit);
+
+    /**
+     * Companies whose CNPJ digits start with {@code digits}; served like {@link #findByNamePrefix}.
+     */
+    List<CompanySummary> findByCnpjPrefix(String digits, int limit);
+
+    /**
+     * Companies whose name contains {@code text} anywhere, best matches first.
+     */
+    List<CompanySummary> searchByName(String text, int limit);
+
+    /**
+     * Companies whose CNPJ digits contain {@code digits} anywhere.
+     */
+    List<CompanySummary> searchByCnpj(String digits, int limit);
+
+    record CompanySummary(CompanyId companyId, String name, Cnpj cnpj) {
+    }
+
+}
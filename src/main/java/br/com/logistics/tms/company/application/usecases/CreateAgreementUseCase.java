@@ -4,6 +4,7 @@ import br.com.logistics.tms.commons.application.annotation.Cqrs;
 import br.com.logistics.tms.commons.application.annotation.DomainService;
 import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
 import br.com.logistics.tms.commons.application.usecases.UseCase;
+import br.com.logistics.tms.company.application.repositories.AgreementRepository;
 import br.com.logistics.tms.company.application.repositories.CompanyRepository;
 import br.com.logistics.tms.company.domain.Agreement;
 import br.com.logistics.tms.company.domain.AgreementCondition;
@@ -22,9 +23,12 @@ import java.util.UUID;
 public class CreateAgreementUseCase implements UseCase<CreateAgreementUseCase.Input, CreateAgreementUseCase.Output> {
 
     private final CompanyRepository companyRepository;
+    private final AgreementRepository agreementRepository;
 
-    public CreateAgreementUseCase(final CompanyRepository companyRepository) {
+    public CreateAgreementUseCase(final CompanyRepository companyRepository,
+                                  final AgreementRepository agreementRepository) {
         this.companyRepository = companyRepository;
+        this.agreementRepository = agreementRepository;
     }
 
     @Override
@@ -45,8 +49,7 @@ public class CreateAgreementUseCase implements UseCase<CreateAgreementUseCase.In
                 input.validTo()
         );
 
-        final Company updatedCompany = sourceCompany.addAgreement(agreement);
-        companyRepository.update(updatedCompany);
+        agreementRepository.create(agreement);
 
         return new Output(
                 agreement.agreementId().value(),
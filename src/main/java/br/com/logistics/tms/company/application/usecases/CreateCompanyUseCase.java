@@ -25,7 +25,7 @@ public class CreateCompanyUseCase implements UseCase<CreateCompanyUseCase.Input,
     }
 
     public Output execute(final Input input) {
-        if (companyRepository.getCompanyByCnpj(new Cnpj(input.cnpj)).isPresent()) {
+        if (companyRepository.existsByCnpj(Cnpj.with(input.cnpj))) {
             throw new ValidationException("Company already exists");
         }
 
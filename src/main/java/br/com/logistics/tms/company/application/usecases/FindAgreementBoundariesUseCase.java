@@ -0,0 +1,39 @@
+package br.com.logistics.tms.company.application.usecases;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DomainService;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.application.usecases.UseCase;
+import br.com.logistics.tms.company.application.repositories.AgreementRepository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@DomainService
+// Feeds the activity scheduler, which only runs on write nodes and must not see replica lag
+@Cqrs(DatabaseRole.WRITE)
+public class FindAgreementBoundariesUseCase implements UseCase<FindAgreementBoundariesUseCase.Input, FindAgreementBoundariesUseCase.Output> {
+
+    private final AgreementRepository agreementRepository;
+
+    public FindAgreementBoundariesUseCase(final AgreementRepository agreementRepository) {
+        this.agreementRepository = agreementRepository;
+    }
+
+    @Override
+    public Output execute(final Input input) {
+        final List<Boundary> boundaries = agreementRepository.findBoundariesUntil(input.now(), input.until(), input.limit())
+                .stream()
+                .map(boundary -> new Boundary(boundary.agreementId().value(), boundary.at()))
+                .toList();
+
+        return new Output(boundaries);
+    }
+
+    public record Input(Instant now, Instant until, int limit) {}
+
+    public record Output(List<Boundary> boundaries) {}
+
+    public record Boundary(UUID agreementId, Instant at) {}
+}
@@ -0,0 +1,80 @@
+package br.com.logistics.tms.company.application.usecases;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DomainService;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.application.usecases.UseCase;
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
+import br.com.logistics.tms.company.application.repositories.AgreementGraphRepository;
+import br.com.logistics.tms.company.application.repositories.AgreementGraphRepository.Direction;
+import br.com.logistics.tms.company.application.repositories.AgreementGraphRepository.Hop;
+import br.com.logistics.tms.company.domain.AgreementType;
+import br.com.logistics.tms.company.domain.CompanyId;
+
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@DomainService
+@Cqrs(DatabaseRole.READ)
+public class FindReachableCompaniesUseCase implements UseCase<FindReachableCompaniesUseCase.Input, FindReachableCompaniesUseCase.Output> {
+
+    private static final String INBOUND_PREFIX = "in:";
+    private static final int MAX_HOPS = 4;
+    private static final int DEFAULT_LIMIT = 100;
+    private static final int MAX_LIMIT = 1000;
+
+    private final AgreementGraphRepository agreementGraphRepository;
+
+    public FindReachableCompaniesUseCase(final AgreementGraphRepository agreementGraphRepository) {
+        this.agreementGraphRepository = agreementGraphRepository;
+    }
+
+    @Override
+    public Output execute(final Input input) {
+        if (input.hops() == null || input.hops().isEmpty() || input.hops().size() > MAX_HOPS) {
+            throw new ValidationException("hops must have between 1 and " + MAX_HOPS + " steps");
+        }
+
+        final int limit = input.limit() == null ? DEFAULT_LIMIT : input.limit();
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ValidationException("limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        final List<Hop> hops = input.hops().stream().map(FindReachableCompaniesUseCase::hopOf).toList();
+        final Instant at = input.at() == null ? Instant.now() : input.at();
+
+        // Fetching one extra company tells whether the answer was cut by the limit
+        final List<CompanyId> reached = agreementGraphRepository.traverse(CompanyId.with(input.companyId()), hops, at, limit + 1);
+        final boolean truncated = reached.size() > limit;
+
+        return new Output(input.companyId(),
+                (truncated ? reached.subList(0, limit) : reached).stream().map(CompanyId::value).toList(),
+                truncated);
+    }
+
+    // A hop reads like "DELIVERS_WITH", "SELLS_ON|OPERATES" or "in:OFFERS_PICKUP" to follow agreements backwards
+    private static Hop hopOf(final String hop) {
+        if (hop == null || hop.isBlank()) {
+            throw new ValidationException("hop cannot be empty");
+        }
+
+        final boolean inbound = hop.startsWith(INBOUND_PREFIX);
+        final String types = inbound ? hop.substring(INBOUND_PREFIX.length()) : hop;
+        final Set<AgreementType> agreementTypes = EnumSet.noneOf(AgreementType.class);
+        for (final String type : types.split("\\|")) {
+            try {
+                agreementTypes.add(AgreementType.with(type.strip()));
+            } catch (final IllegalArgumentException e) {
+                throw new ValidationException("Invalid agreement type in hop: " + hop);
+            }
+        }
+        return new Hop(agreementTypes, inbound ? Direction.INBOUND : Direction.OUTBOUND);
+    }
+
+    public record Input(UUID companyId, List<String> hops, Instant at, Integer limit) {}
+
+    public record Output(UUID companyId, List<UUID> companies, boolean truncated) {}
+}
@@ -2,13 +2,14 @@ package br.com.logistics.tms.company.application.usecases;
 
 import br.com.logistics.tms.commons.application.annotation.Cqrs;
 import br.com.logistics.tms.commons.application.annotation.DomainService;
+import br.com.logistics.tms.commons.application.annotation.SingleFlight;
 import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.application.annotation.UseCaseCache;
 import br.com.logistics.tms.commons.application.usecases.UseCase;
-import br.com.logistics.tms.company.application.repositories.CompanyRepository;
-import br.com.logistics.tms.company.domain.Agreement;
+import br.com.logistics.tms.company.application.repositories.AgreementViewRepository;
+import br.com.logistics.tms.company.application.repositories.AgreementViewRepository.AgreementView;
 import br.com.logistics.tms.company.domain.AgreementCondition;
 import br.com.logistics.tms.company.domain.AgreementId;
-import br.com.logistics.tms.company.domain.Company;
 import br.com.logistics.tms.company.domain.exception.AgreementNotFoundException;
 
 import java.time.Instant;
@@ -17,35 +18,30 @@ import java.util.UUID;
 
 @DomainService
 @Cqrs(DatabaseRole.READ)
+@UseCaseCache(region = "company")
+@SingleFlight
 public class GetAgreementByIdUseCase implements UseCase<GetAgreementByIdUseCase.Input, GetAgreementByIdUseCase.Output> {
 
-    private final CompanyRepository companyRepository;
+    private final AgreementViewRepository agreementViewRepository;
 
-    public GetAgreementByIdUseCase(final CompanyRepository companyRepository) {
-        this.companyRepository = companyRepository;
+    public GetAgreementByIdUseCase(final AgreementViewRepository agreementViewRepository) {
+        this.agreementViewRepository = agreementViewRepository;
     }
 
     @Override
     public Output execute(final Input input) {
-        final AgreementId agreementId = new AgreementId(input.agreementId());
-
-        final Company company = companyRepository.findCompanyByAgreementId(agreementId)
-                .orElseThrow(() -> new AgreementNotFoundException("Agreement not found"));
-
-        final Agreement agreement = company.getAgreements().stream()
-                .filter(a -> a.agreementId().equals(agreementId))
-                .findFirst()
+        final AgreementView agreement = agreementViewRepository.findById(AgreementId.with(input.agreementId()))
                 .orElseThrow(() -> new AgreementNotFoundException("Agreement not found"));
 
         return new Output(
-                agreement.agreementId().value(),
-                agreement.from().value(),
-                agreement.to().value(),
+                agreement.agreementId(),
+                agreement.source(),
+                agreement.destination(),
                 agreement.type().name(),
                 agreement.conditions(),
                 agreement.validFrom(),
                 agreement.validTo(),
-                agreement.isActive()
+                agreement.active()
         );
     }
 
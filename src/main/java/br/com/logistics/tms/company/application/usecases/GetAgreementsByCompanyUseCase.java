@@ -2,12 +2,15 @@ package br.com.logistics.tms.company.application.usecases;
 
 import br.com.logistics.tms.commons.application.annotation.Cqrs;
 import br.com.logistics.tms.commons.application.annotation.DomainService;
+import br.com.logistics.tms.commons.application.annotation.SingleFlight;
 import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.application.annotation.UseCaseCache;
 import br.com.logistics.tms.commons.application.usecases.UseCase;
-import br.com.logistics.tms.company.application.repositories.CompanyRepository;
-import br.com.logistics.tms.company.domain.Company;
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
+import br.com.logistics.tms.company.application.repositories.AgreementViewRepository;
+import br.com.logistics.tms.company.application.repositories.AgreementViewRepository.AgreementViewFilter;
+import br.com.logistics.tms.company.domain.AgreementType;
 import br.com.logistics.tms.company.domain.CompanyId;
-import br.com.logistics.tms.company.domain.exception.CompanyNotFoundException;
 
 import java.time.Instant;
 import java.util.List;
@@ -15,38 +18,59 @@ import java.util.UUID;
 
 @DomainService
 @Cqrs(DatabaseRole.READ)
+// The TTL only backstops a replica still lagging when CompanyCacheInvalidator stops waiting for it
+@UseCaseCache(region = "company", ttlSeconds = 30)
+@SingleFlight
 public class GetAgreementsByCompanyUseCase implements UseCase<GetAgreementsByCompanyUseCase.Input, GetAgreementsByCompanyUseCase.Output> {
 
-    private final CompanyRepository companyRepository;
+    private static final int DEFAULT_LIMIT = 50;
+    private static final int MAX_LIMIT = 200;
 
-    public GetAgreementsByCompanyUseCase(final CompanyRepository companyRepository) {
-        this.companyRepository = companyRepository;
+    private final AgreementViewRepository agreementViewRepository;
+
+    public GetAgreementsByCompanyUseCase(final AgreementViewRepository agreementViewRepository) {
+        this.agreementViewRepository = agreementViewRepository;
     }
 
     @Override
     public Output execute(final Input input) {
-        final Company company = companyRepository.getCompanyById(new CompanyId(input.companyId()))
-                .orElseThrow(() -> new CompanyNotFoundException("Company not found"));
-
-        final List<AgreementView> views = company.getAgreements().stream()
-                .map(a -> new AgreementView(
-                        a.agreementId().value(),
-                        a.from().value(),
-                        a.to().value(),
-                        a.type().name(),
-                        a.conditions().size(),
-                        a.validFrom(),
-                        a.validTo(),
-                        a.isActive()
+        final int limit = input.limit() == null ? DEFAULT_LIMIT : input.limit();
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ValidationException("limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        final AgreementViewFilter filter = new AgreementViewFilter(
+                input.type() != null ? AgreementType.with(input.type()) : null,
+                input.destination(),
+                input.active(),
+                input.after()
+        );
+
+        // Fetching one extra row tells whether another page exists without a count query
+        final List<AgreementView> views = agreementViewRepository.findBySource(CompanyId.with(input.companyId()), filter, limit + 1)
+                .stream()
+                .map(v -> new AgreementView(
+                        v.agreementId(),
+                        v.source(),
+                        v.destination(),
+                        v.type().name(),
+                        v.conditionCount(),
+                        v.validFrom(),
+                        v.validTo(),
+                        v.active()
                 ))
                 .toList();
 
-        return new Output(company.getCompanyId().value(), views);
+        final boolean hasNext = views.size() > limit;
+        final List<AgreementView> page = hasNext ? views.subList(0, limit) : views;
+        final UUID nextCursor = hasNext ? page.getLast().agreementId() : null;
+
+        return new Output(input.companyId(), page, nextCursor);
     }
 
-    public record Input(UUID companyId) {}
+    public record Input(UUID companyId, String type, UUID destination, Boolean active, UUID after, Integer limit) {}
 
-    public record Output(UUID companyId, List<AgreementView> agreements) {}
+    public record Output(UUID companyId, List<AgreementView> agreements, UUID nextCursor) {}
 
     public record AgreementView(
             UUID agreementId,
@@ -0,0 +1,79 @@
+package br.com.logistics.tms.company.application.usecases;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DomainService;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.application.usecases.UseCase;
+import br.com.logistics.tms.company.application.gateways.AgreementConditionEngine;
+import br.com.logistics.tms.company.application.gateways.AgreementConditionEngine.AgreementTerms;
+import br.com.logistics.tms.company.application.repositories.AgreementViewRepository;
+import br.com.logistics.tms.company.application.repositories.AgreementViewRepository.AgreementView;
+import br.com.logistics.tms.company.application.repositories.AgreementViewRepository.AgreementViewFilter;
+import br.com.logistics.tms.company.domain.AgreementType;
+import br.com.logistics.tms.company.domain.CompanyId;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+// Unlike matching, a carrier is eligible through any valid DELIVERS_WITH agreement; conditions only shape its terms
+@DomainService
+@Cqrs(DatabaseRole.READ)
+public class GetCarrierAgreementsUseCase implements UseCase<GetCarrierAgreementsUseCase.Input, GetCarrierAgreementsUseCase.Output> {
+
+    private static final int PAGE_SIZE = 200;
+
+    private final AgreementViewRepository agreementViewRepository;
+    private final AgreementConditionEngine agreementConditionEngine;
+
+    public GetCarrierAgreementsUseCase(final AgreementViewRepository agreementViewRepository,
+                                       final AgreementConditionEngine agreementConditionEngine) {
+        this.agreementViewRepository = agreementViewRepository;
+        this.agreementConditionEngine = agreementConditionEngine;
+    }
+
+    @Override
+    public Output execute(final Input input) {
+        final CompanyId shipper = CompanyId.with(input.companyId());
+        final Instant at = input.at() == null ? Instant.now() : input.at();
+        final Map<String, Object> shipment = input.shipment() == null ? Map.of() : input.shipment();
+
+        final List<CarrierAgreement> carriers = new ArrayList<>();
+        UUID after = null;
+        List<AgreementView> page;
+        do {
+            page = agreementViewRepository.findBySource(shipper,
+                    new AgreementViewFilter(AgreementType.DELIVERS_WITH, null, true, after), PAGE_SIZE);
+            for (final AgreementView view : page) {
+                if (view.validFrom().isAfter(at) || (view.validTo() != null && !at.isBefore(view.validTo()))) {
+                    continue;
+                }
+                final Optional<AgreementTerms> terms = agreementConditionEngine.rulesFor(view.agreementId(), view.conditions())
+                        .evaluate(shipment);
+                carriers.add(new CarrierAgreement(
+                        view.agreementId(),
+                        view.destination(),
+                        terms.map(AgreementTerms::discountPercentage).orElse(null),
+                        terms.map(AgreementTerms::slaDays).orElse(null)
+                ));
+            }
+            after = page.isEmpty() ? null : page.getLast().agreementId();
+        } while (page.size() == PAGE_SIZE);
+
+        return new Output(input.companyId(), carriers);
+    }
+
+    public record Input(UUID companyId, Instant at, Map<String, Object> shipment) {}
+
+    public record Output(UUID companyId, List<CarrierAgreement> carriers) {}
+
+    public record CarrierAgreement(
+            UUID agreementId,
+            UUID carrierId,
+            Double discountPercentage,
+            Integer slaDays
+    ) {}
+}
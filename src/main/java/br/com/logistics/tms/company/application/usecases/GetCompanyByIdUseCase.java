@@ -2,7 +2,9 @@ package br.com.logistics.tms.company.application.usecases;
 
 import br.com.logistics.tms.commons.application.annotation.Cqrs;
 import br.com.logistics.tms.commons.application.annotation.DomainService;
+import br.com.logistics.tms.commons.application.annotation.SingleFlight;
 import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.application.annotation.UseCaseCache;
 import br.com.logistics.tms.commons.application.usecases.UseCase;
 import br.com.logistics.tms.company.application.repositories.CompanyRepository;
 import br.com.logistics.tms.company.domain.Company;
@@ -16,6 +18,8 @@ import java.util.UUID;
 
 @DomainService
 @Cqrs(DatabaseRole.READ)
+@UseCaseCache(region = "company")
+@SingleFlight
 public class GetCompanyByIdUseCase implements UseCase<GetCompanyByIdUseCase.Input, GetCompanyByIdUseCase.Output> {
 
     private final CompanyRepository companyRepository;
@@ -0,0 +1,77 @@
+package br.com.logistics.tms.company.application.usecases;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DomainService;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.application.usecases.UseCase;
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
+import br.com.logistics.tms.company.application.repositories.AgreementViewRepository;
+import br.com.logistics.tms.company.application.repositories.AgreementViewRepository.InboundAgreementFilter;
+import br.com.logistics.tms.company.domain.AgreementType;
+import br.com.logistics.tms.company.domain.CompanyId;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+// Not cached: AgreementUpdated does not carry the destination, so the company region could not be invalidated for it
+@DomainService
+@Cqrs(DatabaseRole.READ)
+public class GetInboundAgreementsUseCase implements UseCase<GetInboundAgreementsUseCase.Input, GetInboundAgreementsUseCase.Output> {
+
+    private static final int DEFAULT_LIMIT = 50;
+    private static final int MAX_LIMIT = 200;
+
+    private final AgreementViewRepository agreementViewRepository;
+
+    public GetInboundAgreementsUseCase(final AgreementViewRepository agreementViewRepository) {
+        this.agreementViewRepository = agreementViewRepository;
+    }
+
+    @Override
+    public Output execute(final Input input) {
+        final int limit = input.limit() == null ? DEFAULT_LIMIT : input.limit();
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ValidationException("limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        final InboundAgreementFilter filter = new InboundAgreementFilter(
+                input.type() != null ? AgreementType.with(input.type()) : null,
+                input.active(),
+                input.after()
+        );
+
+        final List<InboundAgreement> agreements = agreementViewRepository.findByDestination(CompanyId.with(input.companyId()), filter, limit + 1)
+                .stream()
+                .map(v -> new InboundAgreement(
+                        v.agreementId(),
+                        v.source(),
+                        v.type().name(),
+                        v.conditionCount(),
+                        v.validFrom(),
+                        v.validTo(),
+                        v.active()
+                ))
+                .toList();
+
+        final boolean hasNext = agreements.size() > limit;
+        final List<InboundAgreement> page = hasNext ? agreements.subList(0, limit) : agreements;
+        final UUID nextCursor = hasNext ? page.getLast().agreementId() : null;
+
+        return new Output(input.companyId(), page, nextCursor);
+    }
+
+    public record Input(UUID companyId, String type, Boolean active, UUID after, Integer limit) {}
+
+    public record Output(UUID companyId, List<InboundAgreement> agreements, UUID nextCursor) {}
+
+    public record InboundAgreement(
+            UUID agreementId,
+            UUID from,
+            String type,
+            int conditionCount,
+            Instant validFrom,
+            Instant validTo,
+            boolean isActive
+    ) {}
+}
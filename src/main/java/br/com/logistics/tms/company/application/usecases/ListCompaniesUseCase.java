@@ -0,0 +1,80 @@
+package br.com.logistics.tms.company.application.usecases;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DomainService;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.application.usecases.UseCase;
+import br.com.logistics.tms.commons.domain.Status;
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
+import br.com.logistics.tms.commons.domain.pagination.CursorPage;
+import br.com.logistics.tms.commons.domain.pagination.CursorPageRequest;
+import br.com.logistics.tms.company.application.repositories.CompanyListingRepository;
+import br.com.logistics.tms.company.application.repositories.CompanyListingRepository.CompanyListing;
+import br.com.logistics.tms.company.application.repositories.CompanyListingRepository.CompanyListingFilter;
+import br.com.logistics.tms.company.domain.CompanyType;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@DomainService
+@Cqrs(DatabaseRole.READ)
+public class ListCompaniesUseCase implements UseCase<ListCompaniesUseCase.Input, ListCompaniesUseCase.Output> {
+
+    private static final int MAX_SIZE = 200;
+
+    private final CompanyListingRepository companyListingRepository;
+
+    public ListCompaniesUseCase(final CompanyListingRepository companyListingRepository) {
+        this.companyListingRepository = companyListingRepository;
+    }
+
+    @Override
+    public Output execute(final Input input) {
+        if (input.size() < 1 || input.size() > MAX_SIZE) {
+            throw new ValidationException("size must be between 1 and " + MAX_SIZE);
+        }
+
+        if (input.createdFrom() != null && input.createdTo() != null && !input.createdFrom().isBefore(input.createdTo())) {
+            throw new ValidationException("createdFrom must be before createdTo");
+        }
+
+        final CompanyListingFilter filter = new CompanyListingFilter(
+                typeOf(input.type()),
+                input.status() == null || input.status().isBlank() ? Status.active() : Status.of(input.status()),
+                input.createdFrom(),
+                input.createdTo());
+
+        final CursorPage<CompanyListing> companies = companyListingRepository.findAll(filter,
+                CursorPageRequest.of(input.cursor(), input.size(), false));
+
+        return new Output(companies.content().stream()
+                .map(company -> new CompanyItem(
+                        company.companyId().value(),
+                        company.name(),
+                        company.cnpj().value(),
+                        String.valueOf(company.status().value()),
+                        company.types().stream().map(CompanyType::name).sorted().toList(),
+                        company.createdAt()))
+                .toList(),
+                companies.size(),
+                companies.hasNext() ? companies.nextCursor().encode() : null);
+    }
+
+    private static CompanyType typeOf(final String type) {
+        if (type == null || type.isBlank()) {
+            return null;
+        }
+        try {
+            return CompanyType.with(type);
+        } catch (final IllegalArgumentException e) {
+            throw new ValidationException("Invalid company type: " + type);
+        }
+    }
+
+    public record Input(String type, String status, Instant createdFrom, Instant createdTo, String cursor, int size) {}
+
+    public record Output(List<CompanyItem> companies, int size, String nextCursor) {}
+
+    public record CompanyItem(UUID companyId, String name, String cnpj, String status, List<String> types, Instant createdAt) {}
+}
@@ -0,0 +1,122 @@
+package br.com.logistics.tms.company.application.usecases;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DomainService;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.application.usecases.UseCase;
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
+import br.com.logistics.tms.company.application.gateways.AgreementConditionEngine;
+import br.com.logistics.tms.company.application.gateways.AgreementConditionEngine.AgreementRules;
+import br.com.logistics.tms.company.application.gateways.AgreementConditionEngine.AgreementTerms;
+import br.com.logistics.tms.company.application.repositories.AgreementViewRepository;
+import br.com.logistics.tms.company.application.repositories.AgreementViewRepository.AgreementView;
+import br.com.logistics.tms.company.application.repositories.AgreementViewRepository.AgreementViewFilter;
+import br.com.logistics.tms.company.domain.AgreementType;
+import br.com.logistics.tms.company.domain.CompanyId;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@DomainService
+@Cqrs(DatabaseRole.READ)
+public class MatchShipmentAgreementsUseCase implements UseCase<MatchShipmentAgreementsUseCase.Input, MatchShipmentAgreementsUseCase.Output> {
+
+    private static final int MAX_SHIPMENTS = 5000;
+    private static final int PAGE_SIZE = 200;
+
+    private final AgreementViewRepository agreementViewRepository;
+    private final AgreementConditionEngine agreementConditionEngine;
+
+    public MatchShipmentAgreementsUseCase(final AgreementViewRepository agreementViewRepository,
+                                          final AgreementConditionEngine agreementConditionEngine) {
+        this.agreementViewRepository = agreementViewRepository;
+        this.agreementConditionEngine = agreementConditionEngine;
+    }
+
+    @Override
+    public Output execute(final Input input) {
+        if (input.shipments() == null || input.shipments().isEmpty() || input.shipments().size() > MAX_SHIPMENTS) {
+            throw new ValidationException("shipments must have between 1 and " + MAX_SHIPMENTS + " entries");
+        }
+
+        final AgreementType type = input.type() != null ? AgreementType.with(input.type()) : null;
+        final Instant now = Instant.now();
+        Instant earliest = null;
+        Instant latest = null;
+        for (final Shipment shipment : input.shipments()) {
+            final Instant at = shipment.at() == null ? now : shipment.at();
+            earliest = earliest == null || at.isBefore(earliest) ? at : earliest;
+            latest = latest == null || at.isAfter(latest) ? at : latest;
+        }
+        final List<Candidate> candidates = candidatesOf(CompanyId.with(input.companyId()), type, earliest, latest);
+
+        final List<ShipmentMatch> matches = new ArrayList<>(input.shipments().size());
+        for (final Shipment shipment : input.shipments()) {
+            final Instant at = shipment.at() == null ? now : shipment.at();
+            final Map<String, Object> attributes = shipment.attributes() == null ? Map.of() : shipment.attributes();
+
+            final List<AppliedAgreement> applied = new ArrayList<>();
+            for (final Candidate candidate : candidates) {
+                if (!candidate.validAt(at)) {
+                    continue;
+                }
+                candidate.rules().evaluate(attributes).ifPresent(terms -> applied.add(candidate.applied(terms)));
+            }
+            matches.add(new ShipmentMatch(shipment.reference(), applied));
+        }
+
+        return new Output(input.companyId(), matches);
+    }
+
+    // Every agreement is compiled once per request and then evaluated against the whole batch. Shipments can be
+    // dated in the past or future, so candidates are those valid somewhere in the batch window, not those active now
+    private List<Candidate> candidatesOf(final CompanyId companyId,
+                                         final AgreementType type,
+                                         final Instant earliest,
+                                         final Instant latest) {
+        final List<Candidate> candidates = new ArrayList<>();
+        UUID after = null;
+        List<AgreementView> page;
+        do {
+            page = agreementViewRepository.findBySource(companyId,
+                    new AgreementViewFilter(type, null, null, earliest, latest, after), PAGE_SIZE);
+            for (final AgreementView view : page) {
+                candidates.add(new Candidate(view, agreementConditionEngine.rulesFor(view.agreementId(), view.conditions())));
+            }
+            after = page.isEmpty() ? null : page.getLast().agreementId();
+        } while (page.size() == PAGE_SIZE);
+        return candidates;
+    }
+
+    private record Candidate(AgreementView view, AgreementRules rules) {
+
+        boolean validAt(final Instant at) {
+            return !view.validFrom().isAfter(at) && (view.validTo() == null || at.isBefore(view.validTo()));
+        }
+
+        AppliedAgreement applied(final AgreementTerms terms) {
+            return new AppliedAgreement(view.agreementId(), view.destination(), view.type().name(),
+                    terms.discountPercentage(), terms.slaDays(), terms.providers());
+        }
+    }
+
+    public record Input(UUID companyId, String type, List<Shipment> shipments) {}
+
+    public record Shipment(String reference, Instant at, Map<String, Object> attributes) {}
+
+    public record Output(UUID companyId, List<ShipmentMatch> shipments) {}
+
+    public record ShipmentMatch(String reference, List<AppliedAgreement> agreements) {}
+
+    public record AppliedAgreement(
+            UUID agreementId,
+            UUID to,
+            String type,
+            Double discountPercentage,
+            Integer slaDays,
+            List<String> providers
+    ) {}
+}
@@ -0,0 +1,44 @@
+package br.com.logistics.tms.company.application.usecases;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.application.annotation.DomainService;
+import br.com.logistics.tms.commons.application.usecases.UseCase;
+import br.com.logistics.tms.company.application.repositories.CompanyRepository;
+import br.com.logistics.tms.company.domain.Company;
+import br.com.logistics.tms.company.domain.CompanyId;
+import br.com.logistics.tms.company.domain.ConfigurationPatch;
+import br.com.logistics.tms.company.domain.exception.CompanyNotFoundException;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+@DomainService
+@Cqrs(DatabaseRole.WRITE)
+public class PatchCompanyConfigurationUseCase implements UseCase<PatchCompanyConfigurationUseCase.Input, PatchCompanyConfigurationUseCase.Output> {
+
+    private final CompanyRepository companyRepository;
+
+    public PatchCompanyConfigurationUseCase(final CompanyRepository companyRepository) {
+        this.companyRepository = companyRepository;
+    }
+
+    @Override
+    public Output execute(final Input input) {
+        final ConfigurationPatch patch = ConfigurationPatch.with(input.set(), input.remove());
+        final Company company = companyRepository.getCompanyById(CompanyId.with(input.companyId()))
+                .orElseThrow(() -> new CompanyNotFoundException(String.format("Company not found for id: %s", input.companyId())));
+
+        final Company patched = company.patchConfigurations(patch);
+        final Company saved = patched == company ? company : companyRepository.patchConfigurations(patched, patch);
+
+        return new Output(saved.getCompanyId().value(), saved.getConfigurations().value());
+    }
+
+    public record Input(UUID companyId, Map<String, Object> set, Set<String> remove) {
+    }
+
+    public record Output(UUID companyId, Map<String, Object> configuration) {
+    }
+}
@@ -4,9 +4,9 @@ import br.com.logistics.tms.commons.application.annotation.Cqrs;
 import br.com.logistics.tms.commons.application.annotation.DomainService;
 import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
 import br.com.logistics.tms.commons.application.usecases.UseCase;
-import br.com.logistics.tms.company.application.repositories.CompanyRepository;
+import br.com.logistics.tms.company.application.repositories.AgreementRepository;
+import br.com.logistics.tms.company.domain.Agreement;
 import br.com.logistics.tms.company.domain.AgreementId;
-import br.com.logistics.tms.company.domain.Company;
 import br.com.logistics.tms.company.domain.exception.AgreementNotFoundException;
 
 import java.util.UUID;
@@ -15,23 +15,22 @@ import java.util.UUID;
 @Cqrs(DatabaseRole.WRITE)
 public class RemoveAgreementUseCase implements UseCase<RemoveAgreementUseCase.Input, RemoveAgreementUseCase.Output> {
 
-    private final CompanyRepository companyRepository;
+    private final AgreementRepository agreementRepository;
 
-    public RemoveAgreementUseCase(final CompanyRepository companyRepository) {
-        this.companyRepository = companyRepository;
+    public RemoveAgreementUseCase(final AgreementRepository agreementRepository) {
+        this.agreementRepository = agreementRepository;
     }
 
     @Override
     public Output execute(final Input input) {
         final AgreementId agreementId = new AgreementId(input.agreementId());
 
-        final Company company = companyRepository.findCompanyByAgreementId(agreementId)
+        final Agreement agreement = agreementRepository.findById(agreementId)
                 .orElseThrow(() -> new AgreementNotFoundException("Agreement not found"));
 
-        final Company updatedCompany = company.removeAgreement(agreementId);
-        companyRepository.update(updatedCompany);
+        agreementRepository.delete(agreement.remove());
 
-        return new Output(agreementId.value(), company.getCompanyId().value());
+        return new Output(agreementId.value(), agreement.from().value());
     }
 
     public record Input(UUID agreementId) {}
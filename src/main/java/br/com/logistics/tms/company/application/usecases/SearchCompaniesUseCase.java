@@ -0,0 +1,88 @@
+package br.com.logistics.tms.company.application.usecases;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DomainService;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.application.usecases.UseCase;
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
+import br.com.logistics.tms.company.application.repositories.CompanySearchRepository;
+import br.com.logistics.tms.company.application.repositories.CompanySearchRepository.CompanySummary;
+import br.com.logistics.tms.company.domain.CompanyId;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+@DomainService
+@Cqrs(DatabaseRole.READ)
+public class SearchCompaniesUseCase implements UseCase<SearchCompaniesUseCase.Input, SearchCompaniesUseCase.Output> {
+
+    private static final Pattern CNPJ_PREFIX = Pattern.compile("^[\\d./-]+$");
+    private static final Pattern NON_DIGITS = Pattern.compile("\\D");
+    private static final int MIN_QUERY_LENGTH = 2;
+    private static final int DEFAULT_LIMIT = 10;
+    private static final int MAX_LIMIT = 50;
+
+    private final CompanySearchRepository companySearchRepository;
+
+    public SearchCompaniesUseCase(final CompanySearchRepository companySearchRepository) {
+        this.companySearchRepository = companySearchRepository;
+    }
+
+    @Override
+    public Output execute(final Input input) {
+        final String query = input.query() == null ? "" : input.query().strip();
+        if (query.length() < MIN_QUERY_LENGTH) {
+            throw new ValidationException("query must have at least " + MIN_QUERY_LENGTH + " characters");
+        }
+
+        final int limit = input.limit() == null ? DEFAULT_LIMIT : input.limit();
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ValidationException("limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        final boolean contains = "contains".equalsIgnoreCase(input.match());
+        final List<CompanySummary> found;
+        if (CNPJ_PREFIX.matcher(query).matches()) {
+            final String digits = NON_DIGITS.matcher(query).replaceAll("");
+            if (digits.isEmpty() || digits.length() > 14) {
+                throw new ValidationException("CNPJ prefix must have between 1 and 14 digits");
+            }
+            final List<CompanySummary> byCnpj = contains
+                    ? companySearchRepository.searchByCnpj(digits, limit)
+                    : companySearchRepository.findByCnpjPrefix(digits, limit);
+            // Bare digits can also be a company name, such as "99" or "365"
+            found = digits.equals(query) ? merge(byCnpj, findByName(query, contains, limit), limit) : byCnpj;
+        } else {
+            found = findByName(query, contains, limit);
+        }
+
+        return new Output(found.stream()
+                .map(company -> new CompanyMatch(company.companyId().value(), company.name(), company.cnpj().value()))
+                .toList());
+    }
+
+    // Typeahead stays in memory; only an explicit contains search reaches the database
+    private List<CompanySummary> findByName(final String query, final boolean contains, final int limit) {
+        return contains
+                ? companySearchRepository.searchByName(query, limit)
+                : companySearchRepository.findByNamePrefix(query, limit);
+    }
+
+    private static List<CompanySummary> merge(final List<CompanySummary> first,
+                                              final List<CompanySummary> second,
+                                              final int limit) {
+        final Map<CompanyId, CompanySummary> merged = new LinkedHashMap<>();
+        first.forEach(company -> merged.putIfAbsent(company.companyId(), company));
+        second.forEach(company -> merged.putIfAbsent(company.companyId(), company));
+        return merged.values().stream().limit(limit).toList();
+    }
+
+    public record Input(String query, String match, Integer limit) {}
+
+    public record Output(List<CompanyMatch> companies) {}
+
+    public record CompanyMatch(UUID companyId, String name, String cnpj) {}
+}
@@ -0,0 +1,30 @@
+package br.com.logistics.tms.company.application.usecases;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.application.annotation.DomainService;
+import br.com.logistics.tms.commons.application.usecases.VoidUseCase;
+import br.com.logistics.tms.company.application.repositories.AgreementViewRepository;
+import br.com.logistics.tms.company.domain.AgreementId;
+
+import java.util.UUID;
+
+@DomainService
+@Cqrs(DatabaseRole.WRITE)
+public class SynchronizeAgreementViewUseCase implements VoidUseCase<SynchronizeAgreementViewUseCase.Input> {
+
+    private final AgreementViewRepository agreementViewRepository;
+
+    public SynchronizeAgreementViewUseCase(final AgreementViewRepository agreementViewRepository) {
+        this.agreementViewRepository = agreementViewRepository;
+    }
+
+    @Override
+    public void execute(final Input input) {
+        agreementViewRepository.refresh(AgreementId.with(input.agreementId()));
+    }
+
+    public record Input(UUID agreementId) {
+    }
+
+}
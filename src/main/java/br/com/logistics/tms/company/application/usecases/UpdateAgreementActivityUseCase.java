@@ -0,0 +1,46 @@
+package br.com.logistics.tms.company.application.usecases;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DomainService;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.application.usecases.UseCase;
+import br.com.logistics.tms.company.application.repositories.AgreementRepository;
+import br.com.logistics.tms.company.domain.Agreement;
+import br.com.logistics.tms.company.domain.AgreementId;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+@DomainService
+@Cqrs(DatabaseRole.WRITE)
+public class UpdateAgreementActivityUseCase implements UseCase<UpdateAgreementActivityUseCase.Input, UpdateAgreementActivityUseCase.Output> {
+
+    private final AgreementRepository agreementRepository;
+
+    public UpdateAgreementActivityUseCase(final AgreementRepository agreementRepository) {
+        this.agreementRepository = agreementRepository;
+    }
+
+    @Override
+    public Output execute(final Input input) {
+        final Optional<Agreement> existing = agreementRepository.findById(AgreementId.with(input.agreementId()));
+        // Removed between the boundary lookup and the flip
+        if (existing.isEmpty()) {
+            return new Output(input.agreementId(), false, false);
+        }
+
+        final Agreement agreement = existing.get();
+        final Agreement updated = agreement.updateActivity(input.now());
+        if (updated == agreement) {
+            return new Output(input.agreementId(), false, agreement.isActive());
+        }
+
+        agreementRepository.update(updated);
+        return new Output(input.agreementId(), true, updated.isActive());
+    }
+
+    public record Input(UUID agreementId, Instant now) {}
+
+    public record Output(UUID agreementId, boolean changed, boolean active) {}
+}
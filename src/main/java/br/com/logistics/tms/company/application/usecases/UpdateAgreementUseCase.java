@@ -4,11 +4,10 @@ import br.com.logistics.tms.commons.application.annotation.Cqrs;
 import br.com.logistics.tms.commons.application.annotation.DomainService;
 import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
 import br.com.logistics.tms.commons.application.usecases.UseCase;
-import br.com.logistics.tms.company.application.repositories.CompanyRepository;
+import br.com.logistics.tms.company.application.repositories.AgreementRepository;
 import br.com.logistics.tms.company.domain.Agreement;
 import br.com.logistics.tms.company.domain.AgreementCondition;
 import br.com.logistics.tms.company.domain.AgreementId;
-import br.com.logistics.tms.company.domain.Company;
 import br.com.logistics.tms.company.domain.exception.AgreementNotFoundException;
 
 import java.time.Instant;
@@ -19,22 +18,17 @@ import java.util.UUID;
 @Cqrs(DatabaseRole.WRITE)
 public class UpdateAgreementUseCase implements UseCase<UpdateAgreementUseCase.Input, UpdateAgreementUseCase.Output> {
 
-    private final CompanyRepository companyRepository;
+    private final AgreementRepository agreementRepository;
 
-    public UpdateAgreementUseCase(final CompanyRepository companyRepository) {
-        this.companyRepository = companyRepository;
+    public UpdateAgreementUseCase(final AgreementRepository agreementRepository) {
+        this.agreementRepository = agreementRepository;
     }
 
     @Override
     public Output execute(final Input input) {
         final AgreementId agreementId = new AgreementId(input.agreementId());
 
-        final Company company = companyRepository.findCompanyByAgreementId(agreementId)
-                .orElseThrow(() -> new AgreementNotFoundException("Agreement not found"));
-
-        final Agreement existingAgreement = company.getAgreements().stream()
-                .filter(a -> a.agreementId().equals(agreementId))
-                .findFirst()
+        final Agreement existingAgreement = agreementRepository.findById(agreementId)
                 .orElseThrow(() -> new AgreementNotFoundException("Agreement not found"));
 
         Agreement updatedAgreement = existingAgreement;
@@ -47,8 +41,7 @@ public class UpdateAgreementUseCase implements UseCase<UpdateAgreementUseCase.In
             updatedAgreement = updatedAgreement.updateConditions(input.conditions());
         }
 
-        final Company updatedCompany = company.updateAgreement(agreementId, updatedAgreement);
-        companyRepository.update(updatedCompany);
+        agreementRepository.update(updatedAgreement);
 
         return new Output(agreementId.value(), "Agreement updated successfully");
     }
@@ -1,23 +1,36 @@
 package br.com.logistics.tms.company.domain;
 
+import br.com.logistics.tms.commons.domain.AbstractAggregateRoot;
+import br.com.logistics.tms.commons.domain.AbstractDomainEvent;
 import br.com.logistics.tms.commons.domain.exception.ValidationException;
 
 import java.time.Instant;
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
-
-public record Agreement(AgreementId agreementId,
-                        CompanyId from,
-                        CompanyId to,
-                        AgreementType type,
-                        Configurations configurations,
-                        Set<AgreementCondition> conditions,
-                        Instant validFrom,
-                        Instant validTo) {
-
-    public Agreement {
+import java.util.*;
+
+public class Agreement extends AbstractAggregateRoot {
+
+    private final AgreementId agreementId;
+    private final CompanyId from;
+    private final CompanyId to;
+    private final AgreementType type;
+    private final Configurations configurations;
+    private final Set<AgreementCondition> conditions;
+    private final Instant validFrom;
+    private final Instant validTo;
+    private final boolean active;
+
+    public Agreement(final AgreementId agreementId,
+                     final CompanyId from,
+                     final CompanyId to,
+                     final AgreementType type,
+                     final Configurations configurations,
+                     final Set<AgreementCondition> conditions,
+                     final Instant validFrom,
+                     final Instant validTo,
+                     final boolean active,
+                     final Set<AbstractDomainEvent> domainEvents,
+                     final Map<String, Object> persistentMetadata) {
+        super(new HashSet<>(domainEvents), new HashMap<>(persistentMetadata));
 
         if (agreementId == null) {
             throw new ValidationException("Invalid agreementId for Agreement");
@@ -47,15 +60,22 @@ public record Agreement(AgreementId agreementId,
             throw new ValidationException("validFrom must be before validTo in Agreement");
         }
 
-        conditions = Collections.unmodifiableSet(
+        this.agreementId = agreementId;
+        this.from = from;
+        this.to = to;
+        this.type = type;
+        this.configurations = configurations;
+        this.conditions = Collections.unmodifiableSet(
                 conditions == null ? Set.of() : new HashSet<>(conditions)
         );
-
+        this.validFrom = validFrom;
+        this.validTo = validTo;
+        this.active = active;
     }
 
+    // Materialized by the activity scheduler at the validity boundaries, so reads never depend on the clock
     public boolean isActive() {
-        final Instant now = Instant.now();
-        return !now.isBefore(validFrom) && (validTo == null || !now.isAfter(validTo));
+        return active;
     }
 
     public boolean isValidOn(final Instant date) {
@@ -70,7 +90,8 @@ public record Agreement(AgreementId agreementId,
 
         final Set<AgreementCondition> updatedConditions = new HashSet<>(conditions);
         updatedConditions.add(condition);
-        return new Agreement(agreementId, from, to, type, configurations, updatedConditions, validFrom, validTo);
+        return new Agreement(agreementId, from, to, type, configurations, updatedConditions, validFrom, validTo, active,
+                this.getDomainEvents(), this.getPersistentMetadata());
     }
 
     public Agreement removeCondition(final AgreementCondition condition) {
@@ -78,9 +99,10 @@ public record Agreement(AgreementId agreementId,
             throw new ValidationException("Condition not found in Agreement");
         }
 
-        final Set<AgreementCondition> updatedConditions = new java.util.HashSet<>(conditions);
+        final Set<AgreementCondition> updatedConditions = new HashSet<>(conditions);
         updatedConditions.remove(condition);
-        return new Agreement(agreementId, from, to, type, configurations, updatedConditions, validFrom, validTo);
+        return new Agreement(agreementId, from, to, type, configurations, updatedConditions, validFrom, validTo, active,
+                this.getDomainEvents(), this.getPersistentMetadata());
     }
 
     public boolean isBetween(CompanyId from, CompanyId to) {
@@ -98,7 +120,7 @@ public record Agreement(AgreementId agreementId,
             throw new ValidationException("Agreement source and destination must be different");
         }
 
-        return new Agreement(
+        final Agreement agreement = new Agreement(
                 AgreementId.unique(),
                 from,
                 to,
@@ -106,8 +128,21 @@ public record Agreement(AgreementId agreementId,
                 Configurations.with(configuration),
                 conditions,
                 validFrom,
-                validTo
+                validTo,
+                isActiveAt(validFrom, validTo, Instant.now()),
+                new HashSet<>(),
+                new HashMap<>()
         );
+
+        agreement.placeDomainEvent(new AgreementAdded(
+                from.value(),
+                agreement.agreementId.value(),
+                to.value(),
+                type.name(),
+                validFrom,
+                validTo
+        ));
+        return agreement;
     }
 
     public Agreement updateValidTo(final Instant newValidTo) {
@@ -115,7 +150,10 @@ public record Agreement(AgreementId agreementId,
             throw new ValidationException("Valid to must be after valid from");
         }
 
-        return new Agreement(
+        if (Objects.equals(this.validTo, newValidTo))
+            return this;
+
+        final Agreement updated = new Agreement(
                 this.agreementId,
                 this.from,
                 this.to,
@@ -123,8 +161,20 @@ public record Agreement(AgreementId agreementId,
                 this.configurations,
                 this.conditions,
                 this.validFrom,
-                newValidTo
+                newValidTo,
+                this.active,
+                this.getDomainEvents(),
+                this.getPersistentMetadata()
         );
+
+        updated.placeDomainEvent(new AgreementUpdated(
+                this.from.value(),
+                this.agreementId.value(),
+                "validTo",
+                String.valueOf(this.validTo),
+                String.valueOf(newValidTo)
+        ));
+        return updated.updateActivity(Instant.now());
     }
 
     public Agreement updateConditions(final Set<AgreementCondition> newConditions) {
@@ -132,7 +182,10 @@ public record Agreement(AgreementId agreementId,
             throw new ValidationException("Agreement must have at least one condition");
         }
 
-        return new Agreement(
+        if (this.conditions.equals(newConditions))
+            return this;
+
+        final Agreement updated = new Agreement(
                 this.agreementId,
                 this.from,
                 this.to,
@@ -140,8 +193,68 @@ public record Agreement(AgreementId agreementId,
                 this.configurations,
                 newConditions,
                 this.validFrom,
-                this.validTo
+                this.validTo,
+                this.active,
+                this.getDomainEvents(),
+                this.getPersistentMetadata()
+        );
+
+        updated.placeDomainEvent(new AgreementUpdated(
+                this.from.value(),
+                this.agreementId.value(),
+                "conditions",
+                String.valueOf(this.conditions.size()),
+                String.valueOf(newConditions.size())
+        ));
+        return updated;
+    }
+
+    public Agreement updateActivity(final Instant now) {
+        final boolean shouldBeActive = isActiveAt(this.validFrom, this.validTo, now);
+        if (this.active == shouldBeActive)
+            return this;
+
+        final Agreement updated = new Agreement(
+                this.agreementId,
+                this.from,
+                this.to,
+                this.type,
+                this.configurations,
+                this.conditions,
+                this.validFrom,
+                this.validTo,
+                shouldBeActive,
+                this.getDomainEvents(),
+                this.getPersistentMetadata()
         );
+
+        updated.placeDomainEvent(shouldBeActive
+                ? new AgreementActivationEvent(this.from.value(), this.agreementId.value(), this.to.value())
+                : new AgreementExpirationEvent(this.from.value(), this.agreementId.value(), this.to.value()));
+        return updated;
+    }
+
+    public Agreement remove() {
+        final Agreement removed = new Agreement(
+                this.agreementId,
+                this.from,
+                this.to,
+                this.type,
+                this.configurations,
+                this.conditions,
+                this.validFrom,
+                this.validTo,
+                this.active,
+                this.getDomainEvents(),
+                this.getPersistentMetadata()
+        );
+
+        removed.placeDomainEvent(new AgreementRemoved(
+                this.from.value(),
+                this.agreementId.value(),
+                this.to.value()
+        ));
+        return removed;
     }
 
     public boolean overlapsWith(final Agreement other) {
@@ -157,4 +270,65 @@ public record Agreement(AgreementId agreementId,
         return thisStart.isBefore(otherEnd) && otherStart.isBefore(thisEnd);
     }
 
-}
\ No newline at end of file
+    // Half-open like the ex_agreement_overlap range, so an agreement ending at T and its successor starting at T never overlap
+    private static boolean isActiveAt(final Instant validFrom, final Instant validTo, final Instant instant) {
+        return !instant.isBefore(validFrom) && (validTo == null || instant.isBefore(validTo));
+    }
+
+    public AgreementId agreementId() {
+        return agreementId;
+    }
+
+    public CompanyId from() {
+        return from;
+    }
+
+    public CompanyId to() {
+        return to;
+    }
+
+    public AgreementType type() {
+        return type;
+    }
+
+    public Configurations configurations() {
+        return configurations;
+    }
+
+    public Set<AgreementCondition> conditions() {
+        return conditions;
+    }
+
+    public Instant validFrom() {
+        return validFrom;
+    }
+
+    public Instant validTo() {
+        return validTo;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Agreement other)) return false;
+        return agreementId.equals(other.agreementId);
+    }
+
+    @Override
+    public int hashCode() {
+        return agreementId.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return Map.of(
+                "agreementId", agreementId,
+                "from", from,
+                "to", to,
+                "type", type,
+                "validFrom", validFrom,
+                "validTo", String.valueOf(validTo),
+                "active", active
+        ).toString();
+    }
+}
@@ -11,16 +11,22 @@ public class AgreementAdded extends AbstractDomainEvent {
     private final UUID agreementId;
     private final UUID destinationCompanyId;
     private final String agreementType;
+    private final Instant validFrom;
+    private final Instant validTo;
 
     public AgreementAdded(final UUID sourceCompanyId,
                          final UUID agreementId,
                          final UUID destinationCompanyId,
-                         final String agreementType) {
+                         final String agreementType,
+                         final Instant validFrom,
+                         final Instant validTo) {
         super(Id.unique(), sourceCompanyId, Instant.now());
         this.sourceCompanyId = sourceCompanyId;
         this.agreementId = agreementId;
         this.destinationCompanyId = destinationCompanyId;
         this.agreementType = agreementType;
+        this.validFrom = validFrom;
+        this.validTo = validTo;
     }
 
     public UUID getSourceCompanyId() {
@@ -38,4 +44,12 @@ public class AgreementAdded extends AbstractDomainEvent {
     public String getAgreementType() {
         return agreementType;
     }
+
+    public Instant getValidFrom() {
+        return validFrom;
+    }
+
+    public Instant getValidTo() {
+        return validTo;
+    }
 }
@@ -0,0 +1,43 @@
+package br.com.logistics.tms.company.domain;
+
+import br.com.logistics.tms.commons.domain.AbstractDomainEvent;
+
+import java.beans.ConstructorProperties;
+import java.time.Instant;
+import java.util.UUID;
+
+public class AgreementViewUpdated extends AbstractDomainEvent {
+    private final UUID sourceCompanyId;
+    private final UUID agreementId;
+    private final UUID destinationCompanyId;
+
+    @ConstructorProperties({"domainEventId", "sourceCompanyId", "agreementId", "destinationCompanyId", "occurredOn"})
+    public AgreementViewUpdated(final UUID domainEventId,
+                                final UUID sourceCompanyId,
+                                final UUID agreementId,
+                                final UUID destinationCompanyId,
+                                final Instant occurredOn) {
+        super(domainEventId, sourceCompanyId, occurredOn);
+        this.sourceCompanyId = sourceCompanyId;
+        this.agreementId = agreementId;
+        this.destinationCompanyId = destinationCompanyId;
+    }
+
+    public AgreementViewUpdated(final UUID sourceCompanyId,
+                                final UUID agreementId,
+                                final UUID destinationCompanyId) {
+        this(null, sourceCompanyId, agreementId, destinationCompanyId, null);
+    }
+
+    public UUID getSourceCompanyId() {
+        return sourceCompanyId;
+    }
+
+    public UUID getAgreementId() {
+        return agreementId;
+    }
+
+    public UUID getDestinationCompanyId() {
+        return destinationCompanyId;
+    }
+}
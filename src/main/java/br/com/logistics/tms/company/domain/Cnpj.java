@@ -1,20 +1,91 @@
 package br.com.logistics.tms.company.domain;
 
 import br.com.logistics.tms.commons.domain.exception.ValidationException;
-import java.util.UUID;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 public record Cnpj(String value) {
 
-    private static final String CNPJ = "^\\d{2}\\.\\d{3}\\.\\d{3}\\/\\d{4}\\-\\d{2}$";
+    // Accepts the masked form or the bare 14 digits; the value is always kept masked
+    private static final Pattern CNPJ = Pattern.compile("^(\\d{2})\\.?(\\d{3})\\.?(\\d{3})/?(\\d{4})-?(\\d{2})$");
+    private static final int[] FIRST_WEIGHTS = {5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2};
+    private static final int[] SECOND_WEIGHTS = {6, 5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2};
 
     public Cnpj {
-        if (value == null || !value.matches(CNPJ)) {
+        final Matcher matcher = value == null ? null : CNPJ.matcher(value);
+        if (matcher == null || !matcher.matches()) {
             throw new ValidationException("Invalid value for Cnpj");
         }
+
+        value = format(matcher.group(1) + matcher.group(2) + matcher.group(3) + matcher.group(4) + matcher.group(5));
     }
 
+    /**
+     * Parses a CNPJ coming from input, which must carry valid check digits.
+     */
     public static Cnpj with(final String value) {
-        return new Cnpj(value);
+        final Cnpj cnpj = new Cnpj(value);
+        if (!hasValidCheckDigits(cnpj.digits())) {
+            throw new ValidationException("Invalid check digits for Cnpj");
+        }
+        return cnpj;
+    }
+
+    /**
+     * Rebuilds a stored CNPJ. Check digits were enforced when it was written, and rows older than that
+     * check must stay readable, so they are not validated again.
+     */
+    public static Cnpj with(final long number) {
+        if (number < 0 || number > 99_999_999_999_999L) {
+            throw new ValidationException("Invalid value for Cnpj");
+        }
+        return new Cnpj(String.format("%014d", number));
+    }
+
+    /**
+     * The 14 digits as a number, which is how the CNPJ is stored and indexed.
+     */
+    public long number() {
+        long number = 0;
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                number = number * 10 + (c - '0');
+            }
+        }
+        return number;
+    }
+
+    private String digits() {
+        return String.format("%014d", number());
+    }
+
+    private static boolean hasValidCheckDigits(final String digits) {
+        // Repeated digits pass the checksum but are never issued
+        if (digits.chars().allMatch(c -> c == digits.charAt(0))) {
+            return false;
+        }
+
+        return checkDigit(digits, FIRST_WEIGHTS) == digits.charAt(12) - '0'
+                && checkDigit(digits, SECOND_WEIGHTS) == digits.charAt(13) - '0';
+    }
+
+    private static int checkDigit(final String digits, final int[] weights) {
+        int sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += (digits.charAt(i) - '0') * weights[i];
+        }
+        final int mod = sum % 11;
+        return mod < 2 ? 0 : 11 - mod;
+    }
+
+    private static String format(final String digits) {
+        return digits.substring(0, 2) + '.' +
+                digits.substring(2, 5) + '.' +
+                digits.substring(5, 8) + '/' +
+                digits.substring(8, 12) + '-' +
+                digits.substring(12, 14);
     }
 
 }
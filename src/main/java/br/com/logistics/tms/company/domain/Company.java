@@ -5,7 +5,6 @@ import br.com.logistics.tms.commons.domain.AbstractDomainEvent;
 import br.com.logistics.tms.commons.domain.Status;
 import br.com.logistics.tms.commons.domain.exception.ValidationException;
 
-import java.time.Instant;
 import java.util.*;
 
 public class Company extends AbstractAggregateRoot {
@@ -15,7 +14,6 @@ public class Company extends AbstractAggregateRoot {
     private final Cnpj cnpj;
     private final CompanyTypes companyTypes;
     private final Configurations configurations;
-    private final Set<Agreement> agreements;
     private final Status status;
 
     public Company(final CompanyId companyId,
@@ -23,7 +21,6 @@ public class Company extends AbstractAggregateRoot {
                    final Cnpj cnpj,
                    final CompanyTypes companyTypes,
                    final Configurations configurations,
-                   final Set<Agreement> agreements,
                    final Status status,
                    final Set<AbstractDomainEvent> domainEvents,
                    final Map<String, Object> persistentMetadata) {
@@ -34,7 +31,6 @@ public class Company extends AbstractAggregateRoot {
         if (cnpj == null) throw new ValidationException("Invalid cnpj for Company");
         if (companyTypes == null) throw new ValidationException("Invalid type for Company");
         if (configurations == null) throw new ValidationException("Invalid configuration for Company");
-        if (agreements == null) throw new ValidationException("Invalid agreements for Company");
         if (status == null) throw new ValidationException("Invalid status for Company");
 
         this.companyId = companyId;
@@ -42,7 +38,6 @@ public class Company extends AbstractAggregateRoot {
         this.cnpj = cnpj;
         this.companyTypes = companyTypes;
         this.configurations = configurations;
-        this.agreements = agreements;
         this.status = status;
     }
 
@@ -52,14 +47,13 @@ public class Company extends AbstractAggregateRoot {
                                         final Map<String, Object> configuration) {
         final Company company = new Company(CompanyId.unique(),
                 name,
-                new Cnpj(cnpj),
+                Cnpj.with(cnpj),
                 CompanyTypes.with(types),
                 Configurations.with(configuration),
-                new HashSet<>(),
                 Status.active(),
                 new HashSet<>(),
                 new HashMap<>());
-        company.placeDomainEvent(new CompanyCreated(company.companyId.value(), company.name, company.companyTypes.getTypeNames()));
+        company.placeDomainEvent(new CompanyCreated(company.companyId.value(), company.name, company.cnpj.value(), company.companyTypes.getTypeNames()));
         return company;
     }
 
@@ -74,7 +68,6 @@ public class Company extends AbstractAggregateRoot {
                 this.cnpj,
                 this.companyTypes,
                 this.configurations,
-                this.agreements,
                 this.status,
                 this.getDomainEvents(),
                 this.getPersistentMetadata()
@@ -86,22 +79,22 @@ public class Company extends AbstractAggregateRoot {
 
     public Company updateCnpj(final String cnpj) {
         validateCanUpdate();
-        if (this.cnpj.value().equals(cnpj))
+        // Compared normalized, so the bare digits of the current CNPJ are not a change
+        if (this.cnpj.equals(Cnpj.with(cnpj)))
             return this;
 
         final Company updated = new Company(
                 this.companyId,
                 this.name,
-                new Cnpj(cnpj),
+                Cnpj.with(cnpj),
                 this.companyTypes,
                 this.configurations,
-                this.agreements,
                 this.status,
                 this.getDomainEvents(),
                 this.getPersistentMetadata()
         );
 
-        updated.placeDomainEvent(new CompanyUpdated(updated.companyId.value(), "cnpj", this.cnpj.value(), cnpj));
+        updated.placeDomainEvent(new CompanyUpdated(updated.companyId.value(), "cnpj", this.cnpj.value(), updated.cnpj.value()));
         return updated;
     }
 
@@ -116,7 +109,6 @@ public class Company extends AbstractAggregateRoot {
                 this.cnpj,
                 CompanyTypes.with(types),
                 this.configurations,
-                this.agreements,
                 this.status,
                 this.getDomainEvents(),
                 this.getPersistentMetadata()
@@ -137,7 +129,6 @@ public class Company extends AbstractAggregateRoot {
                 this.cnpj,
                 this.companyTypes,
                 Configurations.with(configurations),
-                this.agreements,
                 this.status,
                 this.getDomainEvents(),
                 this.getPersistentMetadata()
@@ -147,11 +138,38 @@ public class Company extends AbstractAggregateRoot {
         return updated;
     }
 
-    public Company incrementOrderNumber() {
-        final Map<String, Object> configuration = new HashMap<>(this.configurations.value());
-        configuration.putIfAbsent("shipmentOrderNumber", 0);
-        configuration.put("shipmentOrderNumber", (Integer) configuration.get("shipmentOrderNumber") + 1);
-        return this.updateConfigurations(configuration);
+    public Company patchConfigurations(final ConfigurationPatch patch) {
+        validateCanUpdate();
+
+        // Only keys whose value actually changes end up in the event
+        final Map<String, Object> oldValues = new TreeMap<>();
+        final Map<String, Object> newValues = new TreeMap<>();
+        patch.set().forEach((key, value) -> {
+            if (!value.equals(this.configurations.value().get(key))) {
+                if (this.configurations.value().containsKey(key)) oldValues.put(key, this.configurations.value().get(key));
+                newValues.put(key, value);
+            }
+        });
+        patch.remove().forEach(key -> {
+            if (this.configurations.value().containsKey(key)) oldValues.put(key, this.configurations.value().get(key));
+        });
+
+        if (oldValues.isEmpty() && newValues.isEmpty())
+            return this;
+
+        final Company updated = new Company(
+                this.companyId,
+                this.name,
+                this.cnpj,
+                this.companyTypes,
+                this.configurations.apply(patch),
+                this.status,
+                this.getDomainEvents(),
+                this.getPersistentMetadata()
+        );
+
+        updated.placeDomainEvent(new CompanyUpdated(updated.companyId.value(), "configurations", oldValues.toString(), newValues.toString()));
+        return updated;
     }
 
     public Company suspend() {
@@ -181,7 +199,6 @@ public class Company extends AbstractAggregateRoot {
                 this.cnpj,
                 this.companyTypes,
                 this.configurations,
-                this.agreements,
                 newStatus,
                 this.getDomainEvents(),
                 this.getPersistentMetadata()
@@ -200,145 +217,6 @@ public class Company extends AbstractAggregateRoot {
         }
     }
 
-    public Set<Agreement> getAgreements() {
-        return Collections.unmodifiableSet(agreements);
-    }
-
-    public Company addAgreement(final Agreement agreement) {
-        if (agreements.contains(agreement)) {
-            throw new ValidationException("Agreement already exists for this company");
-        }
-
-        if (!agreement.from().equals(this.companyId)) {
-            throw new ValidationException("Agreement source must match company");
-        }
-
-        final boolean overlappingExists = agreements.stream()
-                .filter(Agreement::isActive)
-                .anyMatch(a -> a.overlapsWith(agreement));
-        if (overlappingExists) {
-            throw new ValidationException("Overlapping active agreement already exists");
-        }
-
-        final Set<Agreement> updatedAgreements = new HashSet<>(this.agreements);
-        updatedAgreements.add(agreement);
-
-        final Company updated = new Company(
-                this.companyId,
-                this.name,
-                this.cnpj,
-                this.companyTypes,
-                this.configurations,
-                updatedAgreements,
-                this.status,
-                this.getDomainEvents(),
-                this.getPersistentMetadata()
-        );
-
-        updated.placeDomainEvent(new AgreementAdded(
-                this.companyId.value(),
-                agreement.agreementId().value(),
-                agreement.to().value(),
-                agreement.type().name()
-        ));
-
-        return updated;
-    }
-
-    public Company removeAgreement(final AgreementId agreementId) {
-        final Agreement agreementToRemove = agreements.stream()
-                .filter(a -> a.agreementId().equals(agreementId))
-                .findFirst()
-                .orElseThrow(() -> new ValidationException("Agreement not found"));
-
-        final Set<Agreement> updatedAgreements = new HashSet<>(this.agreements);
-        updatedAgreements.remove(agreementToRemove);
-
-        final Company updated = new Company(
-                this.companyId,
-                this.name,
-                this.cnpj,
-                this.companyTypes,
-                this.configurations,
-                updatedAgreements,
-                this.status,
-                this.getDomainEvents(),
-                this.getPersistentMetadata()
-        );
-
-        updated.placeDomainEvent(new AgreementRemoved(
-                this.companyId.value(),
-                agreementToRemove.agreementId().value(),
-                agreementToRemove.to().value()
-        ));
-
-        return updated;
-    }
-
-    public Company updateAgreement(final AgreementId agreementId, final Agreement updatedAgreement) {
-        final Agreement existingAgreement = agreements.stream()
-                .filter(a -> a.agreementId().equals(agreementId))
-                .findFirst()
-                .orElseThrow(() -> new ValidationException("Agreement not found"));
-
-        final boolean overlappingExists = agreements.stream()
-                .filter(a -> !a.agreementId().equals(agreementId))
-                .filter(Agreement::isActive)
-                .anyMatch(a -> a.overlapsWith(updatedAgreement));
-        if (overlappingExists) {
-            throw new ValidationException("Update would create overlapping agreement");
-        }
-
-        final Set<Agreement> updatedAgreements = new HashSet<>(this.agreements);
-        updatedAgreements.remove(existingAgreement);
-        updatedAgreements.add(updatedAgreement);
-
-        final Company updated = new Company(
-                this.companyId,
-                this.name,
-                this.cnpj,
-                this.companyTypes,
-                this.configurations,
-                updatedAgreements,
-                this.status,
-                this.getDomainEvents(),
-                this.getPersistentMetadata()
-        );
-
-        String fieldChanged = "unknown";
-        String oldValue = "";
-        String newValue = "";
-
-        final Instant existingValidTo = existingAgreement.validTo();
-        final Instant updatedValidTo = updatedAgreement.validTo();
-        
-        if ((existingValidTo == null && updatedValidTo != null) || 
-            (existingValidTo != null && !existingValidTo.equals(updatedValidTo))) {
-            fieldChanged = "validTo";
-            oldValue = existingValidTo != null ? existingValidTo.toString() : "null";
-            newValue = updatedValidTo != null ? updatedValidTo.toString() : "null";
-        } else if (!existingAgreement.conditions().equals(updatedAgreement.conditions())) {
-            fieldChanged = "conditions";
-            oldValue = String.valueOf(existingAgreement.conditions().size());
-            newValue = String.valueOf(updatedAgreement.conditions().size());
-        }
-
-        updated.placeDomainEvent(new AgreementUpdated(
-                this.companyId.value(),
-                agreementId.value(),
-                fieldChanged,
-                oldValue,
-                newValue
-        ));
-
-        return updated;
-    }
-
-    public boolean hasAgreementWith(final CompanyId other, final AgreementType type) {
-        return agreements.stream()
-                .anyMatch(a -> a.to().equals(other) && a.type().equals(type));
-    }
-
     public CompanyId getCompanyId() {
         return companyId;
     }
@@ -371,8 +249,7 @@ public class Company extends AbstractAggregateRoot {
                 "cnpj", cnpj,
                 "companyTypes", companyTypes,
                 "configurations", configurations,
-                "status", status,
-                "agreements", agreements
+                "status", status
         ).toString();
     }
 }
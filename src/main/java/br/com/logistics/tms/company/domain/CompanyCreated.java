@@ -11,18 +11,20 @@ public class CompanyCreated extends AbstractDomainEvent {
 
     private final UUID companyId;
     private final String company;
+    private final String cnpj;
     private final Set<String> types;
 
-    @ConstructorProperties({"domainEventId", "companyId", "company", "types", "occurredOn"})
-    public CompanyCreated(final UUID domainEventId, final UUID companyId, final String company, final Set<String> types, final Instant occurredOn) {
+    @ConstructorProperties({"domainEventId", "companyId", "company", "cnpj", "types", "occurredOn"})
+    public CompanyCreated(final UUID domainEventId, final UUID companyId, final String company, final String cnpj, final Set<String> types, final Instant occurredOn) {
         super(domainEventId, companyId, occurredOn);
         this.companyId = companyId;
         this.company = company;
+        this.cnpj = cnpj;
         this.types = types;
     }
 
-    public CompanyCreated(final UUID companyId, final String company, final Set<String> types) {
-        this(null, companyId, company, types, null);
+    public CompanyCreated(final UUID companyId, final String company, final String cnpj, final Set<String> types) {
+        this(null, companyId, company, cnpj, types, null);
     }
 
     public UUID getCompanyId() {
@@ -33,6 +35,10 @@ public class CompanyCreated extends AbstractDomainEvent {
         return company;
     }
 
+    public String getCnpj() {
+        return cnpj;
+    }
+
     public Set<String> getTypes() {
         return types;
     }
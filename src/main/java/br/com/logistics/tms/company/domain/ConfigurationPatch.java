@@ -0,0 +1,34 @@
+package br.com.logistics.tms.company.domain;
+
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+public record ConfigurationPatch(Map<String, Object> set, Set<String> remove) {
+
+    public ConfigurationPatch {
+        set = set == null ? Map.of() : Collections.unmodifiableMap(new HashMap<>(set));
+        remove = remove == null ? Set.of() : Collections.unmodifiableSet(new HashSet<>(remove));
+
+        if (set.isEmpty() && remove.isEmpty()) {
+            throw new ValidationException("Configuration patch must set or remove at least one key");
+        }
+
+        if (set.containsValue(null)) {
+            throw new ValidationException("Configuration values cannot be null, remove the key instead");
+        }
+
+        if (!Collections.disjoint(set.keySet(), remove)) {
+            throw new ValidationException("Configuration patch cannot set and remove the same key");
+        }
+    }
+
+    public static ConfigurationPatch with(final Map<String, Object> set, final Set<String> remove) {
+        return new ConfigurationPatch(set, remove);
+    }
+
+}
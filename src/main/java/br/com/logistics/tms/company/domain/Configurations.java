@@ -3,6 +3,7 @@ package br.com.logistics.tms.company.domain;
 import br.com.logistics.tms.commons.domain.exception.ValidationException;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 
 public record Configurations(Map<String, Object> value) {
@@ -19,4 +20,11 @@ public record Configurations(Map<String, Object> value) {
         return new Configurations(value);
     }
 
+    public Configurations apply(final ConfigurationPatch patch) {
+        final Map<String, Object> patched = new HashMap<>(value);
+        patched.putAll(patch.set());
+        patch.remove().forEach(patched::remove);
+        return new Configurations(patched);
+    }
+
 }
\ No newline at end of file
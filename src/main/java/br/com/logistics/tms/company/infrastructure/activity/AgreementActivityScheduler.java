@@ -0,0 +1,111 @@
+package br.com.logistics.tms.company.infrastructure.activity;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.infrastructure.database.transaction.Transactional;
+import br.com.logistics.tms.commons.infrastructure.scheduling.HashedTimingWheel;
+import br.com.logistics.tms.commons.infrastructure.telemetry.Counterable;
+import br.com.logistics.tms.commons.infrastructure.telemetry.Logable;
+import br.com.logistics.tms.commons.infrastructure.telemetry.MetricCounter;
+import br.com.logistics.tms.company.application.usecases.FindAgreementBoundariesUseCase;
+import br.com.logistics.tms.company.application.usecases.UpdateAgreementActivityUseCase;
+import br.com.logistics.tms.company.infrastructure.config.AgreementActivityProperties;
+import jakarta.persistence.OptimisticLockException;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Component
+@Cqrs(DatabaseRole.WRITE)
+@Lazy(false)
+public class AgreementActivityScheduler {
+
+    private final FindAgreementBoundariesUseCase findAgreementBoundariesUseCase;
+    private final UpdateAgreementActivityUseCase updateAgreementActivityUseCase;
+    private final AgreementActivityProperties properties;
+    private final Transactional transactional;
+    private final Logable logger;
+    private final HashedTimingWheel<UUID> wheel;
+    private final MetricCounter activatedCounter;
+    private final MetricCounter expiredCounter;
+    private final MetricCounter conflictCounter;
+
+    public AgreementActivityScheduler(final FindAgreementBoundariesUseCase findAgreementBoundariesUseCase,
+                                      final UpdateAgreementActivityUseCase updateAgreementActivityUseCase,
+                                      final AgreementActivityProperties properties,
+                                      final Transactional transactional,
+                                      final Logable logger,
+                                      final Counterable counterable) {
+        this.findAgreementBoundariesUseCase = findAgreementBoundariesUseCase;
+        this.updateAgreementActivityUseCase = updateAgreementActivityUseCase;
+        this.properties = properties;
+        this.transactional = transactional;
+        this.logger = logger;
+        this.wheel = new HashedTimingWheel<>(properties.tick(), properties.wheelSize());
+        this.activatedCounter = counterable.createLongCounter("agreement.activity.activated", "Agreements flipped to active at their validFrom");
+        this.expiredCounter = counterable.createLongCounter("agreement.activity.expired", "Agreements flipped to inactive at their validTo");
+        this.conflictCounter = counterable.createLongCounter("agreement.activity.conflicts", "Agreement flips lost to a concurrent write");
+    }
+
+    // Agreements written after the last catch-up are only seen by the next one, so this interval bounds their lateness
+    @Scheduled(fixedDelayString = "${company.agreement.activity.catch-up-interval:30s}")
+    public void catchUp() {
+        if (!properties.enabled()) {
+            return;
+        }
+
+        final Instant now = Instant.now();
+        final FindAgreementBoundariesUseCase.Input input = new FindAgreementBoundariesUseCase.Input(
+                now, now.plus(properties.horizon()), properties.batchSize());
+        final List<FindAgreementBoundariesUseCase.Boundary> boundaries = transactional.runWithinTransactionAndReturn(
+                () -> findAgreementBoundariesUseCase.execute(input).boundaries());
+
+        int overdue = 0;
+        for (final FindAgreementBoundariesUseCase.Boundary boundary : boundaries) {
+            if (boundary.at().isAfter(now)) {
+                wheel.schedule(boundary.agreementId(), boundary.at());
+            } else {
+                wheel.cancel(boundary.agreementId());
+                flip(boundary.agreementId(), now);
+                overdue++;
+            }
+        }
+
+        if (overdue > 0) {
+            logger.info(getClass(), "Caught up {} overdue agreement activity boundaries", overdue);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${company.agreement.activity.tick:1s}")
+    public void tick() {
+        if (!properties.enabled()) {
+            return;
+        }
+
+        final Instant now = Instant.now();
+        for (final UUID agreementId : wheel.advance(now)) {
+            flip(agreementId, now);
+        }
+    }
+
+    private void flip(final UUID agreementId, final Instant now) {
+        try {
+            // One transaction per agreement so a conflict only loses that flip
+            final UpdateAgreementActivityUseCase.Output output = transactional.runWithinTransactionAndReturn(
+                    () -> updateAgreementActivityUseCase.execute(new UpdateAgreementActivityUseCase.Input(agreementId, now)));
+
+            if (output.changed()) {
+                (output.active() ? activatedCounter : expiredCounter).add(1, Map.of());
+            }
+        } catch (final OptimisticLockingFailureException | OptimisticLockException e) {
+            // Another write node already flipped it, or the agreement changed and the next catch-up re-reads it
+            conflictCounter.add(1, Map.of());
+        }
+    }
+}
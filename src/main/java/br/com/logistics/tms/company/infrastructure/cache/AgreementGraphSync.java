@@ -0,0 +1,54 @@
+package br.com.logistics.tms.company.infrastructure.cache;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.company.infrastructure.dto.AgreementGraphChangedDTO;
+import br.com.logistics.tms.company.infrastructure.repositories.AgreementGraphRepositoryImpl;
+import org.springframework.amqp.core.ExchangeTypes;
+import org.springframework.amqp.rabbit.annotation.Exchange;
+import org.springframework.amqp.rabbit.annotation.Queue;
+import org.springframework.amqp.rabbit.annotation.QueueBinding;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+// Each read node keeps its own agreement graph, so each binds its own anonymous queue to see every agreement event.
+// Activation events are not needed: edges keep their validity interval and traversals check it at query time.
+@Component
+@Cqrs(DatabaseRole.READ)
+@Lazy(false)
+public class AgreementGraphSync {
+
+    private final AgreementGraphRepositoryImpl agreementGraphRepository;
+
+    public AgreementGraphSync(final AgreementGraphRepositoryImpl agreementGraphRepository) {
+        this.agreementGraphRepository = agreementGraphRepository;
+    }
+
+    @RabbitListener(bindings = @QueueBinding(
+            value = @Queue(durable = "false", exclusive = "true", autoDelete = "true"),
+            exchange = @Exchange(value = "tms.events", type = ExchangeTypes.TOPIC, declare = "false"),
+            key = {"integration.company.AgreementAdded", "integration.company.AgreementUpdated", "integration.company.AgreementRemoved"}))
+    public void onAgreementChanged(final AgreementGraphChangedDTO event) {
+        if (event.agreementId() == null || event.type() == null) {
+            return;
+        }
+
+        switch (event.type()) {
+            case "AgreementAdded" -> agreementGraphRepository.applyAdded(event.agreementId(), event.sourceCompanyId(),
+                    event.destinationCompanyId(), event.agreementType(), event.validFrom(), event.validTo());
+            case "AgreementUpdated" -> {
+                if ("validTo".equals(event.fieldChanged())) {
+                    // The event carries String.valueOf(validTo), so an open-ended agreement arrives as "null"
+                    final Instant validTo = event.newValue() == null || "null".equals(event.newValue()) ? null : Instant.parse(event.newValue());
+                    agreementGraphRepository.applyValidTo(event.agreementId(), validTo);
+                }
+            }
+            case "AgreementRemoved" -> agreementGraphRepository.applyRemoved(event.agreementId());
+            default -> {
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package br.com.logistics.tms.company.infrastructure.cache;
+
+import br.com.logistics.tms.commons.infrastructure.cache.UseCaseResultCache;
+import br.com.logistics.tms.commons.infrastructure.database.routing.DataSourceContextHolder;
+import br.com.logistics.tms.commons.infrastructure.telemetry.Logable;
+import br.com.logistics.tms.company.infrastructure.dto.CompanyCacheInvalidationDTO;
+import br.com.logistics.tms.company.infrastructure.jpa.repositories.CompanyOutboxJpaRepository;
+import org.springframework.amqp.core.ExchangeTypes;
+import org.springframework.amqp.rabbit.annotation.Exchange;
+import org.springframework.amqp.rabbit.annotation.Queue;
+import org.springframework.amqp.rabbit.annotation.QueueBinding;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Component
+@Lazy(false)
+public class CompanyCacheInvalidator {
+
+    public static final String REGION = "company";
+
+    private static final Duration REPLICA_POLL_INTERVAL = Duration.ofMillis(200);
+    private static final Duration REPLICA_MAX_WAIT = Duration.ofSeconds(5);
+
+    private final UseCaseResultCache useCaseResultCache;
+    private final CompanyOutboxJpaRepository companyOutboxJpaRepository;
+    private final Logable logger;
+
+    public CompanyCacheInvalidator(final UseCaseResultCache useCaseResultCache,
+                                   final CompanyOutboxJpaRepository companyOutboxJpaRepository,
+                                   final Logable logger) {
+        this.useCaseResultCache = useCaseResultCache;
+        this.companyOutboxJpaRepository = companyOutboxJpaRepository;
+        this.logger = logger;
+    }
+
+    // Caches are per node, so every node (read or write) binds its own anonymous queue to get a copy of each event
+    @RabbitListener(bindings = @QueueBinding(
+            value = @Queue(durable = "false", exclusive = "true", autoDelete = "true"),
+            exchange = @Exchange(value = "tms.events", type = ExchangeTypes.TOPIC, declare = "false"),
+            key = {
+                    "integration.company.CompanyUpdated",
+                    "integration.company.AgreementAdded",
+                    "integration.company.AgreementUpdated",
+                    "integration.company.AgreementRemoved",
+                    "integration.company.AgreementActivationEvent",
+                    "integration.company.AgreementExpirationEvent"
+            }))
+    public void invalidate(final CompanyCacheInvalidationDTO event) {
+        evict(event);
+    }
+
+    // agreement_view is rebuilt by a listener of the events above, so caches over it are evicted again once that
+    // rebuild has committed and its outbox row, written in the same transaction, is visible on the replica
+    @RabbitListener(bindings = @QueueBinding(
+            value = @Queue(durable = "false", exclusive = "true", autoDelete = "true"),
+            exchange = @Exchange(value = "tms.events", type = ExchangeTypes.TOPIC, declare = "false"),
+            key = "integration.company.AgreementViewUpdated"))
+    public void invalidateView(final CompanyCacheInvalidationDTO event) throws InterruptedException {
+        if (!awaitReplica(event.domainEventId())) {
+            logger.error(getClass(), "Replica has not caught up with {} {}, invalidating anyway", event.type(), event.domainEventId());
+        }
+        evict(event);
+    }
+
+    private boolean awaitReplica(final UUID domainEventId) throws InterruptedException {
+        final long deadline = System.nanoTime() + REPLICA_MAX_WAIT.toNanos();
+        while (!existsOnReplica(domainEventId)) {
+            if (System.nanoTime() >= deadline) {
+                return false;
+            }
+            Thread.sleep(REPLICA_POLL_INTERVAL);
+        }
+        return true;
+    }
+
+    private boolean existsOnReplica(final UUID domainEventId) {
+        DataSourceContextHolder.markAsReadOnly();
+        try {
+            return companyOutboxJpaRepository.existsById(domainEventId);
+        } finally {
+            DataSourceContextHolder.clearReadOnlyContext();
+        }
+    }
+
+    private void evict(final CompanyCacheInvalidationDTO event) {
+        final Set<UUID> ids = Stream.of(event.companyId(), event.sourceCompanyId(), event.destinationCompanyId(), event.agreementId())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        useCaseResultCache.invalidate(REGION, ids);
+        logger.info(getClass(), "Invalidated {} cache entries for {}", REGION, event.type());
+    }
+}
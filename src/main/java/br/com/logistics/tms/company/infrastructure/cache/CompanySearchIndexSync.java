@@ -0,0 +1,42 @@
+package br.com.logistics.tms.company.infrastructure.cache;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.company.infrastructure.dto.CompanySearchChangedDTO;
+import br.com.logistics.tms.company.infrastructure.repositories.CompanySearchRepositoryImpl;
+import org.springframework.amqp.core.ExchangeTypes;
+import org.springframework.amqp.rabbit.annotation.Exchange;
+import org.springframework.amqp.rabbit.annotation.Queue;
+import org.springframework.amqp.rabbit.annotation.QueueBinding;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+// Each read node keeps its own search index, so each binds its own anonymous queue to see every company event
+@Component
+@Cqrs(DatabaseRole.READ)
+@Lazy(false)
+public class CompanySearchIndexSync {
+
+    private final CompanySearchRepositoryImpl companySearchRepository;
+
+    public CompanySearchIndexSync(final CompanySearchRepositoryImpl companySearchRepository) {
+        this.companySearchRepository = companySearchRepository;
+    }
+
+    @RabbitListener(bindings = @QueueBinding(
+            value = @Queue(durable = "false", exclusive = "true", autoDelete = "true"),
+            exchange = @Exchange(value = "tms.events", type = ExchangeTypes.TOPIC, declare = "false"),
+            key = {"integration.company.CompanyCreated", "integration.company.CompanyUpdated"}))
+    public void onCompanyChanged(final CompanySearchChangedDTO event) {
+        if (event.companyId() == null) {
+            return;
+        }
+
+        if ("CompanyCreated".equals(event.type())) {
+            companySearchRepository.applyCreated(event.companyId(), event.company(), event.cnpj());
+        } else if (event.property() != null) {
+            companySearchRepository.applyUpdated(event.companyId(), event.property(), event.newValue());
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package br.com.logistics.tms.company.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "company.agreement.activity")
+public record AgreementActivityProperties(boolean enabled,
+                                          Duration horizon,
+                                          Duration tick,
+                                          int wheelSize,
+                                          int batchSize) {
+
+    public AgreementActivityProperties {
+        if (horizon == null) horizon = Duration.ofMinutes(5);
+        if (tick == null) tick = Duration.ofSeconds(1);
+        if (wheelSize < 1) wheelSize = 512;
+        if (batchSize < 1) batchSize = 1000;
+    }
+}
@@ -2,11 +2,13 @@ package br.com.logistics.tms.company.infrastructure.config;
 
 import br.com.logistics.tms.commons.application.annotation.DomainService;
 import br.com.logistics.tms.commons.infrastructure.cqrs.CqrsExclusionSpringScanningFilter;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.FilterType;
 
 @Configuration
+@EnableConfigurationProperties(AgreementActivityProperties.class)
 @ComponentScan(
         basePackages = {"br.com.logistics.tms.company.application"},
         includeFilters = {@ComponentScan.Filter(type = FilterType.ANNOTATION, classes = {DomainService.class})},
@@ -0,0 +1,13 @@
+package br.com.logistics.tms.company.infrastructure.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record AgreementChangedDTO(UUID domainEventId,
+        UUID sourceCompanyId,
+        UUID agreementId,
+        Instant occurredOn,
+        String aggregateId,
+        String type,
+        String module) {
+}
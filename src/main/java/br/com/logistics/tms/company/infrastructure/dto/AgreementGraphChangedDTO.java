@@ -0,0 +1,15 @@
+package br.com.logistics.tms.company.infrastructure.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record AgreementGraphChangedDTO(UUID agreementId,
+        UUID sourceCompanyId,
+        UUID destinationCompanyId,
+        String agreementType,
+        Instant validFrom,
+        Instant validTo,
+        String fieldChanged,
+        String newValue,
+        String type) {
+}
@@ -5,7 +5,8 @@ import java.util.List;
 
 public record AgreementsListResponseDTO(
         String companyId,
-        List<AgreementViewDTO> agreements
+        List<AgreementViewDTO> agreements,
+        String nextCursor
 ) {
     public record AgreementViewDTO(
             String agreementId,
@@ -0,0 +1,11 @@
+package br.com.logistics.tms.company.infrastructure.dto;
+
+import java.util.UUID;
+
+public record CompanyCacheInvalidationDTO(UUID domainEventId,
+        UUID companyId,
+        UUID sourceCompanyId,
+        UUID destinationCompanyId,
+        UUID agreementId,
+        String type) {
+}
@@ -0,0 +1,11 @@
+package br.com.logistics.tms.company.infrastructure.dto;
+
+import java.util.UUID;
+
+public record CompanySearchChangedDTO(UUID companyId,
+        String company,
+        String cnpj,
+        String property,
+        String newValue,
+        String type) {
+}
@@ -0,0 +1,15 @@
+package br.com.logistics.tms.company.infrastructure.dto;
+
+import br.com.logistics.tms.company.application.usecases.MatchShipmentAgreementsUseCase;
+
+import java.util.List;
+import java.util.UUID;
+
+public record MatchShipmentAgreementsDTO(
+        String type,
+        List<MatchShipmentAgreementsUseCase.Shipment> shipments
+) {
+    public MatchShipmentAgreementsUseCase.Input toInput(final UUID companyId) {
+        return new MatchShipmentAgreementsUseCase.Input(companyId, type, shipments);
+    }
+}
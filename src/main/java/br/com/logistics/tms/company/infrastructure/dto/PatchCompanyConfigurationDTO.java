@@ -0,0 +1,8 @@
+package br.com.logistics.tms.company.infrastructure.dto;
+
+import java.util.Map;
+import java.util.Set;
+
+public record PatchCompanyConfigurationDTO(Map<String, Object> set, Set<String> remove) {
+
+}
@@ -0,0 +1,7 @@
+package br.com.logistics.tms.company.infrastructure.dto;
+
+import java.util.Map;
+
+public record PatchCompanyConfigurationResponseDTO(String companyId, Map<String, Object> configuration) {
+
+}
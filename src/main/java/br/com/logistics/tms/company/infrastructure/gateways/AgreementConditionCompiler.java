@@ -0,0 +1,233 @@
+package br.com.logistics.tms.company.infrastructure.gateways;
+
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
+import br.com.logistics.tms.company.domain.AgreementCondition;
+import br.com.logistics.tms.company.domain.AgreementConditionType;
+import org.codehaus.commons.compiler.CompileException;
+import org.codehaus.janino.ClassBodyEvaluator;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Turns an agreement's conditions into one generated class. Each condition is a rule: its optional {@code when}
+ * guards the term it contributes, for example
+ * {@code {"percentage": 10, "when": {"weightKg": {"max": 30}, "state": {"in": ["SP", "RJ"]}, "service": "EXPRESS"}}}.
+ * Constraints are {@code min}, {@code max}, {@code eq} and {@code in}; a bare value means {@code eq}.
+ */
+public final class AgreementConditionCompiler {
+
+    private static final String FACTS = Facts.class.getCanonicalName();
+    private static final String OUTCOME = Outcome.class.getCanonicalName();
+    private static final String WHEN = "when";
+    private static final Map<AgreementConditionType, List<String>> TERM_KEYS = Map.of(
+            AgreementConditionType.DISCOUNT_PERCENTAGE, List.of("percentage", "value"),
+            AgreementConditionType.DELIVERY_SLA_DAYS, List.of("maxDays", "days", "value"),
+            AgreementConditionType.USES_PROVIDER, List.of("providerId", "provider", "value"));
+
+    public Compiled compile(final Collection<AgreementCondition> conditions) {
+        final Source source = generate(conditions);
+        final ClassBodyEvaluator evaluator = new ClassBodyEvaluator();
+        evaluator.setImplementedInterfaces(new Class<?>[]{CompiledConditions.class});
+        evaluator.setParentClassLoader(CompiledConditions.class.getClassLoader());
+        try {
+            evaluator.cook(source.body());
+            final CompiledConditions compiled = (CompiledConditions) evaluator.getClazz().getDeclaredConstructor().newInstance();
+            return new Compiled(compiled, source.constants());
+        } catch (final CompileException | ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not compile agreement conditions", e);
+        }
+    }
+
+    // User text never reaches the generated source: names and strings go through the constant table, numbers are
+    // checked to be finite and printed by Double.toString
+    Source generate(final Collection<AgreementCondition> conditions) {
+        final List<String> constants = new ArrayList<>();
+        final StringBuilder body = new StringBuilder()
+                .append("public void evaluate(").append(FACTS).append(" f, String[] k, ").append(OUTCOME).append(" o) {\n");
+
+        for (final AgreementCondition condition : conditions) {
+            final Map<String, Object> value = condition.conditions().value();
+            body.append("    if (").append(guard(value.get(WHEN), constants)).append(") {\n")
+                    .append("        ").append(term(condition.conditionType(), value, constants)).append(";\n")
+                    .append("    }\n");
+        }
+
+        body.append("}\n");
+        return new Source(body.toString(), constants.toArray(String[]::new));
+    }
+
+    private static String guard(final Object when, final List<String> constants) {
+        if (when == null) {
+            return "true";
+        }
+        if (!(when instanceof Map<?, ?> attributes)) {
+            throw new ValidationException("Condition 'when' must be an object");
+        }
+
+        final List<String> predicates = new ArrayList<>();
+        for (final Map.Entry<?, ?> attribute : attributes.entrySet()) {
+            final String name = "k[" + constant(String.valueOf(attribute.getKey()), constants) + "]";
+            if (attribute.getValue() instanceof Map<?, ?> constraints) {
+                for (final Map.Entry<?, ?> constraint : constraints.entrySet()) {
+                    predicates.add(predicate(name, String.valueOf(constraint.getKey()), constraint.getValue(), constants));
+                }
+            } else {
+                predicates.add(equalTo(name, attribute.getValue(), constants));
+            }
+        }
+        return predicates.isEmpty() ? "true" : String.join(" && ", predicates);
+    }
+
+    private static String predicate(final String name, final String operator, final Object operand, final List<String> constants) {
+        return switch (operator) {
+            case "min" -> "f.number(" + name + ") >= " + literal(operand);
+            case "max" -> "f.number(" + name + ") <= " + literal(operand);
+            case "eq" -> equalTo(name, operand, constants);
+            case "in" -> {
+                if (!(operand instanceof Collection<?> values) || values.isEmpty()) {
+                    throw new ValidationException("Condition 'in' must be a non-empty list");
+                }
+                yield values.stream().map(value -> equalTo(name, value, constants))
+                        .collect(Collectors.joining(" || ", "(", ")"));
+            }
+            default -> throw new ValidationException("Unknown condition operator: " + operator);
+        };
+    }
+
+    private static String equalTo(final String name, final Object operand, final List<String> constants) {
+        if (operand instanceof Number) {
+            return "f.number(" + name + ") == " + literal(operand);
+        }
+        if (operand == null || operand instanceof Map<?, ?> || operand instanceof Collection<?>) {
+            throw new ValidationException("Condition values must be numbers, strings or booleans");
+        }
+        return "k[" + constant(String.valueOf(operand), constants) + "].equals(f.text(" + name + "))";
+    }
+
+    private static String term(final AgreementConditionType type, final Map<String, Object> value, final List<String> constants) {
+        final Object term = TERM_KEYS.get(type).stream().map(value::get).filter(Objects::nonNull).findFirst().orElse(null);
+        if (term == null) {
+            return "o.holds()";
+        }
+
+        return switch (type) {
+            case DISCOUNT_PERCENTAGE -> "o.discount(" + literal(term) + ")";
+            case DELIVERY_SLA_DAYS -> "o.slaDays(" + (int) number(term) + ")";
+            case USES_PROVIDER -> "o.provider(k[" + constant(String.valueOf(term), constants) + "])";
+        };
+    }
+
+    private static String literal(final Object operand) {
+        return Double.toString(number(operand)) + "D";
+    }
+
+    private static double number(final Object operand) {
+        final double value;
+        if (operand instanceof Number number) {
+            value = number.doubleValue();
+        } else {
+            try {
+                value = Double.parseDouble(String.valueOf(operand));
+            } catch (final NumberFormatException e) {
+                throw new ValidationException("Condition value is not a number: " + operand);
+            }
+        }
+        if (!Double.isFinite(value)) {
+            throw new ValidationException("Condition value must be finite: " + operand);
+        }
+        return value;
+    }
+
+    private static int constant(final String value, final List<String> constants) {
+        constants.add(value);
+        return constants.size() - 1;
+    }
+
+    record Source(String body, String[] constants) {
+    }
+
+    public record Compiled(CompiledConditions conditions, String[] constants) {
+
+        public void evaluate(final Facts facts, final Outcome outcome) {
+            conditions.evaluate(facts, constants, outcome);
+        }
+    }
+
+    public interface CompiledConditions {
+        void evaluate(Facts facts, String[] constants, Outcome outcome);
+    }
+
+    public static final class Facts {
+
+        private final Map<String, Object> attributes;
+
+        public Facts(final Map<String, Object> attributes) {
+            this.attributes = attributes;
+        }
+
+        // NaN fails every comparison, so a missing or non-numeric attribute never satisfies a numeric constraint
+        public double number(final String name) {
+            final Object value = attributes.get(name);
+            if (value instanceof Number number) {
+                return number.doubleValue();
+            }
+            if (value instanceof String text) {
+                try {
+                    return Double.parseDouble(text);
+                } catch (final NumberFormatException e) {
+                    return Double.NaN;
+                }
+            }
+            return Double.NaN;
+        }
+
+        public String text(final String name) {
+            final Object value = attributes.get(name);
+            return value == null ? null : String.valueOf(value);
+        }
+    }
+
+    public static final class Outcome {
+
+        private boolean holds;
+        private double discount = Double.NaN;
+        private int slaDays = Integer.MAX_VALUE;
+        private final List<String> providers = new ArrayList<>();
+
+        public void holds() {
+            holds = true;
+        }
+
+        public void discount(final double percentage) {
+            holds = true;
+            discount = Double.isNaN(discount) ? percentage : Math.max(discount, percentage);
+        }
+
+        public void slaDays(final int days) {
+            holds = true;
+            slaDays = Math.min(slaDays, days);
+        }
+
+        public void provider(final String provider) {
+            holds = true;
+            if (!providers.contains(provider)) providers.add(provider);
+        }
+
+        public boolean held() {
+            return holds;
+        }
+
+        public Double discount() {
+            return Double.isNaN(discount) ? null : discount;
+        }
+
+        public Integer slaDays() {
+            return slaDays == Integer.MAX_VALUE ? null : slaDays;
+        }
+
+        public List<String> providers() {
+            return List.copyOf(providers);
+        }
+    }
+}
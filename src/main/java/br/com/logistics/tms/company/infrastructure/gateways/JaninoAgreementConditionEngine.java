@@ -0,0 +1,63 @@
+package br.com.logistics.tms.company.infrastructure.gateways;
+
+import br.com.logistics.tms.company.application.gateways.AgreementConditionEngine;
+import br.com.logistics.tms.company.domain.AgreementCondition;
+import br.com.logistics.tms.company.infrastructure.gateways.AgreementConditionCompiler.Compiled;
+import br.com.logistics.tms.company.infrastructure.gateways.AgreementConditionCompiler.Facts;
+import br.com.logistics.tms.company.infrastructure.gateways.AgreementConditionCompiler.Outcome;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+@Slf4j
+@Component
+public class JaninoAgreementConditionEngine implements AgreementConditionEngine {
+
+    private static final int MAX_COMPILED = 10_000;
+    private static final AgreementRules NEVER_APPLIES = shipment -> Optional.empty();
+
+    private final AgreementConditionCompiler compiler;
+    // Keyed by the conditions themselves, so any change to an agreement's conditions is a new entry and stale code
+    // simply ages out; each compiled class has its own loader and is collected once evicted
+    private final Cache<Key, AgreementRules> compiled;
+
+    public JaninoAgreementConditionEngine() {
+        this.compiler = new AgreementConditionCompiler();
+        this.compiled = Caffeine.newBuilder()
+                .maximumSize(MAX_COMPILED)
+                .build();
+    }
+
+    @Override
+    public AgreementRules rulesFor(final UUID agreementId, final Set<AgreementCondition> conditions) {
+        return compiled.get(new Key(agreementId, Set.copyOf(conditions)), this::compile);
+    }
+
+    private AgreementRules compile(final Key key) {
+        final Compiled conditions;
+        try {
+            conditions = compiler.compile(key.conditions());
+        } catch (final RuntimeException e) {
+            log.warn("Agreement {} has conditions that cannot be compiled and will not apply: {}", key.agreementId(), e.getMessage());
+            return NEVER_APPLIES;
+        }
+
+        return shipment -> {
+            final Outcome outcome = new Outcome();
+            conditions.evaluate(new Facts(shipment), outcome);
+            if (!outcome.held()) {
+                return Optional.empty();
+            }
+            return Optional.of(new AgreementTerms(outcome.discount(), outcome.slaDays(), outcome.providers()));
+        };
+    }
+
+    private record Key(UUID agreementId, Set<AgreementCondition> conditions) {
+    }
+
+}
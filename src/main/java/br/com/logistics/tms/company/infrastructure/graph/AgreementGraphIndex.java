@@ -0,0 +1,186 @@
+package br.com.logistics.tms.company.infrastructure.graph;
+
+import br.com.logistics.tms.commons.infrastructure.graph.TemporalCsrGraph;
+import br.com.logistics.tms.commons.infrastructure.index.ReadWriteGuard;
+import br.com.logistics.tms.company.application.repositories.AgreementGraphRepository.Direction;
+import br.com.logistics.tms.company.application.repositories.AgreementGraphRepository.Hop;
+import br.com.logistics.tms.company.domain.AgreementType;
+import br.com.logistics.tms.company.domain.CompanyId;
+
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Agreements compacted into forward and reverse CSR snapshots, plus a small overlay of changes since the last
+ * compaction. Changed agreements are masked out of the snapshot and live in the overlay until it is folded in.
+ */
+public final class AgreementGraphIndex {
+
+    private static final AgreementType[] TYPES = AgreementType.values();
+    private static final int MIN_OVERLAY_BEFORE_COMPACTION = 256;
+
+    private final ReadWriteGuard guard = new ReadWriteGuard();
+    // Dense company ids index the CSR arrays; ids are never reused, so a removed company only costs an empty row
+    private final Map<UUID, Integer> nodeOf = new HashMap<>();
+    private final List<UUID> nodes = new ArrayList<>();
+    private final Map<UUID, Edge> edges = new HashMap<>();
+    private final Map<UUID, Integer> snapshotEdgeOf = new HashMap<>();
+    private final BitSet masked = new BitSet();
+    private final Map<Integer, List<Edge>> overlayOut = new HashMap<>();
+    private final Map<Integer, List<Edge>> overlayIn = new HashMap<>();
+    private final Map<UUID, Edge> overlaid = new HashMap<>();
+    private TemporalCsrGraph outbound = TemporalCsrGraph.builder(TYPES.length).build(0);
+    private TemporalCsrGraph inbound = TemporalCsrGraph.builder(TYPES.length).build(0);
+
+    // Only used while building, before the index is published
+    public void load(final UUID agreementId, final UUID source, final UUID destination, final AgreementType type,
+                     final Instant validFrom, final Instant validTo) {
+        edges.put(agreementId, edgeOf(agreementId, source, destination, type, validFrom, validTo));
+    }
+
+    public void put(final UUID agreementId, final UUID source, final UUID destination, final AgreementType type,
+                    final Instant validFrom, final Instant validTo) {
+        guard.write(() -> {
+            final Edge edge = edgeOf(agreementId, source, destination, type, validFrom, validTo);
+            unlink(agreementId);
+            edges.put(agreementId, edge);
+            link(edge);
+        });
+    }
+
+    // Updates for agreements this index does not know wait for the next rebuild
+    public void changeValidTo(final UUID agreementId, final Instant validTo) {
+        guard.write(() -> {
+            final Edge current = edges.get(agreementId);
+            if (current == null) {
+                return;
+            }
+
+            final Edge changed = new Edge(agreementId, current.source(), current.destination(), current.label(),
+                    current.validFrom(), validTo != null ? validTo.toEpochMilli() : TemporalCsrGraph.OPEN_ENDED);
+            unlink(agreementId);
+            edges.put(agreementId, changed);
+            link(changed);
+        });
+    }
+
+    public void remove(final UUID agreementId) {
+        guard.write(() -> {
+            if (edges.remove(agreementId) != null) {
+                unlink(agreementId);
+            }
+        });
+    }
+
+    public List<CompanyId> traverse(final UUID start, final List<Hop> hops, final long at, final int limit) {
+        return guard.read(() -> {
+            final Integer startNode = nodeOf.get(start);
+            if (startNode == null) {
+                return List.<CompanyId>of();
+            }
+
+            BitSet frontier = new BitSet();
+            frontier.set(startNode);
+            for (final Hop hop : hops) {
+                if (frontier.isEmpty()) {
+                    break;
+                }
+                frontier = step(frontier, hop, at);
+            }
+
+            frontier.clear(startNode);
+            final List<CompanyId> reached = new ArrayList<>();
+            for (int node = frontier.nextSetBit(0); node >= 0 && reached.size() < limit; node = frontier.nextSetBit(node + 1)) {
+                reached.add(CompanyId.with(nodes.get(node)));
+            }
+            return reached;
+        });
+    }
+
+    public int size() {
+        return guard.read(edges::size);
+    }
+
+    // Folds the overlay into fresh snapshots; callers hold the write lock or own the index exclusively
+    public void compact() {
+        final TemporalCsrGraph.Builder forward = TemporalCsrGraph.builder(TYPES.length);
+        final TemporalCsrGraph.Builder reverse = TemporalCsrGraph.builder(TYPES.length);
+        snapshotEdgeOf.clear();
+        int edgeId = 0;
+        for (final Edge edge : edges.values()) {
+            forward.add(edge.source(), edge.destination(), edge.label(), edgeId, edge.validFrom(), edge.validTo());
+            reverse.add(edge.destination(), edge.source(), edge.label(), edgeId, edge.validFrom(), edge.validTo());
+            snapshotEdgeOf.put(edge.agreementId(), edgeId++);
+        }
+
+        outbound = forward.build(nodes.size());
+        inbound = reverse.build(nodes.size());
+        masked.clear();
+        overlayOut.clear();
+        overlayIn.clear();
+        overlaid.clear();
+    }
+
+    private BitSet step(final BitSet frontier, final Hop hop, final long at) {
+        final boolean forward = hop.direction() == Direction.OUTBOUND;
+        final TemporalCsrGraph graph = forward ? outbound : inbound;
+        final Map<Integer, List<Edge>> overlay = forward ? overlayOut : overlayIn;
+        final BitSet next = new BitSet();
+        for (int node = frontier.nextSetBit(0); node >= 0; node = frontier.nextSetBit(node + 1)) {
+            for (final AgreementType type : hop.types()) {
+                graph.forEachEdge(node, type.ordinal(), at, (edgeId, target) -> {
+                    if (!masked.get(edgeId)) next.set(target);
+                });
+            }
+
+            for (final Edge edge : overlay.getOrDefault(node, List.of())) {
+                if (hop.types().contains(TYPES[edge.label()]) && edge.isValidAt(at)) {
+                    next.set(forward ? edge.destination() : edge.source());
+                }
+            }
+        }
+        return next;
+    }
+
+    private void link(final Edge edge) {
+        overlayOut.computeIfAbsent(edge.source(), node -> new ArrayList<>()).add(edge);
+        overlayIn.computeIfAbsent(edge.destination(), node -> new ArrayList<>()).add(edge);
+        overlaid.put(edge.agreementId(), edge);
+        if (overlaid.size() + masked.cardinality() > Math.max(MIN_OVERLAY_BEFORE_COMPACTION, edges.size() / 8)) {
+            compact();
+        }
+    }
+
+    private void unlink(final UUID agreementId) {
+        final Integer snapshotEdge = snapshotEdgeOf.get(agreementId);
+        if (snapshotEdge != null) {
+            masked.set(snapshotEdge);
+        }
+
+        final Edge overlay = overlaid.remove(agreementId);
+        if (overlay != null) {
+            overlayOut.get(overlay.source()).remove(overlay);
+            overlayIn.get(overlay.destination()).remove(overlay);
+        }
+    }
+
+    private Edge edgeOf(final UUID agreementId, final UUID source, final UUID destination, final AgreementType type,
+                        final Instant validFrom, final Instant validTo) {
+        return new Edge(agreementId, node(source), node(destination), type.ordinal(), validFrom.toEpochMilli(),
+                validTo != null ? validTo.toEpochMilli() : TemporalCsrGraph.OPEN_ENDED);
+    }
+
+    private int node(final UUID companyId) {
+        return nodeOf.computeIfAbsent(companyId, id -> {
+            nodes.add(id);
+            return nodes.size() - 1;
+        });
+    }
+
+    private record Edge(UUID agreementId, int source, int destination, int label, long validFrom, long validTo) {
+
+        boolean isValidAt(final long at) {
+            return validFrom <= at && at < validTo;
+        }
+    }
+}
@@ -7,6 +7,7 @@ import lombok.*;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
@@ -28,7 +29,7 @@ public class AgreementEntity {
     @Id
     private UUID id;
 
-    @Column(name = "source", nullable = false, insertable = false, updatable = false)
+    @Column(name = "source", nullable = false, updatable = false)
     private UUID sourceId;
 
     @Column(name = "destination", nullable = false)
@@ -47,18 +48,26 @@ public class AgreementEntity {
     @Column(name = "valid_to")
     private Instant validTo;
 
+    @Column(name = "active", nullable = false)
+    private boolean active;
+
+    @Version
+    private Integer version;
+
     @OneToMany(mappedBy = "agreement", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private Set<AgreementConditionEntity> conditions;
 
-    public static AgreementEntity of(final Agreement agreement, final UUID sourceCompanyId) {
+    public static AgreementEntity of(final Agreement agreement) {
         final AgreementEntity entity = AgreementEntity.builder()
                 .id(agreement.agreementId().value())
-                .sourceId(sourceCompanyId)
+                .sourceId(agreement.from().value())
                 .destinationId(agreement.to().value())
                 .relationType(agreement.type().name())
                 .configuration(new HashMap<>(agreement.configurations().value()))
                 .validFrom(agreement.validFrom())
                 .validTo(agreement.validTo())
+                .active(agreement.isActive())
+                .version((Integer) agreement.getPersistentMetadata().getOrDefault("version", null))
                 .build();
 
         final Set<AgreementConditionEntity> conditionEntities = agreement.conditions().stream()
@@ -83,7 +92,10 @@ public class AgreementEntity {
                 Configurations.with(this.configuration),
                 conditions,
                 this.validFrom,
-                this.validTo
+                this.validTo,
+                this.active,
+                Collections.emptySet(),
+                Map.of("version", this.version)
         );
     }
 }
\ No newline at end of file
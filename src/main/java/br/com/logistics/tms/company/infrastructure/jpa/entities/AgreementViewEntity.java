@@ -0,0 +1,92 @@
+package br.com.logistics.tms.company.infrastructure.jpa.entities;
+
+import br.com.logistics.tms.company.application.repositories.AgreementViewRepository.AgreementView;
+import br.com.logistics.tms.company.domain.AgreementCondition;
+import br.com.logistics.tms.company.domain.AgreementConditionId;
+import br.com.logistics.tms.company.domain.AgreementConditionType;
+import br.com.logistics.tms.company.domain.AgreementType;
+import br.com.logistics.tms.company.domain.Conditions;
+import br.com.logistics.tms.company.infrastructure.config.CompanySchema;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Entity
+@Immutable
+@Table(name = "agreement_view", schema = CompanySchema.COMPANY_SCHEMA)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "agreementId")
+public class AgreementViewEntity {
+
+    @Id
+    @Column(name = "agreement_id")
+    private UUID agreementId;
+
+    @Column(name = "source", nullable = false)
+    private UUID sourceId;
+
+    @Column(name = "destination", nullable = false)
+    private UUID destinationId;
+
+    @Column(name = "relation_type", nullable = false)
+    private String relationType;
+
+    @Column(name = "valid_from", nullable = false)
+    private Instant validFrom;
+
+    @Column(name = "valid_to")
+    private Instant validTo;
+
+    @Column(name = "condition_count", nullable = false)
+    private Integer conditionCount;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "conditions", nullable = false)
+    private List<Map<String, Object>> conditions;
+
+    @Column(name = "active", nullable = false)
+    private boolean active;
+
+    public AgreementView toAgreementView() {
+        return new AgreementView(
+                this.agreementId,
+                this.sourceId,
+                this.destinationId,
+                AgreementType.valueOf(this.relationType),
+                this.validFrom,
+                this.validTo,
+                this.conditionCount,
+                toAgreementConditions(),
+                this.active
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<AgreementCondition> toAgreementConditions() {
+        if (this.conditions == null) {
+            return Set.of();
+        }
+
+        return this.conditions.stream()
+                .map(condition -> new AgreementCondition(
+                        AgreementConditionId.with(condition.get("agreementConditionId").toString()),
+                        AgreementConditionType.valueOf(condition.get("conditionType").toString()),
+                        Conditions.with((Map<String, Object>) condition.get("conditions"))
+                ))
+                .collect(Collectors.toSet());
+    }
+}
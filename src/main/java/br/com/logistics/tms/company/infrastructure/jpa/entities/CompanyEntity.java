@@ -9,6 +9,7 @@ import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
 import java.io.Serializable;
+import java.time.Instant;
 import java.util.*;
 
 @Entity
@@ -19,7 +20,7 @@ import java.util.*;
 @AllArgsConstructor
 @Builder
 @EqualsAndHashCode(of = "id")
-@ToString(exclude = {"agreements"})
+@ToString
 public class CompanyEntity implements Serializable {
 
     @Id
@@ -29,11 +30,14 @@ public class CompanyEntity implements Serializable {
     private String name;
 
     @Column(name = "cnpj", nullable = false)
-    private String cnpj;
+    private Long cnpj;
 
     @Column(name = "status", nullable = false, columnDefinition = "CHAR(1) DEFAULT 'A'")
     private Character status;
 
+    @Column(name = "created_at", nullable = false, insertable = false, updatable = false)
+    private Instant createdAt;
+
     @Version
     private Integer version;
 
@@ -51,42 +55,25 @@ public class CompanyEntity implements Serializable {
     @Column(name = "configuration")
     private Map<String, Object> configuration;
 
-    @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
-    @JoinColumn(name = "source", nullable = false)
-    private Set<AgreementEntity> agreements = new HashSet<>();
-
     public static CompanyEntity of(final Company company) {
-        final CompanyEntity entity = CompanyEntity.builder()
+        return CompanyEntity.builder()
                 .id(company.getCompanyId().value())
                 .name(company.getName())
-                .cnpj(company.getCnpj().value())
+                .cnpj(company.getCnpj().number())
                 .companyTypes(new HashSet<>(company.getCompanyTypes().value()))
                 .configuration(new HashMap<>(company.getConfigurations().value()))
                 .status(company.getStatus().value())
                 .version((Integer) company.getPersistentMetadata().getOrDefault("version", null))
                 .build();
-
-        final Set<AgreementEntity> agreementEntities = company.getAgreements().stream()
-                .map(agreement -> AgreementEntity.of(agreement, entity.getId()))
-                .collect(java.util.stream.Collectors.toSet());
-        entity.setAgreements(agreementEntities);
-
-        return entity;
     }
 
     public Company toCompany() {
-        final Set<Agreement> agreements = this.agreements == null ? Collections.emptySet() :
-                this.agreements.stream()
-                        .map(AgreementEntity::toAgreement)
-                        .collect(java.util.stream.Collectors.toSet());
-
         return new Company(
                 CompanyId.with(this.id),
                 this.name,
                 Cnpj.with(this.cnpj),
                 CompanyTypes.with(this.companyTypes),
                 Configurations.with(this.configuration),
-                agreements,
                 Status.of(this.status),
                 Collections.emptySet(),
                 Map.of("version", this.version)
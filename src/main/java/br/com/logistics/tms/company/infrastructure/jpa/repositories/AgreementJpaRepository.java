@@ -0,0 +1,82 @@
+package br.com.logistics.tms.company.infrastructure.jpa.repositories;
+
+import br.com.logistics.tms.commons.infrastructure.jpa.repositories.CustomJpaRepository;
+import br.com.logistics.tms.company.infrastructure.jpa.entities.AgreementEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface AgreementJpaRepository extends CustomJpaRepository<AgreementEntity, UUID> {
+
+    @EntityGraph(attributePaths = {"conditions"})
+    Optional<AgreementEntity> findById(UUID id);
+
+    // Pending agreements that start by :until and have not already ended, plus active ones that end by :until
+    @Query("""
+            SELECT a FROM AgreementEntity a
+            WHERE (a.active = FALSE AND a.validFrom <= :until AND (a.validTo IS NULL OR a.validTo > :now))
+               OR (a.active = TRUE AND a.validTo <= :until)
+            """)
+    List<AgreementEntity> findWithBoundaryUntil(@Param("now") Instant now,
+                                                @Param("until") Instant until,
+                                                Limit limit);
+
+    @Query(value = """
+            SELECT id AS "id", source AS "source", destination AS "destination", relation_type AS "relationType",
+                   valid_from AS "validFrom", valid_to AS "validTo"
+            FROM company.agreement
+            """, nativeQuery = true)
+    List<AgreementEdgeRow> findAllEdgeRows();
+
+    @Query(value = """
+            SELECT id AS "id", source AS "source", destination AS "destination", relation_type AS "relationType",
+                   valid_from AS "validFrom", valid_to AS "validTo"
+            FROM company.agreement
+            WHERE source IN (:companyIds)
+              AND relation_type IN (:types)
+              AND valid_from <= :at
+              AND (valid_to IS NULL OR valid_to > :at)
+            """, nativeQuery = true)
+    List<AgreementEdgeRow> findOutboundEdgeRows(@Param("companyIds") Collection<UUID> companyIds,
+                                                @Param("types") Collection<String> types,
+                                                @Param("at") Instant at);
+
+    // Served by idx_agreement_destination
+    @Query(value = """
+            SELECT id AS "id", source AS "source", destination AS "destination", relation_type AS "relationType",
+                   valid_from AS "validFrom", valid_to AS "validTo"
+            FROM company.agreement
+            WHERE destination IN (:companyIds)
+              AND relation_type IN (:types)
+              AND valid_from <= :at
+              AND (valid_to IS NULL OR valid_to > :at)
+            """, nativeQuery = true)
+    List<AgreementEdgeRow> findInboundEdgeRows(@Param("companyIds") Collection<UUID> companyIds,
+                                               @Param("types") Collection<String> types,
+                                               @Param("at") Instant at);
+
+    interface AgreementEdgeRow {
+
+        UUID getId();
+
+        UUID getSource();
+
+        UUID getDestination();
+
+        String getRelationType();
+
+        Instant getValidFrom();
+
+        Instant getValidTo();
+    }
+
+}
@@ -0,0 +1,91 @@
+package br.com.logistics.tms.company.infrastructure.jpa.repositories;
+
+import br.com.logistics.tms.commons.infrastructure.jpa.repositories.CustomJpaRepository;
+import br.com.logistics.tms.company.infrastructure.jpa.entities.AgreementViewEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface AgreementViewJpaRepository extends CustomJpaRepository<AgreementViewEntity, UUID> {
+
+    @Query("""
+            SELECT v FROM AgreementViewEntity v
+            WHERE v.sourceId = :sourceId
+              AND (:relationType IS NULL OR v.relationType = :relationType)
+              AND (:destinationId IS NULL OR v.destinationId = :destinationId)
+              AND (:active IS NULL OR v.active = :active)
+              AND (:validUntil IS NULL OR v.validFrom <= :validUntil)
+              AND (:validFrom IS NULL OR v.validTo IS NULL OR v.validTo >= :validFrom)
+              AND (:after IS NULL OR v.agreementId > :after)
+            ORDER BY v.agreementId
+            """)
+    List<AgreementViewEntity> findBySource(@Param("sourceId") UUID sourceId,
+                                           @Param("relationType") String relationType,
+                                           @Param("destinationId") UUID destinationId,
+                                           @Param("active") Boolean active,
+                                           @Param("validFrom") Instant validFrom,
+                                           @Param("validUntil") Instant validUntil,
+                                           @Param("after") UUID after,
+                                           Limit limit);
+
+    @Query("""
+            SELECT v FROM AgreementViewEntity v
+            WHERE v.destinationId = :destinationId
+              AND (:relationType IS NULL OR v.relationType = :relationType)
+              AND (:active IS NULL OR v.active = :active)
+              AND (:after IS NULL OR v.agreementId > :after)
+            ORDER BY v.agreementId
+            """)
+    List<AgreementViewEntity> findByDestination(@Param("destinationId") UUID destinationId,
+                                                @Param("relationType") String relationType,
+                                                @Param("active") Boolean active,
+                                                @Param("after") UUID after,
+                                                Limit limit);
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = """
+            WITH source_agreement AS (
+                SELECT a.id,
+                       a.source,
+                       a.destination,
+                       a.relation_type,
+                       a.valid_from,
+                       a.valid_to,
+                       a.active,
+                       COUNT(c.id) AS condition_count,
+                       COALESCE(jsonb_agg(jsonb_build_object(
+                               'agreementConditionId', c.id,
+                               'conditionType', c.condition_type,
+                               'conditions', c.conditions)) FILTER (WHERE c.id IS NOT NULL), '[]'::jsonb) AS conditions
+                FROM company.agreement a
+                LEFT JOIN company.agreement_condition c ON c.agreement_id = a.id
+                WHERE a.id = :agreementId
+                GROUP BY a.id
+            ), removed AS (
+                DELETE FROM company.agreement_view v
+                WHERE v.agreement_id = :agreementId
+                  AND NOT EXISTS (SELECT 1 FROM source_agreement)
+            )
+            INSERT INTO company.agreement_view (agreement_id, source, destination, relation_type, valid_from, valid_to, condition_count, conditions, active, refreshed_at)
+            SELECT id, source, destination, relation_type, valid_from, valid_to, condition_count, conditions, active, now()
+            FROM source_agreement
+            ON CONFLICT (agreement_id) DO UPDATE SET
+                destination = EXCLUDED.destination,
+                relation_type = EXCLUDED.relation_type,
+                valid_from = EXCLUDED.valid_from,
+                valid_to = EXCLUDED.valid_to,
+                condition_count = EXCLUDED.condition_count,
+                conditions = EXCLUDED.conditions,
+                active = EXCLUDED.active,
+                refreshed_at = EXCLUDED.refreshed_at
+            """, nativeQuery = true)
+    int refresh(@Param("agreementId") UUID agreementId);
+
+}
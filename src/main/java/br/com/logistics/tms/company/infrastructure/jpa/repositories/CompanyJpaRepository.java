@@ -3,10 +3,13 @@ package br.com.logistics.tms.company.infrastructure.jpa.repositories;
 import br.com.logistics.tms.commons.infrastructure.jpa.repositories.CustomJpaRepository;
 import br.com.logistics.tms.company.infrastructure.jpa.entities.CompanyEntity;
 import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -14,12 +17,135 @@ import java.util.UUID;
 @Repository
 public interface CompanyJpaRepository extends CustomJpaRepository<CompanyEntity, UUID> {
 
-    @EntityGraph(attributePaths = {"companyTypes", "agreements"})
+    @EntityGraph(attributePaths = {"companyTypes"})
     Optional<CompanyEntity> findById(UUID id);
 
-    Optional<CompanyEntity> findByCnpj(String cnpj);
+    Optional<CompanyEntity> findByCnpj(Long cnpj);
 
-    @Query("SELECT c FROM CompanyEntity c JOIN c.agreements a WHERE a.id = :agreementId")
-    Optional<CompanyEntity> findByAgreementsId(@Param("agreementId") UUID agreementId);
+    boolean existsByCnpj(Long cnpj);
+
+    @Query(value = """
+            SELECT id AS "id", name AS "name", cnpj AS "cnpj"
+            FROM company.company
+            WHERE status <> 'D'
+            """, nativeQuery = true)
+    List<CompanySearchRow> findAllSearchRows();
+
+    // The LIKE is served by the trigram index; similarity only orders the candidates it returns
+    @Query(value = """
+            SELECT id AS "id", name AS "name", cnpj AS "cnpj"
+            FROM company.company
+            WHERE status <> 'D'
+              AND lower(name) LIKE :pattern ESCAPE '\\'
+            ORDER BY similarity(lower(name), :text) DESC, name
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<CompanySearchRow> searchByName(@Param("pattern") String pattern,
+                                        @Param("text") String text,
+                                        @Param("limit") int limit);
+
+    // A digit prefix is a contiguous range of the numeric CNPJ, so this walks uq_company_cnpj
+    @Query(value = """
+            SELECT id AS "id", name AS "name", cnpj AS "cnpj"
+            FROM company.company
+            WHERE status <> 'D'
+              AND cnpj BETWEEN :from AND :to
+            ORDER BY cnpj
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<CompanySearchRow> searchByCnpjRange(@Param("from") long from,
+                                             @Param("to") long to,
+                                             @Param("limit") int limit);
+
+    // Digits anywhere in the zero-padded CNPJ; the LIKE is served by the digits trigram index
+    @Query(value = """
+            SELECT id AS "id", name AS "name", cnpj AS "cnpj"
+            FROM company.company
+            WHERE status <> 'D'
+              AND lpad(cnpj::text, 14, '0') LIKE :pattern
+            ORDER BY cnpj
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<CompanySearchRow> searchByCnpjDigits(@Param("pattern") String pattern,
+                                              @Param("limit") int limit);
+
+    // Types are aggregated per returned row only, so the page never loads company_type for skipped companies
+    @Query(value = """
+            SELECT c.id AS "id", c.name AS "name", c.cnpj AS "cnpj", CAST(c.status AS text) AS "status",
+                   c.created_at AS "createdAt",
+                   (SELECT string_agg(t.type, ',') FROM company.company_type t WHERE t.company_id = c.id) AS "types"
+            FROM company.company c
+            WHERE c.status = :status
+              AND c.created_at >= :createdFrom
+              AND c.created_at < :createdTo
+              AND (c.created_at, c.id) < (:createdAt, :id)
+            ORDER BY c.created_at DESC, c.id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<CompanyListingRow> findListing(@Param("status") String status,
+                                        @Param("createdFrom") Instant createdFrom,
+                                        @Param("createdTo") Instant createdTo,
+                                        @Param("createdAt") Instant createdAt,
+                                        @Param("id") UUID id,
+                                        @Param("limit") int limit);
+
+    // Seeks idx_company_status_created_id and probes idx_company_type_type_company per candidate
+    @Query(value = """
+            SELECT c.id AS "id", c.name AS "name", c.cnpj AS "cnpj", CAST(c.status AS text) AS "status",
+                   c.created_at AS "createdAt",
+                   (SELECT string_agg(t.type, ',') FROM company.company_type t WHERE t.company_id = c.id) AS "types"
+            FROM company.company c
+            WHERE c.status = :status
+              AND c.created_at >= :createdFrom
+              AND c.created_at < :createdTo
+              AND (c.created_at, c.id) < (:createdAt, :id)
+              AND EXISTS (SELECT 1 FROM company.company_type f WHERE f.type = :type AND f.company_id = c.id)
+            ORDER BY c.created_at DESC, c.id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<CompanyListingRow> findListingOfType(@Param("type") String type,
+                                              @Param("status") String status,
+                                              @Param("createdFrom") Instant createdFrom,
+                                              @Param("createdTo") Instant createdTo,
+                                              @Param("createdAt") Instant createdAt,
+                                              @Param("id") UUID id,
+                                              @Param("limit") int limit);
+
+    // || replaces top-level keys in place, so only the patched keys are rewritten instead of the whole document
+    @Modifying
+    @Query(value = """
+            UPDATE company.company
+            SET configuration = (COALESCE(configuration, '{}'::jsonb) || CAST(:set AS jsonb)) - CAST(:remove AS text[]),
+                version = version + 1
+            WHERE id = :id AND version = :version
+            """, nativeQuery = true)
+    int patchConfiguration(@Param("id") UUID id,
+                           @Param("version") Integer version,
+                           @Param("set") String set,
+                           @Param("remove") String[] remove);
+
+    interface CompanySearchRow {
+
+        UUID getId();
+
+        String getName();
+
+        Long getCnpj();
+    }
+
+    interface CompanyListingRow {
+
+        UUID getId();
+
+        String getName();
+
+        Long getCnpj();
+
+        String getStatus();
+
+        Instant getCreatedAt();
+
+        String getTypes();
+    }
 
 }
@@ -0,0 +1,37 @@
+package br.com.logistics.tms.company.infrastructure.listener;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.infrastructure.usecases.VoidUseCaseExecutor;
+import br.com.logistics.tms.company.application.usecases.SynchronizeAgreementViewUseCase;
+import br.com.logistics.tms.company.infrastructure.dto.AgreementChangedDTO;
+import com.rabbitmq.client.Channel;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+@Component
+@Cqrs(DatabaseRole.WRITE)
+@Lazy(false)
+public class AgreementViewListener {
+
+    private final VoidUseCaseExecutor voidUseCaseExecutor;
+    private final SynchronizeAgreementViewUseCase synchronizeAgreementViewUseCase;
+
+    public AgreementViewListener(VoidUseCaseExecutor voidUseCaseExecutor,
+                                 SynchronizeAgreementViewUseCase synchronizeAgreementViewUseCase) {
+        this.voidUseCaseExecutor = voidUseCaseExecutor;
+        this.synchronizeAgreementViewUseCase = synchronizeAgreementViewUseCase;
+    }
+
+    // Every agreement event shares one queue so events of the same agreement are applied in order
+    @RabbitListener(queues = "integration.company.agreement.view")
+    public void handle(AgreementChangedDTO agreementChanged, Message message, Channel channel) {
+        voidUseCaseExecutor
+                .from(synchronizeAgreementViewUseCase)
+                .withInput(new SynchronizeAgreementViewUseCase.Input(agreementChanged.agreementId()))
+                .execute();
+    }
+
+}
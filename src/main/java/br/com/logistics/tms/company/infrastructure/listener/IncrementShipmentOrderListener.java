@@ -1,37 +0,0 @@
-package br.com.logistics.tms.company.infrastructure.listener;
-
-import br.com.logistics.tms.commons.application.annotation.Cqrs;
-import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
-import br.com.logistics.tms.commons.infrastructure.usecases.VoidUseCaseExecutor;
-import br.com.logistics.tms.company.application.usecases.IncrementShipmentOrderUseCase;
-import br.com.logistics.tms.company.infrastructure.dto.ShipmentOrderCreatedDTO;
-import com.rabbitmq.client.Channel;
-import org.springframework.amqp.core.Message;
-import org.springframework.amqp.rabbit.annotation.RabbitListener;
-import org.springframework.context.annotation.Lazy;
-import org.springframework.stereotype.Component;
-
-
-@Component
-@Cqrs(DatabaseRole.WRITE)
-@Lazy(false)
-public class IncrementShipmentOrderListener {
-
-    private final VoidUseCaseExecutor voidUseCaseExecutor;
-    private final IncrementShipmentOrderUseCase incrementShipmentOrderUseCase;
-
-    public IncrementShipmentOrderListener(VoidUseCaseExecutor voidUseCaseExecutor,
-                                          IncrementShipmentOrderUseCase incrementShipmentOrderUseCase) {
-        this.voidUseCaseExecutor = voidUseCaseExecutor;
-        this.incrementShipmentOrderUseCase = incrementShipmentOrderUseCase;
-    }
-
-    @RabbitListener(queues = "integration.company.shipmentorder.created")
-    public void handle(ShipmentOrderCreatedDTO shipmentOrderCreated, Message message, Channel channel) {
-        voidUseCaseExecutor
-                .from(incrementShipmentOrderUseCase)
-                .withInput(new IncrementShipmentOrderUseCase.Input(shipmentOrderCreated.companyId()))
-                .execute();
-    }
-
-}
@@ -0,0 +1,111 @@
+package br.com.logistics.tms.company.infrastructure.repositories;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.infrastructure.index.RebuildableIndex;
+import br.com.logistics.tms.company.application.repositories.AgreementGraphRepository;
+import br.com.logistics.tms.company.domain.AgreementType;
+import br.com.logistics.tms.company.domain.CompanyId;
+import br.com.logistics.tms.company.infrastructure.graph.AgreementGraphIndex;
+import br.com.logistics.tms.company.infrastructure.jpa.repositories.AgreementJpaRepository;
+import br.com.logistics.tms.company.infrastructure.jpa.repositories.AgreementJpaRepository.AgreementEdgeRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.*;
+
+@Slf4j
+@Component
+@Cqrs(DatabaseRole.READ)
+@Lazy(false)
+public class AgreementGraphRepositoryImpl implements AgreementGraphRepository {
+
+    private final AgreementJpaRepository agreementJpaRepository;
+    private final RebuildableIndex<AgreementGraphIndex> index = new RebuildableIndex<>();
+
+    public AgreementGraphRepositoryImpl(final AgreementJpaRepository agreementJpaRepository) {
+        this.agreementJpaRepository = agreementJpaRepository;
+    }
+
+    // Agreement events are applied as they arrive; the periodic rebuild repairs anything a dropped event left behind
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${company.agreement.graph.rebuild-interval:30m}", initialDelayString = "${company.agreement.graph.rebuild-interval:30m}")
+    public void rebuild() {
+        final AgreementGraphIndex rebuilt = index.rebuild(() -> {
+            final AgreementGraphIndex loaded = new AgreementGraphIndex();
+            for (final AgreementEdgeRow row : agreementJpaRepository.findAllEdgeRows()) {
+                loaded.load(row.getId(), row.getSource(), row.getDestination(), AgreementType.with(row.getRelationType()),
+                        row.getValidFrom(), row.getValidTo());
+            }
+            loaded.compact();
+            return loaded;
+        });
+        log.info("Agreement graph built with {} agreements", rebuilt.size());
+    }
+
+    public void applyAdded(final UUID agreementId,
+                           final UUID source,
+                           final UUID destination,
+                           final String type,
+                           final Instant validFrom,
+                           final Instant validTo) {
+        if (source == null || destination == null || type == null || validFrom == null) {
+            return;
+        }
+
+        final AgreementType agreementType = AgreementType.with(type);
+        index.apply(current -> current.put(agreementId, source, destination, agreementType, validFrom, validTo));
+    }
+
+    public void applyValidTo(final UUID agreementId, final Instant validTo) {
+        index.apply(current -> current.changeValidTo(agreementId, validTo));
+    }
+
+    public void applyRemoved(final UUID agreementId) {
+        index.apply(current -> current.remove(agreementId));
+    }
+
+    @Override
+    public List<CompanyId> traverse(final CompanyId start, final List<Hop> hops, final Instant at, final int limit) {
+        final AgreementGraphIndex current = index.current();
+        if (current == null) {
+            return traverseFromDatabase(start, hops, at, limit);
+        }
+        return current.traverse(start.value(), hops, at.toEpochMilli(), limit);
+    }
+
+    // Until the first build finishes, each hop is one batched query over the agreement table
+    private List<CompanyId> traverseFromDatabase(final CompanyId start, final List<Hop> hops, final Instant at, final int limit) {
+        Set<UUID> frontier = Set.of(start.value());
+        for (final Hop hop : hops) {
+            if (frontier.isEmpty()) {
+                break;
+            }
+
+            final List<String> types = hop.types().stream().map(AgreementType::name).toList();
+            final boolean outbound = hop.direction() == Direction.OUTBOUND;
+            final List<AgreementEdgeRow> rows = outbound
+                    ? agreementJpaRepository.findOutboundEdgeRows(frontier, types, at)
+                    : agreementJpaRepository.findInboundEdgeRows(frontier, types, at);
+
+            final Set<UUID> next = new LinkedHashSet<>();
+            for (final AgreementEdgeRow row : rows) {
+                next.add(outbound ? row.getDestination() : row.getSource());
+            }
+            frontier = next;
+        }
+
+        return frontier.stream()
+                .filter(companyId -> !companyId.equals(start.value()))
+                .limit(limit)
+                .map(CompanyId::with)
+                .toList();
+    }
+}
@@ -0,0 +1,81 @@
+package br.com.logistics.tms.company.infrastructure.repositories;
+
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
+import br.com.logistics.tms.commons.infrastructure.gateways.outbox.OutboxGateway;
+import br.com.logistics.tms.company.application.repositories.AgreementRepository;
+import br.com.logistics.tms.company.domain.Agreement;
+import br.com.logistics.tms.company.domain.AgreementId;
+import br.com.logistics.tms.company.infrastructure.config.CompanySchema;
+import br.com.logistics.tms.company.infrastructure.jpa.entities.AgreementEntity;
+import br.com.logistics.tms.company.infrastructure.jpa.entities.CompanyOutboxEntity;
+import br.com.logistics.tms.company.infrastructure.jpa.repositories.AgreementJpaRepository;
+import jakarta.persistence.EntityManager;
+import lombok.AllArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@AllArgsConstructor
+public class AgreementRepositoryImpl implements AgreementRepository {
+
+    // SQLSTATE raised by the ex_agreement_overlap exclusion constraint
+    private static final String EXCLUSION_VIOLATION = "23P01";
+
+    private final AgreementJpaRepository agreementJpaRepository;
+    private final EntityManager entityManager;
+    private final OutboxGateway outboxGateway;
+
+    @Override
+    public Optional<Agreement> findById(final AgreementId agreementId) {
+        return agreementJpaRepository.findById(agreementId.value())
+                .map(AgreementEntity::toAgreement);
+    }
+
+    @Override
+    public List<AgreementBoundary> findBoundariesUntil(final Instant now, final Instant until, final int limit) {
+        return agreementJpaRepository.findWithBoundaryUntil(now, until, Limit.of(limit)).stream()
+                .map(entity -> new AgreementBoundary(
+                        AgreementId.with(entity.getId()),
+                        entity.isActive() ? entity.getValidTo() : entity.getValidFrom()))
+                .toList();
+    }
+
+    @Override
+    public Agreement create(final Agreement agreement) {
+        entityManager.persist(AgreementEntity.of(agreement));
+        flushRejectingOverlaps();
+        outboxGateway.save(CompanySchema.COMPANY_SCHEMA, agreement.getDomainEvents(), CompanyOutboxEntity.class);
+        return agreement;
+    }
+
+    @Override
+    public Agreement update(final Agreement agreement) {
+        entityManager.merge(AgreementEntity.of(agreement));
+        flushRejectingOverlaps();
+        outboxGateway.save(CompanySchema.COMPANY_SCHEMA, agreement.getDomainEvents(), CompanyOutboxEntity.class);
+        return agreement;
+    }
+
+    @Override
+    public void delete(final Agreement agreement) {
+        agreementJpaRepository.delete(AgreementEntity.of(agreement));
+        outboxGateway.save(CompanySchema.COMPANY_SCHEMA, agreement.getDomainEvents(), CompanyOutboxEntity.class);
+    }
+
+    // Concurrent writers on other nodes never see each other's rows, so only the constraint can catch the overlap
+    private void flushRejectingOverlaps() {
+        try {
+            entityManager.flush();
+        } catch (final ConstraintViolationException e) {
+            if (EXCLUSION_VIOLATION.equals(e.getSQLState())) {
+                throw new ValidationException("Overlapping active agreement already exists", e);
+            }
+            throw e;
+        }
+    }
+}
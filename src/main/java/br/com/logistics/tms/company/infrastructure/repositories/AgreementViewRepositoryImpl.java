@@ -0,0 +1,75 @@
+package br.com.logistics.tms.company.infrastructure.repositories;
+
+import br.com.logistics.tms.commons.domain.AbstractDomainEvent;
+import br.com.logistics.tms.commons.infrastructure.gateways.outbox.OutboxGateway;
+import br.com.logistics.tms.company.application.repositories.AgreementViewRepository;
+import br.com.logistics.tms.company.domain.AgreementId;
+import br.com.logistics.tms.company.domain.AgreementViewUpdated;
+import br.com.logistics.tms.company.domain.CompanyId;
+import br.com.logistics.tms.company.infrastructure.config.CompanySchema;
+import br.com.logistics.tms.company.infrastructure.jpa.entities.AgreementViewEntity;
+import br.com.logistics.tms.company.infrastructure.jpa.entities.CompanyOutboxEntity;
+import br.com.logistics.tms.company.infrastructure.jpa.repositories.AgreementViewJpaRepository;
+import lombok.AllArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+@Component
+@AllArgsConstructor
+public class AgreementViewRepositoryImpl implements AgreementViewRepository {
+
+    private final AgreementViewJpaRepository agreementViewJpaRepository;
+    private final OutboxGateway outboxGateway;
+
+    @Override
+    public Optional<AgreementView> findById(final AgreementId agreementId) {
+        return agreementViewJpaRepository.findById(agreementId.value())
+                .map(AgreementViewEntity::toAgreementView);
+    }
+
+    @Override
+    public List<AgreementView> findBySource(final CompanyId source, final AgreementViewFilter filter, final int limit) {
+        return agreementViewJpaRepository.findBySource(
+                        source.value(),
+                        filter.type() != null ? filter.type().name() : null,
+                        filter.destination(),
+                        filter.active(),
+                        filter.validFrom(),
+                        filter.validUntil(),
+                        filter.after(),
+                        Limit.of(limit))
+                .stream()
+                .map(AgreementViewEntity::toAgreementView)
+                .toList();
+    }
+
+    @Override
+    public List<AgreementView> findByDestination(final CompanyId destination, final InboundAgreementFilter filter, final int limit) {
+        return agreementViewJpaRepository.findByDestination(
+                        destination.value(),
+                        filter.type() != null ? filter.type().name() : null,
+                        filter.active(),
+                        filter.after(),
+                        Limit.of(limit))
+                .stream()
+                .map(AgreementViewEntity::toAgreementView)
+                .toList();
+    }
+
+    @Override
+    public void refresh(final AgreementId agreementId) {
+        final Optional<AgreementView> previous = findById(agreementId);
+        agreementViewJpaRepository.refresh(agreementId.value());
+
+        // Caches over the view are invalidated from this event, which is published only once the refresh commits
+        findById(agreementId).or(() -> previous).ifPresent(view -> {
+            final Set<AbstractDomainEvent> events = Set.of(new AgreementViewUpdated(view.source(), view.agreementId(), view.destination()));
+            outboxGateway.save(CompanySchema.COMPANY_SCHEMA, events, CompanyOutboxEntity.class);
+        });
+    }
+
+}
@@ -0,0 +1,76 @@
+package br.com.logistics.tms.company.infrastructure.repositories;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.domain.Status;
+import br.com.logistics.tms.commons.domain.pagination.Cursor;
+import br.com.logistics.tms.commons.domain.pagination.CursorPage;
+import br.com.logistics.tms.commons.domain.pagination.CursorPageRequest;
+import br.com.logistics.tms.company.application.repositories.CompanyListingRepository;
+import br.com.logistics.tms.company.domain.Cnpj;
+import br.com.logistics.tms.company.domain.CompanyId;
+import br.com.logistics.tms.company.domain.CompanyType;
+import br.com.logistics.tms.company.infrastructure.jpa.repositories.CompanyJpaRepository;
+import br.com.logistics.tms.company.infrastructure.jpa.repositories.CompanyJpaRepository.CompanyListingRow;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Component
+@Cqrs(DatabaseRole.READ)
+@AllArgsConstructor
+public class CompanyListingRepositoryImpl implements CompanyListingRepository {
+
+    // Concrete bounds instead of optional predicates let the first page and the next ones share one seek
+    private static final Instant UNBOUNDED_FROM = Instant.EPOCH;
+    private static final Instant UNBOUNDED_TO = Instant.parse("9999-12-31T00:00:00Z");
+    private static final UUID HIGHEST_ID = new UUID(-1L, -1L);
+
+    private final CompanyJpaRepository companyJpaRepository;
+
+    @Override
+    public CursorPage<CompanyListing> findAll(final CompanyListingFilter filter, final CursorPageRequest pageRequest) {
+        final Cursor after = pageRequest.after() != null ? pageRequest.after() : new Cursor(UNBOUNDED_TO, HIGHEST_ID);
+        final String status = String.valueOf(filter.status().value());
+        final Instant createdFrom = filter.createdFrom() != null ? filter.createdFrom() : UNBOUNDED_FROM;
+        final Instant createdTo = filter.createdTo() != null ? filter.createdTo() : UNBOUNDED_TO;
+        final int fetchSize = pageRequest.size() + 1;
+
+        final List<CompanyListingRow> rows = filter.type() == null
+                ? companyJpaRepository.findListing(status, createdFrom, createdTo, after.position(), after.id(), fetchSize)
+                : companyJpaRepository.findListingOfType(filter.type().name(), status, createdFrom, createdTo,
+                        after.position(), after.id(), fetchSize);
+
+        return CursorPage.of(
+                rows.stream().map(CompanyListingRepositoryImpl::toListing).toList(),
+                pageRequest.size(),
+                company -> new Cursor(company.createdAt(), company.companyId().value()),
+                null);
+    }
+
+    private static CompanyListing toListing(final CompanyListingRow row) {
+        return new CompanyListing(
+                CompanyId.with(row.getId()),
+                row.getName(),
+                Cnpj.with(row.getCnpj()),
+                Status.of(row.getStatus()),
+                typesOf(row.getTypes()),
+                row.getCreatedAt());
+    }
+
+    private static Set<CompanyType> typesOf(final String types) {
+        if (types == null || types.isEmpty()) {
+            return Set.of();
+        }
+        return Arrays.stream(types.split(","))
+                .map(CompanyType::with)
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(CompanyType.class)));
+    }
+}
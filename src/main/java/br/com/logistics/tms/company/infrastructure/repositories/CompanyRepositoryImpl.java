@@ -1,25 +1,34 @@
 package br.com.logistics.tms.company.infrastructure.repositories;
 
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
 import br.com.logistics.tms.commons.infrastructure.gateways.outbox.OutboxGateway;
+import br.com.logistics.tms.commons.infrastructure.json.JsonSingleton;
 import br.com.logistics.tms.company.application.repositories.CompanyRepository;
-import br.com.logistics.tms.company.domain.AgreementId;
 import br.com.logistics.tms.company.domain.Cnpj;
 import br.com.logistics.tms.company.domain.Company;
 import br.com.logistics.tms.company.domain.CompanyId;
+import br.com.logistics.tms.company.domain.ConfigurationPatch;
 import br.com.logistics.tms.company.infrastructure.config.CompanySchema;
 import br.com.logistics.tms.company.infrastructure.jpa.entities.CompanyEntity;
 import br.com.logistics.tms.company.infrastructure.jpa.entities.CompanyOutboxEntity;
 import br.com.logistics.tms.company.infrastructure.jpa.repositories.CompanyJpaRepository;
 import jakarta.persistence.EntityManager;
 import lombok.AllArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 @Component
 @AllArgsConstructor
 public class CompanyRepositoryImpl implements CompanyRepository {
 
+    // SQLSTATE raised by the uq_company_cnpj unique index
+    private static final String UNIQUE_VIOLATION = "23505";
+
     private final CompanyJpaRepository companyJpaRepository;
     private final EntityManager entityManager;
     private final OutboxGateway outboxGateway;
@@ -32,20 +41,20 @@ public class CompanyRepositoryImpl implements CompanyRepository {
 
     @Override
     public Optional<Company> getCompanyByCnpj(Cnpj cnpj) {
-        return companyJpaRepository.findByCnpj(cnpj.value())
+        return companyJpaRepository.findByCnpj(cnpj.number())
                 .map(CompanyEntity::toCompany);
     }
 
     @Override
-    public Optional<Company> findCompanyByAgreementId(final AgreementId agreementId) {
-        return companyJpaRepository.findByAgreementsId(agreementId.value())
-                .map(CompanyEntity::toCompany);
+    public boolean existsByCnpj(final Cnpj cnpj) {
+        return companyJpaRepository.existsByCnpj(cnpj.number());
     }
 
     @Override
     public Company create(final Company company) {
         final CompanyEntity companyEntity = CompanyEntity.of(company);
         final CompanyEntity persisted = companyJpaRepository.save(companyEntity);
+        flushRejectingDuplicates();
         outboxGateway.save(CompanySchema.COMPANY_SCHEMA, company.getDomainEvents(), CompanyOutboxEntity.class);
         return persisted.toCompany();
     }
@@ -54,16 +63,55 @@ public class CompanyRepositoryImpl implements CompanyRepository {
     public Company update(Company company) {
         final CompanyEntity companyEntity = CompanyEntity.of(company);
         entityManager.merge(companyEntity);
+        flushRejectingDuplicates();
         outboxGateway.save(CompanySchema.COMPANY_SCHEMA, company.getDomainEvents(), CompanyOutboxEntity.class);
         return company;
     }
 
+    @Override
+    public Company patchConfigurations(final Company company, final ConfigurationPatch patch) {
+        final Integer version = (Integer) company.getPersistentMetadata().get("version");
+        final int updated = companyJpaRepository.patchConfiguration(company.getCompanyId().value(),
+                version,
+                JsonSingleton.getInstance().toJson(patch.set()),
+                patch.remove().toArray(String[]::new));
+
+        if (updated == 0) {
+            throw new ObjectOptimisticLockingFailureException(CompanyEntity.class, company.getCompanyId().value());
+        }
+
+        outboxGateway.save(CompanySchema.COMPANY_SCHEMA, company.getDomainEvents(), CompanyOutboxEntity.class);
+
+        final Map<String, Object> persistentMetadata = new HashMap<>(company.getPersistentMetadata());
+        persistentMetadata.put("version", version + 1);
+        return new Company(company.getCompanyId(),
+                company.getName(),
+                company.getCnpj(),
+                company.getCompanyTypes(),
+                company.getConfigurations(),
+                company.getStatus(),
+                company.getDomainEvents(),
+                persistentMetadata);
+    }
+
     @Override
     public void delete(Company company) {
         companyJpaRepository.deleteById(company.getCompanyId().value());
         outboxGateway.save(CompanySchema.COMPANY_SCHEMA, company.getDomainEvents(), CompanyOutboxEntity.class);
     }
 
+    // The existence check in the use case races with other nodes; the unique index is what actually rejects duplicates
+    private void flushRejectingDuplicates() {
+        try {
+            entityManager.flush();
+        } catch (final ConstraintViolationException e) {
+            if (UNIQUE_VIOLATION.equals(e.getSQLState())) {
+                throw new ValidationException("Company already exists", e);
+            }
+            throw e;
+        }
+    }
+
 }
 
 
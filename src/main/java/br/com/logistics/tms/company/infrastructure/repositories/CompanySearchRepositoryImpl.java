@@ -0,0 +1,117 @@
+package br.com.logistics.tms.company.infrastructure.repositories;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.infrastructure.index.RebuildableIndex;
+import br.com.logistics.tms.company.application.repositories.CompanySearchRepository;
+import br.com.logistics.tms.company.domain.Cnpj;
+import br.com.logistics.tms.company.domain.CompanyId;
+import br.com.logistics.tms.company.infrastructure.jpa.repositories.CompanyJpaRepository;
+import br.com.logistics.tms.company.infrastructure.jpa.repositories.CompanyJpaRepository.CompanySearchRow;
+import br.com.logistics.tms.company.infrastructure.search.CompanySearchIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+@Slf4j
+@Component
+@Cqrs(DatabaseRole.READ)
+@Lazy(false)
+public class CompanySearchRepositoryImpl implements CompanySearchRepository {
+
+    private static final int CNPJ_DIGITS = 14;
+
+    private final CompanyJpaRepository companyJpaRepository;
+    private final RebuildableIndex<CompanySearchIndex> index = new RebuildableIndex<>();
+
+    public CompanySearchRepositoryImpl(final CompanyJpaRepository companyJpaRepository) {
+        this.companyJpaRepository = companyJpaRepository;
+    }
+
+    // Company events are applied as they arrive; the periodic rebuild repairs anything a dropped event left behind
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${company.search.rebuild-interval:15m}", initialDelayString = "${company.search.rebuild-interval:15m}")
+    public void rebuild() {
+        final CompanySearchIndex rebuilt = index.rebuild(() -> {
+            final CompanySearchIndex loaded = new CompanySearchIndex();
+            for (final CompanySearchRow row : companyJpaRepository.findAllSearchRows()) {
+                loaded.put(row.getId(), row.getName(), Cnpj.with(row.getCnpj()));
+            }
+            return loaded;
+        });
+        log.info("Company search index built with {} companies", rebuilt.size());
+    }
+
+    public void applyCreated(final UUID companyId, final String name, final String cnpj) {
+        if (name == null || cnpj == null) {
+            return;
+        }
+
+        final Cnpj parsed = Cnpj.with(cnpj);
+        index.apply(current -> current.put(companyId, name, parsed));
+    }
+
+    public void applyUpdated(final UUID companyId, final String property, final String newValue) {
+        switch (property) {
+            case "name" -> index.apply(current -> current.rename(companyId, newValue));
+            case "cnpj" -> {
+                final Cnpj parsed = Cnpj.with(newValue);
+                index.apply(current -> current.changeCnpj(companyId, parsed));
+            }
+            case "status" -> {
+                if ("D".equals(newValue)) index.apply(current -> current.remove(companyId));
+            }
+            default -> {
+            }
+        }
+    }
+
+    @Override
+    public List<CompanySummary> findByNamePrefix(final String prefix, final int limit) {
+        final CompanySearchIndex current = index.current();
+        if (current == null) {
+            return searchByName(prefix, limit);
+        }
+        return current.findByName(prefix, limit);
+    }
+
+    @Override
+    public List<CompanySummary> findByCnpjPrefix(final String digits, final int limit) {
+        final CompanySearchIndex current = index.current();
+        if (current == null) {
+            return findByCnpjRange(digits, limit);
+        }
+        return current.findByCnpj(digits, limit);
+    }
+
+    @Override
+    public List<CompanySummary> searchByName(final String text, final int limit) {
+        final String lower = text.toLowerCase(Locale.ROOT);
+        final String pattern = "%" + lower.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+        return toSummaries(companyJpaRepository.searchByName(pattern, lower, limit));
+    }
+
+    @Override
+    public List<CompanySummary> searchByCnpj(final String digits, final int limit) {
+        return toSummaries(companyJpaRepository.searchByCnpjDigits("%" + digits + "%", limit));
+    }
+
+    private List<CompanySummary> findByCnpjRange(final String digits, final int limit) {
+        final long scale = (long) Math.pow(10, CNPJ_DIGITS - digits.length());
+        final long from = Long.parseLong(digits) * scale;
+        return toSummaries(companyJpaRepository.searchByCnpjRange(from, from + scale - 1, limit));
+    }
+
+    private static List<CompanySummary> toSummaries(final List<CompanySearchRow> rows) {
+        return rows.stream()
+                .map(row -> new CompanySummary(CompanyId.with(row.getId()), row.getName(), Cnpj.with(row.getCnpj())))
+                .toList();
+    }
+}
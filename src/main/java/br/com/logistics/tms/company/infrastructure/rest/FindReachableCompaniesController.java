@@ -0,0 +1,47 @@
+package br.com.logistics.tms.company.infrastructure.rest;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.infrastructure.presenters.rest.DefaultRestPresenter;
+import br.com.logistics.tms.commons.infrastructure.usecases.RestUseCaseExecutor;
+import br.com.logistics.tms.company.application.usecases.FindReachableCompaniesUseCase;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("companies/{companyId}/reachable")
+@Cqrs(DatabaseRole.READ)
+public class FindReachableCompaniesController {
+
+    private final FindReachableCompaniesUseCase findReachableCompaniesUseCase;
+    private final DefaultRestPresenter defaultRestPresenter;
+    private final RestUseCaseExecutor restUseCaseExecutor;
+
+    public FindReachableCompaniesController(final FindReachableCompaniesUseCase findReachableCompaniesUseCase,
+                                            final DefaultRestPresenter defaultRestPresenter,
+                                            final RestUseCaseExecutor restUseCaseExecutor) {
+        this.findReachableCompaniesUseCase = findReachableCompaniesUseCase;
+        this.defaultRestPresenter = defaultRestPresenter;
+        this.restUseCaseExecutor = restUseCaseExecutor;
+    }
+
+    @GetMapping
+    public Object findReachable(@PathVariable final UUID companyId,
+                                @RequestParam(name = "hop") final List<String> hops,
+                                @RequestParam(required = false) final Instant at,
+                                @RequestParam(required = false) final Integer limit) {
+        return restUseCaseExecutor
+                .from(findReachableCompaniesUseCase)
+                .withInput(new FindReachableCompaniesUseCase.Input(companyId, hops, at, limit))
+                .presentWith(output -> defaultRestPresenter.present(output, HttpStatus.OK.value()))
+                .execute();
+    }
+}
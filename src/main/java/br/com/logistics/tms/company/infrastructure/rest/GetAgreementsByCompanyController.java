@@ -10,6 +10,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.UUID;
@@ -32,10 +33,15 @@ public class GetAgreementsByCompanyController {
     }
 
     @GetMapping
-    public Object getAgreements(@PathVariable final UUID companyId) {
+    public Object getAgreements(@PathVariable final UUID companyId,
+                                @RequestParam(required = false) final String type,
+                                @RequestParam(required = false) final UUID destination,
+                                @RequestParam(required = false) final Boolean active,
+                                @RequestParam(required = false) final UUID after,
+                                @RequestParam(required = false) final Integer limit) {
         return restUseCaseExecutor
                 .from(getAgreementsByCompanyUseCase)
-                .withInput(new GetAgreementsByCompanyUseCase.Input(companyId))
+                .withInput(new GetAgreementsByCompanyUseCase.Input(companyId, type, destination, active, after, limit))
                 .mapOutputTo(AgreementsListResponseDTO.class)
                 .presentWith(output -> defaultRestPresenter.present(output, HttpStatus.OK.value()))
                 .execute();
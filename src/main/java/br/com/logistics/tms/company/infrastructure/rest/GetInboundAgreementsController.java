@@ -0,0 +1,46 @@
+package br.com.logistics.tms.company.infrastructure.rest;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.infrastructure.presenters.rest.DefaultRestPresenter;
+import br.com.logistics.tms.commons.infrastructure.usecases.RestUseCaseExecutor;
+import br.com.logistics.tms.company.application.usecases.GetInboundAgreementsUseCase;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("companies/{companyId}/agreements/inbound")
+@Cqrs(DatabaseRole.READ)
+public class GetInboundAgreementsController {
+
+    private final GetInboundAgreementsUseCase getInboundAgreementsUseCase;
+    private final DefaultRestPresenter defaultRestPresenter;
+    private final RestUseCaseExecutor restUseCaseExecutor;
+
+    public GetInboundAgreementsController(final GetInboundAgreementsUseCase getInboundAgreementsUseCase,
+                                          final DefaultRestPresenter defaultRestPresenter,
+                                          final RestUseCaseExecutor restUseCaseExecutor) {
+        this.getInboundAgreementsUseCase = getInboundAgreementsUseCase;
+        this.defaultRestPresenter = defaultRestPresenter;
+        this.restUseCaseExecutor = restUseCaseExecutor;
+    }
+
+    @GetMapping
+    public Object getInboundAgreements(@PathVariable final UUID companyId,
+                                       @RequestParam(required = false) final String type,
+                                       @RequestParam(required = false) final Boolean active,
+                                       @RequestParam(required = false) final UUID after,
+                                       @RequestParam(required = false) final Integer limit) {
+        return restUseCaseExecutor
+                .from(getInboundAgreementsUseCase)
+                .withInput(new GetInboundAgreementsUseCase.Input(companyId, type, active, after, limit))
+                .presentWith(output -> defaultRestPresenter.present(output, HttpStatus.OK.value()))
+                .execute();
+    }
+}
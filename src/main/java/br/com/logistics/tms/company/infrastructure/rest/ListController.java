@@ -0,0 +1,46 @@
+package br.com.logistics.tms.company.infrastructure.rest;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.infrastructure.presenters.rest.DefaultRestPresenter;
+import br.com.logistics.tms.commons.infrastructure.usecases.RestUseCaseExecutor;
+import br.com.logistics.tms.company.application.usecases.ListCompaniesUseCase;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Instant;
+
+@RestController
+@RequestMapping("companies")
+@Cqrs(DatabaseRole.READ)
+public class ListController {
+
+    private final ListCompaniesUseCase listCompaniesUseCase;
+    private final DefaultRestPresenter defaultRestPresenter;
+    private final RestUseCaseExecutor restUseCaseExecutor;
+
+    public ListController(final ListCompaniesUseCase listCompaniesUseCase,
+                          final DefaultRestPresenter defaultRestPresenter,
+                          final RestUseCaseExecutor restUseCaseExecutor) {
+        this.listCompaniesUseCase = listCompaniesUseCase;
+        this.defaultRestPresenter = defaultRestPresenter;
+        this.restUseCaseExecutor = restUseCaseExecutor;
+    }
+
+    @GetMapping
+    public Object list(@RequestParam(required = false) final String type,
+                       @RequestParam(required = false) final String status,
+                       @RequestParam(required = false) final Instant createdFrom,
+                       @RequestParam(required = false) final Instant createdTo,
+                       @RequestParam(required = false) final String cursor,
+                       @RequestParam(defaultValue = "20") final int size) {
+        return restUseCaseExecutor
+                .from(listCompaniesUseCase)
+                .withInput(new ListCompaniesUseCase.Input(type, status, createdFrom, createdTo, cursor, size))
+                .presentWith(output -> defaultRestPresenter.present(output, HttpStatus.OK.value()))
+                .execute();
+    }
+}
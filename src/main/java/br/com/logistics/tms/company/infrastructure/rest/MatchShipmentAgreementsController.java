@@ -0,0 +1,44 @@
+package br.com.logistics.tms.company.infrastructure.rest;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.infrastructure.presenters.rest.DefaultRestPresenter;
+import br.com.logistics.tms.commons.infrastructure.usecases.RestUseCaseExecutor;
+import br.com.logistics.tms.company.application.usecases.MatchShipmentAgreementsUseCase;
+import br.com.logistics.tms.company.infrastructure.dto.MatchShipmentAgreementsDTO;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+// A POST only because the shipment batch does not fit a query string; nothing is written
+@RestController
+@RequestMapping("companies/{companyId}/agreements/match")
+@Cqrs(DatabaseRole.READ)
+public class MatchShipmentAgreementsController {
+
+    private final MatchShipmentAgreementsUseCase matchShipmentAgreementsUseCase;
+    private final DefaultRestPresenter defaultRestPresenter;
+    private final RestUseCaseExecutor restUseCaseExecutor;
+
+    public MatchShipmentAgreementsController(final MatchShipmentAgreementsUseCase matchShipmentAgreementsUseCase,
+                                             final DefaultRestPresenter defaultRestPresenter,
+                                             final RestUseCaseExecutor restUseCaseExecutor) {
+        this.matchShipmentAgreementsUseCase = matchShipmentAgreementsUseCase;
+        this.defaultRestPresenter = defaultRestPresenter;
+        this.restUseCaseExecutor = restUseCaseExecutor;
+    }
+
+    @PostMapping
+    public Object match(@PathVariable final UUID companyId, @RequestBody final MatchShipmentAgreementsDTO dto) {
+        return restUseCaseExecutor
+                .from(matchShipmentAgreementsUseCase)
+                .withInput(dto.toInput(companyId))
+                .presentWith(output -> defaultRestPresenter.present(output, HttpStatus.OK.value()))
+                .execute();
+    }
+}
@@ -0,0 +1,36 @@
+package br.com.logistics.tms.company.infrastructure.rest;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.infrastructure.usecases.RestUseCaseExecutor;
+import br.com.logistics.tms.company.application.usecases.PatchCompanyConfigurationUseCase;
+import br.com.logistics.tms.company.infrastructure.dto.PatchCompanyConfigurationDTO;
+import br.com.logistics.tms.company.infrastructure.dto.PatchCompanyConfigurationResponseDTO;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping(value = "companies")
+@Cqrs(DatabaseRole.WRITE)
+public class PatchConfigurationController {
+
+    private final PatchCompanyConfigurationUseCase patchCompanyConfigurationUseCase;
+    private final RestUseCaseExecutor restUseCaseExecutor;
+
+    public PatchConfigurationController(final PatchCompanyConfigurationUseCase patchCompanyConfigurationUseCase,
+                                        final RestUseCaseExecutor restUseCaseExecutor) {
+        this.patchCompanyConfigurationUseCase = patchCompanyConfigurationUseCase;
+        this.restUseCaseExecutor = restUseCaseExecutor;
+    }
+
+    @PatchMapping("/{companyId}/configuration")
+    public Object patch(@PathVariable final UUID companyId, @RequestBody final PatchCompanyConfigurationDTO dto) {
+        return restUseCaseExecutor
+                .from(patchCompanyConfigurationUseCase)
+                .withInput(new PatchCompanyConfigurationUseCase.Input(companyId, dto.set(), dto.remove()))
+                .mapOutputTo(PatchCompanyConfigurationResponseDTO.class)
+                .execute();
+    }
+
+}
@@ -0,0 +1,41 @@
+package br.com.logistics.tms.company.infrastructure.rest;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.infrastructure.presenters.rest.DefaultRestPresenter;
+import br.com.logistics.tms.commons.infrastructure.usecases.RestUseCaseExecutor;
+import br.com.logistics.tms.company.application.usecases.SearchCompaniesUseCase;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("companies/search")
+@Cqrs(DatabaseRole.READ)
+public class SearchController {
+
+    private final SearchCompaniesUseCase searchCompaniesUseCase;
+    private final DefaultRestPresenter defaultRestPresenter;
+    private final RestUseCaseExecutor restUseCaseExecutor;
+
+    public SearchController(final SearchCompaniesUseCase searchCompaniesUseCase,
+                            final DefaultRestPresenter defaultRestPresenter,
+                            final RestUseCaseExecutor restUseCaseExecutor) {
+        this.searchCompaniesUseCase = searchCompaniesUseCase;
+        this.defaultRestPresenter = defaultRestPresenter;
+        this.restUseCaseExecutor = restUseCaseExecutor;
+    }
+
+    @GetMapping
+    public Object search(@RequestParam(name = "q") final String query,
+                         @RequestParam(required = false) final String match,
+                         @RequestParam(required = false) final Integer limit) {
+        return restUseCaseExecutor
+                .from(searchCompaniesUseCase)
+                .withInput(new SearchCompaniesUseCase.Input(query, match, limit))
+                .presentWith(output -> defaultRestPresenter.present(output, HttpStatus.OK.value()))
+                .execute();
+    }
+}
@@ -0,0 +1,89 @@
+package br.com.logistics.tms.company.infrastructure.search;
+
+import br.com.logistics.tms.commons.infrastructure.index.ReadWriteGuard;
+import br.com.logistics.tms.commons.infrastructure.search.PrefixTrie;
+import br.com.logistics.tms.company.application.repositories.CompanySearchRepository.CompanySummary;
+import br.com.logistics.tms.company.domain.Cnpj;
+import br.com.logistics.tms.company.domain.CompanyId;
+
+import java.util.*;
+
+// Mutated in place by company events under its own lock; a rebuild fills a fresh instance and swaps it in
+public final class CompanySearchIndex {
+
+    private final ReadWriteGuard guard = new ReadWriteGuard();
+    private final PrefixTrie<UUID> names = new PrefixTrie<>();
+    private final PrefixTrie<UUID> cnpjs = new PrefixTrie<>();
+    private final Map<UUID, CompanySummary> companies = new HashMap<>();
+
+    public void put(final UUID companyId, final String name, final Cnpj cnpj) {
+        guard.write(() -> {
+            unindex(companyId);
+            final CompanySummary summary = new CompanySummary(CompanyId.with(companyId), name, cnpj);
+            companies.put(companyId, summary);
+            // Every word onwards is a key, so "log" finds "Acme Logistics"
+            final String normalized = PrefixTrie.normalize(name);
+            for (int start = 0; start >= 0; start = nextWord(normalized, start)) {
+                names.put(normalized.substring(start), companyId);
+            }
+            cnpjs.put(digitsOf(cnpj), companyId);
+        });
+    }
+
+    // Updates for companies this index does not know wait for the next rebuild
+    public void rename(final UUID companyId, final String name) {
+        final CompanySummary current = get(companyId);
+        if (current != null) put(companyId, name, current.cnpj());
+    }
+
+    public void changeCnpj(final UUID companyId, final Cnpj cnpj) {
+        final CompanySummary current = get(companyId);
+        if (current != null) put(companyId, current.name(), cnpj);
+    }
+
+    public void remove(final UUID companyId) {
+        guard.write(() -> unindex(companyId));
+    }
+
+    public List<CompanySummary> findByName(final String prefix, final int limit) {
+        return guard.read(() -> resolve(names.findByPrefix(prefix, limit)));
+    }
+
+    public List<CompanySummary> findByCnpj(final String digits, final int limit) {
+        return guard.read(() -> resolve(cnpjs.findByPrefix(digits, limit)));
+    }
+
+    public int size() {
+        return guard.read(companies::size);
+    }
+
+    private CompanySummary get(final UUID companyId) {
+        return guard.read(() -> companies.get(companyId));
+    }
+
+    private void unindex(final UUID companyId) {
+        final CompanySummary previous = companies.remove(companyId);
+        if (previous == null) {
+            return;
+        }
+
+        final String normalized = PrefixTrie.normalize(previous.name());
+        for (int start = 0; start >= 0; start = nextWord(normalized, start)) {
+            names.remove(normalized.substring(start), companyId);
+        }
+        cnpjs.remove(digitsOf(previous.cnpj()), companyId);
+    }
+
+    private List<CompanySummary> resolve(final List<UUID> companyIds) {
+        return companyIds.stream().map(companies::get).filter(Objects::nonNull).toList();
+    }
+
+    private static int nextWord(final String normalized, final int start) {
+        final int space = normalized.indexOf(' ', start);
+        return space < 0 ? -1 : space + 1;
+    }
+
+    private static String digitsOf(final Cnpj cnpj) {
+        return String.format("%014d", cnpj.number());
+    }
+}
@@ -0,0 +1,14 @@
+package br.com.logistics.tms.company.infrastructure.spi;
+
+import br.com.logistics.tms.company.infrastructure.spi.dto.CarrierAgreementDTO;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public interface AgreementSpi {
+
+    List<CarrierAgreementDTO> getCarrierAgreements(UUID shipperId, Instant at, Map<String, Object> shipment);
+
+}
@@ -0,0 +1,10 @@
+package br.com.logistics.tms.company.infrastructure.spi.dto;
+
+import java.util.UUID;
+
+public record CarrierAgreementDTO(UUID agreementId,
+                                  UUID carrierId,
+                                  Double discountPercentage,
+                                  Integer slaDays) {
+
+}
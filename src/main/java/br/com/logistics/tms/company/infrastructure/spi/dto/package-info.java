@@ -0,0 +1,4 @@
+@NamedInterface("company-dto")
+package br.com.logistics.tms.company.infrastructure.spi.dto;
+
+import org.springframework.modulith.NamedInterface;
\ No newline at end of file
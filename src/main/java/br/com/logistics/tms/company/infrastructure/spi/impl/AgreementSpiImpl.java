@@ -0,0 +1,33 @@
+package br.com.logistics.tms.company.infrastructure.spi.impl;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.company.application.usecases.GetCarrierAgreementsUseCase;
+import br.com.logistics.tms.company.infrastructure.spi.AgreementSpi;
+import br.com.logistics.tms.company.infrastructure.spi.dto.CarrierAgreementDTO;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Component
+@Cqrs(DatabaseRole.READ)
+public class AgreementSpiImpl implements AgreementSpi {
+
+    private final GetCarrierAgreementsUseCase getCarrierAgreementsUseCase;
+
+    public AgreementSpiImpl(final GetCarrierAgreementsUseCase getCarrierAgreementsUseCase) {
+        this.getCarrierAgreementsUseCase = getCarrierAgreementsUseCase;
+    }
+
+    @Override
+    public List<CarrierAgreementDTO> getCarrierAgreements(final UUID shipperId, final Instant at, final Map<String, Object> shipment) {
+        return getCarrierAgreementsUseCase.execute(new GetCarrierAgreementsUseCase.Input(shipperId, at, shipment)).carriers()
+                .stream()
+                .map(carrier -> new CarrierAgreementDTO(carrier.agreementId(), carrier.carrierId(),
+                        carrier.discountPercentage(), carrier.slaDays()))
+                .toList();
+    }
+}
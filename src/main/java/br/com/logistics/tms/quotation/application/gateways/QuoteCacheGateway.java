@@ -0,0 +1,47 @@
+package br.com.logistics.tms.quotation.application.gateways;
+
+import br.com.logistics.tms.quotation.domain.CompanyId;
+import br.com.logistics.tms.quotation.domain.Quote;
+import br.com.logistics.tms.quotation.domain.ServiceLevel;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface QuoteCacheGateway {
+
+    Optional<CachedQuote> find(Fingerprint fingerprint);
+
+    /**
+     * Read before pricing and handed back to {@link #put}, so a result priced across an invalidation is not kept.
+     */
+    long generation();
+
+    void put(Fingerprint fingerprint, CachedQuote quote, long generation);
+
+    /**
+     * Drops every entry quoted for, or priced by, one of {@code companyIds}.
+     */
+    void invalidate(Collection<CompanyId> companyIds);
+
+    /**
+     * A quote request reduced to what prices it: postal prefixes instead of full codes and the upper bound of its
+     * weight band instead of the exact weight.
+     */
+    record Fingerprint(CompanyId shipperId,
+                       String originPrefix,
+                       String destinationPrefix,
+                       long weightBandGrams,
+                       ServiceLevel serviceLevel,
+                       Map<String, Object> attributes) {
+    }
+
+    /**
+     * {@code rateCardVersions} holds, for every carrier in the result, the rate card version it was priced with.
+     */
+    record CachedQuote(List<Quote> quotes, List<UUID> unavailableCarriers, Map<CompanyId, Integer> rateCardVersions) {
+    }
+
+}
@@ -0,0 +1,22 @@
+package br.com.logistics.tms.quotation.application.gateways;
+
+import br.com.logistics.tms.quotation.domain.CompanyId;
+
+import java.time.Duration;
+
+public interface QuoteMetricsGateway {
+
+    void recordQuote(Duration elapsed, boolean partial);
+
+    void recordCarrier(CompanyId carrierId, Duration elapsed, CarrierOutcome outcome);
+
+    void recordCacheLookup(CompanyId carrierId, boolean hit);
+
+    enum CarrierOutcome {
+        PRICED,
+        NO_RATE,
+        FAILED,
+        TIMED_OUT
+    }
+
+}
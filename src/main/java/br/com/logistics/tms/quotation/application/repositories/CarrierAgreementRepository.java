@@ -0,0 +1,22 @@
+package br.com.logistics.tms.quotation.application.repositories;
+
+import br.com.logistics.tms.quotation.domain.CompanyId;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public interface CarrierAgreementRepository {
+
+    /**
+     * Carriers the shipper can ship with at {@code at}, with the discount their agreement grants this shipment.
+     */
+    List<CarrierAgreement> findEligible(CompanyId shipperId, Instant at, Map<String, Object> shipment);
+
+    record CarrierAgreement(UUID agreementId,
+                            CompanyId carrierId,
+                            Double discountPercentage) {
+    }
+
+}
@@ -0,0 +1,9 @@
+package br.com.logistics.tms.quotation.application.repositories;
+
+import br.com.logistics.tms.quotation.domain.CarrierTariff;
+
+public interface CarrierTariffRepository {
+
+    CarrierTariff save(CarrierTariff tariff);
+
+}
@@ -0,0 +1,13 @@
+package br.com.logistics.tms.quotation.application.repositories;
+
+import br.com.logistics.tms.quotation.domain.CompanyId;
+import br.com.logistics.tms.quotation.domain.RateCard;
+
+public interface RateCardRepository {
+
+    /**
+     * Stores {@code card} as the carrier's next version, which becomes the active one, and returns that version.
+     */
+    int save(CompanyId carrierId, RateCard card);
+
+}
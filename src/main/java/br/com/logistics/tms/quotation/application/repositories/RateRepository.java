@@ -0,0 +1,40 @@
+package br.com.logistics.tms.quotation.application.repositories;
+
+import br.com.logistics.tms.quotation.domain.CompanyId;
+import br.com.logistics.tms.quotation.domain.Lane;
+import br.com.logistics.tms.quotation.domain.Rate;
+import br.com.logistics.tms.quotation.domain.ServiceLevel;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public interface RateRepository {
+
+    /**
+     * Called concurrently, once per carrier of a quote, so implementations must not rely on the caller's thread.
+     */
+    Optional<Rate> findRate(CompanyId carrierId, Lane lane, double weightKg, ServiceLevel serviceLevel);
+
+    /**
+     * Version of the rate card {@link #findRate} currently prices the carrier with, 0 when it has none.
+     */
+    int rateCardVersion(CompanyId carrierId);
+
+    /**
+     * The rate card this node is currently pricing the carrier with, if one has been loaded.
+     */
+    Optional<RateCardStats> findRateCardStats(CompanyId carrierId);
+
+    /**
+     * Finest postal prefix and weight step any carrier is currently priced at; shipments that agree on both always
+     * get the same rates.
+     */
+    Granularity granularity();
+
+    record Granularity(int prefixLength, int weightStepGrams) {
+    }
+
+    record RateCardStats(int version, Instant loadedAt, int lanes, int rows, long footprintBytes, long lookups, long hits) {
+    }
+
+}
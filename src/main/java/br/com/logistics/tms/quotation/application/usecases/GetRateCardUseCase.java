@@ -0,0 +1,57 @@
+package br.com.logistics.tms.quotation.application.usecases;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.application.annotation.DomainService;
+import br.com.logistics.tms.commons.application.usecases.UseCase;
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
+import br.com.logistics.tms.quotation.application.repositories.RateRepository;
+import br.com.logistics.tms.quotation.application.repositories.RateRepository.RateCardStats;
+import br.com.logistics.tms.quotation.domain.CompanyId;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+@DomainService
+@Cqrs(DatabaseRole.READ)
+public class GetRateCardUseCase implements UseCase<GetRateCardUseCase.Input, GetRateCardUseCase.Output> {
+
+    private final RateRepository rateRepository;
+
+    public GetRateCardUseCase(final RateRepository rateRepository) {
+        this.rateRepository = rateRepository;
+    }
+
+    // Figures are for the node that answers, since each read node loads and serves its own copy
+    @Override
+    public Output execute(final Input input) {
+        final RateCardStats stats = rateRepository.findRateCardStats(CompanyId.with(input.carrierId()))
+                .orElseThrow(() -> new ValidationException("No rate card loaded for carrier: " + input.carrierId()));
+
+        final double seconds = Math.max(Duration.between(stats.loadedAt(), Instant.now()).toMillis(), 1) / 1000.0;
+        return new Output(
+                input.carrierId(),
+                stats.version(),
+                stats.loadedAt(),
+                stats.lanes(),
+                stats.rows(),
+                stats.footprintBytes(),
+                stats.lookups(),
+                stats.lookups() == 0 ? 0 : (double) stats.hits() / stats.lookups(),
+                stats.lookups() / seconds
+        );
+    }
+
+    public record Input(UUID carrierId) {}
+
+    public record Output(UUID carrierId,
+                         int version,
+                         Instant loadedAt,
+                         int lanes,
+                         int rows,
+                         long footprintBytes,
+                         long lookups,
+                         double hitRatio,
+                         double lookupsPerSecond) {}
+}
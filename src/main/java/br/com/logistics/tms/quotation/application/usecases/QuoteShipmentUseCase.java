@@ -0,0 +1,269 @@
+package br.com.logistics.tms.quotation.application.usecases;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DomainService;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.application.usecases.UseCase;
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
+import br.com.logistics.tms.quotation.application.gateways.QuoteCacheGateway;
+import br.com.logistics.tms.quotation.application.gateways.QuoteCacheGateway.CachedQuote;
+import br.com.logistics.tms.quotation.application.gateways.QuoteCacheGateway.Fingerprint;
+import br.com.logistics.tms.quotation.application.gateways.QuoteMetricsGateway;
+import br.com.logistics.tms.quotation.application.gateways.QuoteMetricsGateway.CarrierOutcome;
+import br.com.logistics.tms.quotation.application.repositories.CarrierAgreementRepository;
+import br.com.logistics.tms.quotation.application.repositories.CarrierAgreementRepository.CarrierAgreement;
+import br.com.logistics.tms.quotation.application.repositories.RateRepository;
+import br.com.logistics.tms.quotation.application.repositories.RateRepository.Granularity;
+import br.com.logistics.tms.quotation.domain.CompanyId;
+import br.com.logistics.tms.quotation.domain.Lane;
+import br.com.logistics.tms.quotation.domain.Quote;
+import br.com.logistics.tms.quotation.domain.ServiceLevel;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.*;
+
+@DomainService
+@Cqrs(DatabaseRole.READ)
+public class QuoteShipmentUseCase implements UseCase<QuoteShipmentUseCase.Input, QuoteShipmentUseCase.Output> {
+
+    private static final Duration DEFAULT_DEADLINE = Duration.ofMillis(800);
+    private static final Duration MAX_DEADLINE = Duration.ofSeconds(5);
+    // Cached quotes share postal prefixes at least this long, longer when a loaded rate card prices by longer ones
+    private static final int POSTAL_PREFIX_LENGTH = 5;
+
+    private final CarrierAgreementRepository carrierAgreementRepository;
+    private final RateRepository rateRepository;
+    private final QuoteMetricsGateway quoteMetricsGateway;
+    private final QuoteCacheGateway quoteCacheGateway;
+
+    public QuoteShipmentUseCase(final CarrierAgreementRepository carrierAgreementRepository,
+                                final RateRepository rateRepository,
+                                final QuoteMetricsGateway quoteMetricsGateway,
+                                final QuoteCacheGateway quoteCacheGateway) {
+        this.carrierAgreementRepository = carrierAgreementRepository;
+        this.rateRepository = rateRepository;
+        this.quoteMetricsGateway = quoteMetricsGateway;
+        this.quoteCacheGateway = quoteCacheGateway;
+    }
+
+    @Override
+    public Output execute(final Input input) {
+        final long started = System.nanoTime();
+        if (input.shipperId() == null) {
+            throw new ValidationException("shipperId is required");
+        }
+        if (input.weightKg() == null || !Double.isFinite(input.weightKg()) || input.weightKg() <= 0) {
+            throw new ValidationException("weightKg must be a positive number");
+        }
+
+        final Duration deadline = input.deadlineMillis() == null ? DEFAULT_DEADLINE : Duration.ofMillis(input.deadlineMillis());
+        if (deadline.isNegative() || deadline.isZero() || deadline.compareTo(MAX_DEADLINE) > 0) {
+            throw new ValidationException("deadlineMillis must be between 1 and " + MAX_DEADLINE.toMillis());
+        }
+
+        final Lane lane = Lane.of(input.origin(), input.destination());
+        final ServiceLevel serviceLevel = ServiceLevel.with(input.serviceLevel());
+        final CompanyId shipperId = CompanyId.with(input.shipperId());
+        // A quote at an explicit instant asks about the agreements of that moment, which entries priced "now" do not answer
+        final boolean cacheable = !Boolean.TRUE.equals(input.bypassCache()) && input.at() == null;
+        final Fingerprint fingerprint = fingerprintOf(shipperId, lane, input.weightKg(), serviceLevel, input.attributes(),
+                rateRepository.granularity());
+        if (cacheable) {
+            final Optional<CachedQuote> cached = quoteCacheGateway.find(fingerprint).filter(this::isCurrent);
+            if (cached.isPresent()) {
+                cached.get().rateCardVersions().keySet().forEach(carrierId -> quoteMetricsGateway.recordCacheLookup(carrierId, true));
+                return output(input, serviceLevel, cached.get().quotes(), List.of(), cached.get().unavailableCarriers(), started);
+            }
+        }
+
+        final long generation = quoteCacheGateway.generation();
+        final Instant at = input.at() == null ? Instant.now() : input.at();
+        final List<CarrierAgreement> carriers = carrierAgreementRepository.findEligible(
+                shipperId, at, shipmentOf(input, lane, serviceLevel));
+
+        final Priced priced = price(carriers, lane, input.weightKg(), serviceLevel, started + deadline.toNanos());
+        if (cacheable) {
+            priced.rateCardVersions().keySet().forEach(carrierId -> quoteMetricsGateway.recordCacheLookup(carrierId, false));
+            // Carriers that timed out or failed would be missing from the entry for its whole lifetime
+            if (priced.timedOut().isEmpty() && !priced.failed()) {
+                quoteCacheGateway.put(fingerprint, new CachedQuote(List.copyOf(priced.quotes()), List.copyOf(priced.unavailable()),
+                        Map.copyOf(priced.rateCardVersions())), generation);
+            }
+        }
+
+        return output(input, serviceLevel, priced.quotes(), priced.timedOut(), priced.unavailable(), started);
+    }
+
+    private Output output(final Input input,
+                          final ServiceLevel serviceLevel,
+                          final List<Quote> quotes,
+                          final List<UUID> timedOut,
+                          final List<UUID> unavailable,
+                          final long started) {
+        final List<QuoteOption> options = new ArrayList<>(quotes.size());
+        final List<Quote> ranked = quotes.stream().sorted(Quote.RANKING).toList();
+        for (int i = 0; i < ranked.size(); i++) {
+            options.add(QuoteOption.of(i + 1, ranked.get(i)));
+        }
+
+        final boolean partial = !timedOut.isEmpty();
+        quoteMetricsGateway.recordQuote(Duration.ofNanos(System.nanoTime() - started), partial);
+        return new Output(input.shipperId(), serviceLevel.name(), options, timedOut, unavailable, partial);
+    }
+
+    // A carrier whose rate card changed since the entry was priced makes the whole entry stale
+    private boolean isCurrent(final CachedQuote cached) {
+        for (final Map.Entry<CompanyId, Integer> carrier : cached.rateCardVersions().entrySet()) {
+            if (rateRepository.rateCardVersion(carrier.getKey()) != carrier.getValue()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Carriers are priced concurrently; whatever has not answered by the deadline is cancelled and reported as pending
+    private Priced price(final List<CarrierAgreement> carriers, final Lane lane, final double weightKg,
+                         final ServiceLevel serviceLevel, final long deadlineNanos) {
+        final List<Quote> quotes = new ArrayList<>();
+        final List<UUID> timedOut = new ArrayList<>();
+        final List<UUID> unavailable = new ArrayList<>();
+        final Map<CompanyId, Integer> rateCardVersions = new ConcurrentHashMap<>();
+        if (carriers.isEmpty()) {
+            return new Priced(quotes, timedOut, unavailable, rateCardVersions, false);
+        }
+
+        final long pricingStarted = System.nanoTime();
+        final List<Callable<Optional<Quote>>> tasks = carriers.stream()
+                .<Callable<Optional<Quote>>>map(carrier -> () -> quote(carrier, lane, weightKg, serviceLevel, rateCardVersions))
+                .toList();
+
+        // Not try-with-resources: close() would wait for tasks that ignored the cancellation and overrun the deadline
+        final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        final List<Future<Optional<Quote>>> futures;
+        try {
+            futures = executor.invokeAll(tasks, Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Quote interrupted", e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        boolean failed = false;
+        for (int i = 0; i < futures.size(); i++) {
+            final CompanyId carrierId = carriers.get(i).carrierId();
+            final Future<Optional<Quote>> future = futures.get(i);
+            if (future.isCancelled()) {
+                timedOut.add(carrierId.value());
+                quoteMetricsGateway.recordCarrier(carrierId, Duration.ofNanos(System.nanoTime() - pricingStarted), CarrierOutcome.TIMED_OUT);
+                continue;
+            }
+            try {
+                future.get().ifPresentOrElse(quotes::add, () -> unavailable.add(carrierId.value()));
+            } catch (final ExecutionException e) {
+                unavailable.add(carrierId.value());
+                failed = true;
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Quote interrupted", e);
+            }
+        }
+        return new Priced(quotes, timedOut, unavailable, rateCardVersions, failed);
+    }
+
+    private Optional<Quote> quote(final CarrierAgreement carrier,
+                                  final Lane lane,
+                                  final double weightKg,
+                                  final ServiceLevel serviceLevel,
+                                  final Map<CompanyId, Integer> rateCardVersions) {
+        final long started = System.nanoTime();
+        try {
+            // Read before the lookup: a card swapped in between leaves the entry stamped older, so it is discarded, never kept stale
+            rateCardVersions.put(carrier.carrierId(), rateRepository.rateCardVersion(carrier.carrierId()));
+            final Optional<Quote> quote = rateRepository.findRate(carrier.carrierId(), lane, weightKg, serviceLevel)
+                    .map(rate -> new Quote(carrier.carrierId(), carrier.agreementId(), serviceLevel, rate, carrier.discountPercentage()));
+            quoteMetricsGateway.recordCarrier(carrier.carrierId(), Duration.ofNanos(System.nanoTime() - started),
+                    quote.isPresent() ? CarrierOutcome.PRICED : CarrierOutcome.NO_RATE);
+            return quote;
+        } catch (final RuntimeException e) {
+            // An interrupted worker was cancelled at the deadline, which the caller already records as a timeout
+            if (!Thread.currentThread().isInterrupted()) {
+                quoteMetricsGateway.recordCarrier(carrier.carrierId(), Duration.ofNanos(System.nanoTime() - started), CarrierOutcome.FAILED);
+            }
+            throw e;
+        }
+    }
+
+    // Agreement conditions are written against these names, so they take precedence over caller attributes
+    private static Map<String, Object> shipmentOf(final Input input, final Lane lane, final ServiceLevel serviceLevel) {
+        final Map<String, Object> shipment = new HashMap<>(input.attributes() == null ? Map.of() : input.attributes());
+        shipment.put("weightKg", input.weightKg());
+        shipment.put("origin", lane.origin());
+        shipment.put("destination", lane.destination());
+        shipment.put("serviceLevel", serviceLevel.name());
+        return shipment;
+    }
+
+    private static Fingerprint fingerprintOf(final CompanyId shipperId,
+                                             final Lane lane,
+                                             final double weightKg,
+                                             final ServiceLevel serviceLevel,
+                                             final Map<String, Object> attributes,
+                                             final Granularity granularity) {
+        final int prefixLength = Math.max(POSTAL_PREFIX_LENGTH, granularity.prefixLength());
+        final long step = granularity.weightStepGrams();
+        final long grams = (long) Math.ceil(weightKg * 1000);
+        return new Fingerprint(shipperId,
+                lane.origin().substring(0, prefixLength),
+                lane.destination().substring(0, prefixLength),
+                (grams + step - 1) / step * step,
+                serviceLevel,
+                attributes == null ? Map.of() : Collections.unmodifiableMap(new HashMap<>(attributes)));
+    }
+
+    private record Priced(List<Quote> quotes,
+                          List<UUID> timedOut,
+                          List<UUID> unavailable,
+                          Map<CompanyId, Integer> rateCardVersions,
+                          boolean failed) {
+    }
+
+    public record Input(UUID shipperId,
+                        String origin,
+                        String destination,
+                        Double weightKg,
+                        String serviceLevel,
+                        Instant at,
+                        Map<String, Object> attributes,
+                        Integer deadlineMillis,
+                        Boolean bypassCache) {}
+
+    public record Output(UUID shipperId,
+                         String serviceLevel,
+                         List<QuoteOption> options,
+                         List<UUID> pendingCarriers,
+                         List<UUID> unavailableCarriers,
+                         boolean partial) {}
+
+    public record QuoteOption(int rank,
+                              UUID carrierId,
+                              UUID agreementId,
+                              BigDecimal basePrice,
+                              Double discountPercentage,
+                              BigDecimal price,
+                              int transitDays) {
+
+        static QuoteOption of(final int rank, final Quote quote) {
+            return new QuoteOption(rank,
+                    quote.carrierId().value(),
+                    quote.agreementId(),
+                    BigDecimal.valueOf(quote.rate().priceCents(), 2),
+                    quote.discountPercentage(),
+                    BigDecimal.valueOf(quote.priceCents(), 2),
+                    quote.rate().transitDays());
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package br.com.logistics.tms.quotation.application.usecases;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.application.annotation.DomainService;
+import br.com.logistics.tms.commons.application.usecases.UseCase;
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
+import br.com.logistics.tms.quotation.application.repositories.RateCardRepository;
+import br.com.logistics.tms.quotation.domain.CompanyId;
+import br.com.logistics.tms.quotation.domain.RateCard;
+import br.com.logistics.tms.quotation.domain.ServiceLevel;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Reads a CSV of {@code origin_prefix,destination_prefix,service_level,max_weight_kg,price,transit_days} rows, with an
+ * optional header, straight into a {@link RateCard} and stores it as the carrier's next version.
+ */
+@DomainService
+@Cqrs(DatabaseRole.WRITE)
+public class UploadRateCardUseCase implements UseCase<UploadRateCardUseCase.Input, UploadRateCardUseCase.Output> {
+
+    private static final int MAX_ROWS = 20_000_000;
+    private static final int COLUMNS = 6;
+
+    private final RateCardRepository rateCardRepository;
+
+    public UploadRateCardUseCase(final RateCardRepository rateCardRepository) {
+        this.rateCardRepository = rateCardRepository;
+    }
+
+    @Override
+    public Output execute(final Input input) {
+        if (input.carrierId() == null || input.content() == null) {
+            throw new ValidationException("carrierId and content are required");
+        }
+
+        final RateCard card = read(input.content());
+        final int version = rateCardRepository.save(CompanyId.with(input.carrierId()), card);
+        return new Output(input.carrierId(), version, card.prefixLength(), card.lanes(), card.rows(), card.footprintBytes());
+    }
+
+    private static RateCard read(final InputStream content) {
+        final String[] fields = new String[COLUMNS];
+        RateCard.Builder builder = null;
+        long lineNumber = 0;
+        try (final BufferedReader reader = new BufferedReader(new InputStreamReader(content, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || (lineNumber == 1 && !Character.isDigit(line.strip().charAt(0)))) {
+                    continue;
+                }
+                if (builder != null && builder.size() == MAX_ROWS) {
+                    throw new ValidationException("Rate card exceeds " + MAX_ROWS + " rows");
+                }
+
+                split(line, fields, lineNumber);
+                if (builder == null) {
+                    builder = RateCard.builder(fields[0].length());
+                }
+                try {
+                    builder.add(fields[0], fields[1], ServiceLevel.with(fields[2]), Double.parseDouble(fields[3]),
+                            new BigDecimal(fields[4]).movePointRight(2).longValueExact(), Integer.parseInt(fields[5]));
+                } catch (final NumberFormatException | ArithmeticException e) {
+                    throw new ValidationException("Invalid number on rate card line " + lineNumber + ": " + e.getMessage());
+                } catch (final ValidationException e) {
+                    throw new ValidationException("Rate card line " + lineNumber + ": " + e.getMessage());
+                }
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Could not read rate card", e);
+        }
+
+        if (builder == null) {
+            throw new ValidationException("Rate card has no rates");
+        }
+        return builder.build();
+    }
+
+    // Plain comma splitting: rate card fields are codes and numbers, never quoted text
+    private static void split(final String line, final String[] fields, final long lineNumber) {
+        int start = 0;
+        for (int i = 0; i < COLUMNS; i++) {
+            final int comma = line.indexOf(',', start);
+            final boolean last = i == COLUMNS - 1;
+            if (last ? comma >= 0 : comma < 0) {
+                throw new ValidationException("Rate card line " + lineNumber + " must have " + COLUMNS + " columns");
+            }
+            final int end = last ? line.length() : comma;
+            fields[i] = line.substring(start, end).strip();
+            start = end + 1;
+        }
+    }
+
+    public record Input(UUID carrierId, InputStream content) {}
+
+    public record Output(UUID carrierId, int version, int prefixLength, int lanes, int rows, long footprintBytes) {}
+}
@@ -0,0 +1,63 @@
+package br.com.logistics.tms.quotation.application.usecases;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DomainService;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.application.usecases.UseCase;
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
+import br.com.logistics.tms.quotation.application.repositories.CarrierTariffRepository;
+import br.com.logistics.tms.quotation.domain.CarrierTariff;
+import br.com.logistics.tms.quotation.domain.CompanyId;
+import br.com.logistics.tms.quotation.domain.ServiceLevel;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@DomainService
+@Cqrs(DatabaseRole.WRITE)
+public class UpsertCarrierTariffUseCase implements UseCase<UpsertCarrierTariffUseCase.Input, UpsertCarrierTariffUseCase.Output> {
+
+    private final CarrierTariffRepository carrierTariffRepository;
+
+    public UpsertCarrierTariffUseCase(final CarrierTariffRepository carrierTariffRepository) {
+        this.carrierTariffRepository = carrierTariffRepository;
+    }
+
+    @Override
+    public Output execute(final Input input) {
+        if (input.transitDays() == null) {
+            throw new ValidationException("transitDays is required");
+        }
+
+        final CarrierTariff tariff = carrierTariffRepository.save(new CarrierTariff(
+                CompanyId.with(input.carrierId()),
+                ServiceLevel.with(input.serviceLevel()),
+                cents(input.basePrice(), "basePrice"),
+                cents(input.pricePerKg(), "pricePerKg"),
+                input.transitDays()
+        ));
+
+        return new Output(
+                tariff.carrierId().value(),
+                tariff.serviceLevel().name(),
+                BigDecimal.valueOf(tariff.basePriceCents(), 2),
+                BigDecimal.valueOf(tariff.pricePerKgCents(), 2),
+                tariff.transitDays()
+        );
+    }
+
+    private static long cents(final BigDecimal amount, final String field) {
+        if (amount == null) {
+            throw new ValidationException(field + " is required");
+        }
+        try {
+            return amount.movePointRight(2).longValueExact();
+        } catch (final ArithmeticException e) {
+            throw new ValidationException(field + " must have at most two decimal places");
+        }
+    }
+
+    public record Input(UUID carrierId, String serviceLevel, BigDecimal basePrice, BigDecimal pricePerKg, Integer transitDays) {}
+
+    public record Output(UUID carrierId, String serviceLevel, BigDecimal basePrice, BigDecimal pricePerKg, int transitDays) {}
+}
@@ -0,0 +1,32 @@
+package br.com.logistics.tms.quotation.domain;
+
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
+
+/**
+ * Flat tariff of a carrier for one service level: a base price plus a price per started kilogram.
+ */
+public record CarrierTariff(CompanyId carrierId,
+                            ServiceLevel serviceLevel,
+                            long basePriceCents,
+                            long pricePerKgCents,
+                            int transitDays) {
+
+    public CarrierTariff {
+        if (carrierId == null) {
+            throw new ValidationException("Invalid carrierId for CarrierTariff");
+        }
+        if (serviceLevel == null) {
+            throw new ValidationException("Invalid serviceLevel for CarrierTariff");
+        }
+        if (basePriceCents < 0 || pricePerKgCents < 0) {
+            throw new ValidationException("Tariff prices must not be negative");
+        }
+        if (transitDays < 0) {
+            throw new ValidationException("Tariff transit days must not be negative");
+        }
+    }
+
+    public Rate rateFor(final double weightKg) {
+        return new Rate(basePriceCents + (long) Math.ceil(weightKg) * pricePerKgCents, transitDays);
+    }
+}
@@ -0,0 +1,26 @@
+package br.com.logistics.tms.quotation.domain;
+
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
+
+public record Lane(String origin, String destination) {
+
+    private static final int POSTAL_CODE_DIGITS = 8;
+
+    public Lane {
+        origin = postalCode(origin, "origin");
+        destination = postalCode(destination, "destination");
+    }
+
+    public static Lane of(final String origin, final String destination) {
+        return new Lane(origin, destination);
+    }
+
+    // CEPs arrive as "01310-100" or "01310100"; only the digits identify the lane
+    private static String postalCode(final String value, final String field) {
+        final String digits = value == null ? "" : value.replaceAll("\\D", "");
+        if (digits.length() != POSTAL_CODE_DIGITS) {
+            throw new ValidationException("Invalid " + field + " postal code: " + value);
+        }
+        return digits;
+    }
+}
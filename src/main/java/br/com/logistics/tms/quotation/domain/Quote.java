@@ -0,0 +1,47 @@
+package br.com.logistics.tms.quotation.domain;
+
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Comparator;
+import java.util.UUID;
+
+/**
+ * A carrier's price for a shipment under the agreement that makes it eligible.
+ */
+public record Quote(CompanyId carrierId,
+                    UUID agreementId,
+                    ServiceLevel serviceLevel,
+                    Rate rate,
+                    Double discountPercentage) {
+
+    // Cheapest first, then fastest; the carrier id only keeps ties stable between requests
+    public static final Comparator<Quote> RANKING = Comparator.comparingLong(Quote::priceCents)
+            .thenComparingInt(quote -> quote.rate().transitDays())
+            .thenComparing(quote -> quote.carrierId().value());
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    public Quote {
+        if (carrierId == null) {
+            throw new ValidationException("Invalid carrierId for Quote");
+        }
+        if (rate == null) {
+            throw new ValidationException("Invalid rate for Quote");
+        }
+        if (discountPercentage != null && (discountPercentage < 0 || discountPercentage > 100)) {
+            throw new ValidationException("Discount must be between 0 and 100 percent");
+        }
+    }
+
+    public long priceCents() {
+        if (discountPercentage == null || discountPercentage == 0) {
+            return rate.priceCents();
+        }
+        return BigDecimal.valueOf(rate.priceCents())
+                .multiply(HUNDRED.subtract(BigDecimal.valueOf(discountPercentage)))
+                .divide(HUNDRED, 0, RoundingMode.HALF_UP)
+                .longValueExact();
+    }
+}
@@ -0,0 +1,15 @@
+package br.com.logistics.tms.quotation.domain;
+
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
+
+public record Rate(long priceCents, int transitDays) {
+
+    public Rate {
+        if (priceCents < 0) {
+            throw new ValidationException("Rate price must not be negative");
+        }
+        if (transitDays < 0) {
+            throw new ValidationException("Rate transit days must not be negative");
+        }
+    }
+}
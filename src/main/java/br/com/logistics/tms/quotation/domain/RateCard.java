@@ -0,0 +1,282 @@
+package br.com.logistics.tms.quotation.domain;
+
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * A carrier's rates by lane, service level and weight band, held column-wise in primitive arrays.
+ * Lanes are postal code prefixes of a fixed length per card, dictionary-encoded as sorted keys; each
+ * (lane, service level) segment owns a sorted run of weight breakpoints, and a shipment pays the rate of
+ * the first breakpoint that fits its weight.
+ */
+public final class RateCard {
+
+    private static final ServiceLevel[] LEVELS = ServiceLevel.values();
+    private static final int FORMAT = 1;
+
+    private final int prefixLength;
+    private final long[] laneKeys;
+    // offsets[lane * LEVELS.length + level] .. offsets[... + 1] index the segment's rows below
+    private final int[] offsets;
+    private final int[] maxWeightGrams;
+    private final int[] rateCents;
+    private final byte[] transitDays;
+    private final int weightStepGrams;
+
+    private RateCard(final int prefixLength,
+                     final long[] laneKeys,
+                     final int[] offsets,
+                     final int[] maxWeightGrams,
+                     final int[] rateCents,
+                     final byte[] transitDays) {
+        this.prefixLength = prefixLength;
+        this.laneKeys = laneKeys;
+        this.offsets = offsets;
+        this.maxWeightGrams = maxWeightGrams;
+        this.rateCents = rateCents;
+        this.transitDays = transitDays;
+        int step = 0;
+        for (final int grams : maxWeightGrams) step = gcd(step, grams);
+        this.weightStepGrams = step;
+    }
+
+    public static Builder builder(final int prefixLength) {
+        return new Builder(prefixLength);
+    }
+
+    public Optional<Rate> rateFor(final Lane lane, final double weightKg, final ServiceLevel serviceLevel) {
+        final int laneIndex = Arrays.binarySearch(laneKeys, laneKey(lane.origin(), lane.destination(), prefixLength));
+        if (laneIndex < 0) {
+            return Optional.empty();
+        }
+
+        final int segment = laneIndex * LEVELS.length + serviceLevel.ordinal();
+        final int from = offsets[segment];
+        final int to = offsets[segment + 1];
+        final long grams = (long) Math.ceil(weightKg * 1000);
+        if (from == to || grams > maxWeightGrams[to - 1]) {
+            return Optional.empty();
+        }
+
+        final int found = Arrays.binarySearch(maxWeightGrams, from, to, (int) grams);
+        final int row = found >= 0 ? found : -found - 1;
+        return Optional.of(new Rate(rateCents[row], transitDays[row]));
+    }
+
+    public int prefixLength() {
+        return prefixLength;
+    }
+
+    /**
+     * Largest weight step every breakpoint is a multiple of, so weights rounded up to it always pay the same rate.
+     */
+    public int weightStepGrams() {
+        return weightStepGrams;
+    }
+
+    public int lanes() {
+        return laneKeys.length;
+    }
+
+    public int rows() {
+        return rateCents.length;
+    }
+
+    public long footprintBytes() {
+        return (long) laneKeys.length * Long.BYTES
+                + (long) offsets.length * Integer.BYTES
+                + (long) maxWeightGrams.length * Integer.BYTES
+                + (long) rateCents.length * Integer.BYTES
+                + transitDays.length;
+    }
+
+    public void writeTo(final DataOutput output) throws IOException {
+        output.writeInt(FORMAT);
+        output.writeInt(prefixLength);
+        output.writeInt(LEVELS.length);
+        for (final ServiceLevel level : LEVELS) {
+            output.writeUTF(level.name());
+        }
+        output.writeInt(laneKeys.length);
+        for (final long key : laneKeys) output.writeLong(key);
+        for (final int offset : offsets) output.writeInt(offset);
+        output.writeInt(rateCents.length);
+        for (final int grams : maxWeightGrams) output.writeInt(grams);
+        for (final int cents : rateCents) output.writeInt(cents);
+        output.write(transitDays);
+    }
+
+    // Segments are addressed by service level ordinal, so a card is only readable with the levels it was written with
+    public static RateCard readFrom(final DataInput input) throws IOException {
+        if (input.readInt() != FORMAT) {
+            throw new IOException("Unsupported rate card format");
+        }
+        final int prefixLength = input.readInt();
+        final int levels = input.readInt();
+        if (levels != LEVELS.length) {
+            throw new IOException("Rate card was written with different service levels");
+        }
+        for (final ServiceLevel level : LEVELS) {
+            if (!level.name().equals(input.readUTF())) {
+                throw new IOException("Rate card was written with different service levels");
+            }
+        }
+
+        final long[] laneKeys = new long[input.readInt()];
+        for (int i = 0; i < laneKeys.length; i++) laneKeys[i] = input.readLong();
+        final int[] offsets = new int[laneKeys.length * LEVELS.length + 1];
+        for (int i = 0; i < offsets.length; i++) offsets[i] = input.readInt();
+        final int rows = input.readInt();
+        final int[] maxWeightGrams = new int[rows];
+        for (int i = 0; i < rows; i++) maxWeightGrams[i] = input.readInt();
+        final int[] rateCents = new int[rows];
+        for (int i = 0; i < rows; i++) rateCents[i] = input.readInt();
+        final byte[] transitDays = new byte[rows];
+        input.readFully(transitDays);
+
+        return new RateCard(prefixLength, laneKeys, offsets, maxWeightGrams, rateCents, transitDays);
+    }
+
+    private static int gcd(final int a, final int b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+    // Both prefixes side by side as one decimal number, so lane order is origin first, then destination
+    private static long laneKey(final String origin, final String destination, final int prefixLength) {
+        long key = 0;
+        for (int i = 0; i < prefixLength; i++) key = key * 10 + (origin.charAt(i) - '0');
+        for (int i = 0; i < prefixLength; i++) key = key * 10 + (destination.charAt(i) - '0');
+        return key;
+    }
+
+    public static final class Builder {
+
+        private final int prefixLength;
+        private int size;
+        private long[] laneKeys = new long[1024];
+        private byte[] levels = new byte[1024];
+        private int[] maxWeightGrams = new int[1024];
+        private int[] rateCents = new int[1024];
+        private byte[] transitDays = new byte[1024];
+
+        private Builder(final int prefixLength) {
+            if (prefixLength < 1 || prefixLength > 8) {
+                throw new ValidationException("Rate card postal prefixes must have between 1 and 8 digits");
+            }
+            this.prefixLength = prefixLength;
+        }
+
+        public Builder add(final String originPrefix,
+                           final String destinationPrefix,
+                           final ServiceLevel serviceLevel,
+                           final double maxWeightKg,
+                           final long priceCents,
+                           final int days) {
+            if (!isPrefix(originPrefix) || !isPrefix(destinationPrefix)) {
+                throw new ValidationException("Rate card lanes must use " + prefixLength + "-digit postal prefixes: "
+                        + originPrefix + " -> " + destinationPrefix);
+            }
+            if (!(maxWeightKg > 0) || maxWeightKg * 1000 > Integer.MAX_VALUE) {
+                throw new ValidationException("Invalid rate card weight: " + maxWeightKg);
+            }
+            if (priceCents < 0 || priceCents > Integer.MAX_VALUE) {
+                throw new ValidationException("Invalid rate card price: " + priceCents);
+            }
+            if (days < 0 || days > Byte.MAX_VALUE) {
+                throw new ValidationException("Invalid rate card transit days: " + days);
+            }
+
+            if (size == rateCents.length) {
+                final int capacity = size * 2;
+                laneKeys = Arrays.copyOf(laneKeys, capacity);
+                levels = Arrays.copyOf(levels, capacity);
+                maxWeightGrams = Arrays.copyOf(maxWeightGrams, capacity);
+                rateCents = Arrays.copyOf(rateCents, capacity);
+                transitDays = Arrays.copyOf(transitDays, capacity);
+            }
+
+            laneKeys[size] = laneKey(originPrefix, destinationPrefix, prefixLength);
+            levels[size] = (byte) serviceLevel.ordinal();
+            maxWeightGrams[size] = (int) Math.round(maxWeightKg * 1000);
+            rateCents[size] = (int) priceCents;
+            transitDays[size] = (byte) days;
+            size++;
+            return this;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public RateCard build() {
+            if (size == 0) {
+                throw new ValidationException("Rate card has no rates");
+            }
+
+            final long[] lanes = Arrays.stream(laneKeys, 0, size).sorted().distinct().toArray();
+            final int segments = lanes.length * LEVELS.length;
+            final int[] segmentOf = new int[size];
+            final int[] offsets = new int[segments + 1];
+            for (int i = 0; i < size; i++) {
+                segmentOf[i] = Arrays.binarySearch(lanes, laneKeys[i]) * LEVELS.length + levels[i];
+                offsets[segmentOf[i] + 1]++;
+            }
+            for (int segment = 0; segment < segments; segment++) {
+                offsets[segment + 1] += offsets[segment];
+            }
+
+            // Counting sort by segment, like a CSR build; runs within a segment are short, so they are insertion sorted
+            final int[] cursor = Arrays.copyOf(offsets, segments);
+            final int[] weights = new int[size];
+            final int[] rates = new int[size];
+            final byte[] days = new byte[size];
+            for (int i = 0; i < size; i++) {
+                final int slot = cursor[segmentOf[i]]++;
+                weights[slot] = maxWeightGrams[i];
+                rates[slot] = rateCents[i];
+                days[slot] = transitDays[i];
+            }
+            for (int segment = 0; segment < segments; segment++) {
+                sortSegment(weights, rates, days, offsets[segment], offsets[segment + 1]);
+            }
+
+            return new RateCard(prefixLength, lanes, offsets, weights, rates, days);
+        }
+
+        private boolean isPrefix(final String prefix) {
+            if (prefix == null || prefix.length() != prefixLength) {
+                return false;
+            }
+            for (int i = 0; i < prefix.length(); i++) {
+                if (prefix.charAt(i) < '0' || prefix.charAt(i) > '9') return false;
+            }
+            return true;
+        }
+
+        private static void sortSegment(final int[] weights, final int[] rates, final byte[] days, final int from, final int to) {
+            for (int i = from + 1; i < to; i++) {
+                final int weight = weights[i];
+                final int rate = rates[i];
+                final byte day = days[i];
+                int j = i - 1;
+                while (j >= from && weights[j] > weight) {
+                    weights[j + 1] = weights[j];
+                    rates[j + 1] = rates[j];
+                    days[j + 1] = days[j];
+                    j--;
+                }
+                if (j >= from && weights[j] == weight) {
+                    throw new ValidationException("Rate card repeats the weight band " + weight / 1000.0 + " kg on one lane");
+                }
+                weights[j + 1] = weight;
+                rates[j + 1] = rate;
+                days[j + 1] = day;
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package br.com.logistics.tms.quotation.domain;
+
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
+
+import java.util.Locale;
+
+public enum ServiceLevel {
+    ECONOMY,
+    STANDARD,
+    EXPRESS;
+
+    public static ServiceLevel with(final String serviceLevel) {
+        if (serviceLevel == null || serviceLevel.isBlank()) {
+            return STANDARD;
+        }
+        try {
+            return ServiceLevel.valueOf(serviceLevel.trim().toUpperCase(Locale.ROOT));
+        } catch (final IllegalArgumentException e) {
+            throw new ValidationException("Invalid service level: " + serviceLevel);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package br.com.logistics.tms.quotation.infrastructure.cache;
+
+import br.com.logistics.tms.quotation.domain.RateCard;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.LongAdder;
+
+public record LoadedRateCard(int version, Instant loadedAt, RateCard card, LongAdder lookups, LongAdder hits) {
+
+    public static LoadedRateCard of(final int version, final RateCard card) {
+        return new LoadedRateCard(version, Instant.now(), card, new LongAdder(), new LongAdder());
+    }
+}
@@ -0,0 +1,90 @@
+package br.com.logistics.tms.quotation.infrastructure.cache;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.infrastructure.database.routing.DataSourceContextHolder;
+import br.com.logistics.tms.commons.infrastructure.telemetry.Logable;
+import br.com.logistics.tms.quotation.application.gateways.QuoteCacheGateway;
+import br.com.logistics.tms.quotation.domain.CompanyId;
+import br.com.logistics.tms.quotation.infrastructure.dto.AgreementChangedDTO;
+import br.com.logistics.tms.quotation.infrastructure.jpa.repositories.CarrierTariffJpaRepository;
+import br.com.logistics.tms.quotation.infrastructure.jpa.repositories.CarrierTariffJpaRepository.TariffChangeRow;
+import org.springframework.amqp.core.ExchangeTypes;
+import org.springframework.amqp.rabbit.annotation.Exchange;
+import org.springframework.amqp.rabbit.annotation.Queue;
+import org.springframework.amqp.rabbit.annotation.QueueBinding;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+@Component
+@Cqrs(DatabaseRole.READ)
+@Lazy(false)
+public class QuoteCacheInvalidator {
+
+    private final QuoteCacheGateway quoteCacheGateway;
+    private final CarrierTariffJpaRepository carrierTariffJpaRepository;
+    private final Logable logger;
+    private final Map<UUID, Instant> tariffChanges = new ConcurrentHashMap<>();
+
+    public QuoteCacheInvalidator(final QuoteCacheGateway quoteCacheGateway,
+                                 final CarrierTariffJpaRepository carrierTariffJpaRepository,
+                                 final Logable logger) {
+        this.quoteCacheGateway = quoteCacheGateway;
+        this.carrierTariffJpaRepository = carrierTariffJpaRepository;
+        this.logger = logger;
+    }
+
+    // Quote caches are per node, so every read node binds its own anonymous queue to get a copy of each event
+    @RabbitListener(bindings = @QueueBinding(
+            value = @Queue(durable = "false", exclusive = "true", autoDelete = "true"),
+            exchange = @Exchange(value = "tms.events", type = ExchangeTypes.TOPIC, declare = "false"),
+            key = {
+                    "integration.company.AgreementAdded",
+                    "integration.company.AgreementUpdated",
+                    "integration.company.AgreementRemoved",
+                    "integration.company.AgreementActivationEvent",
+                    "integration.company.AgreementExpirationEvent"
+            }))
+    public void invalidate(final AgreementChangedDTO event) {
+        final List<CompanyId> companyIds = Stream.of(event.sourceCompanyId(), event.destinationCompanyId())
+                .filter(Objects::nonNull)
+                .map(CompanyId::with)
+                .toList();
+
+        quoteCacheGateway.invalidate(companyIds);
+        logger.info(getClass(), "Invalidated cached quotes for {}", event.type());
+    }
+
+    // Tariffs have no version to stamp cached quotes with, so the replica is polled for carriers whose tariffs changed;
+    // reading the replica means the quotes priced after the eviction already see the new tariff
+    @Scheduled(fixedDelayString = "${quotation.tariff.refresh-interval:30s}")
+    public synchronized void invalidateChangedTariffs() {
+        final List<CompanyId> changed = new ArrayList<>();
+        DataSourceContextHolder.markAsReadOnly();
+        try {
+            for (final TariffChangeRow row : carrierTariffJpaRepository.findLastChanges()) {
+                if (!row.getUpdatedAt().equals(tariffChanges.put(row.getCarrierId(), row.getUpdatedAt()))) {
+                    changed.add(CompanyId.with(row.getCarrierId()));
+                }
+            }
+        } finally {
+            DataSourceContextHolder.clearReadOnlyContext();
+        }
+
+        if (!changed.isEmpty()) {
+            quoteCacheGateway.invalidate(changed);
+            logger.info(getClass(), "Invalidated cached quotes for {} carriers with changed tariffs", changed.size());
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package br.com.logistics.tms.quotation.infrastructure.config;
+
+public class QuotationSchema {
+    public static final String QUOTATION_SCHEMA = "quotation";
+}
@@ -0,0 +1,18 @@
+package br.com.logistics.tms.quotation.infrastructure.config;
+
+import br.com.logistics.tms.commons.application.annotation.DomainService;
+import br.com.logistics.tms.commons.infrastructure.cqrs.CqrsExclusionSpringScanningFilter;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+
+@Configuration
+@EnableConfigurationProperties(QuoteCacheProperties.class)
+@ComponentScan(
+        basePackages = {"br.com.logistics.tms.quotation.application"},
+        includeFilters = {@ComponentScan.Filter(type = FilterType.ANNOTATION, classes = {DomainService.class})},
+        excludeFilters = @ComponentScan.Filter(type = FilterType.CUSTOM, classes = CqrsExclusionSpringScanningFilter.class))
+public class QuotationUseCaseConfig {
+
+}
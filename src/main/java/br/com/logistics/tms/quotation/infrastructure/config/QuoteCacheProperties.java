@@ -0,0 +1,14 @@
+package br.com.logistics.tms.quotation.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "quotation.quote-cache")
+public record QuoteCacheProperties(Duration ttl, long maxBytes) {
+
+    public QuoteCacheProperties {
+        if (ttl == null) ttl = Duration.ofSeconds(60);
+        if (maxBytes < 1) maxBytes = 64L * 1024 * 1024;
+    }
+}
@@ -0,0 +1,9 @@
+package br.com.logistics.tms.quotation.infrastructure.dto;
+
+import java.util.UUID;
+
+public record AgreementChangedDTO(UUID sourceCompanyId,
+                                  UUID destinationCompanyId,
+                                  UUID agreementId,
+                                  String type) {
+}
@@ -0,0 +1,22 @@
+package br.com.logistics.tms.quotation.infrastructure.dto;
+
+import br.com.logistics.tms.quotation.application.usecases.QuoteShipmentUseCase;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+public record QuoteShipmentDTO(
+        UUID shipperId,
+        String origin,
+        String destination,
+        Double weightKg,
+        String serviceLevel,
+        Instant at,
+        Map<String, Object> attributes,
+        Integer deadlineMillis
+) {
+    public QuoteShipmentUseCase.Input toInput(final boolean bypassCache) {
+        return new QuoteShipmentUseCase.Input(shipperId, origin, destination, weightKg, serviceLevel, at, attributes, deadlineMillis, bypassCache);
+    }
+}
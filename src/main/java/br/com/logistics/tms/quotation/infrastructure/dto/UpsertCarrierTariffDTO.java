@@ -0,0 +1,16 @@
+package br.com.logistics.tms.quotation.infrastructure.dto;
+
+import br.com.logistics.tms.quotation.application.usecases.UpsertCarrierTariffUseCase;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record UpsertCarrierTariffDTO(
+        BigDecimal basePrice,
+        BigDecimal pricePerKg,
+        Integer transitDays
+) {
+    public UpsertCarrierTariffUseCase.Input toInput(final UUID carrierId, final String serviceLevel) {
+        return new UpsertCarrierTariffUseCase.Input(carrierId, serviceLevel, basePrice, pricePerKg, transitDays);
+    }
+}
@@ -0,0 +1,69 @@
+package br.com.logistics.tms.quotation.infrastructure.gateways;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.quotation.application.gateways.QuoteCacheGateway;
+import br.com.logistics.tms.quotation.domain.CompanyId;
+import br.com.logistics.tms.quotation.infrastructure.config.QuoteCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@Cqrs(DatabaseRole.READ)
+public class CaffeineQuoteCacheGateway implements QuoteCacheGateway {
+
+    private final Cache<Fingerprint, CachedQuote> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    public CaffeineQuoteCacheGateway(final QuoteCacheProperties properties) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.maxBytes())
+                .weigher(CaffeineQuoteCacheGateway::estimatedBytes)
+                .expireAfterWrite(properties.ttl())
+                .build();
+    }
+
+    @Override
+    public Optional<CachedQuote> find(final Fingerprint fingerprint) {
+        return Optional.ofNullable(cache.getIfPresent(fingerprint));
+    }
+
+    @Override
+    public long generation() {
+        return generation.get();
+    }
+
+    @Override
+    public void put(final Fingerprint fingerprint, final CachedQuote quote, final long generation) {
+        if (this.generation.get() == generation) {
+            cache.put(fingerprint, quote);
+        }
+    }
+
+    @Override
+    public void invalidate(final Collection<CompanyId> companyIds) {
+        if (companyIds.isEmpty()) {
+            return;
+        }
+
+        generation.incrementAndGet();
+        final Set<CompanyId> ids = Set.copyOf(companyIds);
+        cache.asMap().entrySet().removeIf(entry -> ids.contains(entry.getKey().shipperId())
+                || entry.getValue().rateCardVersions().keySet().stream().anyMatch(ids::contains));
+    }
+
+    // A rough per-object cost, close enough to keep the cache near its byte budget without walking the graph
+    private static int estimatedBytes(final Fingerprint fingerprint, final CachedQuote quote) {
+        return 256
+                + fingerprint.attributes().size() * 96
+                + quote.quotes().size() * 160
+                + quote.unavailableCarriers().size() * 48
+                + quote.rateCardVersions().size() * 96;
+    }
+}
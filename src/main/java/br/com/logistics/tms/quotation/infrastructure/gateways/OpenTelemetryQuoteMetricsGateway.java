@@ -0,0 +1,45 @@
+package br.com.logistics.tms.quotation.infrastructure.gateways;
+
+import br.com.logistics.tms.commons.infrastructure.telemetry.Counterable;
+import br.com.logistics.tms.commons.infrastructure.telemetry.Histogramable;
+import br.com.logistics.tms.commons.infrastructure.telemetry.MetricCounter;
+import br.com.logistics.tms.commons.infrastructure.telemetry.MetricHistogram;
+import br.com.logistics.tms.quotation.application.gateways.QuoteMetricsGateway;
+import br.com.logistics.tms.quotation.domain.CompanyId;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+
+@Component
+public class OpenTelemetryQuoteMetricsGateway implements QuoteMetricsGateway {
+
+    private final MetricHistogram quoteDuration;
+    private final MetricHistogram carrierDuration;
+    private final MetricCounter cacheLookups;
+
+    public OpenTelemetryQuoteMetricsGateway(final Histogramable histogramable, final Counterable counterable) {
+        this.quoteDuration = histogramable.createDoubleHistogram("quotation.quote.duration", "End-to-end latency of a quote request", "ms");
+        this.carrierDuration = histogramable.createDoubleHistogram("quotation.carrier.duration", "Latency of pricing one carrier within a quote", "ms");
+        this.cacheLookups = counterable.createLongCounter("quotation.quote.cache.lookups", "Quote cache lookups per carrier by whether the carrier's price came from cache");
+    }
+
+    @Override
+    public void recordQuote(final Duration elapsed, final boolean partial) {
+        quoteDuration.record(millis(elapsed), Map.of("partial", String.valueOf(partial)));
+    }
+
+    @Override
+    public void recordCarrier(final CompanyId carrierId, final Duration elapsed, final CarrierOutcome outcome) {
+        carrierDuration.record(millis(elapsed), Map.of("carrier", carrierId.value().toString(), "outcome", outcome.name()));
+    }
+
+    @Override
+    public void recordCacheLookup(final CompanyId carrierId, final boolean hit) {
+        cacheLookups.add(1, Map.of("carrier", carrierId.value().toString(), "result", hit ? "hit" : "miss"));
+    }
+
+    private static double millis(final Duration elapsed) {
+        return elapsed.toNanos() / 1_000_000.0;
+    }
+}
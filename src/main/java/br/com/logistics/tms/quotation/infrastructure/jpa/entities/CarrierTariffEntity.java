@@ -0,0 +1,72 @@
+package br.com.logistics.tms.quotation.infrastructure.jpa.entities;
+
+import br.com.logistics.tms.quotation.domain.CarrierTariff;
+import br.com.logistics.tms.quotation.domain.CompanyId;
+import br.com.logistics.tms.quotation.domain.ServiceLevel;
+import br.com.logistics.tms.quotation.infrastructure.config.QuotationSchema;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "carrier_tariff", schema = QuotationSchema.QUOTATION_SCHEMA)
+@IdClass(CarrierTariffEntity.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CarrierTariffEntity implements Serializable {
+
+    @Id
+    @Column(name = "carrier_id", nullable = false)
+    private UUID carrierId;
+
+    @Id
+    @Column(name = "service_level", nullable = false)
+    private String serviceLevel;
+
+    @Column(name = "base_price_cents", nullable = false)
+    private Long basePriceCents;
+
+    @Column(name = "price_per_kg_cents", nullable = false)
+    private Long pricePerKgCents;
+
+    @Column(name = "transit_days", nullable = false)
+    private Integer transitDays;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    public static CarrierTariffEntity of(final CarrierTariff tariff, final Instant updatedAt) {
+        return new CarrierTariffEntity(
+                tariff.carrierId().value(),
+                tariff.serviceLevel().name(),
+                tariff.basePriceCents(),
+                tariff.pricePerKgCents(),
+                tariff.transitDays(),
+                updatedAt
+        );
+    }
+
+    public CarrierTariff toCarrierTariff() {
+        return new CarrierTariff(
+                CompanyId.with(carrierId),
+                ServiceLevel.with(serviceLevel),
+                basePriceCents,
+                pricePerKgCents,
+                transitDays
+        );
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID carrierId;
+        private String serviceLevel;
+    }
+}
@@ -0,0 +1,72 @@
+package br.com.logistics.tms.quotation.infrastructure.jpa.entities;
+
+import br.com.logistics.tms.quotation.domain.RateCard;
+import br.com.logistics.tms.quotation.infrastructure.config.QuotationSchema;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.*;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+@Entity
+@Table(name = "rate_card", schema = QuotationSchema.QUOTATION_SCHEMA)
+@IdClass(RateCardEntity.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RateCardEntity implements Serializable {
+
+    @Id
+    @Column(name = "carrier_id", nullable = false)
+    private UUID carrierId;
+
+    @Id
+    @Column(name = "version", nullable = false)
+    private Integer version;
+
+    @Column(name = "prefix_length", nullable = false)
+    private Integer prefixLength;
+
+    @Column(name = "lane_count", nullable = false)
+    private Integer laneCount;
+
+    @Column(name = "row_count", nullable = false)
+    private Integer rowCount;
+
+    @Column(name = "payload", nullable = false)
+    private byte[] payload;
+
+    @Column(name = "uploaded_at", nullable = false)
+    private Instant uploadedAt;
+
+    public static RateCardEntity of(final UUID carrierId, final int version, final RateCard card, final Instant uploadedAt) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(bytes)))) {
+            card.writeTo(output);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new RateCardEntity(carrierId, version, card.prefixLength(), card.lanes(), card.rows(), bytes.toByteArray(), uploadedAt);
+    }
+
+    public RateCard toRateCard() {
+        try (final DataInputStream input = new DataInputStream(new BufferedInputStream(new GZIPInputStream(new ByteArrayInputStream(payload))))) {
+            return RateCard.readFrom(input);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID carrierId;
+        private Integer version;
+    }
+}
@@ -0,0 +1,24 @@
+package br.com.logistics.tms.quotation.infrastructure.jpa.repositories;
+
+import br.com.logistics.tms.quotation.infrastructure.jpa.entities.CarrierTariffEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface CarrierTariffJpaRepository extends JpaRepository<CarrierTariffEntity, CarrierTariffEntity.Key> {
+
+    @Query("SELECT t.carrierId AS carrierId, MAX(t.updatedAt) AS updatedAt FROM CarrierTariffEntity t GROUP BY t.carrierId")
+    List<TariffChangeRow> findLastChanges();
+
+    interface TariffChangeRow {
+
+        UUID getCarrierId();
+
+        Instant getUpdatedAt();
+    }
+}
@@ -0,0 +1,32 @@
+package br.com.logistics.tms.quotation.infrastructure.jpa.repositories;
+
+import br.com.logistics.tms.quotation.infrastructure.jpa.entities.RateCardEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface RateCardJpaRepository extends JpaRepository<RateCardEntity, RateCardEntity.Key> {
+
+    @Query("SELECT r.carrierId AS carrierId, MAX(r.version) AS version FROM RateCardEntity r GROUP BY r.carrierId")
+    List<ActiveVersionRow> findActiveVersions();
+
+    @Query("SELECT COALESCE(MAX(r.version), 0) FROM RateCardEntity r WHERE r.carrierId = :carrierId")
+    int findLatestVersion(@Param("carrierId") UUID carrierId);
+
+    @Modifying
+    @Query("DELETE FROM RateCardEntity r WHERE r.carrierId = :carrierId AND r.version < :version")
+    int deleteVersionsBefore(@Param("carrierId") UUID carrierId, @Param("version") int version);
+
+    interface ActiveVersionRow {
+
+        UUID getCarrierId();
+
+        Integer getVersion();
+    }
+}
@@ -0,0 +1,33 @@
+package br.com.logistics.tms.quotation.infrastructure.repositories;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.company.infrastructure.spi.AgreementSpi;
+import br.com.logistics.tms.quotation.application.repositories.CarrierAgreementRepository;
+import br.com.logistics.tms.quotation.domain.CompanyId;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@Cqrs(DatabaseRole.READ)
+public class CarrierAgreementRepositoryImpl implements CarrierAgreementRepository {
+
+    private final AgreementSpi agreementSpi;
+
+    public CarrierAgreementRepositoryImpl(final AgreementSpi agreementSpi) {
+        this.agreementSpi = agreementSpi;
+    }
+
+    @Override
+    public List<CarrierAgreement> findEligible(final CompanyId shipperId, final Instant at, final Map<String, Object> shipment) {
+        return agreementSpi.getCarrierAgreements(shipperId.value(), at, shipment).stream()
+                .map(agreement -> new CarrierAgreement(
+                        agreement.agreementId(),
+                        CompanyId.with(agreement.carrierId()),
+                        agreement.discountPercentage()))
+                .toList();
+    }
+}
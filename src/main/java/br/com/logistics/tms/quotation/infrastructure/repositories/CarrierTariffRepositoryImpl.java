@@ -0,0 +1,27 @@
+package br.com.logistics.tms.quotation.infrastructure.repositories;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.quotation.application.repositories.CarrierTariffRepository;
+import br.com.logistics.tms.quotation.domain.CarrierTariff;
+import br.com.logistics.tms.quotation.infrastructure.jpa.entities.CarrierTariffEntity;
+import br.com.logistics.tms.quotation.infrastructure.jpa.repositories.CarrierTariffJpaRepository;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+@Component
+@Cqrs(DatabaseRole.WRITE)
+public class CarrierTariffRepositoryImpl implements CarrierTariffRepository {
+
+    private final CarrierTariffJpaRepository carrierTariffJpaRepository;
+
+    public CarrierTariffRepositoryImpl(final CarrierTariffJpaRepository carrierTariffJpaRepository) {
+        this.carrierTariffJpaRepository = carrierTariffJpaRepository;
+    }
+
+    @Override
+    public CarrierTariff save(final CarrierTariff tariff) {
+        return carrierTariffJpaRepository.save(CarrierTariffEntity.of(tariff, Instant.now())).toCarrierTariff();
+    }
+}
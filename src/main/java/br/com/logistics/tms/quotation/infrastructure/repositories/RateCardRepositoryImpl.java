@@ -0,0 +1,34 @@
+package br.com.logistics.tms.quotation.infrastructure.repositories;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.quotation.application.repositories.RateCardRepository;
+import br.com.logistics.tms.quotation.domain.CompanyId;
+import br.com.logistics.tms.quotation.domain.RateCard;
+import br.com.logistics.tms.quotation.infrastructure.jpa.entities.RateCardEntity;
+import br.com.logistics.tms.quotation.infrastructure.jpa.repositories.RateCardJpaRepository;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+@Component
+@Cqrs(DatabaseRole.WRITE)
+public class RateCardRepositoryImpl implements RateCardRepository {
+
+    // Older versions stay around briefly so a read node that is still loading one does not find it gone
+    private static final int RETAINED_VERSIONS = 3;
+
+    private final RateCardJpaRepository rateCardJpaRepository;
+
+    public RateCardRepositoryImpl(final RateCardJpaRepository rateCardJpaRepository) {
+        this.rateCardJpaRepository = rateCardJpaRepository;
+    }
+
+    @Override
+    public int save(final CompanyId carrierId, final RateCard card) {
+        final int version = rateCardJpaRepository.findLatestVersion(carrierId.value()) + 1;
+        rateCardJpaRepository.save(RateCardEntity.of(carrierId.value(), version, card, Instant.now()));
+        rateCardJpaRepository.deleteVersionsBefore(carrierId.value(), version - RETAINED_VERSIONS + 1);
+        return version;
+    }
+}
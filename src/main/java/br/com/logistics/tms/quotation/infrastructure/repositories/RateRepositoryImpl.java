@@ -0,0 +1,166 @@
+package br.com.logistics.tms.quotation.infrastructure.repositories;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.infrastructure.database.routing.DataSourceContextHolder;
+import br.com.logistics.tms.commons.infrastructure.telemetry.Counterable;
+import br.com.logistics.tms.commons.infrastructure.telemetry.MetricCounter;
+import br.com.logistics.tms.quotation.application.repositories.RateRepository;
+import br.com.logistics.tms.quotation.application.repositories.RateRepository.Granularity;
+import br.com.logistics.tms.quotation.domain.CompanyId;
+import br.com.logistics.tms.quotation.domain.Lane;
+import br.com.logistics.tms.quotation.domain.Rate;
+import br.com.logistics.tms.quotation.domain.RateCard;
+import br.com.logistics.tms.quotation.domain.ServiceLevel;
+import br.com.logistics.tms.quotation.infrastructure.cache.LoadedRateCard;
+import br.com.logistics.tms.quotation.infrastructure.jpa.entities.CarrierTariffEntity;
+import br.com.logistics.tms.quotation.infrastructure.jpa.entities.RateCardEntity;
+import br.com.logistics.tms.quotation.infrastructure.jpa.repositories.CarrierTariffJpaRepository;
+import br.com.logistics.tms.quotation.infrastructure.jpa.repositories.RateCardJpaRepository;
+import br.com.logistics.tms.quotation.infrastructure.jpa.repositories.RateCardJpaRepository.ActiveVersionRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+@Cqrs(DatabaseRole.READ)
+@Lazy(false)
+public class RateRepositoryImpl implements RateRepository {
+
+    private static final Map<String, String> HIT = Map.of("result", "hit");
+    private static final Map<String, String> MISS = Map.of("result", "miss");
+    // Tariffs ignore the lane and charge per started kilogram, which is the coarsest anything is priced at
+    private static final Granularity TARIFF_GRANULARITY = new Granularity(0, 1000);
+
+    private final CarrierTariffJpaRepository carrierTariffJpaRepository;
+    private final RateCardJpaRepository rateCardJpaRepository;
+    private final MetricCounter rateCardLookups;
+    // Each carrier's active card is replaced whole, so a lookup sees either the old version or the new one
+    private final Map<UUID, LoadedRateCard> rateCards = new ConcurrentHashMap<>();
+    private final AtomicReference<Granularity> granularity = new AtomicReference<>(TARIFF_GRANULARITY);
+
+    public RateRepositoryImpl(final CarrierTariffJpaRepository carrierTariffJpaRepository,
+                              final RateCardJpaRepository rateCardJpaRepository,
+                              final Counterable counterable) {
+        this.carrierTariffJpaRepository = carrierTariffJpaRepository;
+        this.rateCardJpaRepository = rateCardJpaRepository;
+        this.rateCardLookups = counterable.createLongCounter("quotation.ratecard.lookups", "Rate card lookups by whether the card priced the shipment");
+    }
+
+    // Uploads land on the write node, so read nodes poll the version heads and only fetch cards that changed
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${quotation.rate-card.refresh-interval:30s}", initialDelayString = "${quotation.rate-card.refresh-interval:30s}")
+    public synchronized void refresh() {
+        for (final ActiveVersionRow row : onReplica(rateCardJpaRepository::findActiveVersions)) {
+            final LoadedRateCard current = rateCards.get(row.getCarrierId());
+            if (current != null && current.version() >= row.getVersion()) {
+                continue;
+            }
+
+            try {
+                load(row.getCarrierId(), row.getVersion());
+            } catch (final RuntimeException e) {
+                log.warn("Could not load rate card v{} for carrier {}, keeping the previous one", row.getVersion(), row.getCarrierId(), e);
+            }
+        }
+    }
+
+    @Override
+    public Optional<Rate> findRate(final CompanyId carrierId, final Lane lane, final double weightKg, final ServiceLevel serviceLevel) {
+        final LoadedRateCard rateCard = rateCards.get(carrierId.value());
+        if (rateCard != null) {
+            final Optional<Rate> rate = rateCard.card().rateFor(lane, weightKg, serviceLevel);
+            rateCard.lookups().increment();
+            if (rate.isPresent()) {
+                rateCard.hits().increment();
+                rateCardLookups.add(1, HIT);
+                return rate;
+            }
+            rateCardLookups.add(1, MISS);
+        }
+
+        return onReplica(() -> carrierTariffJpaRepository.findById(new CarrierTariffEntity.Key(carrierId.value(), serviceLevel.name()))
+                .map(CarrierTariffEntity::toCarrierTariff)
+                .map(tariff -> tariff.rateFor(weightKg)));
+    }
+
+    @Override
+    public int rateCardVersion(final CompanyId carrierId) {
+        final LoadedRateCard rateCard = rateCards.get(carrierId.value());
+        return rateCard == null ? 0 : rateCard.version();
+    }
+
+    @Override
+    public Optional<RateCardStats> findRateCardStats(final CompanyId carrierId) {
+        return Optional.ofNullable(rateCards.get(carrierId.value()))
+                .map(rateCard -> new RateCardStats(
+                        rateCard.version(),
+                        rateCard.loadedAt(),
+                        rateCard.card().lanes(),
+                        rateCard.card().rows(),
+                        rateCard.card().footprintBytes(),
+                        rateCard.lookups().sum(),
+                        rateCard.hits().sum()));
+    }
+
+    @Override
+    public Granularity granularity() {
+        return granularity.get();
+    }
+
+    private void load(final UUID carrierId, final int version) {
+        final long started = System.nanoTime();
+        final Optional<RateCard> card = onReplica(() -> rateCardJpaRepository.findById(new RateCardEntity.Key(carrierId, version)))
+                .map(RateCardEntity::toRateCard);
+        if (card.isEmpty()) {
+            return;
+        }
+
+        rateCards.put(carrierId, LoadedRateCard.of(version, card.get()));
+        // Entries keyed coarser before this are stamped with the old version, so they are never served for the new card
+        granularity.set(granularityOf(rateCards.values()));
+        log.info("Rate card v{} for carrier {} loaded in {} ms: {} lanes, {} rows, {} bytes", version, carrierId,
+                (System.nanoTime() - started) / 1_000_000, card.get().lanes(), card.get().rows(), card.get().footprintBytes());
+    }
+
+    private static Granularity granularityOf(final Collection<LoadedRateCard> loaded) {
+        int prefixLength = TARIFF_GRANULARITY.prefixLength();
+        int weightStepGrams = TARIFF_GRANULARITY.weightStepGrams();
+        for (final LoadedRateCard rateCard : loaded) {
+            prefixLength = Math.max(prefixLength, rateCard.card().prefixLength());
+            weightStepGrams = gcd(weightStepGrams, rateCard.card().weightStepGrams());
+        }
+        return new Granularity(prefixLength, weightStepGrams);
+    }
+
+    private static int gcd(final int a, final int b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+    // Quote workers are fresh virtual threads whose routing defaults to the writer, so the replica is chosen here
+    private static <T> T onReplica(final Supplier<T> query) {
+        final DatabaseRole previous = DataSourceContextHolder.getDataSourceType();
+        DataSourceContextHolder.markAsReadOnly();
+        try {
+            return query.get();
+        } finally {
+            if (previous == DatabaseRole.WRITE) {
+                DataSourceContextHolder.markAsWrite();
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package br.com.logistics.tms.quotation.infrastructure.rest;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.infrastructure.presenters.rest.DefaultRestPresenter;
+import br.com.logistics.tms.commons.infrastructure.usecases.RestUseCaseExecutor;
+import br.com.logistics.tms.quotation.application.usecases.GetRateCardUseCase;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("carriers/{carrierId}/ratecards")
+@Cqrs(DatabaseRole.READ)
+public class GetRateCardController {
+
+    private final GetRateCardUseCase getRateCardUseCase;
+    private final DefaultRestPresenter defaultRestPresenter;
+    private final RestUseCaseExecutor restUseCaseExecutor;
+
+    public GetRateCardController(final GetRateCardUseCase getRateCardUseCase,
+                                 final DefaultRestPresenter defaultRestPresenter,
+                                 final RestUseCaseExecutor restUseCaseExecutor) {
+        this.getRateCardUseCase = getRateCardUseCase;
+        this.defaultRestPresenter = defaultRestPresenter;
+        this.restUseCaseExecutor = restUseCaseExecutor;
+    }
+
+    @GetMapping("/active")
+    public Object get(@PathVariable final UUID carrierId) {
+        return restUseCaseExecutor
+                .from(getRateCardUseCase)
+                .withInput(new GetRateCardUseCase.Input(carrierId))
+                .presentWith(output -> defaultRestPresenter.present(output, HttpStatus.OK.value()))
+                .execute();
+    }
+}
@@ -0,0 +1,46 @@
+package br.com.logistics.tms.quotation.infrastructure.rest;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.infrastructure.presenters.rest.DefaultRestPresenter;
+import br.com.logistics.tms.commons.infrastructure.usecases.RestUseCaseExecutor;
+import br.com.logistics.tms.quotation.application.usecases.QuoteShipmentUseCase;
+import br.com.logistics.tms.quotation.infrastructure.dto.QuoteShipmentDTO;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+// A POST only because shipment attributes do not fit a query string; nothing is written
+@RestController
+@RequestMapping("quotes")
+@Cqrs(DatabaseRole.READ)
+public class QuoteShipmentController {
+
+    private final QuoteShipmentUseCase quoteShipmentUseCase;
+    private final DefaultRestPresenter defaultRestPresenter;
+    private final RestUseCaseExecutor restUseCaseExecutor;
+
+    public QuoteShipmentController(final QuoteShipmentUseCase quoteShipmentUseCase,
+                                   final DefaultRestPresenter defaultRestPresenter,
+                                   final RestUseCaseExecutor restUseCaseExecutor) {
+        this.quoteShipmentUseCase = quoteShipmentUseCase;
+        this.defaultRestPresenter = defaultRestPresenter;
+        this.restUseCaseExecutor = restUseCaseExecutor;
+    }
+
+    // Clients about to accept or confirm a quote send Cache-Control: no-cache to get it priced fresh
+    @PostMapping
+    public Object quote(@RequestBody final QuoteShipmentDTO dto,
+                        @RequestHeader(value = HttpHeaders.CACHE_CONTROL, required = false) final String cacheControl) {
+        final boolean bypassCache = cacheControl != null && (cacheControl.contains("no-cache") || cacheControl.contains("no-store"));
+        return restUseCaseExecutor
+                .from(quoteShipmentUseCase)
+                .withInput(dto.toInput(bypassCache))
+                .presentWith(output -> defaultRestPresenter.present(output, HttpStatus.OK.value()))
+                .execute();
+    }
+}
@@ -0,0 +1,43 @@
+package br.com.logistics.tms.quotation.infrastructure.rest;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.infrastructure.presenters.rest.DefaultRestPresenter;
+import br.com.logistics.tms.commons.infrastructure.usecases.RestUseCaseExecutor;
+import br.com.logistics.tms.quotation.application.usecases.UploadRateCardUseCase;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("carriers/{carrierId}/ratecards")
+@Cqrs(DatabaseRole.WRITE)
+public class UploadRateCardController {
+
+    private final UploadRateCardUseCase uploadRateCardUseCase;
+    private final DefaultRestPresenter defaultRestPresenter;
+    private final RestUseCaseExecutor restUseCaseExecutor;
+
+    public UploadRateCardController(final UploadRateCardUseCase uploadRateCardUseCase,
+                                    final DefaultRestPresenter defaultRestPresenter,
+                                    final RestUseCaseExecutor restUseCaseExecutor) {
+        this.uploadRateCardUseCase = uploadRateCardUseCase;
+        this.defaultRestPresenter = defaultRestPresenter;
+        this.restUseCaseExecutor = restUseCaseExecutor;
+    }
+
+    // The raw request body is handed over unbuffered, so a card with millions of rows is never held as text
+    @PostMapping(consumes = "text/csv")
+    public Object upload(@PathVariable final UUID carrierId, final InputStream content) {
+        return restUseCaseExecutor
+                .from(uploadRateCardUseCase)
+                .withInput(new UploadRateCardUseCase.Input(carrierId, content))
+                .presentWith(output -> defaultRestPresenter.present(output, HttpStatus.CREATED.value()))
+                .execute();
+    }
+}
@@ -0,0 +1,45 @@
+package br.com.logistics.tms.quotation.infrastructure.rest;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.infrastructure.presenters.rest.DefaultRestPresenter;
+import br.com.logistics.tms.commons.infrastructure.usecases.RestUseCaseExecutor;
+import br.com.logistics.tms.quotation.application.usecases.UpsertCarrierTariffUseCase;
+import br.com.logistics.tms.quotation.infrastructure.dto.UpsertCarrierTariffDTO;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("carriers/{carrierId}/tariffs")
+@Cqrs(DatabaseRole.WRITE)
+public class UpsertCarrierTariffController {
+
+    private final UpsertCarrierTariffUseCase upsertCarrierTariffUseCase;
+    private final DefaultRestPresenter defaultRestPresenter;
+    private final RestUseCaseExecutor restUseCaseExecutor;
+
+    public UpsertCarrierTariffController(final UpsertCarrierTariffUseCase upsertCarrierTariffUseCase,
+                                         final DefaultRestPresenter defaultRestPresenter,
+                                         final RestUseCaseExecutor restUseCaseExecutor) {
+        this.upsertCarrierTariffUseCase = upsertCarrierTariffUseCase;
+        this.defaultRestPresenter = defaultRestPresenter;
+        this.restUseCaseExecutor = restUseCaseExecutor;
+    }
+
+    @PutMapping("/{serviceLevel}")
+    public Object upsert(@PathVariable final UUID carrierId,
+                         @PathVariable final String serviceLevel,
+                         @RequestBody final UpsertCarrierTariffDTO dto) {
+        return restUseCaseExecutor
+                .from(upsertCarrierTariffUseCase)
+                .withInput(dto.toInput(carrierId, serviceLevel))
+                .presentWith(output -> defaultRestPresenter.present(output, HttpStatus.OK.value()))
+                .execute();
+    }
+}
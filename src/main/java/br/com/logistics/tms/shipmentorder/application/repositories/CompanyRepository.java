@@ -1,15 +1,29 @@
 package br.com.logistics.tms.shipmentorder.application.repositories;
 
+import br.com.logistics.tms.commons.domain.Status;
 import br.com.logistics.tms.shipmentorder.domain.Company;
 import br.com.logistics.tms.shipmentorder.domain.CompanyId;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 public interface CompanyRepository {
 
     Company save(Company company);
 
+    // Applies data (merged) or status in one statement; a change older than the stored one for that field is a no-op
+    boolean synchronize(CompanyId companyId, Map<String, Object> data, Status status, Instant occurredOn);
+
     Optional<Company> findById(CompanyId companyId);
 
     boolean existsById(CompanyId companyId);
+
+    Map<CompanyId, Company> findAllById(Collection<CompanyId> companyIds);
+
+    // Node-local replica fed by company events; it may lag the table briefly, so use it for validation only
+    Optional<Company> findReplicatedById(CompanyId companyId);
+
+    Map<CompanyId, Company> findAllReplicatedById(Collection<CompanyId> companyIds);
 }
@@ -0,0 +1,13 @@
+package br.com.logistics.tms.shipmentorder.application.repositories;
+
+import java.util.UUID;
+
+public interface ShipmentOrderNumberRepository {
+
+    /**
+     * Unique per company and never reused. Numbers can be skipped, and are only increasing
+     * among orders created on the same node.
+     */
+    long next(UUID companyId);
+
+}
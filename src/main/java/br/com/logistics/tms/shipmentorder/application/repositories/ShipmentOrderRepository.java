@@ -1,19 +1,41 @@
 package br.com.logistics.tms.shipmentorder.application.repositories;
 
-import br.com.logistics.tms.commons.domain.pagination.Page;
-
-import br.com.logistics.tms.commons.domain.pagination.PageRequest;
+import br.com.logistics.tms.commons.domain.pagination.Cursor;
+import br.com.logistics.tms.commons.domain.pagination.CursorPage;
+import br.com.logistics.tms.commons.domain.pagination.CursorPageRequest;
 import br.com.logistics.tms.shipmentorder.domain.ShipmentOrder;
 
-import java.util.Optional;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface ShipmentOrderRepository {
 
-    Optional<ShipmentOrder> getShipmentOrderByExternalId(String externalId);
+    boolean existsByExternalId(UUID companyId, String externalId);
+
+    CursorPage<ShipmentOrder> getShipmentOrderByCompanyId(UUID companyId, ShipmentOrderFilter filter, CursorPageRequest pageRequest);
+
+    /**
+     * Hands over orders one at a time in (createdAt, id) ascending order, strictly after {@code after}
+     * when given, without accumulating them. Must run inside a transaction.
+     */
+    long streamByCompanyId(UUID companyId, ShipmentOrderFilter filter, Cursor after, Consumer<ShipmentOrder> consumer);
 
-    Page<ShipmentOrder> getShipmentOrderByCompanyId(UUID companyId, PageRequest pageRequest);
+    Set<String> findExistingExternalIds(UUID companyId, Collection<String> externalIds);
 
     ShipmentOrder create(ShipmentOrder shipmentOrder);
 
+    List<ShipmentOrder> createAll(List<ShipmentOrder> shipmentOrders);
+
+    int archiveCreatedBefore(Instant cutoff, int limit);
+
+    /**
+     * Null bounds are open; {@code createdTo} is exclusive.
+     */
+    record ShipmentOrderFilter(boolean includeArchived, Instant createdFrom, Instant createdTo) {
+    }
+
 }
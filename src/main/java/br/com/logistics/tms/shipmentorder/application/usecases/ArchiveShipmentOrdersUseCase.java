@@ -0,0 +1,40 @@
+package br.com.logistics.tms.shipmentorder.application.usecases;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.application.annotation.DomainService;
+import br.com.logistics.tms.commons.application.usecases.UseCase;
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
+import br.com.logistics.tms.shipmentorder.application.repositories.ShipmentOrderRepository;
+
+import java.time.Instant;
+
+@DomainService
+@Cqrs(DatabaseRole.WRITE)
+public class ArchiveShipmentOrdersUseCase implements UseCase<ArchiveShipmentOrdersUseCase.Input, ArchiveShipmentOrdersUseCase.Output> {
+
+    private final ShipmentOrderRepository shipmentOrderRepository;
+
+    public ArchiveShipmentOrdersUseCase(final ShipmentOrderRepository shipmentOrderRepository) {
+        this.shipmentOrderRepository = shipmentOrderRepository;
+    }
+
+    @Override
+    public Output execute(final Input input) {
+        if (input.createdBefore() == null) {
+            throw new ValidationException("Invalid createdBefore for archival");
+        }
+
+        if (input.batchSize() < 1) {
+            throw new ValidationException("batchSize must be >= 1");
+        }
+
+        return new Output(shipmentOrderRepository.archiveCreatedBefore(input.createdBefore(), input.batchSize()));
+    }
+
+    public record Input(Instant createdBefore, int batchSize) {
+    }
+
+    public record Output(int archived) {
+    }
+}
@@ -0,0 +1,158 @@
+package br.com.logistics.tms.shipmentorder.application.usecases;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.application.annotation.DomainService;
+import br.com.logistics.tms.commons.application.usecases.UseCase;
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
+import br.com.logistics.tms.shipmentorder.application.repositories.CompanyRepository;
+import br.com.logistics.tms.shipmentorder.application.repositories.ShipmentOrderNumberRepository;
+import br.com.logistics.tms.shipmentorder.application.repositories.ShipmentOrderRepository;
+import br.com.logistics.tms.shipmentorder.domain.Company;
+import br.com.logistics.tms.shipmentorder.domain.CompanyId;
+import br.com.logistics.tms.shipmentorder.domain.ShipmentOrder;
+
+import java.time.Instant;
+import java.util.*;
+
+@DomainService
+@Cqrs(DatabaseRole.WRITE)
+public class CreateShipmentOrderBatchUseCase implements UseCase<CreateShipmentOrderBatchUseCase.Input, CreateShipmentOrderBatchUseCase.Output> {
+
+    private static final int MAX_BATCH_SIZE = 500;
+
+    private final ShipmentOrderRepository shipmentOrderRepository;
+    private final CompanyRepository companyRepository;
+    private final ShipmentOrderNumberRepository shipmentOrderNumberRepository;
+
+    public CreateShipmentOrderBatchUseCase(final ShipmentOrderRepository shipmentOrderRepository,
+                                           final CompanyRepository companyRepository,
+                                           final ShipmentOrderNumberRepository shipmentOrderNumberRepository) {
+        this.shipmentOrderRepository = shipmentOrderRepository;
+        this.companyRepository = companyRepository;
+        this.shipmentOrderNumberRepository = shipmentOrderNumberRepository;
+    }
+
+    @Override
+    public Output execute(final Input input) {
+        if (input.orders() == null || input.orders().isEmpty()) {
+            throw new ValidationException("Batch must contain at least one shipment order");
+        }
+
+        if (input.orders().size() > MAX_BATCH_SIZE) {
+            throw new ValidationException("Batch must contain at most " + MAX_BATCH_SIZE + " shipment orders");
+        }
+
+        final Map<UUID, Set<String>> externalIdsByCompany = new HashMap<>();
+        final Set<CompanyId> companyIds = new HashSet<>();
+        for (final Input.Order order : input.orders()) {
+            if (order.companyId() != null && order.externalId() != null) {
+                externalIdsByCompany.computeIfAbsent(order.companyId(), id -> new HashSet<>()).add(order.externalId());
+            }
+            if (order.companyId() != null) companyIds.add(CompanyId.with(order.companyId()));
+            if (order.shipperId() != null) companyIds.add(CompanyId.with(order.shipperId()));
+        }
+
+        final Map<UUID, Set<String>> existingExternalIds = new HashMap<>();
+        externalIdsByCompany.forEach((companyId, externalIds) ->
+                existingExternalIds.put(companyId, shipmentOrderRepository.findExistingExternalIds(companyId, externalIds)));
+        final Map<CompanyId, Company> companies = companyRepository.findAllReplicatedById(companyIds);
+
+        final Map<UUID, Set<String>> seenExternalIds = new HashMap<>();
+        final Output.Result[] results = new Output.Result[input.orders().size()];
+        final List<ShipmentOrder> toCreate = new ArrayList<>();
+        final List<Integer> toCreateIndexes = new ArrayList<>();
+
+        for (int i = 0; i < input.orders().size(); i++) {
+            final Input.Order order = input.orders().get(i);
+            final String error = validate(order, existingExternalIds, seenExternalIds, companies);
+            if (error != null) {
+                results[i] = Output.Result.rejected(i, order.externalId(), error);
+                continue;
+            }
+
+            seenExternalIds.computeIfAbsent(order.companyId(), id -> new HashSet<>()).add(order.externalId());
+            toCreate.add(ShipmentOrder.createShipmentOrder(order.companyId(), order.shipperId(), order.externalId(),
+                    shipmentOrderNumberRepository.next(order.companyId())));
+            toCreateIndexes.add(i);
+        }
+
+        final List<ShipmentOrder> created = shipmentOrderRepository.createAll(toCreate);
+        for (int i = 0; i < created.size(); i++) {
+            final ShipmentOrder shipmentOrder = created.get(i);
+            final int index = toCreateIndexes.get(i);
+            results[index] = Output.Result.created(index, shipmentOrder.getExternalId(),
+                    shipmentOrder.getShipmentOrderId().value(), shipmentOrder.getCreatedAt());
+        }
+
+        return new Output(created.size(), results.length - created.size(), List.of(results));
+    }
+
+    private String validate(final Input.Order order,
+                            final Map<UUID, Set<String>> existingExternalIds,
+                            final Map<UUID, Set<String>> seenExternalIds,
+                            final Map<CompanyId, Company> companies) {
+        if (order.companyId() == null) {
+            return "Invalid companyId for ShipmentOrder";
+        }
+
+        if (order.externalId() == null || order.externalId().isBlank()) {
+            return "Invalid externalId for ShipmentOrder";
+        }
+
+        if (existingExternalIds.getOrDefault(order.companyId(), Set.of()).contains(order.externalId())) {
+            return "ShipmentOrder already exists";
+        }
+
+        if (seenExternalIds.getOrDefault(order.companyId(), Set.of()).contains(order.externalId())) {
+            return "Duplicate externalId in batch: " + order.externalId();
+        }
+
+        final Company company = companies.get(CompanyId.with(order.companyId()));
+        if (company == null) {
+            return "Company not found: " + order.companyId();
+        }
+
+        if (company.getStatus().isInactive()) {
+            return "Cannot create shipment order for an inactive company: " + order.companyId();
+        }
+
+        if (order.shipperId() != null) {
+            final Company shipper = companies.get(CompanyId.with(order.shipperId()));
+            if (shipper == null) {
+                return "Shipper not found: " + order.shipperId();
+            }
+
+            if (!shipper.isLogisticsProvider()) {
+                return "Shipper must be a logistics provider: " + order.shipperId();
+            }
+        }
+
+        return null;
+    }
+
+    public record Input(List<Order> orders) {
+
+        public record Order(UUID companyId, UUID shipperId, String externalId) {
+        }
+    }
+
+    public record Output(int created, int rejected, List<Result> results) {
+
+        public record Result(int index,
+                             String externalId,
+                             String status,
+                             UUID shipmentOrderId,
+                             Instant createdAt,
+                             String error) {
+
+            static Result created(final int index, final String externalId, final UUID shipmentOrderId, final Instant createdAt) {
+                return new Result(index, externalId, "CREATED", shipmentOrderId, createdAt, null);
+            }
+
+            static Result rejected(final int index, final String externalId, final String error) {
+                return new Result(index, externalId, "REJECTED", null, null, error);
+            }
+        }
+    }
+}
@@ -6,6 +6,7 @@ import br.com.logistics.tms.commons.application.annotation.DomainService;
 import br.com.logistics.tms.commons.application.usecases.UseCase;
 import br.com.logistics.tms.commons.domain.exception.ValidationException;
 import br.com.logistics.tms.shipmentorder.application.repositories.CompanyRepository;
+import br.com.logistics.tms.shipmentorder.application.repositories.ShipmentOrderNumberRepository;
 import br.com.logistics.tms.shipmentorder.application.repositories.ShipmentOrderRepository;
 import br.com.logistics.tms.shipmentorder.domain.Company;
 import br.com.logistics.tms.shipmentorder.domain.CompanyId;
@@ -20,42 +21,45 @@ public class CreateShipmentOrderUseCase implements UseCase<CreateShipmentOrderUs
 
     private final ShipmentOrderRepository shipmentOrderRepository;
     private final CompanyRepository companyRepository;
+    private final ShipmentOrderNumberRepository shipmentOrderNumberRepository;
 
     public CreateShipmentOrderUseCase(final ShipmentOrderRepository shipmentOrderRepository,
-                                      final CompanyRepository companyRepository) {
+                                      final CompanyRepository companyRepository,
+                                      final ShipmentOrderNumberRepository shipmentOrderNumberRepository) {
         this.shipmentOrderRepository = shipmentOrderRepository;
         this.companyRepository = companyRepository;
+        this.shipmentOrderNumberRepository = shipmentOrderNumberRepository;
     }
 
     public Output execute(final Input input) {
-        if (shipmentOrderRepository.getShipmentOrderByExternalId(input.externalId).isPresent()) {
+        if (shipmentOrderRepository.existsByExternalId(input.companyId, input.externalId)) {
             throw new ValidationException("ShipmentOrder already exists");
         }
 
-        final Company company = companyRepository.findById(CompanyId.with(input.companyId))
+        final Company company = companyRepository.findReplicatedById(CompanyId.with(input.companyId))
                 .orElseThrow(() -> new ValidationException("Company not found: " + input.companyId));
 
         if (company.getStatus().isInactive()) {
             throw new ValidationException("Cannot create shipment order for an inactive company: " + input.companyId);
         }
 
-        if (input.shipperId != null && !companyRepository.existsById(CompanyId.with(input.shipperId))) {
-            throw new ValidationException("Shipper not found: " + input.shipperId);
-        }
-
-        final Company shipper = input.shipperId != null ? companyRepository.findById(CompanyId.with(input.shipperId))
+        final Company shipper = input.shipperId != null ? companyRepository.findReplicatedById(CompanyId.with(input.shipperId))
                 .orElseThrow(() -> new ValidationException("Shipper not found: " + input.shipperId)) : null;
 
         if (shipper != null && !shipper.isLogisticsProvider()) {
             throw new ValidationException("Shipper must be a logistics provider: " + input.shipperId);
         }
 
-        final ShipmentOrder shipmentOrder = shipmentOrderRepository.create(ShipmentOrder.createShipmentOrder(input.companyId, input.shipperId, input.externalId));
+        final ShipmentOrder shipmentOrder = shipmentOrderRepository.create(ShipmentOrder.createShipmentOrder(input.companyId,
+                input.shipperId,
+                input.externalId,
+                shipmentOrderNumberRepository.next(input.companyId)));
 
         return new Output(shipmentOrder.getShipmentOrderId().value(),
                 shipmentOrder.getCompany(),
                 shipmentOrder.getShipper(),
                 shipmentOrder.getExternalId(),
+                shipmentOrder.getOrderNumber(),
                 shipmentOrder.getCreatedAt());
     }
 
@@ -66,6 +70,7 @@ public class CreateShipmentOrderUseCase implements UseCase<CreateShipmentOrderUs
                          UUID companyId,
                          UUID shipperId,
                          String externalId,
+                         Long orderNumber,
                          Instant createdAt) {
     }
 }
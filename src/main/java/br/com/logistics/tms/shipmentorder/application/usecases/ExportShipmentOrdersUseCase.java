@@ -0,0 +1,82 @@
+package br.com.logistics.tms.shipmentorder.application.usecases;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.application.annotation.DomainService;
+import br.com.logistics.tms.commons.application.usecases.UseCase;
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
+import br.com.logistics.tms.commons.domain.pagination.Cursor;
+import br.com.logistics.tms.shipmentorder.application.repositories.ShipmentOrderRepository;
+import br.com.logistics.tms.shipmentorder.domain.ShipmentOrder;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+@DomainService
+@Cqrs(DatabaseRole.READ)
+public class ExportShipmentOrdersUseCase implements UseCase<ExportShipmentOrdersUseCase.Input, ExportShipmentOrdersUseCase.Output> {
+
+    private final ShipmentOrderRepository shipmentOrderRepository;
+
+    public ExportShipmentOrdersUseCase(final ShipmentOrderRepository shipmentOrderRepository) {
+        this.shipmentOrderRepository = shipmentOrderRepository;
+    }
+
+    @Override
+    public Output execute(final Input input) {
+        if (input.companyId() == null) {
+            throw new ValidationException("Invalid companyId for export");
+        }
+
+        if (input.createdFrom() != null && input.createdTo() != null && !input.createdFrom().isBefore(input.createdTo())) {
+            throw new ValidationException("createdFrom must be before createdTo");
+        }
+
+        final Cursor after = input.resumeToken() == null || input.resumeToken().isBlank()
+                ? null
+                : Cursor.decode(input.resumeToken());
+        final ShipmentOrderRepository.ShipmentOrderFilter filter =
+                new ShipmentOrderRepository.ShipmentOrderFilter(input.includeArchived(), input.createdFrom(), input.createdTo());
+
+        // Validation happens now; rows are only read when the caller drives the export, so it controls the transaction
+        return new Output(sink -> shipmentOrderRepository.streamByCompanyId(input.companyId(), filter, after,
+                shipmentOrder -> sink.accept(Output.Row.of(shipmentOrder))));
+    }
+
+    public record Input(UUID companyId,
+                        Instant createdFrom,
+                        Instant createdTo,
+                        boolean includeArchived,
+                        String resumeToken) {
+    }
+
+    public record Output(Export export) {
+
+        @FunctionalInterface
+        public interface Export {
+            long writeTo(Consumer<Row> sink);
+        }
+
+        public record Row(String resumeToken,
+                          UUID shipmentOrderId,
+                          UUID companyId,
+                          UUID shipperId,
+                          String externalId,
+                          boolean archived,
+                          Instant createdAt,
+                          Instant updatedAt) {
+
+            static Row of(final ShipmentOrder shipmentOrder) {
+                return new Row(new Cursor(shipmentOrder.getCreatedAt(), shipmentOrder.getShipmentOrderId().value()).encode(),
+                        shipmentOrder.getShipmentOrderId().value(),
+                        shipmentOrder.getCompany(),
+                        shipmentOrder.getShipper(),
+                        shipmentOrder.getExternalId(),
+                        shipmentOrder.isArchived(),
+                        shipmentOrder.getCreatedAt(),
+                        shipmentOrder.getUpdatedAt());
+            }
+        }
+    }
+}
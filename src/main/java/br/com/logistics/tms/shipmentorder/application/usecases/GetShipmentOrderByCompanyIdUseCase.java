@@ -4,19 +4,22 @@ import br.com.logistics.tms.commons.application.annotation.Cqrs;
 import br.com.logistics.tms.commons.application.annotation.DomainService;
 import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
 import br.com.logistics.tms.commons.application.usecases.UseCase;
-import br.com.logistics.tms.commons.domain.pagination.Page;
-import br.com.logistics.tms.commons.domain.pagination.PageRequest;
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
+import br.com.logistics.tms.commons.domain.pagination.CursorPage;
+import br.com.logistics.tms.commons.domain.pagination.CursorPageRequest;
 import br.com.logistics.tms.shipmentorder.application.repositories.ShipmentOrderRepository;
 import br.com.logistics.tms.shipmentorder.domain.ShipmentOrder;
 
 import java.time.Instant;
-import java.util.Set;
+import java.util.List;
 import java.util.UUID;
 
 @DomainService
 @Cqrs(DatabaseRole.READ)
 public class GetShipmentOrderByCompanyIdUseCase implements UseCase<GetShipmentOrderByCompanyIdUseCase.Input, GetShipmentOrderByCompanyIdUseCase.Output> {
 
+    private static final int MAX_SIZE = 200;
+
     private final ShipmentOrderRepository shipmentOrderRepository;
 
     public GetShipmentOrderByCompanyIdUseCase(final ShipmentOrderRepository shipmentOrderRepository) {
@@ -24,27 +27,46 @@ public class GetShipmentOrderByCompanyIdUseCase implements UseCase<GetShipmentOr
     }
 
     public Output execute(final Input input) {
-        final Page<ShipmentOrder> shipmentOrders = shipmentOrderRepository.getShipmentOrderByCompanyId(input.companyId(), PageRequest.of(input.page, input.size));
-        final Set<Output.ShipmentOrder> shipmentOrderOutputs = shipmentOrders.content().stream()
+        if (input.size() < 1 || input.size() > MAX_SIZE) {
+            throw new ValidationException("size must be between 1 and " + MAX_SIZE);
+        }
+
+        if (input.createdFrom() != null && input.createdTo() != null && !input.createdFrom().isBefore(input.createdTo())) {
+            throw new ValidationException("createdFrom must be before createdTo");
+        }
+
+        final CursorPage<ShipmentOrder> shipmentOrders = shipmentOrderRepository.getShipmentOrderByCompanyId(input.companyId(),
+                new ShipmentOrderRepository.ShipmentOrderFilter(input.includeArchived(), input.createdFrom(), input.createdTo()),
+                CursorPageRequest.of(input.cursor(), input.size(), input.includeTotal()));
+        final List<Output.ShipmentOrder> shipmentOrderOutputs = shipmentOrders.content().stream()
                 .map(so -> new Output.ShipmentOrder(
                         so.getShipmentOrderId().value(),
                         so.getCompany(),
                         so.getShipper(),
                         so.getExternalId(),
                         so.getCreatedAt()))
-                .collect(java.util.stream.Collectors.toSet());
+                .toList();
 
-        return new Output(shipmentOrderOutputs, shipmentOrders.page(), shipmentOrders.size(), shipmentOrders.totalElements(), shipmentOrders.totalPages());
+        return new Output(shipmentOrderOutputs,
+                shipmentOrders.size(),
+                shipmentOrders.hasNext() ? shipmentOrders.nextCursor().encode() : null,
+                shipmentOrders.estimatedTotal());
     }
 
-    public record Input(UUID companyId, int page, int size) {
+    public record Input(UUID companyId,
+                        String cursor,
+                        int size,
+                        boolean includeTotal,
+                        boolean includeArchived,
+                        Instant createdFrom,
+                        Instant createdTo) {
 
     }
 
-    public record Output(Set<ShipmentOrder> shipmentOrders,
-                         int page,
+    public record Output(List<ShipmentOrder> shipmentOrders,
                          int size,
-                         long totalElements, long totalPages) {
+                         String nextCursor,
+                         Long estimatedTotal) {
         public record ShipmentOrder(UUID shipmentOrderId, UUID companyId, UUID shipperId, String externalId, Instant createdAt) {
         }
     }
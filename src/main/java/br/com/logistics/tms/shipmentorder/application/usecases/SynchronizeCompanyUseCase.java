@@ -6,9 +6,9 @@ import br.com.logistics.tms.commons.application.annotation.DomainService;
 import br.com.logistics.tms.commons.application.usecases.VoidUseCase;
 import br.com.logistics.tms.commons.domain.Status;
 import br.com.logistics.tms.shipmentorder.application.repositories.CompanyRepository;
-import br.com.logistics.tms.shipmentorder.domain.Company;
 import br.com.logistics.tms.shipmentorder.domain.CompanyId;
 
+import java.time.Instant;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
@@ -34,28 +34,15 @@ public class SynchronizeCompanyUseCase implements VoidUseCase<SynchronizeCompany
             return;
         }
 
-        final Optional<Company> companyOptional = companyRepository.findById(CompanyId.with(input.companyId()));
-
-        if (companyOptional.isEmpty()) {
-            companyRepository.save(Company.createCompany(input.companyId(), input.getTypesKey()));
-        } else {
-            final Company existing = companyOptional.get();
-            final Company updated;
-
-            if (input.getStatus().isPresent()) {
-                updated = existing.updateStatus(input.getStatus().get());
-            } else if (existing.getStatus().isActive()) {
-                updated = existing.updateData(input.getTypesKey());
-            } else {
-                updated = existing;
-            }
-
-            companyRepository.save(updated);
-        }
-
+        // An event carrying a status only moves the status
+        final Optional<Status> status = input.getStatus();
+        companyRepository.synchronize(CompanyId.with(input.companyId()),
+                status.isPresent() ? Map.of() : input.getTypesKey(),
+                status.orElse(null),
+                input.occurredOn());
     }
 
-    public record Input(UUID companyId, Map<String, Object> data) {
+    public record Input(UUID companyId, Map<String, Object> data, Instant occurredOn) {
 
         public Map<String, Object> getTypesKey() {
             if (data.get(TYPES_KEY) != null) {
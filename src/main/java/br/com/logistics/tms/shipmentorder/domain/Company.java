@@ -11,6 +11,8 @@ public class Company extends AbstractAggregateRoot {
     private final CompanyId companyId;
     private final CompanyData data;
     private final Status status;
+    private final Set<String> types;
+    private final boolean logisticsProvider;
 
     private Company(final CompanyId companyId,
                     final CompanyData data,
@@ -24,6 +26,9 @@ public class Company extends AbstractAggregateRoot {
         this.companyId = companyId;
         this.data = data;
         this.status = status;
+        // Parsed once: replicated companies are checked on every order
+        this.types = parseTypes(data.value().get("types"));
+        this.logisticsProvider = this.types.contains("LOGISTICS_PROVIDER");
     }
 
     public static Company createCompany(final UUID companyId, final Map<String, Object> data) {
@@ -53,11 +58,23 @@ public class Company extends AbstractAggregateRoot {
     }
 
     public Set<String> types() {
-        return parseTypes(this.data.value().get("types").toString());
+        return types;
     }
 
     public boolean isLogisticsProvider() {
-        return types().contains("LOGISTICS_PROVIDER");
+        return logisticsProvider;
+    }
+
+    private static Set<String> parseTypes(final Object value) {
+        if (value instanceof Collection<?> collection) {
+            final Set<String> result = new LinkedHashSet<>();
+            for (final Object type : collection) {
+                if (type != null) result.add(type.toString());
+            }
+            return Collections.unmodifiableSet(result);
+        }
+
+        return parseTypes(value != null ? value.toString() : null);
     }
 
     public static Set<String> parseTypes(final String input) {
@@ -17,6 +17,7 @@ public class ShipmentOrder extends AbstractAggregateRoot {
     private final UUID company;
     private final UUID shipper;
     private final String externalId;
+    private final Long orderNumber;
     private final Instant createdAt;
     private final Instant updatedAt;
 
@@ -25,6 +26,7 @@ public class ShipmentOrder extends AbstractAggregateRoot {
                          UUID company,
                          UUID shipper,
                          String externalId,
+                         Long orderNumber,
                          Instant createdAt,
                          Instant updatedAt,
                          final Set<AbstractDomainEvent> domainEvents) {
@@ -38,22 +40,25 @@ public class ShipmentOrder extends AbstractAggregateRoot {
         this.company = company;
         this.shipper = shipper;
         this.externalId = externalId;
+        this.orderNumber = orderNumber;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
     }
 
     public static ShipmentOrder createShipmentOrder(final UUID company,
                                                     final UUID shipper,
-                                                    final String externalId) {
+                                                    final String externalId,
+                                                    final long orderNumber) {
         final ShipmentOrder shipmentOrder = new ShipmentOrder(ShipmentOrderId.unique(),
                 false,
                 company,
                 shipper,
                 externalId,
+                orderNumber,
                 Instant.now(),
                 Instant.now(),
                 new HashSet<>());
-        shipmentOrder.placeDomainEvent(new ShipmentOrderCreated(shipmentOrder.shipmentOrderId.value(), company, shipper, externalId));
+        shipmentOrder.placeDomainEvent(new ShipmentOrderCreated(shipmentOrder.shipmentOrderId.value(), company, shipper, externalId, orderNumber));
         return shipmentOrder;
     }
 
@@ -61,6 +66,10 @@ public class ShipmentOrder extends AbstractAggregateRoot {
         return shipmentOrderId;
     }
 
+    public boolean isArchived() {
+        return archived;
+    }
+
     public UUID getCompany() {
         return company;
     }
@@ -73,6 +82,10 @@ public class ShipmentOrder extends AbstractAggregateRoot {
         return externalId;
     }
 
+    public Long getOrderNumber() {
+        return orderNumber;
+    }
+
     public Instant getCreatedAt() {
         return createdAt;
     }
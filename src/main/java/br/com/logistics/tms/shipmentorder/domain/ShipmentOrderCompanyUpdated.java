@@ -0,0 +1,27 @@
+package br.com.logistics.tms.shipmentorder.domain;
+
+import br.com.logistics.tms.commons.domain.AbstractDomainEvent;
+
+import java.beans.ConstructorProperties;
+import java.time.Instant;
+import java.util.UUID;
+
+public class ShipmentOrderCompanyUpdated extends AbstractDomainEvent {
+
+    private final UUID companyId;
+
+    @ConstructorProperties({"domainEventId", "companyId", "occurredOn"})
+    public ShipmentOrderCompanyUpdated(final UUID domainEventId, final UUID companyId, final Instant occurredOn) {
+        super(domainEventId, companyId, occurredOn);
+        this.companyId = companyId;
+    }
+
+    public ShipmentOrderCompanyUpdated(final UUID companyId) {
+        this(null, companyId, null);
+    }
+
+    public UUID getCompanyId() {
+        return companyId;
+    }
+
+}
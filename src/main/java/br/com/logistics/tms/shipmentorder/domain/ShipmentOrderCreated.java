@@ -12,18 +12,20 @@ public class ShipmentOrderCreated extends AbstractDomainEvent {
     private final UUID companyId;
     private final UUID shipperId;
     private final String externalId;
+    private final Long orderNumber;
 
-    @ConstructorProperties({"domainEventId", "shipmentOrderId", "companyId", "shipperId", "externalId", "occurredOn"})
-    public ShipmentOrderCreated(final UUID domainEventId, final UUID shipmentOrderId, final UUID companyId, final UUID shipperId, final String externalId, final Instant occurredOn) {
+    @ConstructorProperties({"domainEventId", "shipmentOrderId", "companyId", "shipperId", "externalId", "orderNumber", "occurredOn"})
+    public ShipmentOrderCreated(final UUID domainEventId, final UUID shipmentOrderId, final UUID companyId, final UUID shipperId, final String externalId, final Long orderNumber, final Instant occurredOn) {
         super(domainEventId, shipmentOrderId, occurredOn);
         this.shipmentOrderId = shipmentOrderId;
         this.companyId = companyId;
         this.shipperId = shipperId;
         this.externalId = externalId;
+        this.orderNumber = orderNumber;
     }
 
-    public ShipmentOrderCreated(final UUID shipmentOrderId, final UUID companyId, final UUID shipperId, final String externalId) {
-        this(null, shipmentOrderId, companyId, shipperId, externalId, null);
+    public ShipmentOrderCreated(final UUID shipmentOrderId, final UUID companyId, final UUID shipperId, final String externalId, final Long orderNumber) {
+        this(null, shipmentOrderId, companyId, shipperId, externalId, orderNumber, null);
     }
 
     public UUID getShipmentOrderId() {
@@ -42,5 +44,9 @@ public class ShipmentOrderCreated extends AbstractDomainEvent {
         return externalId;
     }
 
+    public Long getOrderNumber() {
+        return orderNumber;
+    }
+
 }
 
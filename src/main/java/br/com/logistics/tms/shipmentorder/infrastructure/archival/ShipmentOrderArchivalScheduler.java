@@ -0,0 +1,85 @@
+package br.com.logistics.tms.shipmentorder.infrastructure.archival;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.infrastructure.database.transaction.Transactional;
+import br.com.logistics.tms.commons.infrastructure.telemetry.Counterable;
+import br.com.logistics.tms.commons.infrastructure.telemetry.Logable;
+import br.com.logistics.tms.commons.infrastructure.telemetry.MetricCounter;
+import br.com.logistics.tms.shipmentorder.application.usecases.ArchiveShipmentOrdersUseCase;
+import br.com.logistics.tms.shipmentorder.infrastructure.config.ShipmentOrderArchivalProperties;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+
+@Component
+@Cqrs(DatabaseRole.WRITE)
+@Lazy(false)
+public class ShipmentOrderArchivalScheduler {
+
+    private final ArchiveShipmentOrdersUseCase archiveShipmentOrdersUseCase;
+    private final ShipmentOrderArchivalProperties properties;
+    private final Transactional transactional;
+    private final Logable logger;
+    private final MetricCounter archivedCounter;
+    private final MetricCounter batchCounter;
+
+    public ShipmentOrderArchivalScheduler(final ArchiveShipmentOrdersUseCase archiveShipmentOrdersUseCase,
+                                          final ShipmentOrderArchivalProperties properties,
+                                          final Transactional transactional,
+                                          final Logable logger,
+                                          final Counterable counterable) {
+        this.archiveShipmentOrdersUseCase = archiveShipmentOrdersUseCase;
+        this.properties = properties;
+        this.transactional = transactional;
+        this.logger = logger;
+        this.archivedCounter = counterable.createLongCounter("shipment_order.archived", "Shipment orders moved to the archived partition");
+        this.batchCounter = counterable.createLongCounter("shipment_order.archival.batches", "Archival batches executed");
+    }
+
+    @Scheduled(fixedDelayString = "${shipmentorder.archival.interval:60s}")
+    public void runArchival() {
+        if (!properties.enabled()) {
+            return;
+        }
+
+        final Instant createdBefore = Instant.now().minus(properties.retention());
+        final ArchiveShipmentOrdersUseCase.Input input = new ArchiveShipmentOrdersUseCase.Input(createdBefore, properties.batchSize());
+
+        int total = 0;
+        for (int batch = 0; batch < properties.maxBatchesPerRun(); batch++) {
+            // One transaction per batch keeps row locks and WAL bursts bounded
+            final int archived = transactional.runWithinTransactionAndReturn(
+                    () -> archiveShipmentOrdersUseCase.execute(input).archived());
+
+            batchCounter.add(1, Map.of());
+            archivedCounter.add(archived, Map.of());
+            total += archived;
+
+            if (archived < properties.batchSize()) {
+                break;
+            }
+
+            if (!pause()) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            logger.info(getClass(), "Archived {} shipment orders created before {}", total, createdBefore);
+        }
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(properties.pauseBetweenBatches());
+            return true;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
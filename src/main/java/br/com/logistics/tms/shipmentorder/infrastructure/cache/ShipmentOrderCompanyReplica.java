@@ -0,0 +1,105 @@
+package br.com.logistics.tms.shipmentorder.infrastructure.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+// Every change takes a new generation, and a table read may only fill a slot whose generation it saw before reading
+@Component
+public class ShipmentOrderCompanyReplica {
+
+    // Backstop for an eviction this node never received, e.g. while its anonymous queue was being redeclared
+    private static final Duration TIME_TO_LIVE = Duration.ofMinutes(5);
+
+    private final Duration timeToLive;
+    private final Map<UUID, Slot> slots = new ConcurrentHashMap<>();
+    private final AtomicLong generations = new AtomicLong();
+    private final AtomicBoolean loaded = new AtomicBoolean();
+
+    public ShipmentOrderCompanyReplica() {
+        this(TIME_TO_LIVE);
+    }
+
+    ShipmentOrderCompanyReplica(final Duration timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    // Companies saved or evicted while loading already hold a slot newer than this snapshot
+    public int load(final Collection<ShipmentOrderCompanyRow> rows) {
+        final Instant now = Instant.now();
+        for (final ShipmentOrderCompanyRow row : rows) {
+            slots.putIfAbsent(row.companyId(), new Slot(row, 0L, now));
+        }
+
+        loaded.set(true);
+        return slots.size();
+    }
+
+    public boolean isLoaded() {
+        return loaded.get();
+    }
+
+    // Only called once the change is committed, so the next table read is already current
+    public void evict(final UUID companyId) {
+        slots.put(companyId, new Slot(null, generations.incrementAndGet(), Instant.MIN));
+    }
+
+    public void put(final ShipmentOrderCompanyRow row) {
+        slots.put(row.companyId(), new Slot(row, generations.incrementAndGet(), Instant.now()));
+    }
+
+    public Map<UUID, ShipmentOrderCompanyRow> findAll(final Collection<UUID> companyIds,
+                                                      final Function<Set<UUID>, Map<UUID, ShipmentOrderCompanyRow>> fromTable) {
+        final Instant now = Instant.now();
+        final Map<UUID, ShipmentOrderCompanyRow> found = new HashMap<>();
+        final Map<UUID, Long> missing = new HashMap<>();
+        for (final UUID companyId : companyIds) {
+            final Slot slot = slots.get(companyId);
+            if (isFresh(slot, now)) {
+                found.put(companyId, slot.row());
+            } else {
+                missing.put(companyId, slot == null ? 0L : slot.generation());
+            }
+        }
+
+        if (missing.isEmpty()) {
+            return found;
+        }
+
+        // Misses are new, evicted or expired companies, or a replica still loading; the table answers those
+        final Map<UUID, ShipmentOrderCompanyRow> read = fromTable.apply(missing.keySet());
+        if (loaded.get()) {
+            read.forEach((companyId, row) -> fill(companyId, row, missing.get(companyId)));
+        }
+        found.putAll(read);
+        return found;
+    }
+
+    private void fill(final UUID companyId, final ShipmentOrderCompanyRow row, final long seen) {
+        final Instant now = Instant.now();
+        slots.compute(companyId, (id, slot) -> {
+            if (slot == null) {
+                return new Slot(row, 0L, now);
+            }
+
+            if (slot.generation() != seen || isFresh(slot, now)) {
+                return slot;
+            }
+
+            return new Slot(row, slot.generation(), now);
+        });
+    }
+
+    private boolean isFresh(final Slot slot, final Instant now) {
+        return slot != null && slot.row() != null && now.isBefore(slot.filledAt().plus(timeToLive));
+    }
+
+    private record Slot(ShipmentOrderCompanyRow row, long generation, Instant filledAt) {
+    }
+}
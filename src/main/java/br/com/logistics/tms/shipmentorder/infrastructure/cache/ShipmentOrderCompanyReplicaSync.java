@@ -0,0 +1,32 @@
+package br.com.logistics.tms.shipmentorder.infrastructure.cache;
+
+import br.com.logistics.tms.shipmentorder.infrastructure.dto.ShipmentOrderCompanyUpdatedDTO;
+import org.springframework.amqp.core.ExchangeTypes;
+import org.springframework.amqp.rabbit.annotation.Exchange;
+import org.springframework.amqp.rabbit.annotation.Queue;
+import org.springframework.amqp.rabbit.annotation.QueueBinding;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+// The synchronize listeners share a queue, so only one node applies each change; the outbox tells every node once it committed
+@Component
+@Lazy(false)
+public class ShipmentOrderCompanyReplicaSync {
+
+    private final ShipmentOrderCompanyReplica replica;
+
+    public ShipmentOrderCompanyReplicaSync(final ShipmentOrderCompanyReplica replica) {
+        this.replica = replica;
+    }
+
+    @RabbitListener(bindings = @QueueBinding(
+            value = @Queue(durable = "false", exclusive = "true", autoDelete = "true"),
+            exchange = @Exchange(value = "tms.events", type = ExchangeTypes.TOPIC, declare = "false"),
+            key = "integration.shipmentorder.ShipmentOrderCompanyUpdated"))
+    public void onCompanyUpdated(final ShipmentOrderCompanyUpdatedDTO event) {
+        if (event.companyId() != null) {
+            replica.evict(event.companyId());
+        }
+    }
+}
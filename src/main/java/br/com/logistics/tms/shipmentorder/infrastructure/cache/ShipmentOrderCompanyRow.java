@@ -0,0 +1,14 @@
+package br.com.logistics.tms.shipmentorder.infrastructure.cache;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+public record ShipmentOrderCompanyRow(UUID companyId, Map<String, Object> data, Character status) {
+
+    // Company data is free-form JSON, so it may hold null values that Map.copyOf rejects
+    public ShipmentOrderCompanyRow {
+        data = Collections.unmodifiableMap(new HashMap<>(data));
+    }
+}
@@ -0,0 +1,30 @@
+package br.com.logistics.tms.shipmentorder.infrastructure.cache;
+
+import br.com.logistics.tms.shipmentorder.application.repositories.ShipmentOrderRepository.ShipmentOrderFilter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+
+// Totals are a convenience for paging clients, so up to a minute of staleness is accepted to skip a count per page
+@Component
+public class ShipmentOrderCountCache {
+
+    private static final Duration TTL = Duration.ofMinutes(1);
+    private static final long MAX_ENTRIES = 10_000;
+
+    private final Cache<Key, Long> counts = Caffeine.newBuilder()
+            .maximumSize(MAX_ENTRIES)
+            .expireAfterWrite(TTL)
+            .build();
+
+    public long get(final UUID companyId, final ShipmentOrderFilter filter, final LongSupplier count) {
+        return counts.get(new Key(companyId, filter), key -> count.getAsLong());
+    }
+
+    private record Key(UUID companyId, ShipmentOrderFilter filter) {
+    }
+}
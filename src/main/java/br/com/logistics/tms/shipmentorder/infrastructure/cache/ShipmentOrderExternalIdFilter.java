@@ -0,0 +1,70 @@
+package br.com.logistics.tms.shipmentorder.infrastructure.cache;
+
+import br.com.logistics.tms.commons.infrastructure.bloom.BloomFilter;
+import br.com.logistics.tms.shipmentorder.infrastructure.jpa.repositories.ShipmentOrderJpaRepository;
+import br.com.logistics.tms.shipmentorder.infrastructure.jpa.repositories.ShipmentOrderJpaRepository.ExternalIdKey;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Per-node: orders created on other nodes are not seen, so a negative answer may only skip a pre-check;
+// the shipment_order_key table decides whether an external id is taken
+@Slf4j
+@Component
+@Lazy(false)
+public class ShipmentOrderExternalIdFilter {
+
+    private static final long EXPECTED_ORDERS = 5_000_000L;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final int WARM_UP_BATCH_SIZE = 5_000;
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    private final ShipmentOrderJpaRepository shipmentOrderJpaRepository;
+    private final BloomFilter bloomFilter = new BloomFilter(EXPECTED_ORDERS, FALSE_POSITIVE_RATE);
+    private final AtomicBoolean warm = new AtomicBoolean();
+
+    public ShipmentOrderExternalIdFilter(final ShipmentOrderJpaRepository shipmentOrderJpaRepository) {
+        this.shipmentOrderJpaRepository = shipmentOrderJpaRepository;
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        UUID after = FIRST_ID;
+        long loaded = 0;
+        List<ExternalIdKey> batch;
+        do {
+            batch = shipmentOrderJpaRepository.findExternalIdKeysAfter(after, WARM_UP_BATCH_SIZE);
+            for (final ExternalIdKey key : batch) {
+                bloomFilter.put(key(key.getCompanyId(), key.getExternalId()));
+            }
+            if (!batch.isEmpty()) {
+                after = batch.getLast().getId();
+            }
+            loaded += batch.size();
+        } while (batch.size() == WARM_UP_BATCH_SIZE);
+
+        warm.set(true);
+        log.info("Shipment order external id filter warmed with {} keys", loaded);
+    }
+
+    public void add(final UUID companyId, final String externalId) {
+        bloomFilter.put(key(companyId, externalId));
+    }
+
+    // Until warm-up finishes an absent bit proves nothing, so callers must fall back to the database
+    public boolean isDefinitelyNew(final UUID companyId, final String externalId) {
+        return warm.get() && !bloomFilter.mightContain(key(companyId, externalId));
+    }
+
+    private static String key(final UUID companyId, final String externalId) {
+        return companyId + ":" + externalId;
+    }
+}
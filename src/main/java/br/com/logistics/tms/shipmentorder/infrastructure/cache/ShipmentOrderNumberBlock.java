@@ -0,0 +1,28 @@
+package br.com.logistics.tms.shipmentorder.infrastructure.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Handed out lock-free, so a thread refilling one company's block never holds up threads drawing from it
+public final class ShipmentOrderNumberBlock {
+
+    public static final long EXHAUSTED = -1L;
+
+    private final long first;
+    private final long limit;
+    private final AtomicLong next;
+
+    public ShipmentOrderNumberBlock(final long first, final int size) {
+        this.first = first;
+        this.limit = first + size;
+        this.next = new AtomicLong(first);
+    }
+
+    public long take() {
+        final long number = next.getAndIncrement();
+        return number < limit ? number : EXHAUSTED;
+    }
+
+    public boolean isAfter(final ShipmentOrderNumberBlock other) {
+        return first > other.first;
+    }
+}
@@ -0,0 +1,20 @@
+package br.com.logistics.tms.shipmentorder.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "shipmentorder.archival")
+public record ShipmentOrderArchivalProperties(boolean enabled,
+                                              Duration retention,
+                                              int batchSize,
+                                              int maxBatchesPerRun,
+                                              Duration pauseBetweenBatches) {
+
+    public ShipmentOrderArchivalProperties {
+        if (retention == null) retention = Duration.ofDays(90);
+        if (batchSize < 1) batchSize = 500;
+        if (maxBatchesPerRun < 1) maxBatchesPerRun = 20;
+        if (pauseBetweenBatches == null) pauseBetweenBatches = Duration.ofMillis(200);
+    }
+}
@@ -0,0 +1,7 @@
+package br.com.logistics.tms.shipmentorder.infrastructure.dto;
+
+import java.util.List;
+
+public record CreateShipmentOrderBatchDTO(List<CreateShipmentOrderDTO> orders) {
+
+}
@@ -0,0 +1,16 @@
+package br.com.logistics.tms.shipmentorder.infrastructure.dto;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public record CreateShipmentOrderBatchResponseDTO(int created, int rejected, List<ResultDTO> results) {
+
+    public record ResultDTO(int index,
+                            String externalId,
+                            String status,
+                            UUID shipmentOrderId,
+                            Instant createdAt,
+                            String error) {
+    }
+}
@@ -2,6 +2,6 @@ package br.com.logistics.tms.shipmentorder.infrastructure.dto;
 
 import java.util.UUID;
 
-public record CreateShipmentOrderResponseDTO(UUID shipmentOrderId) {
+public record CreateShipmentOrderResponseDTO(UUID shipmentOrderId, Long orderNumber) {
 
 }
\ No newline at end of file
@@ -0,0 +1,6 @@
+package br.com.logistics.tms.shipmentorder.infrastructure.dto;
+
+import java.util.UUID;
+
+public record ShipmentOrderCompanyUpdatedDTO(UUID domainEventId, UUID companyId) {
+}
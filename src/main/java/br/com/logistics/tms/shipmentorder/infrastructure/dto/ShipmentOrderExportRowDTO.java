@@ -0,0 +1,27 @@
+package br.com.logistics.tms.shipmentorder.infrastructure.dto;
+
+import br.com.logistics.tms.shipmentorder.application.usecases.ExportShipmentOrdersUseCase;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record ShipmentOrderExportRowDTO(String resumeToken,
+                                        UUID shipmentOrderId,
+                                        UUID companyId,
+                                        UUID shipperId,
+                                        String externalId,
+                                        boolean archived,
+                                        Instant createdAt,
+                                        Instant updatedAt) {
+
+    public static ShipmentOrderExportRowDTO of(final ExportShipmentOrdersUseCase.Output.Row row) {
+        return new ShipmentOrderExportRowDTO(row.resumeToken(),
+                row.shipmentOrderId(),
+                row.companyId(),
+                row.shipperId(),
+                row.externalId(),
+                row.archived(),
+                row.createdAt(),
+                row.updatedAt());
+    }
+}
@@ -0,0 +1,33 @@
+package br.com.logistics.tms.shipmentorder.infrastructure.export;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+public class ShipmentOrderExportLimiter {
+
+    private static final int MAX_CONCURRENT_EXPORTS_PER_COMPANY = 2;
+
+    private final Map<UUID, Integer> running = new ConcurrentHashMap<>();
+
+    public boolean tryAcquire(final UUID companyId) {
+        final AtomicBoolean acquired = new AtomicBoolean();
+        running.compute(companyId, (id, count) -> {
+            final int current = count == null ? 0 : count;
+            if (current >= MAX_CONCURRENT_EXPORTS_PER_COMPANY) {
+                return count;
+            }
+            acquired.set(true);
+            return current + 1;
+        });
+        return acquired.get();
+    }
+
+    public void release(final UUID companyId) {
+        running.computeIfPresent(companyId, (id, count) -> count <= 1 ? null : count - 1);
+    }
+}
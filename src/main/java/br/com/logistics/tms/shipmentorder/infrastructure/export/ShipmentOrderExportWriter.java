@@ -0,0 +1,78 @@
+package br.com.logistics.tms.shipmentorder.infrastructure.export;
+
+import br.com.logistics.tms.commons.infrastructure.json.JsonSingleton;
+import br.com.logistics.tms.shipmentorder.application.usecases.ExportShipmentOrdersUseCase;
+import br.com.logistics.tms.shipmentorder.infrastructure.dto.ShipmentOrderExportRowDTO;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+public class ShipmentOrderExportWriter implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int FLUSH_EVERY_ROWS = 500;
+    private static final String CSV_HEADER = "resume_token,shipment_order_id,company_id,shipper_id,external_id,archived,created_at,updated_at\n";
+
+    private final ShipmentOrderExportFormat format;
+    private final OutputStream out;
+
+    private int unflushedRows;
+
+    public ShipmentOrderExportWriter(final ShipmentOrderExportFormat format,
+                                     final OutputStream out) throws IOException {
+        this.format = format;
+        this.out = new BufferedOutputStream(out, BUFFER_SIZE);
+
+        if (format == ShipmentOrderExportFormat.CSV) {
+            this.out.write(CSV_HEADER.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    public void write(final ExportShipmentOrdersUseCase.Output.Row row) {
+        try {
+            final ShipmentOrderExportRowDTO dto = ShipmentOrderExportRowDTO.of(row);
+            if (format == ShipmentOrderExportFormat.NDJSON) {
+                out.write(JsonSingleton.getInstance().toJson(dto).getBytes(StandardCharsets.UTF_8));
+                out.write('\n');
+            } else {
+                out.write(csvLine(dto).getBytes(StandardCharsets.UTF_8));
+            }
+
+            // Flushing per chunk lets the client consume (and resume) while the cursor is still open
+            if (++unflushedRows >= FLUSH_EVERY_ROWS) {
+                out.flush();
+                unflushedRows = 0;
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private static String csvLine(final ShipmentOrderExportRowDTO dto) {
+        return String.join(",",
+                dto.resumeToken(),
+                dto.shipmentOrderId().toString(),
+                dto.companyId().toString(),
+                dto.shipperId() == null ? "" : dto.shipperId().toString(),
+                escape(dto.externalId()),
+                Boolean.toString(dto.archived()),
+                dto.createdAt().toString(),
+                dto.updatedAt().toString()) + "\n";
+    }
+
+    private static String escape(final String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
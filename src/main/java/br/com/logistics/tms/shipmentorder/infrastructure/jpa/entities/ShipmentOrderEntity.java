@@ -36,6 +36,9 @@ public class ShipmentOrderEntity implements Serializable {
     @Column(name = "external_id", nullable = false, length = 255)
     private String externalId;
 
+    @Column(name = "order_number")
+    private Long orderNumber;
+
     @Column(name = "created_at", nullable = false, columnDefinition = "timestamp with time zone")
     private Instant createdAt;
 
@@ -45,10 +48,11 @@ public class ShipmentOrderEntity implements Serializable {
     public static ShipmentOrderEntity of(final ShipmentOrder shipmentOrder) {
         return new ShipmentOrderEntity(
                 shipmentOrder.getShipmentOrderId().value(),
-                false,//shipmentOrder.isArchived(),
+                shipmentOrder.isArchived(),
                 shipmentOrder.getCompany(),
                 shipmentOrder.getShipper(),
                 shipmentOrder.getExternalId(),
+                shipmentOrder.getOrderNumber(),
                 shipmentOrder.getCreatedAt(),
                 shipmentOrder.getUpdatedAt());
     }
@@ -60,6 +64,7 @@ public class ShipmentOrderEntity implements Serializable {
                 this.companyId,
                 this.shipper,
                 this.externalId,
+                this.orderNumber,
                 this.createdAt,
                 this.updatedAt,
                 Collections.emptySet()
@@ -2,10 +2,47 @@ package br.com.logistics.tms.shipmentorder.infrastructure.jpa.repositories;
 
 import br.com.logistics.tms.shipmentorder.infrastructure.jpa.entities.ShipmentOrderCompanyEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.UUID;
 
 @Repository
 public interface ShipmentOrderCompanyJpaRepository extends JpaRepository<ShipmentOrderCompanyEntity, UUID> {
+
+    // Each field only moves forward in event time, and data is frozen once the company is no longer active;
+    // a row first created by a status event still takes its creation data, since it has none yet
+    @Modifying
+    @Query(value = """
+            INSERT INTO shipmentorder.company AS c (company_id, data, status, data_version, status_version)
+            VALUES (:companyId,
+                    CAST(:data AS jsonb),
+                    CAST(:status AS CHAR(1)),
+                    CASE WHEN :hasData THEN CAST(:occurredOn AS TIMESTAMPTZ) END,
+                    CASE WHEN :hasStatus THEN CAST(:occurredOn AS TIMESTAMPTZ) END)
+            ON CONFLICT (company_id) DO UPDATE SET
+                data = CASE WHEN :hasData AND (c.status = 'A' OR (c.data_version IS NULL AND c.status_version IS NOT NULL))
+                                 AND (c.data_version IS NULL OR EXCLUDED.data_version IS NULL OR c.data_version <= EXCLUDED.data_version)
+                            THEN c.data || EXCLUDED.data ELSE c.data END,
+                data_version = CASE WHEN :hasData AND (c.status = 'A' OR (c.data_version IS NULL AND c.status_version IS NOT NULL))
+                                    THEN GREATEST(c.data_version, EXCLUDED.data_version) ELSE c.data_version END,
+                status = CASE WHEN :hasStatus
+                                   AND (c.status_version IS NULL OR EXCLUDED.status_version IS NULL OR c.status_version <= EXCLUDED.status_version)
+                              THEN EXCLUDED.status ELSE c.status END,
+                status_version = CASE WHEN :hasStatus
+                                      THEN GREATEST(c.status_version, EXCLUDED.status_version) ELSE c.status_version END
+            WHERE (:hasData AND (c.status = 'A' OR (c.data_version IS NULL AND c.status_version IS NOT NULL))
+                       AND (c.data_version IS NULL OR EXCLUDED.data_version IS NULL OR c.data_version <= EXCLUDED.data_version))
+               OR (:hasStatus
+                       AND (c.status_version IS NULL OR EXCLUDED.status_version IS NULL OR c.status_version <= EXCLUDED.status_version))
+            """, nativeQuery = true)
+    int upsert(@Param("companyId") UUID companyId,
+               @Param("data") String data,
+               @Param("status") String status,
+               @Param("hasData") boolean hasData,
+               @Param("hasStatus") boolean hasStatus,
+               @Param("occurredOn") Instant occurredOn);
 }
@@ -2,21 +2,143 @@ package br.com.logistics.tms.shipmentorder.infrastructure.jpa.repositories;
 
 import br.com.logistics.tms.commons.infrastructure.jpa.repositories.CustomJpaRepository;
 import br.com.logistics.tms.shipmentorder.infrastructure.jpa.entities.ShipmentOrderEntity;
-import br.com.logistics.tms.shipmentorder.infrastructure.jpa.entities.ShipmentOrderOutboxEntity;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 
 @Repository
 public interface ShipmentOrderJpaRepository extends CustomJpaRepository<ShipmentOrderEntity, UUID> {
 
-    Optional<ShipmentOrderEntity> findByExternalId(String externalId);
+    @Query(value = """
+            SELECT EXISTS (SELECT 1 FROM shipmentorder.shipment_order_key
+                           WHERE company_id = :companyId
+                             AND external_id = :externalId)
+            """, nativeQuery = true)
+    boolean existsByCompanyIdAndExternalId(@Param("companyId") UUID companyId,
+                                           @Param("externalId") String externalId);
 
-    Page<ShipmentOrderEntity> findByCompanyId(UUID companyId, Pageable pageable);
+    @Query(value = """
+            SELECT * FROM shipmentorder.shipment_order
+            WHERE company_id = :companyId
+              AND is_archived IN (:archivedStates)
+              AND created_at >= :createdFrom
+              AND created_at < :createdTo
+            ORDER BY created_at DESC, id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<ShipmentOrderEntity> findFirstByCompanyId(@Param("companyId") UUID companyId,
+                                                   @Param("archivedStates") Collection<Boolean> archivedStates,
+                                                   @Param("createdFrom") Instant createdFrom,
+                                                   @Param("createdTo") Instant createdTo,
+                                                   @Param("limit") int limit);
 
+    @Query(value = """
+            SELECT * FROM shipmentorder.shipment_order
+            WHERE company_id = :companyId
+              AND is_archived IN (:archivedStates)
+              AND created_at >= :createdFrom
+              AND created_at < :createdTo
+              AND created_at <= :createdAt
+              AND (created_at, id) < (:createdAt, :id)
+            ORDER BY created_at DESC, id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<ShipmentOrderEntity> findNextByCompanyId(@Param("companyId") UUID companyId,
+                                                  @Param("archivedStates") Collection<Boolean> archivedStates,
+                                                  @Param("createdFrom") Instant createdFrom,
+                                                  @Param("createdTo") Instant createdTo,
+                                                  @Param("createdAt") Instant createdAt,
+                                                  @Param("id") UUID id,
+                                                  @Param("limit") int limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(value = """
+            SELECT * FROM shipmentorder.shipment_order
+            WHERE company_id = :companyId
+              AND is_archived IN (:archivedStates)
+              AND created_at >= :createdFrom
+              AND created_at < :createdTo
+              AND (created_at, id) > (:afterCreatedAt, :afterId)
+            ORDER BY created_at, id
+            """, nativeQuery = true)
+    Stream<ShipmentOrderEntity> streamByCompanyId(@Param("companyId") UUID companyId,
+                                                  @Param("archivedStates") Collection<Boolean> archivedStates,
+                                                  @Param("createdFrom") Instant createdFrom,
+                                                  @Param("createdTo") Instant createdTo,
+                                                  @Param("afterCreatedAt") Instant afterCreatedAt,
+                                                  @Param("afterId") UUID afterId);
+
+    @Query(value = """
+            SELECT count(*) FROM shipmentorder.shipment_order
+            WHERE company_id = :companyId
+              AND is_archived IN (:archivedStates)
+              AND created_at >= :createdFrom
+              AND created_at < :createdTo
+            """, nativeQuery = true)
+    long countByCompanyId(@Param("companyId") UUID companyId,
+                          @Param("archivedStates") Collection<Boolean> archivedStates,
+                          @Param("createdFrom") Instant createdFrom,
+                          @Param("createdTo") Instant createdTo);
+
+    @Query(value = """
+            SELECT external_id FROM shipmentorder.shipment_order_key
+            WHERE company_id = :companyId
+              AND external_id = ANY(:externalIds)
+            """, nativeQuery = true)
+    List<String> findExistingExternalIds(@Param("companyId") UUID companyId,
+                                         @Param("externalIds") String[] externalIds);
+
+    @Query(value = """
+            SELECT id AS "id", company_id AS "companyId", external_id AS "externalId"
+            FROM shipmentorder.shipment_order
+            WHERE id > :after
+            ORDER BY id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<ExternalIdKey> findExternalIdKeysAfter(@Param("after") UUID after,
+                                                @Param("limit") int limit);
+
+    // Rows are moved between partitions explicitly so the batch can skip rows locked by in-flight writes
+    @Modifying
+    @Query(value = """
+            WITH candidates AS (
+                SELECT o.id FROM shipmentorder.shipment_order_active o
+                WHERE o.created_at < :cutoff
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            ), moved AS (
+                DELETE FROM shipmentorder.shipment_order_active o
+                USING candidates c
+                WHERE o.id = c.id
+                RETURNING o.id, o.company_id, o.shipper, o.external_id, o.order_number, o.created_at, o.updated_at
+            )
+            INSERT INTO shipmentorder.shipment_order_archived (id, is_archived, company_id, shipper, external_id, order_number, created_at, updated_at)
+            SELECT id, true, company_id, shipper, external_id, order_number, created_at, updated_at FROM moved
+            """, nativeQuery = true)
+    int archiveCreatedBefore(@Param("cutoff") Instant cutoff,
+                             @Param("limit") int limit);
+
+    interface ExternalIdKey {
+
+        UUID getId();
+
+        UUID getCompanyId();
+
+        String getExternalId();
+    }
 
 }
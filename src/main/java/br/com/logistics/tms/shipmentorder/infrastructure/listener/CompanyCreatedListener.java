@@ -36,7 +36,7 @@ public class CompanyCreatedListener {
     public void handle(final CompanyCreatedDTO event, final Message message, final Channel channel) {
         voidUseCaseExecutor
                 .from(synchronizeCompanyUseCase)
-                .withInput(new SynchronizeCompanyUseCase.Input(event.companyId(), mapper.map(event, Map.class)))
+                .withInput(new SynchronizeCompanyUseCase.Input(event.companyId(), mapper.map(event, Map.class), event.occurredOn()))
                 .execute();
     }
 }
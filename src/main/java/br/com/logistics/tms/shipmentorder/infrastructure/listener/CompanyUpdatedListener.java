@@ -35,7 +35,7 @@ public class CompanyUpdatedListener {
 
         voidUseCaseExecutor
                 .from(synchronizeCompanyUseCase)
-                .withInput(new SynchronizeCompanyUseCase.Input(event.companyId(), data))
+                .withInput(new SynchronizeCompanyUseCase.Input(event.companyId(), data, event.occurredOn()))
                 .execute();
     }
 }
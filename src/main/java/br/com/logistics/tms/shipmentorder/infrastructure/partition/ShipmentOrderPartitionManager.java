@@ -0,0 +1,56 @@
+package br.com.logistics.tms.shipmentorder.infrastructure.partition;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.infrastructure.database.transaction.Transactional;
+import br.com.logistics.tms.commons.infrastructure.telemetry.Logable;
+import jakarta.persistence.EntityManager;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@Cqrs(DatabaseRole.WRITE)
+@Lazy(false)
+public class ShipmentOrderPartitionManager {
+
+    // Creating a partition next to a non-empty default partition has to scan it, so stay well ahead
+    private static final int MONTHS_AHEAD = 3;
+
+    private final EntityManager entityManager;
+    private final Transactional transactional;
+    private final Logable logger;
+
+    public ShipmentOrderPartitionManager(final EntityManager entityManager,
+                                         final Transactional transactional,
+                                         final Logable logger) {
+        this.entityManager = entityManager;
+        this.transactional = transactional;
+        this.logger = logger;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 0 3 * * *", zone = "UTC")
+    public void ensurePartitions() {
+        final YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        final List<String> partitions = transactional.runWithinTransactionAndReturn(() -> {
+            final List<String> ensured = new ArrayList<>();
+            for (int i = 0; i <= MONTHS_AHEAD; i++) {
+                ensured.add((String) entityManager
+                        .createNativeQuery("SELECT shipmentorder.ensure_shipment_order_active_partition(:month)")
+                        .setParameter("month", current.plusMonths(i).atDay(1))
+                        .getSingleResult());
+            }
+            return ensured;
+        });
+
+        logger.info(getClass(), "Ensured active shipment order partitions {}", partitions);
+    }
+}
@@ -1,29 +1,91 @@
 package br.com.logistics.tms.shipmentorder.infrastructure.repositories;
 
+import br.com.logistics.tms.commons.domain.AbstractDomainEvent;
+import br.com.logistics.tms.commons.domain.Status;
+import br.com.logistics.tms.commons.infrastructure.database.transaction.AfterCommit;
+import br.com.logistics.tms.commons.infrastructure.gateways.outbox.OutboxGateway;
+import br.com.logistics.tms.commons.infrastructure.json.JsonSingleton;
 import br.com.logistics.tms.shipmentorder.application.repositories.CompanyRepository;
 import br.com.logistics.tms.shipmentorder.domain.Company;
 import br.com.logistics.tms.shipmentorder.domain.CompanyId;
+import br.com.logistics.tms.shipmentorder.domain.ShipmentOrderCompanyUpdated;
+import br.com.logistics.tms.shipmentorder.infrastructure.cache.ShipmentOrderCompanyReplica;
+import br.com.logistics.tms.shipmentorder.infrastructure.cache.ShipmentOrderCompanyRow;
+import br.com.logistics.tms.shipmentorder.infrastructure.config.ShipmentOrderSchema;
+import br.com.logistics.tms.shipmentorder.infrastructure.jpa.entities.ShipmentOrderOutboxEntity;
 import br.com.logistics.tms.shipmentorder.infrastructure.jpa.entities.ShipmentOrderCompanyEntity;
 import br.com.logistics.tms.shipmentorder.infrastructure.jpa.repositories.ShipmentOrderCompanyJpaRepository;
 import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
-import java.util.Optional;
-import java.util.UUID;
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Component
+@Lazy(false)
 @AllArgsConstructor
 public class ShipmentOrderCompanyRepositoryImpl implements CompanyRepository {
 
+    // A status change can land before the creation event, and company data must never be empty
+    private static final Map<String, Object> PENDING_DATA = Map.of("types", List.of());
+
     private final ShipmentOrderCompanyJpaRepository shipmentOrderCompanyJpaRepository;
+    private final ShipmentOrderCompanyReplica replica;
+    private final OutboxGateway outboxGateway;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        final List<ShipmentOrderCompanyRow> rows = shipmentOrderCompanyJpaRepository.findAll().stream()
+                .map(ShipmentOrderCompanyRepositoryImpl::toRow)
+                .toList();
+        final int size = replica.load(rows);
+        log.info("Shipment order company replica loaded with {} companies", size);
+    }
 
     @Override
     public Company save(final Company company) {
         ShipmentOrderCompanyEntity entity = ShipmentOrderCompanyEntity.of(company);
         entity = shipmentOrderCompanyJpaRepository.save(entity);
+        final ShipmentOrderCompanyRow row = toRow(entity);
+        AfterCommit.run(() -> replica.put(row));
         return entity.toDomain();
     }
 
+    @Override
+    public boolean synchronize(final CompanyId companyId,
+                               final Map<String, Object> data,
+                               final Status status,
+                               final Instant occurredOn) {
+        final boolean hasData = !data.isEmpty();
+        final boolean hasStatus = status != null;
+        final int changed = shipmentOrderCompanyJpaRepository.upsert(
+                companyId.value(),
+                JsonSingleton.getInstance().toJson(hasData ? data : PENDING_DATA),
+                String.valueOf(hasStatus ? status.value() : Status.active().value()),
+                hasData,
+                hasStatus,
+                occurredOn);
+
+        if (changed == 0) {
+            return false;
+        }
+
+        // Other nodes evict their copy from the published event, which only leaves the outbox after this commit
+        final Set<AbstractDomainEvent> events = Set.of(new ShipmentOrderCompanyUpdated(companyId.value()));
+        outboxGateway.save(ShipmentOrderSchema.SHIPMENT_ORDER_SCHEMA, events, ShipmentOrderOutboxEntity.class);
+        AfterCommit.run(() -> replica.evict(companyId.value()));
+        return true;
+    }
+
     @Override
     public Optional<Company> findById(final CompanyId companyId) {
         return shipmentOrderCompanyJpaRepository.findById(companyId.value())
@@ -34,4 +96,41 @@ public class ShipmentOrderCompanyRepositoryImpl implements CompanyRepository {
     public boolean existsById(final CompanyId companyId) {
         return shipmentOrderCompanyJpaRepository.existsById(companyId.value());
     }
+
+    @Override
+    public Map<CompanyId, Company> findAllById(final Collection<CompanyId> companyIds) {
+        final Set<UUID> ids = companyIds.stream().map(CompanyId::value).collect(Collectors.toSet());
+        return shipmentOrderCompanyJpaRepository.findAllById(ids).stream()
+                .map(ShipmentOrderCompanyEntity::toDomain)
+                .collect(Collectors.toMap(Company::getCompanyId, Function.identity()));
+    }
+
+    @Override
+    public Optional<Company> findReplicatedById(final CompanyId companyId) {
+        return Optional.ofNullable(findAllReplicatedById(Set.of(companyId)).get(companyId));
+    }
+
+    @Override
+    public Map<CompanyId, Company> findAllReplicatedById(final Collection<CompanyId> companyIds) {
+        final Set<UUID> ids = companyIds.stream().map(CompanyId::value).collect(Collectors.toSet());
+        return replica.findAll(ids, this::findAllRowsById).values().stream()
+                .map(ShipmentOrderCompanyRepositoryImpl::toDomain)
+                .collect(Collectors.toMap(Company::getCompanyId, Function.identity()));
+    }
+
+    private Map<UUID, ShipmentOrderCompanyRow> findAllRowsById(final Set<UUID> companyIds) {
+        return shipmentOrderCompanyJpaRepository.findAllById(companyIds).stream()
+                .map(ShipmentOrderCompanyRepositoryImpl::toRow)
+                .collect(Collectors.toMap(ShipmentOrderCompanyRow::companyId, Function.identity()));
+    }
+
+    private static ShipmentOrderCompanyRow toRow(final ShipmentOrderCompanyEntity entity) {
+        return new ShipmentOrderCompanyRow(entity.getCompanyId(),
+                entity.getData() != null ? entity.getData() : Map.of(),
+                entity.getStatus());
+    }
+
+    private static Company toDomain(final ShipmentOrderCompanyRow row) {
+        return new ShipmentOrderCompanyEntity(row.companyId(), row.data(), row.status()).toDomain();
+    }
 }
@@ -0,0 +1,51 @@
+package br.com.logistics.tms.shipmentorder.infrastructure.repositories;
+
+import br.com.logistics.tms.shipmentorder.application.repositories.ShipmentOrderNumberRepository;
+import br.com.logistics.tms.shipmentorder.infrastructure.cache.ShipmentOrderNumberBlock;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class ShipmentOrderNumberRepositoryImpl implements ShipmentOrderNumberRepository {
+
+    // Numbers left in a node's block when it stops are never handed out; must match the sequences' INCREMENT BY
+    private static final int BLOCK_SIZE = 50;
+
+    private final EntityManager entityManager;
+    private final Map<UUID, ShipmentOrderNumberBlock> blocks = new ConcurrentHashMap<>();
+
+    public ShipmentOrderNumberRepositoryImpl(final EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public long next(final UUID companyId) {
+        final ShipmentOrderNumberBlock current = blocks.get(companyId);
+        if (current != null) {
+            final long number = current.take();
+            if (number != ShipmentOrderNumberBlock.EXHAUSTED) {
+                return number;
+            }
+        }
+
+        // Threads that run out together each reserve a block; only the latest is kept and the others' leftovers are skipped
+        final ShipmentOrderNumberBlock reserved = new ShipmentOrderNumberBlock(reserve(companyId), BLOCK_SIZE);
+        final long number = reserved.take();
+        blocks.merge(companyId, reserved, (kept, candidate) -> candidate.isAfter(kept) ? candidate : kept);
+        return number;
+    }
+
+    // nextval is not rolled back with the order, so the block stays reserved whatever the caller's transaction does
+    private long reserve(final UUID companyId) {
+        final Number first = (Number) entityManager.createNativeQuery("""
+                        SELECT nextval(CAST(shipmentorder.shipment_order_number_sequence(:companyId) AS regclass))
+                        """)
+                .setParameter("companyId", companyId)
+                .getSingleResult();
+        return first.longValue();
+    }
+}
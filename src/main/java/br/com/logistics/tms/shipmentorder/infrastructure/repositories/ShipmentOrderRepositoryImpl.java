@@ -1,19 +1,33 @@
 package br.com.logistics.tms.shipmentorder.infrastructure.repositories;
 
-import br.com.logistics.tms.commons.domain.pagination.Page;
-import br.com.logistics.tms.commons.domain.pagination.PageRequest;
+import br.com.logistics.tms.commons.domain.AbstractDomainEvent;
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
+import br.com.logistics.tms.commons.domain.pagination.Cursor;
+import br.com.logistics.tms.commons.domain.pagination.CursorPage;
+import br.com.logistics.tms.commons.domain.pagination.CursorPageRequest;
 import br.com.logistics.tms.commons.infrastructure.gateways.outbox.OutboxGateway;
 import br.com.logistics.tms.shipmentorder.application.repositories.ShipmentOrderRepository;
 import br.com.logistics.tms.shipmentorder.domain.ShipmentOrder;
+import br.com.logistics.tms.shipmentorder.infrastructure.cache.ShipmentOrderCountCache;
+import br.com.logistics.tms.shipmentorder.infrastructure.cache.ShipmentOrderExternalIdFilter;
 import br.com.logistics.tms.shipmentorder.infrastructure.config.ShipmentOrderSchema;
 import br.com.logistics.tms.shipmentorder.infrastructure.jpa.entities.ShipmentOrderEntity;
 import br.com.logistics.tms.shipmentorder.infrastructure.jpa.entities.ShipmentOrderOutboxEntity;
 import br.com.logistics.tms.shipmentorder.infrastructure.jpa.repositories.ShipmentOrderJpaRepository;
+import jakarta.persistence.EntityManager;
 import lombok.AllArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.stereotype.Component;
 
-import java.util.Optional;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Component
 @AllArgsConstructor
@@ -21,27 +35,131 @@ public class ShipmentOrderRepositoryImpl implements ShipmentOrderRepository {
 
     private final ShipmentOrderJpaRepository shipmentOrderJpaRepository;
     private final OutboxGateway outboxGateway;
+    private final EntityManager entityManager;
+    private final ShipmentOrderExternalIdFilter externalIdFilter;
+    private final ShipmentOrderCountCache countCache;
+
+    private static final List<Boolean> ACTIVE_ONLY = List.of(false);
+    private static final List<Boolean> ACTIVE_AND_ARCHIVED = List.of(false, true);
+    // Concrete bounds instead of optional predicates keep created_at comparable to partition bounds at execution time
+    private static final Instant UNBOUNDED_FROM = Instant.EPOCH;
+    private static final Instant UNBOUNDED_TO = Instant.parse("9999-12-31T00:00:00Z");
+    private static final UUID LOWEST_ID = new UUID(0L, 0L);
 
     @Override
-    public Optional<ShipmentOrder> getShipmentOrderByExternalId(String externalId) {
-        return shipmentOrderJpaRepository.findByExternalId(externalId)
-                .map(ShipmentOrderEntity::toShipmentOrder);
+    public boolean existsByExternalId(final UUID companyId, final String externalId) {
+        // Skipping this pre-check is safe because the key table still rejects a duplicate insert
+        if (externalIdFilter.isDefinitelyNew(companyId, externalId)) {
+            return false;
+        }
+        return shipmentOrderJpaRepository.existsByCompanyIdAndExternalId(companyId, externalId);
     }
 
     @Override
-    public Page<ShipmentOrder> getShipmentOrderByCompanyId(UUID companyId, PageRequest pageRequest) {
-        org.springframework.data.domain.Page<ShipmentOrderEntity> page = shipmentOrderJpaRepository.findByCompanyId(companyId, org.springframework.data.domain.PageRequest.of(pageRequest.page(), pageRequest.size()));
-        return new Page<>(page
-                .getContent()
-                .stream()
-                .map(ShipmentOrderEntity::toShipmentOrder).toList(), page.getNumber(), page.getSize(), page.getTotalElements());
+    public CursorPage<ShipmentOrder> getShipmentOrderByCompanyId(UUID companyId, ShipmentOrderFilter filter, CursorPageRequest pageRequest) {
+        final Cursor after = pageRequest.after();
+        final int fetchSize = pageRequest.size() + 1;
+        final List<Boolean> archivedStates = archivedStates(filter);
+        final Instant createdFrom = createdFrom(filter);
+        final Instant createdTo = createdTo(filter);
+        final List<ShipmentOrderEntity> entities = after == null
+                ? shipmentOrderJpaRepository.findFirstByCompanyId(companyId, archivedStates, createdFrom, createdTo, fetchSize)
+                : shipmentOrderJpaRepository.findNextByCompanyId(companyId, archivedStates, createdFrom, createdTo,
+                        after.position(), after.id(), fetchSize);
+
+        return CursorPage.of(
+                entities.stream().map(ShipmentOrderEntity::toShipmentOrder).toList(),
+                pageRequest.size(),
+                so -> new Cursor(so.getCreatedAt(), so.getShipmentOrderId().value()),
+                pageRequest.includeTotal() ? countCache.get(companyId, filter, () -> count(companyId, filter)) : null);
+    }
+
+    @Override
+    public long streamByCompanyId(final UUID companyId,
+                                  final ShipmentOrderFilter filter,
+                                  final Cursor after,
+                                  final Consumer<ShipmentOrder> consumer) {
+        final Cursor start = after != null ? after : new Cursor(createdFrom(filter), LOWEST_ID);
+        long count = 0;
+        try (Stream<ShipmentOrderEntity> entities = shipmentOrderJpaRepository.streamByCompanyId(companyId,
+                archivedStates(filter), createdFrom(filter), createdTo(filter), start.position(), start.id())) {
+            final Iterator<ShipmentOrderEntity> iterator = entities.iterator();
+            while (iterator.hasNext()) {
+                final ShipmentOrderEntity entity = iterator.next();
+                consumer.accept(entity.toShipmentOrder());
+                // Keeps the persistence context from growing with the export
+                entityManager.detach(entity);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public Set<String> findExistingExternalIds(final UUID companyId, final Collection<String> externalIds) {
+        // Not pre-filtered: a duplicate the filter missed would fail the whole batch instead of rejecting one order
+        return new HashSet<>(shipmentOrderJpaRepository.findExistingExternalIds(companyId, externalIds.toArray(String[]::new)));
     }
 
     @Override
     public ShipmentOrder create(ShipmentOrder shipmentOrder) {
-        final ShipmentOrderEntity shipmentOrderEntity = ShipmentOrderEntity.of(shipmentOrder);
-        shipmentOrderJpaRepository.save(shipmentOrderEntity);
+        entityManager.persist(ShipmentOrderEntity.of(shipmentOrder));
+        flushRejectingDuplicates("ShipmentOrder already exists");
+        externalIdFilter.add(shipmentOrder.getCompany(), shipmentOrder.getExternalId());
         outboxGateway.save(ShipmentOrderSchema.SHIPMENT_ORDER_SCHEMA, shipmentOrder.getDomainEvents(), ShipmentOrderOutboxEntity.class);
         return shipmentOrder;
     }
+
+    @Override
+    public List<ShipmentOrder> createAll(final List<ShipmentOrder> shipmentOrders) {
+        if (shipmentOrders.isEmpty()) {
+            return shipmentOrders;
+        }
+
+        // persist() skips the select-before-insert that save() does for assigned ids, so inserts go out as JDBC batches
+        final Set<AbstractDomainEvent> events = new HashSet<>();
+        for (final ShipmentOrder shipmentOrder : shipmentOrders) {
+            entityManager.persist(ShipmentOrderEntity.of(shipmentOrder));
+            events.addAll(shipmentOrder.getDomainEvents());
+        }
+        flushRejectingDuplicates("One or more shipment orders already exist");
+        shipmentOrders.forEach(so -> externalIdFilter.add(so.getCompany(), so.getExternalId()));
+
+        outboxGateway.save(ShipmentOrderSchema.SHIPMENT_ORDER_SCHEMA, events, ShipmentOrderOutboxEntity.class);
+        return shipmentOrders;
+    }
+
+    @Override
+    public int archiveCreatedBefore(final Instant cutoff, final int limit) {
+        return shipmentOrderJpaRepository.archiveCreatedBefore(cutoff, limit);
+    }
+
+    // A concurrent insert that passed the pre-check on another node only surfaces here, through the key table
+    private void flushRejectingDuplicates(final String message) {
+        try {
+            entityManager.flush();
+        } catch (final ConstraintViolationException e) {
+            if (e.getKind() == ConstraintViolationException.ConstraintKind.UNIQUE) {
+                throw new ValidationException(message, e);
+            }
+            throw e;
+        }
+    }
+
+    private long count(final UUID companyId, final ShipmentOrderFilter filter) {
+        return shipmentOrderJpaRepository.countByCompanyId(companyId,
+                archivedStates(filter), createdFrom(filter), createdTo(filter));
+    }
+
+    private static List<Boolean> archivedStates(final ShipmentOrderFilter filter) {
+        return filter.includeArchived() ? ACTIVE_AND_ARCHIVED : ACTIVE_ONLY;
+    }
+
+    private static Instant createdFrom(final ShipmentOrderFilter filter) {
+        return filter.createdFrom() != null ? filter.createdFrom() : UNBOUNDED_FROM;
+    }
+
+    private static Instant createdTo(final ShipmentOrderFilter filter) {
+        return filter.createdTo() != null ? filter.createdTo() : UNBOUNDED_TO;
+    }
 }
@@ -0,0 +1,45 @@
+package br.com.logistics.tms.shipmentorder.infrastructure.rest;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.infrastructure.presenters.rest.DefaultRestPresenter;
+import br.com.logistics.tms.commons.infrastructure.usecases.RestUseCaseExecutor;
+import br.com.logistics.tms.shipmentorder.application.usecases.CreateShipmentOrderBatchUseCase;
+import br.com.logistics.tms.shipmentorder.infrastructure.dto.CreateShipmentOrderBatchDTO;
+import br.com.logistics.tms.shipmentorder.infrastructure.dto.CreateShipmentOrderBatchResponseDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping(value = "shipmentorders")
+@Cqrs(DatabaseRole.WRITE)
+public class CreateShipmentOrderBatchController {
+
+    private final RestUseCaseExecutor restUseCaseExecutor;
+    private final DefaultRestPresenter defaultRestPresenter;
+    private final CreateShipmentOrderBatchUseCase createShipmentOrderBatchUseCase;
+
+    @Autowired
+    public CreateShipmentOrderBatchController(RestUseCaseExecutor restUseCaseExecutor,
+                                              DefaultRestPresenter defaultRestPresenter,
+                                              CreateShipmentOrderBatchUseCase createShipmentOrderBatchUseCase) {
+        this.createShipmentOrderBatchUseCase = createShipmentOrderBatchUseCase;
+        this.defaultRestPresenter = defaultRestPresenter;
+        this.restUseCaseExecutor = restUseCaseExecutor;
+    }
+
+    @PostMapping("/batch")
+    public Object create(@RequestBody CreateShipmentOrderBatchDTO createShipmentOrderBatchDTO) {
+        return restUseCaseExecutor
+                .from(createShipmentOrderBatchUseCase)
+                .withInput(createShipmentOrderBatchDTO)
+                .mapOutputTo(CreateShipmentOrderBatchResponseDTO.class)
+                .presentWith(output -> defaultRestPresenter.present(output, HttpStatus.MULTI_STATUS.value()))
+                .execute();
+    }
+
+}
@@ -0,0 +1,101 @@
+package br.com.logistics.tms.shipmentorder.infrastructure.rest;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
+import br.com.logistics.tms.commons.infrastructure.database.transaction.Transactional;
+import br.com.logistics.tms.commons.infrastructure.presenters.rest.DefaultRestPresenter;
+import br.com.logistics.tms.commons.infrastructure.usecases.RestUseCaseExecutor;
+import br.com.logistics.tms.shipmentorder.application.usecases.ExportShipmentOrdersUseCase;
+import br.com.logistics.tms.shipmentorder.infrastructure.export.ShipmentOrderExportFormat;
+import br.com.logistics.tms.shipmentorder.infrastructure.export.ShipmentOrderExportLimiter;
+import br.com.logistics.tms.shipmentorder.infrastructure.export.ShipmentOrderExportWriter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequestMapping(value = "shipmentorders")
+@Cqrs(DatabaseRole.READ)
+public class ExportShipmentOrderController {
+
+    private final RestUseCaseExecutor restUseCaseExecutor;
+    private final DefaultRestPresenter defaultRestPresenter;
+    private final ExportShipmentOrdersUseCase exportShipmentOrdersUseCase;
+    private final ShipmentOrderExportLimiter exportLimiter;
+    private final Transactional transactional;
+
+    public ExportShipmentOrderController(final RestUseCaseExecutor restUseCaseExecutor,
+                                         final DefaultRestPresenter defaultRestPresenter,
+                                         final ExportShipmentOrdersUseCase exportShipmentOrdersUseCase,
+                                         final ShipmentOrderExportLimiter exportLimiter,
+                                         final Transactional transactional) {
+        this.restUseCaseExecutor = restUseCaseExecutor;
+        this.defaultRestPresenter = defaultRestPresenter;
+        this.exportShipmentOrdersUseCase = exportShipmentOrdersUseCase;
+        this.exportLimiter = exportLimiter;
+        this.transactional = transactional;
+    }
+
+    @GetMapping("/company/{companyId}/export")
+    public Object export(
+            @RequestHeader Map<String, String> headers,
+            @PathVariable UUID companyId,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) Instant createdFrom,
+            @RequestParam(required = false) Instant createdTo,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            @RequestParam(required = false) String resumeToken,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        final Optional<ShipmentOrderExportFormat> exportFormat = ShipmentOrderExportFormat.find(format);
+        if (exportFormat.isEmpty()) {
+            return defaultRestPresenter.present(new ValidationException("Unsupported export format: " + format));
+        }
+
+        return restUseCaseExecutor
+                .from(exportShipmentOrdersUseCase)
+                .withInput(new ExportShipmentOrdersUseCase.Input(companyId, createdFrom, createdTo, includeArchived, resumeToken))
+                .presentWith(output -> stream(companyId, exportFormat.get(), gzip, (ExportShipmentOrdersUseCase.Output) output))
+                .execute();
+    }
+
+    private ResponseEntity<?> stream(final UUID companyId,
+                                     final ShipmentOrderExportFormat format,
+                                     final boolean gzip,
+                                     final ExportShipmentOrdersUseCase.Output output) {
+        if (!exportLimiter.tryAcquire(companyId)) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+        }
+
+        final StreamingResponseBody body = out -> {
+            try (ShipmentOrderExportWriter writer = new ShipmentOrderExportWriter(format, encoded(out, gzip))) {
+                transactional.runWithinReadOnlyTransaction(() -> output.export().writeTo(writer::write));
+            } finally {
+                exportLimiter.release(companyId);
+            }
+        };
+
+        final ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(format.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"shipment-orders-" + companyId + "." + format.extension() + (gzip ? ".gz\"" : "\""));
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    private static OutputStream encoded(final OutputStream out, final boolean gzip) throws IOException {
+        return gzip ? new GZIPOutputStream(out) : out;
+    }
+}
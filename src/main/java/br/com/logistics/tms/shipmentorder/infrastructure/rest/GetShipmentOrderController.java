@@ -6,11 +6,9 @@ import br.com.logistics.tms.commons.infrastructure.presenters.rest.DefaultRestPr
 import br.com.logistics.tms.commons.infrastructure.usecases.RestUseCaseExecutor;
 import br.com.logistics.tms.shipmentorder.application.usecases.GetShipmentOrderByCompanyIdUseCase;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.web.PageableDefault;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Instant;
 import java.util.Map;
 import java.util.UUID;
 
@@ -36,10 +34,15 @@ public class GetShipmentOrderController {
     public Object get(
             @RequestHeader Map<String, String> headers,
             @PathVariable UUID companyId,
-            @PageableDefault(page = 0, size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            @RequestParam(required = false) Instant createdFrom,
+            @RequestParam(required = false) Instant createdTo) {
         return restUseCaseExecutor
                 .from(getShipmentOrderByCompanyIdUseCase)
-                .withInput(new GetShipmentOrderByCompanyIdUseCase.Input(companyId, pageable.getPageNumber(), pageable.getPageSize()))
+                .withInput(new GetShipmentOrderByCompanyIdUseCase.Input(companyId, cursor, size, includeTotal, includeArchived, createdFrom, createdTo))
                 .presentWith(defaultRestPresenter)
                 .execute();
     }
@@ -19,7 +19,7 @@ public class OrderSpiImpl implements OrderSpi {
     @Override
     public Set<OrderDTO> getOrderByCompanyId(UUID companyId) {
 
-        return getShipmentOrderByCompanyIdUseCase.execute(new GetShipmentOrderByCompanyIdUseCase.Input(companyId, 1, 10)).shipmentOrders()
+        return getShipmentOrderByCompanyIdUseCase.execute(new GetShipmentOrderByCompanyIdUseCase.Input(companyId, null, 10, false, false, null, null)).shipmentOrders()
                 .stream()
                 .map(order -> new OrderDTO(order.shipmentOrderId(), false, order.externalId(), order.createdAt(), null))
                 .collect(Collectors.toSet());
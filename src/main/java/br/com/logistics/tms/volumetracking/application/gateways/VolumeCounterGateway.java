@@ -0,0 +1,27 @@
+package br.com.logistics.tms.volumetracking.application.gateways;
+
+import br.com.logistics.tms.volumetracking.domain.VolumeCount;
+import br.com.logistics.tms.volumetracking.domain.VolumeSubject;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface VolumeCounterGateway {
+
+    /**
+     * Counts one shipment for {@code subject} in the bucket of every granularity that holds {@code occurredOn}.
+     */
+    void record(VolumeSubject subject, Instant occurredOn);
+
+    /**
+     * Takes every count recorded since the previous drain.
+     */
+    List<VolumeCount> drain();
+
+    /**
+     * Puts back drained counts that could not be stored, so the next drain carries them.
+     */
+    void restore(Collection<VolumeCount> counts);
+
+}
@@ -0,0 +1,9 @@
+package br.com.logistics.tms.volumetracking.application.repositories;
+
+import br.com.logistics.tms.volumetracking.domain.VolumeCapacity;
+
+public interface VolumeCapacityRepository {
+
+    VolumeCapacity save(VolumeCapacity capacity);
+
+}
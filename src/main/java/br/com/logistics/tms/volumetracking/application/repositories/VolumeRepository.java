@@ -0,0 +1,19 @@
+package br.com.logistics.tms.volumetracking.application.repositories;
+
+import br.com.logistics.tms.volumetracking.domain.Granularity;
+import br.com.logistics.tms.volumetracking.domain.VolumeCapacity;
+import br.com.logistics.tms.volumetracking.domain.VolumeSubject;
+
+import java.util.Map;
+import java.util.Optional;
+
+public interface VolumeRepository {
+
+    /**
+     * Shipments per bucket number for buckets in [{@code fromBucket}, {@code toBucket}); buckets with none are absent.
+     */
+    Map<Long, Long> findShipments(VolumeSubject subject, Granularity granularity, long fromBucket, long toBucket);
+
+    Optional<VolumeCapacity> findCapacity(VolumeSubject subject, Granularity granularity);
+
+}
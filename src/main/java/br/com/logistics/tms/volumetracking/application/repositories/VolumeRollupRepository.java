@@ -0,0 +1,15 @@
+package br.com.logistics.tms.volumetracking.application.repositories;
+
+import br.com.logistics.tms.volumetracking.domain.VolumeCount;
+
+import java.util.Collection;
+
+public interface VolumeRollupRepository {
+
+    /**
+     * Adds each count to what its bucket already holds, and commits before returning so that a failed commit
+     * surfaces here. Must not be called inside an enclosing transaction.
+     */
+    void add(Collection<VolumeCount> counts);
+
+}
@@ -0,0 +1,45 @@
+package br.com.logistics.tms.volumetracking.application.usecases;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.application.annotation.DomainService;
+import br.com.logistics.tms.commons.application.usecases.NullaryUseCase;
+import br.com.logistics.tms.volumetracking.application.gateways.VolumeCounterGateway;
+import br.com.logistics.tms.volumetracking.application.repositories.VolumeRollupRepository;
+import br.com.logistics.tms.volumetracking.domain.VolumeCount;
+
+import java.util.List;
+
+@DomainService
+@Cqrs(DatabaseRole.WRITE)
+public class FlushVolumeCountersUseCase implements NullaryUseCase<FlushVolumeCountersUseCase.Output> {
+
+    private final VolumeCounterGateway volumeCounterGateway;
+    private final VolumeRollupRepository volumeRollupRepository;
+
+    public FlushVolumeCountersUseCase(final VolumeCounterGateway volumeCounterGateway,
+                                      final VolumeRollupRepository volumeRollupRepository) {
+        this.volumeCounterGateway = volumeCounterGateway;
+        this.volumeRollupRepository = volumeRollupRepository;
+    }
+
+    @Override
+    public Output execute() {
+        final List<VolumeCount> counts = volumeCounterGateway.drain();
+        if (counts.isEmpty()) {
+            return new Output(0, 0);
+        }
+
+        try {
+            volumeRollupRepository.add(counts);
+        } catch (final RuntimeException e) {
+            volumeCounterGateway.restore(counts);
+            throw e;
+        }
+
+        return new Output(counts.size(), counts.stream().mapToLong(VolumeCount::shipments).sum());
+    }
+
+    // Each shipment is counted once per granularity, so shipments here is a multiple of the shipments seen
+    public record Output(int buckets, long shipments) {}
+}
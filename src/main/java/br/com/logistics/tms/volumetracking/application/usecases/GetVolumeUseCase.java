@@ -0,0 +1,92 @@
+package br.com.logistics.tms.volumetracking.application.usecases;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.application.annotation.DomainService;
+import br.com.logistics.tms.commons.application.usecases.UseCase;
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
+import br.com.logistics.tms.volumetracking.application.repositories.VolumeRepository;
+import br.com.logistics.tms.volumetracking.domain.Granularity;
+import br.com.logistics.tms.volumetracking.domain.VolumeCapacity;
+import br.com.logistics.tms.volumetracking.domain.VolumeScope;
+import br.com.logistics.tms.volumetracking.domain.VolumeSubject;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+@DomainService
+@Cqrs(DatabaseRole.READ)
+public class GetVolumeUseCase implements UseCase<GetVolumeUseCase.Input, GetVolumeUseCase.Output> {
+
+    static final int DEFAULT_BUCKETS = 60;
+    static final int MAX_BUCKETS = 1440;
+
+    private final VolumeRepository volumeRepository;
+
+    public GetVolumeUseCase(final VolumeRepository volumeRepository) {
+        this.volumeRepository = volumeRepository;
+    }
+
+    // Rollups are written by periodic flushes, so the newest buckets trail live traffic by up to one flush interval
+    @Override
+    public Output execute(final Input input) {
+        final VolumeSubject subject = new VolumeSubject(VolumeScope.with(input.scope()), input.subjectId());
+        final Granularity granularity = Granularity.with(input.granularity());
+
+        final long toBucket = granularity.bucketOf(input.to() == null ? Instant.now() : input.to()) + 1;
+        final long fromBucket = input.from() == null ? toBucket - DEFAULT_BUCKETS : granularity.bucketOf(input.from());
+        if (fromBucket >= toBucket) {
+            throw new ValidationException("from must be before to");
+        }
+        if (toBucket - fromBucket > MAX_BUCKETS) {
+            throw new ValidationException("A window spans at most " + MAX_BUCKETS + " buckets, use a coarser granularity");
+        }
+
+        final Map<Long, Long> shipments = volumeRepository.findShipments(subject, granularity, fromBucket, toBucket);
+        final Optional<VolumeCapacity> capacity = volumeRepository.findCapacity(subject, granularity);
+
+        final List<Bucket> buckets = new ArrayList<>((int) (toBucket - fromBucket));
+        long total = 0;
+        long peak = 0;
+        for (long bucket = fromBucket; bucket < toBucket; bucket++) {
+            final long count = shipments.getOrDefault(bucket, 0L);
+            total += count;
+            peak = Math.max(peak, count);
+            buckets.add(new Bucket(granularity.startOf(bucket), count, capacity.map(c -> c.utilizationOf(count)).orElse(null)));
+        }
+
+        final long shipped = total;
+        final long busiest = peak;
+        return new Output(
+                subject.scope().name(),
+                subject.subjectId(),
+                granularity.name(),
+                granularity.startOf(fromBucket),
+                granularity.startOf(toBucket),
+                shipped,
+                capacity.map(VolumeCapacity::maxShipments).orElse(null),
+                capacity.map(c -> c.utilizationOf(shipped) / buckets.size()).orElse(null),
+                capacity.map(c -> c.utilizationOf(busiest)).orElse(null),
+                buckets
+        );
+    }
+
+    public record Input(String scope, UUID subjectId, String granularity, Instant from, Instant to) {}
+
+    public record Output(String scope,
+                         UUID subjectId,
+                         String granularity,
+                         Instant from,
+                         Instant to,
+                         long shipments,
+                         Long capacity,
+                         Double averageUtilization,
+                         Double peakUtilization,
+                         List<Bucket> buckets) {}
+
+    public record Bucket(Instant start, long shipments, Double utilization) {}
+}
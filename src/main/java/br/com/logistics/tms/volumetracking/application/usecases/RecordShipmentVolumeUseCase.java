@@ -0,0 +1,36 @@
+package br.com.logistics.tms.volumetracking.application.usecases;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.application.annotation.DomainService;
+import br.com.logistics.tms.commons.application.usecases.VoidUseCase;
+import br.com.logistics.tms.volumetracking.application.gateways.VolumeCounterGateway;
+import br.com.logistics.tms.volumetracking.domain.VolumeSubject;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@DomainService
+@Cqrs(DatabaseRole.WRITE)
+public class RecordShipmentVolumeUseCase implements VoidUseCase<RecordShipmentVolumeUseCase.Input> {
+
+    private final VolumeCounterGateway volumeCounterGateway;
+
+    public RecordShipmentVolumeUseCase(final VolumeCounterGateway volumeCounterGateway) {
+        this.volumeCounterGateway = volumeCounterGateway;
+    }
+
+    // Counted by when the shipment happened, not when the event arrived, so a backlog lands in the right buckets
+    @Override
+    public void execute(final Input input) {
+        final Instant occurredOn = input.occurredOn() == null ? Instant.now() : input.occurredOn();
+        if (input.companyId() != null) {
+            volumeCounterGateway.record(VolumeSubject.company(input.companyId()), occurredOn);
+        }
+        if (input.shipperId() != null) {
+            volumeCounterGateway.record(VolumeSubject.shipper(input.shipperId()), occurredOn);
+        }
+    }
+
+    public record Input(UUID companyId, UUID shipperId, Instant occurredOn) {}
+}
@@ -0,0 +1,49 @@
+package br.com.logistics.tms.volumetracking.application.usecases;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.application.annotation.DomainService;
+import br.com.logistics.tms.commons.application.usecases.UseCase;
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
+import br.com.logistics.tms.volumetracking.application.repositories.VolumeCapacityRepository;
+import br.com.logistics.tms.volumetracking.domain.Granularity;
+import br.com.logistics.tms.volumetracking.domain.VolumeCapacity;
+import br.com.logistics.tms.volumetracking.domain.VolumeScope;
+import br.com.logistics.tms.volumetracking.domain.VolumeSubject;
+
+import java.util.UUID;
+
+@DomainService
+@Cqrs(DatabaseRole.WRITE)
+public class SetVolumeCapacityUseCase implements UseCase<SetVolumeCapacityUseCase.Input, SetVolumeCapacityUseCase.Output> {
+
+    private final VolumeCapacityRepository volumeCapacityRepository;
+
+    public SetVolumeCapacityUseCase(final VolumeCapacityRepository volumeCapacityRepository) {
+        this.volumeCapacityRepository = volumeCapacityRepository;
+    }
+
+    @Override
+    public Output execute(final Input input) {
+        if (input.maxShipments() == null) {
+            throw new ValidationException("maxShipments is required");
+        }
+
+        final VolumeCapacity capacity = volumeCapacityRepository.save(new VolumeCapacity(
+                new VolumeSubject(VolumeScope.with(input.scope()), input.subjectId()),
+                Granularity.with(input.granularity()),
+                input.maxShipments()
+        ));
+
+        return new Output(
+                capacity.subject().scope().name(),
+                capacity.subject().subjectId(),
+                capacity.granularity().name(),
+                capacity.maxShipments()
+        );
+    }
+
+    public record Input(String scope, UUID subjectId, String granularity, Long maxShipments) {}
+
+    public record Output(String scope, UUID subjectId, String granularity, long maxShipments) {}
+}
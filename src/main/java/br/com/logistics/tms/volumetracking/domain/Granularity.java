@@ -0,0 +1,41 @@
+package br.com.logistics.tms.volumetracking.domain;
+
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+
+/**
+ * Width of a volume bucket. Buckets are numbered from the epoch in UTC, so every node puts an instant in the same one.
+ */
+public enum Granularity {
+    MINUTE(Duration.ofMinutes(1)),
+    HOUR(Duration.ofHours(1)),
+    DAY(Duration.ofDays(1));
+
+    private final long seconds;
+
+    Granularity(final Duration width) {
+        this.seconds = width.toSeconds();
+    }
+
+    public long bucketOf(final Instant instant) {
+        return Math.floorDiv(instant.getEpochSecond(), seconds);
+    }
+
+    public Instant startOf(final long bucket) {
+        return Instant.ofEpochSecond(bucket * seconds);
+    }
+
+    public static Granularity with(final String granularity) {
+        if (granularity == null || granularity.isBlank()) {
+            return HOUR;
+        }
+        try {
+            return Granularity.valueOf(granularity.trim().toUpperCase(Locale.ROOT));
+        } catch (final IllegalArgumentException e) {
+            throw new ValidationException("Invalid granularity: " + granularity);
+        }
+    }
+}
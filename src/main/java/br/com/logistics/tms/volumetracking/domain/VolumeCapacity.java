@@ -0,0 +1,22 @@
+package br.com.logistics.tms.volumetracking.domain;
+
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
+
+/**
+ * Most shipments the subject is expected to handle within one bucket of {@code granularity}.
+ */
+public record VolumeCapacity(VolumeSubject subject, Granularity granularity, long maxShipments) {
+
+    public VolumeCapacity {
+        if (subject == null || granularity == null) {
+            throw new ValidationException("Capacity needs a subject and a granularity");
+        }
+        if (maxShipments <= 0) {
+            throw new ValidationException("maxShipments must be positive");
+        }
+    }
+
+    public double utilizationOf(final long shipments) {
+        return (double) shipments / maxShipments;
+    }
+}
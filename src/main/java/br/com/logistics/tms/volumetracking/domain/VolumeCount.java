@@ -0,0 +1,4 @@
+package br.com.logistics.tms.volumetracking.domain;
+
+public record VolumeCount(VolumeSubject subject, Granularity granularity, long bucket, long shipments) {
+}
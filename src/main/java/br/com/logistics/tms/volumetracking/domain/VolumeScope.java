@@ -0,0 +1,21 @@
+package br.com.logistics.tms.volumetracking.domain;
+
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
+
+import java.util.Locale;
+
+public enum VolumeScope {
+    COMPANY,
+    SHIPPER;
+
+    public static VolumeScope with(final String scope) {
+        if (scope == null || scope.isBlank()) {
+            throw new ValidationException("Volume scope is required");
+        }
+        try {
+            return VolumeScope.valueOf(scope.trim().toUpperCase(Locale.ROOT));
+        } catch (final IllegalArgumentException e) {
+            throw new ValidationException("Invalid volume scope: " + scope);
+        }
+    }
+}
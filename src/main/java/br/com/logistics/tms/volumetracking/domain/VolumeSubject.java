@@ -0,0 +1,25 @@
+package br.com.logistics.tms.volumetracking.domain;
+
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
+
+import java.util.UUID;
+
+public record VolumeSubject(VolumeScope scope, UUID subjectId) {
+
+    public VolumeSubject {
+        if (scope == null) {
+            throw new ValidationException("Invalid scope for VolumeSubject");
+        }
+        if (subjectId == null) {
+            throw new ValidationException("Invalid subjectId for VolumeSubject");
+        }
+    }
+
+    public static VolumeSubject company(final UUID companyId) {
+        return new VolumeSubject(VolumeScope.COMPANY, companyId);
+    }
+
+    public static VolumeSubject shipper(final UUID shipperId) {
+        return new VolumeSubject(VolumeScope.SHIPPER, shipperId);
+    }
+}
@@ -0,0 +1,5 @@
+package br.com.logistics.tms.volumetracking.infrastructure.config;
+
+public class VolumeTrackingSchema {
+    public static final String VOLUME_TRACKING_SCHEMA = "volumetracking";
+}
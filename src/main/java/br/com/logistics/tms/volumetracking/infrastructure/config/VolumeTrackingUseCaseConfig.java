@@ -0,0 +1,16 @@
+package br.com.logistics.tms.volumetracking.infrastructure.config;
+
+import br.com.logistics.tms.commons.application.annotation.DomainService;
+import br.com.logistics.tms.commons.infrastructure.cqrs.CqrsExclusionSpringScanningFilter;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+
+@Configuration
+@ComponentScan(
+        basePackages = {"br.com.logistics.tms.volumetracking.application"},
+        includeFilters = {@ComponentScan.Filter(type = FilterType.ANNOTATION, classes = {DomainService.class})},
+        excludeFilters = @ComponentScan.Filter(type = FilterType.CUSTOM, classes = CqrsExclusionSpringScanningFilter.class))
+public class VolumeTrackingUseCaseConfig {
+
+}
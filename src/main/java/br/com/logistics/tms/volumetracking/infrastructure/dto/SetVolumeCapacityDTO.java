@@ -0,0 +1,12 @@
+package br.com.logistics.tms.volumetracking.infrastructure.dto;
+
+import br.com.logistics.tms.volumetracking.application.usecases.SetVolumeCapacityUseCase;
+
+import java.util.UUID;
+
+public record SetVolumeCapacityDTO(Long maxShipments) {
+
+    public SetVolumeCapacityUseCase.Input toInput(final String scope, final UUID subjectId, final String granularity) {
+        return new SetVolumeCapacityUseCase.Input(scope, subjectId, granularity, maxShipments);
+    }
+}
@@ -1,13 +1,13 @@
-package br.com.logistics.tms.company.infrastructure.dto;
+package br.com.logistics.tms.volumetracking.infrastructure.dto;
 
 import java.time.Instant;
 import java.util.UUID;
 
-public record ShipmentOrderCreatedDTO(UUID domainEventId,
+public record ShipmentOrderCreatedDTO(
+        UUID domainEventId,
         UUID shipmentOrderId,
         UUID companyId,
         UUID shipperId,
-        String externalId,
         Instant occurredOn,
         String aggregateId,
         String type,
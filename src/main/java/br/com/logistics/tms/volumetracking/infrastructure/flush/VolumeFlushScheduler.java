@@ -0,0 +1,53 @@
+package br.com.logistics.tms.volumetracking.infrastructure.flush;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.infrastructure.telemetry.Counterable;
+import br.com.logistics.tms.commons.infrastructure.telemetry.Logable;
+import br.com.logistics.tms.commons.infrastructure.telemetry.MetricCounter;
+import br.com.logistics.tms.volumetracking.application.usecases.FlushVolumeCountersUseCase;
+import jakarta.annotation.PreDestroy;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+@Cqrs(DatabaseRole.WRITE)
+@Lazy(false)
+public class VolumeFlushScheduler {
+
+    private final FlushVolumeCountersUseCase flushVolumeCountersUseCase;
+    private final Logable logger;
+    private final MetricCounter bucketCounter;
+    private final MetricCounter failureCounter;
+
+    public VolumeFlushScheduler(final FlushVolumeCountersUseCase flushVolumeCountersUseCase,
+                                final Logable logger,
+                                final Counterable counterable) {
+        this.flushVolumeCountersUseCase = flushVolumeCountersUseCase;
+        this.logger = logger;
+        this.bucketCounter = counterable.createLongCounter("volumetracking.flush.buckets", "Volume buckets added to the rollup tables");
+        this.failureCounter = counterable.createLongCounter("volumetracking.flush.failures", "Volume flushes that failed and were kept for the next one");
+    }
+
+    // Counts are acked before they are stored, so a crash loses up to one interval of them. The rollup repository
+    // commits on its own so that any failed flush, commit included, is restored and retried; a commit that succeeded
+    // but reported failure is therefore counted twice
+    @Scheduled(fixedDelayString = "${volumetracking.flush-interval:10s}")
+    public void flush() {
+        try {
+            final FlushVolumeCountersUseCase.Output output = flushVolumeCountersUseCase.execute();
+            bucketCounter.add(output.buckets(), Map.of());
+        } catch (final RuntimeException e) {
+            failureCounter.add(1, Map.of());
+            logger.error(getClass(), "Volume flush failed, counts are kept for the next one: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,68 @@
+package br.com.logistics.tms.volumetracking.infrastructure.gateways;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.infrastructure.counter.StripedRingCounter;
+import br.com.logistics.tms.volumetracking.application.gateways.VolumeCounterGateway;
+import br.com.logistics.tms.volumetracking.domain.Granularity;
+import br.com.logistics.tms.volumetracking.domain.VolumeCount;
+import br.com.logistics.tms.volumetracking.domain.VolumeSubject;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@Cqrs(DatabaseRole.WRITE)
+public class StripedVolumeCounterGateway implements VolumeCounterGateway {
+
+    private static final Granularity[] GRANULARITIES = Granularity.values();
+    private static final int STRIPES = Integer.highestOneBit(Math.min(Runtime.getRuntime().availableProcessors(), 16));
+
+    // Counters are kept for the life of the node: dropping an idle one could race an increment on it, and
+    // subjects are companies and shippers, which stay few
+    private final Map<Key, StripedRingCounter> counters = new ConcurrentHashMap<>();
+
+    @Override
+    public void record(final VolumeSubject subject, final Instant occurredOn) {
+        for (final Granularity granularity : GRANULARITIES) {
+            counterOf(new Key(subject, granularity)).increment(granularity.bucketOf(occurredOn));
+        }
+    }
+
+    @Override
+    public List<VolumeCount> drain() {
+        final List<VolumeCount> counts = new ArrayList<>();
+        counters.forEach((key, counter) -> counter.drain(
+                (bucket, shipments) -> counts.add(new VolumeCount(key.subject(), key.granularity(), bucket, shipments))));
+        return counts;
+    }
+
+    @Override
+    public void restore(final Collection<VolumeCount> counts) {
+        for (final VolumeCount count : counts) {
+            counterOf(new Key(count.subject(), count.granularity())).add(count.bucket(), count.shipments());
+        }
+    }
+
+    private StripedRingCounter counterOf(final Key key) {
+        final StripedRingCounter counter = counters.get(key);
+        return counter != null ? counter : counters.computeIfAbsent(key, k -> new StripedRingCounter(slotsOf(k.granularity()), STRIPES));
+    }
+
+    // Slots only need to cover the buckets that open between two flushes; late events past that spill to the
+    // counter's overflow map instead of being lost
+    private static int slotsOf(final Granularity granularity) {
+        return switch (granularity) {
+            case MINUTE -> 8;
+            case HOUR, DAY -> 2;
+        };
+    }
+
+    private record Key(VolumeSubject subject, Granularity granularity) {
+    }
+}
@@ -0,0 +1,64 @@
+package br.com.logistics.tms.volumetracking.infrastructure.jpa.entities;
+
+import br.com.logistics.tms.volumetracking.domain.Granularity;
+import br.com.logistics.tms.volumetracking.domain.VolumeCapacity;
+import br.com.logistics.tms.volumetracking.domain.VolumeScope;
+import br.com.logistics.tms.volumetracking.domain.VolumeSubject;
+import br.com.logistics.tms.volumetracking.infrastructure.config.VolumeTrackingSchema;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+@Entity
+@Table(name = "capacity", schema = VolumeTrackingSchema.VOLUME_TRACKING_SCHEMA)
+@IdClass(VolumeCapacityEntity.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VolumeCapacityEntity implements Serializable {
+
+    @Id
+    @Column(name = "scope", nullable = false)
+    private String scope;
+
+    @Id
+    @Column(name = "subject_id", nullable = false)
+    private UUID subjectId;
+
+    @Id
+    @Column(name = "granularity", nullable = false)
+    private String granularity;
+
+    @Column(name = "max_shipments", nullable = false)
+    private Long maxShipments;
+
+    public static VolumeCapacityEntity of(final VolumeCapacity capacity) {
+        return new VolumeCapacityEntity(
+                capacity.subject().scope().name(),
+                capacity.subject().subjectId(),
+                capacity.granularity().name(),
+                capacity.maxShipments()
+        );
+    }
+
+    public VolumeCapacity toVolumeCapacity() {
+        return new VolumeCapacity(
+                new VolumeSubject(VolumeScope.with(scope), subjectId),
+                Granularity.with(granularity),
+                maxShipments
+        );
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private String scope;
+        private UUID subjectId;
+        private String granularity;
+    }
+}
@@ -0,0 +1,49 @@
+package br.com.logistics.tms.volumetracking.infrastructure.jpa.entities;
+
+import br.com.logistics.tms.volumetracking.infrastructure.config.VolumeTrackingSchema;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "volume_rollup", schema = VolumeTrackingSchema.VOLUME_TRACKING_SCHEMA)
+@IdClass(VolumeRollupEntity.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VolumeRollupEntity implements Serializable {
+
+    @Id
+    @Column(name = "scope", nullable = false)
+    private String scope;
+
+    @Id
+    @Column(name = "subject_id", nullable = false)
+    private UUID subjectId;
+
+    @Id
+    @Column(name = "granularity", nullable = false)
+    private String granularity;
+
+    @Id
+    @Column(name = "bucket_start", nullable = false)
+    private Instant bucketStart;
+
+    @Column(name = "shipments", nullable = false)
+    private Long shipments;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private String scope;
+        private UUID subjectId;
+        private String granularity;
+        private Instant bucketStart;
+    }
+}
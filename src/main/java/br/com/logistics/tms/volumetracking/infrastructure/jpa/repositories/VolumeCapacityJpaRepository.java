@@ -0,0 +1,10 @@
+package br.com.logistics.tms.volumetracking.infrastructure.jpa.repositories;
+
+import br.com.logistics.tms.volumetracking.infrastructure.jpa.entities.VolumeCapacityEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface VolumeCapacityJpaRepository extends JpaRepository<VolumeCapacityEntity, VolumeCapacityEntity.Key> {
+
+}
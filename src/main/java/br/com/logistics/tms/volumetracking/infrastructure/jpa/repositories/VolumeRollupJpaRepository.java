@@ -0,0 +1,40 @@
+package br.com.logistics.tms.volumetracking.infrastructure.jpa.repositories;
+
+import br.com.logistics.tms.volumetracking.infrastructure.jpa.entities.VolumeRollupEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface VolumeRollupJpaRepository extends JpaRepository<VolumeRollupEntity, VolumeRollupEntity.Key> {
+
+    // Additive, so several write nodes can flush their own counts for the same bucket
+    @Modifying
+    @Query(value = """
+            INSERT INTO volumetracking.volume_rollup AS r (scope, subject_id, granularity, bucket_start, shipments)
+            VALUES (:scope, :subjectId, :granularity, CAST(:bucketStart AS TIMESTAMPTZ), :shipments)
+            ON CONFLICT (scope, subject_id, granularity, bucket_start) DO UPDATE SET shipments = r.shipments + EXCLUDED.shipments
+            """, nativeQuery = true)
+    int add(@Param("scope") String scope,
+            @Param("subjectId") UUID subjectId,
+            @Param("granularity") String granularity,
+            @Param("bucketStart") Instant bucketStart,
+            @Param("shipments") long shipments);
+
+    @Query("""
+            SELECT r FROM VolumeRollupEntity r
+            WHERE r.scope = :scope AND r.subjectId = :subjectId AND r.granularity = :granularity
+              AND r.bucketStart >= :from AND r.bucketStart < :to
+            """)
+    List<VolumeRollupEntity> findWindow(@Param("scope") String scope,
+                                        @Param("subjectId") UUID subjectId,
+                                        @Param("granularity") String granularity,
+                                        @Param("from") Instant from,
+                                        @Param("to") Instant to);
+}
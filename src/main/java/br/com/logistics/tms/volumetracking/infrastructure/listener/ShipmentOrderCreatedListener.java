@@ -0,0 +1,35 @@
+package br.com.logistics.tms.volumetracking.infrastructure.listener;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.infrastructure.usecases.VoidUseCaseExecutor;
+import br.com.logistics.tms.volumetracking.application.usecases.RecordShipmentVolumeUseCase;
+import br.com.logistics.tms.volumetracking.infrastructure.dto.ShipmentOrderCreatedDTO;
+import com.rabbitmq.client.Channel;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+@Component
+@Cqrs(DatabaseRole.WRITE)
+@Lazy(false)
+public class ShipmentOrderCreatedListener {
+
+    private final VoidUseCaseExecutor voidUseCaseExecutor;
+    private final RecordShipmentVolumeUseCase recordShipmentVolumeUseCase;
+
+    public ShipmentOrderCreatedListener(final VoidUseCaseExecutor voidUseCaseExecutor,
+                                        final RecordShipmentVolumeUseCase recordShipmentVolumeUseCase) {
+        this.voidUseCaseExecutor = voidUseCaseExecutor;
+        this.recordShipmentVolumeUseCase = recordShipmentVolumeUseCase;
+    }
+
+    @RabbitListener(queues = "integration.volumetracking.shipmentorder.created")
+    public void handle(final ShipmentOrderCreatedDTO event, final Message message, final Channel channel) {
+        voidUseCaseExecutor
+                .from(recordShipmentVolumeUseCase)
+                .withInput(new RecordShipmentVolumeUseCase.Input(event.companyId(), event.shipperId(), event.occurredOn()))
+                .execute();
+    }
+}
@@ -0,0 +1,25 @@
+package br.com.logistics.tms.volumetracking.infrastructure.repositories;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.volumetracking.application.repositories.VolumeCapacityRepository;
+import br.com.logistics.tms.volumetracking.domain.VolumeCapacity;
+import br.com.logistics.tms.volumetracking.infrastructure.jpa.entities.VolumeCapacityEntity;
+import br.com.logistics.tms.volumetracking.infrastructure.jpa.repositories.VolumeCapacityJpaRepository;
+import org.springframework.stereotype.Component;
+
+@Component
+@Cqrs(DatabaseRole.WRITE)
+public class VolumeCapacityRepositoryImpl implements VolumeCapacityRepository {
+
+    private final VolumeCapacityJpaRepository volumeCapacityJpaRepository;
+
+    public VolumeCapacityRepositoryImpl(final VolumeCapacityJpaRepository volumeCapacityJpaRepository) {
+        this.volumeCapacityJpaRepository = volumeCapacityJpaRepository;
+    }
+
+    @Override
+    public VolumeCapacity save(final VolumeCapacity capacity) {
+        return volumeCapacityJpaRepository.save(VolumeCapacityEntity.of(capacity)).toVolumeCapacity();
+    }
+}
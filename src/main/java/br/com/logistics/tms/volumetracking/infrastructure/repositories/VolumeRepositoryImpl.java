@@ -0,0 +1,55 @@
+package br.com.logistics.tms.volumetracking.infrastructure.repositories;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.volumetracking.application.repositories.VolumeRepository;
+import br.com.logistics.tms.volumetracking.domain.Granularity;
+import br.com.logistics.tms.volumetracking.domain.VolumeCapacity;
+import br.com.logistics.tms.volumetracking.domain.VolumeSubject;
+import br.com.logistics.tms.volumetracking.infrastructure.jpa.entities.VolumeCapacityEntity;
+import br.com.logistics.tms.volumetracking.infrastructure.jpa.entities.VolumeRollupEntity;
+import br.com.logistics.tms.volumetracking.infrastructure.jpa.repositories.VolumeCapacityJpaRepository;
+import br.com.logistics.tms.volumetracking.infrastructure.jpa.repositories.VolumeRollupJpaRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+@Component
+@Cqrs(DatabaseRole.READ)
+public class VolumeRepositoryImpl implements VolumeRepository {
+
+    private final VolumeRollupJpaRepository volumeRollupJpaRepository;
+    private final VolumeCapacityJpaRepository volumeCapacityJpaRepository;
+
+    public VolumeRepositoryImpl(final VolumeRollupJpaRepository volumeRollupJpaRepository,
+                                final VolumeCapacityJpaRepository volumeCapacityJpaRepository) {
+        this.volumeRollupJpaRepository = volumeRollupJpaRepository;
+        this.volumeCapacityJpaRepository = volumeCapacityJpaRepository;
+    }
+
+    @Override
+    public Map<Long, Long> findShipments(final VolumeSubject subject,
+                                         final Granularity granularity,
+                                         final long fromBucket,
+                                         final long toBucket) {
+        final Map<Long, Long> shipments = new HashMap<>();
+        for (final VolumeRollupEntity rollup : volumeRollupJpaRepository.findWindow(
+                subject.scope().name(),
+                subject.subjectId(),
+                granularity.name(),
+                granularity.startOf(fromBucket),
+                granularity.startOf(toBucket))) {
+            shipments.put(granularity.bucketOf(rollup.getBucketStart()), rollup.getShipments());
+        }
+        return shipments;
+    }
+
+    @Override
+    public Optional<VolumeCapacity> findCapacity(final VolumeSubject subject, final Granularity granularity) {
+        return volumeCapacityJpaRepository
+                .findById(new VolumeCapacityEntity.Key(subject.scope().name(), subject.subjectId(), granularity.name()))
+                .map(VolumeCapacityEntity::toVolumeCapacity);
+    }
+}
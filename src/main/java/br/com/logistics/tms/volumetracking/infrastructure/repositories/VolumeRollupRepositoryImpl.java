@@ -0,0 +1,43 @@
+package br.com.logistics.tms.volumetracking.infrastructure.repositories;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.infrastructure.database.transaction.Transactional;
+import br.com.logistics.tms.volumetracking.application.repositories.VolumeRollupRepository;
+import br.com.logistics.tms.volumetracking.domain.VolumeCount;
+import br.com.logistics.tms.volumetracking.infrastructure.jpa.repositories.VolumeRollupJpaRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Comparator;
+
+@Component
+@Cqrs(DatabaseRole.WRITE)
+public class VolumeRollupRepositoryImpl implements VolumeRollupRepository {
+
+    // Every node upserts in the same key order, so concurrent flushes wait on each other instead of deadlocking
+    private static final Comparator<VolumeCount> KEY_ORDER = Comparator
+            .comparing((VolumeCount count) -> count.subject().scope().name())
+            .thenComparing(count -> count.subject().subjectId())
+            .thenComparing(count -> count.granularity().name())
+            .thenComparingLong(VolumeCount::bucket);
+
+    private final VolumeRollupJpaRepository volumeRollupJpaRepository;
+    private final Transactional transactional;
+
+    public VolumeRollupRepositoryImpl(final VolumeRollupJpaRepository volumeRollupJpaRepository,
+                                      final Transactional transactional) {
+        this.volumeRollupJpaRepository = volumeRollupJpaRepository;
+        this.transactional = transactional;
+    }
+
+    @Override
+    public void add(final Collection<VolumeCount> counts) {
+        transactional.runWithinTransaction(() -> counts.stream().sorted(KEY_ORDER).forEach(count -> volumeRollupJpaRepository.add(
+                count.subject().scope().name(),
+                count.subject().subjectId(),
+                count.granularity().name(),
+                count.granularity().startOf(count.bucket()),
+                count.shipments())));
+    }
+}
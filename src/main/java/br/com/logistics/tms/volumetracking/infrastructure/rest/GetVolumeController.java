@@ -0,0 +1,47 @@
+package br.com.logistics.tms.volumetracking.infrastructure.rest;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.infrastructure.presenters.rest.DefaultRestPresenter;
+import br.com.logistics.tms.commons.infrastructure.usecases.RestUseCaseExecutor;
+import br.com.logistics.tms.volumetracking.application.usecases.GetVolumeUseCase;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("volumes")
+@Cqrs(DatabaseRole.READ)
+public class GetVolumeController {
+
+    private final GetVolumeUseCase getVolumeUseCase;
+    private final DefaultRestPresenter defaultRestPresenter;
+    private final RestUseCaseExecutor restUseCaseExecutor;
+
+    public GetVolumeController(final GetVolumeUseCase getVolumeUseCase,
+                               final DefaultRestPresenter defaultRestPresenter,
+                               final RestUseCaseExecutor restUseCaseExecutor) {
+        this.getVolumeUseCase = getVolumeUseCase;
+        this.defaultRestPresenter = defaultRestPresenter;
+        this.restUseCaseExecutor = restUseCaseExecutor;
+    }
+
+    @GetMapping("/{scope}/{subjectId}")
+    public Object get(@PathVariable final String scope,
+                      @PathVariable final UUID subjectId,
+                      @RequestParam(required = false) final String granularity,
+                      @RequestParam(required = false) final Instant from,
+                      @RequestParam(required = false) final Instant to) {
+        return restUseCaseExecutor
+                .from(getVolumeUseCase)
+                .withInput(new GetVolumeUseCase.Input(scope, subjectId, granularity, from, to))
+                .presentWith(output -> defaultRestPresenter.present(output, HttpStatus.OK.value()))
+                .execute();
+    }
+}
@@ -0,0 +1,46 @@
+package br.com.logistics.tms.volumetracking.infrastructure.rest;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.infrastructure.presenters.rest.DefaultRestPresenter;
+import br.com.logistics.tms.commons.infrastructure.usecases.RestUseCaseExecutor;
+import br.com.logistics.tms.volumetracking.application.usecases.SetVolumeCapacityUseCase;
+import br.com.logistics.tms.volumetracking.infrastructure.dto.SetVolumeCapacityDTO;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("volumes/{scope}/{subjectId}/capacity")
+@Cqrs(DatabaseRole.WRITE)
+public class SetVolumeCapacityController {
+
+    private final SetVolumeCapacityUseCase setVolumeCapacityUseCase;
+    private final DefaultRestPresenter defaultRestPresenter;
+    private final RestUseCaseExecutor restUseCaseExecutor;
+
+    public SetVolumeCapacityController(final SetVolumeCapacityUseCase setVolumeCapacityUseCase,
+                                       final DefaultRestPresenter defaultRestPresenter,
+                                       final RestUseCaseExecutor restUseCaseExecutor) {
+        this.setVolumeCapacityUseCase = setVolumeCapacityUseCase;
+        this.defaultRestPresenter = defaultRestPresenter;
+        this.restUseCaseExecutor = restUseCaseExecutor;
+    }
+
+    @PutMapping("/{granularity}")
+    public Object set(@PathVariable final String scope,
+                      @PathVariable final UUID subjectId,
+                      @PathVariable final String granularity,
+                      @RequestBody final SetVolumeCapacityDTO dto) {
+        return restUseCaseExecutor
+                .from(setVolumeCapacityUseCase)
+                .withInput(dto.toInput(scope, subjectId, granularity))
+                .presentWith(output -> defaultRestPresenter.present(output, HttpStatus.OK.value()))
+                .execute();
+    }
+}
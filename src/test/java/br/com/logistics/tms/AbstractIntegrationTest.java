@@ -83,8 +83,7 @@ public abstract class AbstractIntegrationTest extends AbstractTestBase {
         shipmentOrderFixture = new ShipmentOrderIntegrationFixture(
                 mockMvc,
                 objectMapper,
-                shipmentOrderOutboxJpaRepository,
-                companyJpaRepository
+                shipmentOrderOutboxJpaRepository
         );
 
         agreementFixture = new AgreementIntegrationFixture(
@@ -8,6 +8,8 @@ import com.tngtech.archunit.lang.syntax.ArchRuleDefinition;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import static com.tngtech.archunit.core.domain.JavaClass.Predicates.resideInAPackage;
+import static com.tngtech.archunit.core.domain.JavaClass.Predicates.resideOutsideOfPackage;
 import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.noClasses;
 
 /**
@@ -16,6 +18,8 @@ import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.noClasses;
  * Module Rules:
  * - Company module and ShipmentOrder module must NOT call each other directly
  * - Modules communicate ONLY via events (listeners + DTOs)
+ * - Quotation may call the Company SPI, and no module depends on Quotation
+ * - VolumeTracking only consumes events, and no module depends on VolumeTracking
  * - Commons module can be accessed by all modules
  */
 class ModuleIsolationTest {
@@ -69,12 +73,54 @@ class ModuleIsolationTest {
         shipmentOrderRule.check(classes);
     }
 
+    @Test
+    void quotationModuleShouldOnlyReachCompanyThroughItsSpi() {
+        final ArchRule rule = noClasses()
+                .that().resideInAPackage("..quotation..")
+                .should().dependOnClassesThat(resideInAPackage("..company..")
+                        .and(resideOutsideOfPackage("..company.infrastructure.spi..")))
+                .orShould().dependOnClassesThat().resideInAPackage("..shipmentorder..")
+                .because("Quotation may only use the company SPI and must not depend on ShipmentOrder");
+
+        rule.check(classes);
+    }
+
+    @Test
+    void otherModulesShouldNotDependOnQuotationModule() {
+        final ArchRule rule = noClasses()
+                .that().resideInAnyPackage("..company..", "..shipmentorder..")
+                .should().dependOnClassesThat().resideInAPackage("..quotation..")
+                .because("Quotation consumes other modules, never the other way around");
+
+        rule.check(classes);
+    }
+
+    @Test
+    void volumeTrackingModuleShouldOnlyConsumeEvents() {
+        final ArchRule rule = noClasses()
+                .that().resideInAPackage("..volumetracking..")
+                .should().dependOnClassesThat().resideInAnyPackage("..company..", "..shipmentorder..", "..quotation..")
+                .because("VolumeTracking learns about other modules only through their events");
+
+        rule.check(classes);
+    }
+
+    @Test
+    void otherModulesShouldNotDependOnVolumeTrackingModule() {
+        final ArchRule rule = noClasses()
+                .that().resideInAnyPackage("..company..", "..shipmentorder..", "..quotation..")
+                .should().dependOnClassesThat().resideInAPackage("..volumetracking..")
+                .because("VolumeTracking consumes other modules, never the other way around");
+
+        rule.check(classes);
+    }
+
     @Test
     void commonsModuleMayBeAccessedByAllModulesAndCantDependeOnIt() {
         ArchRule rule = ArchRuleDefinition.noClasses()
                 .that().resideInAPackage("..commons..")
                 .should().dependOnClassesThat()
-                .resideInAnyPackage("..company..", "..shipmentorder..")
+                .resideInAnyPackage("..company..", "..shipmentorder..", "..quotation..", "..volumetracking..")
                 .because("Commons must not depend on specific modules");
 
         rule.check(classes);
@@ -1,5 +1,6 @@
 package br.com.logistics.tms.assertions.jpa;
 
+import br.com.logistics.tms.company.domain.Cnpj;
 import br.com.logistics.tms.company.domain.CompanyType;
 import br.com.logistics.tms.company.infrastructure.jpa.entities.CompanyEntity;
 import org.assertj.core.api.AbstractAssert;
@@ -30,7 +31,7 @@ public class CompanyEntityAssert extends AbstractAssert<CompanyEntityAssert, Com
         isNotNull();
         assertThat(actual.getCnpj())
                 .as("Company CNPJ")
-                .isEqualTo(cnpj);
+                .isEqualTo(Cnpj.with(cnpj).number());
         return this;
     }
 
@@ -67,25 +68,6 @@ public class CompanyEntityAssert extends AbstractAssert<CompanyEntityAssert, Com
         return this;
     }
 
-    public CompanyEntityAssert hasShipmentOrderCount(final int count) {
-        isNotNull();
-        assertThat(actual.getConfiguration())
-                .as("Company configuration")
-                .isNotNull();
-        
-        final Object orderNumber = actual.getConfiguration().get("shipmentOrderNumber");
-        assertThat(orderNumber)
-                .as("Shipment order number")
-                .isNotNull();
-        
-        final int actualCount = Integer.parseInt(orderNumber.toString());
-        assertThat(actualCount)
-                .as("Shipment order count")
-                .isEqualTo(count);
-        
-        return this;
-    }
-
     public CompanyEntityAssert hasStatus(final Character status) {
         isNotNull();
         assertThat(actual.getStatus())
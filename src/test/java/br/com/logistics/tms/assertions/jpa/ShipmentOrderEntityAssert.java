@@ -42,6 +42,14 @@ public class ShipmentOrderEntityAssert extends AbstractAssert<ShipmentOrderEntit
         return this;
     }
 
+    public ShipmentOrderEntityAssert hasOrderNumber(final long orderNumber) {
+        isNotNull();
+        assertThat(actual.getOrderNumber())
+                .as("ShipmentOrder orderNumber")
+                .isEqualTo(orderNumber);
+        return this;
+    }
+
     public ShipmentOrderEntityAssert isNotArchived() {
         isNotNull();
         assertThat(actual.isArchived())
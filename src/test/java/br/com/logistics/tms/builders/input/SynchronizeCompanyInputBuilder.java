@@ -2,12 +2,14 @@ package br.com.logistics.tms.builders.input;
 
 import br.com.logistics.tms.shipmentorder.application.usecases.SynchronizeCompanyUseCase;
 
+import java.time.Instant;
 import java.util.*;
 
 public class SynchronizeCompanyInputBuilder {
 
     private UUID companyId = UUID.randomUUID();
     private Map<String, Object> data = new HashMap<>();
+    private Instant occurredOn = Instant.now();
 
     public static SynchronizeCompanyInputBuilder anInput() {
         return new SynchronizeCompanyInputBuilder();
@@ -50,7 +52,12 @@ public class SynchronizeCompanyInputBuilder {
         return this;
     }
 
+    public SynchronizeCompanyInputBuilder withOccurredOn(final Instant occurredOn) {
+        this.occurredOn = occurredOn;
+        return this;
+    }
+
     public SynchronizeCompanyUseCase.Input build() {
-        return new SynchronizeCompanyUseCase.Input(companyId, data);
+        return new SynchronizeCompanyUseCase.Input(companyId, data, occurredOn);
     }
 }
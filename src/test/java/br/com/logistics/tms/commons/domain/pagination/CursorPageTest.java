@@ -0,0 +1,48 @@
+package br.com.logistics.tms.commons.domain.pagination;
+
+import br.com.logistics.tms.AbstractTestBase;
+import br.com.logistics.tms.commons.domain.Id;
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorPageTest extends AbstractTestBase {
+
+    @Test
+    @DisplayName("Should round-trip cursor through its opaque token")
+    void shouldRoundTripCursorThroughToken() {
+        final Cursor cursor = new Cursor(Instant.parse("2025-03-01T10:15:30.123456Z"), Id.unique());
+
+        assertThat(Cursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("Should reject malformed cursor token")
+    void shouldRejectMalformedToken() {
+        assertThatThrownBy(() -> Cursor.decode("not-a-cursor"))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("Invalid cursor");
+    }
+
+    @Test
+    @DisplayName("Should expose next cursor only when more rows than the page size were fetched")
+    void shouldExposeNextCursorOnlyWhenMoreRowsExist() {
+        final List<Cursor> fetched = List.of(
+                new Cursor(Instant.parse("2025-03-03T00:00:00Z"), Id.unique()),
+                new Cursor(Instant.parse("2025-03-02T00:00:00Z"), Id.unique()),
+                new Cursor(Instant.parse("2025-03-01T00:00:00Z"), Id.unique()));
+
+        final CursorPage<Cursor> page = CursorPage.of(fetched, 2, c -> c, null);
+        final CursorPage<Cursor> last = CursorPage.of(fetched, 3, c -> c, null);
+
+        assertThat(page.content()).containsExactly(fetched.get(0), fetched.get(1));
+        assertThat(page.nextCursor()).isEqualTo(fetched.get(1));
+        assertThat(last.hasNext()).isFalse();
+    }
+}
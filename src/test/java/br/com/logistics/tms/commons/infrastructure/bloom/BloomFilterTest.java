@@ -0,0 +1,42 @@
+package br.com.logistics.tms.commons.infrastructure.bloom;
+
+import br.com.logistics.tms.AbstractTestBase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BloomFilterTest extends AbstractTestBase {
+
+    @Test
+    @DisplayName("Should never report an inserted value as absent")
+    void shouldNeverReportInsertedValueAsAbsent() {
+        final BloomFilter filter = new BloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.put("order-" + i));
+
+        assertThat(IntStream.range(0, 10_000).allMatch(i -> filter.mightContain("order-" + i))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should keep false positive rate close to the configured one")
+    void shouldKeepFalsePositiveRateCloseToConfigured() {
+        final BloomFilter filter = new BloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.put("order-" + i));
+
+        final long falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> filter.mightContain("other-" + i))
+                .count();
+
+        assertThat(falsePositives).isLessThan(2_000);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid sizing parameters")
+    void shouldRejectInvalidSizing() {
+        assertThatThrownBy(() -> new BloomFilter(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BloomFilter(100, 1.0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,86 @@
+package br.com.logistics.tms.commons.infrastructure.cache;
+
+import br.com.logistics.tms.AbstractTestBase;
+import br.com.logistics.tms.commons.application.usecases.UseCaseInterceptor;
+import br.com.logistics.tms.commons.infrastructure.telemetry.FakeCounterable;
+import br.com.logistics.tms.commons.infrastructure.usecases.Lookups;
+import br.com.logistics.tms.commons.infrastructure.usecases.Lookups.Input;
+import br.com.logistics.tms.commons.infrastructure.usecases.Lookups.Lookup;
+import br.com.logistics.tms.commons.infrastructure.usecases.Lookups.Output;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UseCaseResultCacheTest extends AbstractTestBase {
+
+    private FakeCounterable counterable;
+    private UseCaseResultCache useCaseResultCache;
+
+    @BeforeEach
+    void setUp() {
+        counterable = new FakeCounterable();
+        useCaseResultCache = new UseCaseResultCache(counterable);
+    }
+
+    @Test
+    @DisplayName("Should serve repeated inputs from cache and count hits and misses")
+    void shouldServeRepeatedInputsFromCache() {
+        final Lookup useCase = new Lookup();
+        final UUID companyId = UUID.randomUUID();
+
+        execute(useCase, companyId);
+        execute(useCase, companyId);
+        execute(useCase, UUID.randomUUID());
+
+        assertThat(useCase.executions()).isEqualTo(2);
+        assertThat(counterable.valueOf("usecase.cache.hits")).isEqualTo(1);
+        assertThat(counterable.valueOf("usecase.cache.misses")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should invalidate only entries whose input references the given ids")
+    void shouldInvalidateEntriesByReferencedIds() {
+        final Lookup useCase = new Lookup();
+        final UUID changed = UUID.randomUUID();
+        final UUID untouched = UUID.randomUUID();
+        execute(useCase, changed);
+        execute(useCase, untouched);
+
+        useCaseResultCache.invalidate("test", List.of(changed));
+        execute(useCase, changed);
+        execute(useCase, untouched);
+
+        assertThat(useCase.executions()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should ignore invalidations for other regions")
+    void shouldIgnoreOtherRegions() {
+        final Lookup useCase = new Lookup();
+        final UUID companyId = UUID.randomUUID();
+        execute(useCase, companyId);
+
+        useCaseResultCache.invalidate("other", List.of(companyId));
+        execute(useCase, companyId);
+
+        assertThat(useCase.executions()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not cache use cases without the annotation or outside the read role")
+    void shouldNotCacheUnannotatedOrWriteLookups() {
+        assertThat(useCaseResultCache.interceptorFor(new Lookups.PlainLookup())).isEmpty();
+        assertThat(useCaseResultCache.interceptorFor(new Lookups.WriteLookup())).isEmpty();
+    }
+
+    private Output execute(final Lookup useCase, final UUID companyId) {
+        final Input input = new Input(companyId);
+        final UseCaseInterceptor interceptor = useCaseResultCache.interceptorFor(useCase).orElseThrow();
+        return interceptor.interceptExecution(input, () -> useCase.execute(input));
+    }
+}
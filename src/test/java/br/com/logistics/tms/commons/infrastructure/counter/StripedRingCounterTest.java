@@ -0,0 +1,89 @@
+package br.com.logistics.tms.commons.infrastructure.counter;
+
+import br.com.logistics.tms.AbstractTestBase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StripedRingCounterTest extends AbstractTestBase {
+
+    @Test
+    @DisplayName("Should count each bucket and reset it on drain")
+    void shouldCountBucketsAndResetOnDrain() {
+        final StripedRingCounter counter = new StripedRingCounter(4, 2);
+        counter.increment(100);
+        counter.increment(100);
+        counter.increment(101);
+
+        assertThat(drain(counter)).containsExactlyInAnyOrderEntriesOf(Map.of(100L, 2L, 101L, 1L));
+        assertThat(drain(counter)).isEmpty();
+
+        counter.increment(101);
+        assertThat(drain(counter)).containsExactlyInAnyOrderEntriesOf(Map.of(101L, 1L));
+    }
+
+    @Test
+    @DisplayName("Should keep counts for buckets whose slot is still taken by an undrained bucket")
+    void shouldKeepCountsWhenSlotIsTaken() {
+        final StripedRingCounter counter = new StripedRingCounter(2, 1);
+        counter.increment(10);
+        counter.increment(12);
+        counter.increment(8);
+        counter.add(10, 5);
+
+        assertThat(drain(counter)).containsExactlyInAnyOrderEntriesOf(Map.of(10L, 6L, 12L, 1L, 8L, 1L));
+
+        counter.increment(12);
+        assertThat(drain(counter)).containsExactlyInAnyOrderEntriesOf(Map.of(12L, 1L));
+    }
+
+    @Test
+    @DisplayName("Should not lose increments made while other threads drain")
+    void shouldNotLoseConcurrentIncrements() throws InterruptedException {
+        final StripedRingCounter counter = new StripedRingCounter(4, 4);
+        final Map<Long, Long> totals = new HashMap<>();
+        final int threads = 8;
+        final int increments = 50_000;
+        final CountDownLatch done = new CountDownLatch(threads);
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < increments; i++) {
+                    counter.increment(i % 7);
+                }
+                done.countDown();
+            });
+        }
+
+        while (!done.await(1, TimeUnit.MILLISECONDS)) {
+            counter.drain((bucket, count) -> totals.merge(bucket, count, Long::sum));
+        }
+        counter.drain((bucket, count) -> totals.merge(bucket, count, Long::sum));
+        executor.shutdown();
+
+        assertThat(totals.values().stream().mapToLong(Long::longValue).sum()).isEqualTo((long) threads * increments);
+        assertThat(totals).hasSize(7);
+    }
+
+    @Test
+    @DisplayName("Should reject stripe counts that are not powers of two")
+    void shouldRejectInvalidStripes() {
+        assertThatThrownBy(() -> new StripedRingCounter(4, 3)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new StripedRingCounter(0, 2)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Map<Long, Long> drain(final StripedRingCounter counter) {
+        final Map<Long, Long> drained = new HashMap<>();
+        counter.drain(drained::put);
+        return drained;
+    }
+}
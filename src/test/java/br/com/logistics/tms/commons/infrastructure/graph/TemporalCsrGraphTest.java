@@ -0,0 +1,66 @@
+package br.com.logistics.tms.commons.infrastructure.graph;
+
+import br.com.logistics.tms.AbstractTestBase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TemporalCsrGraphTest extends AbstractTestBase {
+
+    private static final long OPEN = TemporalCsrGraph.OPEN_ENDED;
+
+    @Test
+    @DisplayName("Should keep each node's edges grouped by label")
+    void shouldGroupEdgesByNodeAndLabel() {
+        final TemporalCsrGraph graph = TemporalCsrGraph.builder(2)
+                .add(2, 0, 0, 10, 0, OPEN)
+                .add(0, 1, 0, 11, 0, OPEN)
+                .add(0, 2, 1, 12, 0, OPEN)
+                .add(0, 3, 0, 13, 0, OPEN)
+                .build(4);
+
+        assertThat(targets(graph, 0, 0, 5)).containsExactly(1, 3);
+        assertThat(targets(graph, 0, 1, 5)).containsExactly(2);
+        assertThat(targets(graph, 2, 0, 5)).containsExactly(0);
+        assertThat(targets(graph, 1, 0, 5)).isEmpty();
+        assertThat(graph.edgeCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should only visit edges valid at the given instant, excluding the end")
+    void shouldFilterByValidity() {
+        final TemporalCsrGraph graph = TemporalCsrGraph.builder(1)
+                .add(0, 1, 0, 1, 10, 20)
+                .add(0, 2, 0, 2, 15, OPEN)
+                .build(3);
+
+        assertThat(targets(graph, 0, 0, 9)).isEmpty();
+        assertThat(targets(graph, 0, 0, 10)).containsExactly(1);
+        assertThat(targets(graph, 0, 0, 19)).containsExactly(1, 2);
+        assertThat(targets(graph, 0, 0, 20)).containsExactly(2);
+    }
+
+    @Test
+    @DisplayName("Should size the graph to cover every referenced node and ignore unknown ones")
+    void shouldCoverReferencedNodes() {
+        final TemporalCsrGraph graph = TemporalCsrGraph.builder(1)
+                .add(0, 40, 0, 1, 0, OPEN)
+                .build(2);
+
+        assertThat(graph.nodeCount()).isEqualTo(41);
+        assertThat(targets(graph, 99, 0, 0)).isEmpty();
+        assertThatThrownBy(() -> TemporalCsrGraph.builder(1).add(0, 1, 1, 1, 0, OPEN))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<Integer> targets(final TemporalCsrGraph graph, final int node, final int label, final long at) {
+        final List<Integer> targets = new ArrayList<>();
+        graph.forEachEdge(node, label, at, (edgeId, target) -> targets.add(target));
+        return targets;
+    }
+}
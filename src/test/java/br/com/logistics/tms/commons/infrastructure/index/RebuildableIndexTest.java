@@ -0,0 +1,53 @@
+package br.com.logistics.tms.commons.infrastructure.index;
+
+import br.com.logistics.tms.AbstractTestBase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RebuildableIndexTest extends AbstractTestBase {
+
+    @Test
+    @DisplayName("Should have nothing published before the first rebuild")
+    void shouldStartUnpublished() {
+        final RebuildableIndex<List<String>> index = new RebuildableIndex<>();
+
+        index.apply(values -> values.add("dropped"));
+
+        assertThat(index.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should replay changes applied while a rebuild loads its snapshot")
+    void shouldReplayChangesAppliedDuringRebuild() {
+        final RebuildableIndex<List<String>> index = new RebuildableIndex<>();
+
+        final List<String> rebuilt = index.rebuild(() -> {
+            index.apply(values -> values.add("during"));
+            return new ArrayList<>(List.of("snapshot"));
+        });
+
+        assertThat(index.current()).isSameAs(rebuilt).containsExactly("snapshot", "during");
+    }
+
+    @Test
+    @DisplayName("Should apply changes to the published index and keep it when a rebuild fails")
+    void shouldKeepPublishedIndexWhenRebuildFails() {
+        final RebuildableIndex<List<String>> index = new RebuildableIndex<>();
+        final List<String> published = index.rebuild(ArrayList::new);
+
+        assertThatThrownBy(() -> index.rebuild(() -> {
+            throw new IllegalStateException("database down");
+        })).isInstanceOf(IllegalStateException.class);
+        index.apply(values -> values.add("after"));
+        final List<String> next = index.rebuild(ArrayList::new);
+
+        assertThat(published).containsExactly("after");
+        assertThat(next).isEmpty();
+    }
+}
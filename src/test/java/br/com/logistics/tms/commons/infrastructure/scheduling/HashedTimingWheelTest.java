@@ -0,0 +1,76 @@
+package br.com.logistics.tms.commons.infrastructure.scheduling;
+
+import br.com.logistics.tms.AbstractTestBase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HashedTimingWheelTest extends AbstractTestBase {
+
+    private static final Instant START = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Test
+    @DisplayName("Should fire keys only once their deadline tick is reached")
+    void shouldFireKeysAtTheirDeadline() {
+        final HashedTimingWheel<String> wheel = new HashedTimingWheel<>(Duration.ofSeconds(1), 8);
+        wheel.advance(START);
+        wheel.schedule("a", START.plusSeconds(2));
+        wheel.schedule("b", START.plusSeconds(5));
+
+        assertThat(wheel.advance(START.plusSeconds(1))).isEmpty();
+        assertThat(wheel.advance(START.plusSeconds(3))).containsExactly("a");
+        assertThat(wheel.advance(START.plusSeconds(5))).containsExactly("b");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep deadlines beyond one rotation until their own tick")
+    void shouldKeepDeadlinesBeyondOneRotation() {
+        final HashedTimingWheel<String> wheel = new HashedTimingWheel<>(Duration.ofSeconds(1), 4);
+        wheel.advance(START);
+        wheel.schedule("far", START.plusSeconds(10));
+
+        for (int second = 1; second < 10; second++) {
+            assertThat(wheel.advance(START.plusSeconds(second))).isEmpty();
+        }
+        assertThat(wheel.advance(START.plusSeconds(10))).containsExactly("far");
+    }
+
+    @Test
+    @DisplayName("Should fire past deadlines on the next advance and catch up after a long pause")
+    void shouldFirePastDeadlinesAndCatchUp() {
+        final HashedTimingWheel<String> wheel = new HashedTimingWheel<>(Duration.ofSeconds(1), 4);
+        wheel.advance(START.plusSeconds(5));
+        wheel.schedule("late", START);
+        wheel.schedule("soon", START.plusSeconds(7));
+
+        assertThat(wheel.advance(START.plusSeconds(6))).containsExactly("late");
+        assertThat(wheel.advance(START.plusSeconds(60))).containsExactly("soon");
+    }
+
+    @Test
+    @DisplayName("Should honour only the latest deadline of a rescheduled or cancelled key")
+    void shouldHonourLatestDeadline() {
+        final HashedTimingWheel<String> wheel = new HashedTimingWheel<>(Duration.ofSeconds(1), 8);
+        wheel.advance(START);
+        wheel.schedule("moved", START.plusSeconds(2));
+        wheel.schedule("moved", START.plusSeconds(4));
+        wheel.schedule("cancelled", START.plusSeconds(2));
+        wheel.cancel("cancelled");
+
+        assertThat(wheel.advance(START.plusSeconds(3))).isEmpty();
+        assertThat(wheel.advance(START.plusSeconds(4))).containsExactly("moved");
+    }
+
+    @Test
+    @DisplayName("Should reject invalid sizing parameters")
+    void shouldRejectInvalidSizing() {
+        assertThatThrownBy(() -> new HashedTimingWheel<>(Duration.ZERO, 8)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HashedTimingWheel<>(Duration.ofSeconds(1), 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
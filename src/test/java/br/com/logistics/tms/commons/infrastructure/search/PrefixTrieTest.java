@@ -0,0 +1,64 @@
+package br.com.logistics.tms.commons.infrastructure.search;
+
+import br.com.logistics.tms.AbstractTestBase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrefixTrieTest extends AbstractTestBase {
+
+    @Test
+    @DisplayName("Should find values by normalized prefix in key order")
+    void shouldFindValuesByPrefixInKeyOrder() {
+        final PrefixTrie<String> trie = new PrefixTrie<>();
+        trie.put("Transportes São João", "c");
+        trie.put("Transportadora Acme", "a");
+        trie.put("TRANSPORTES-BETA", "b");
+        trie.put("Logística Norte", "d");
+
+        assertThat(trie.findByPrefix("transp", 10)).containsExactly("a", "b", "c");
+        assertThat(trie.findByPrefix("Transportes Sao", 10)).containsExactly("c");
+        assertThat(trie.findByPrefix("logistica", 10)).containsExactly("d");
+        assertThat(trie.findByPrefix("transportex", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should stop collecting once the limit is reached")
+    void shouldRespectLimit() {
+        final PrefixTrie<Integer> trie = new PrefixTrie<>();
+        for (int i = 0; i < 100; i++) {
+            trie.put("company " + i, i);
+        }
+
+        assertThat(trie.findByPrefix("company", 5)).hasSize(5);
+        assertThat(trie.size()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("Should remove values and keep sibling keys reachable")
+    void shouldRemoveValuesAndKeepSiblings() {
+        final PrefixTrie<String> trie = new PrefixTrie<>();
+        trie.put("acme", "a");
+        trie.put("acme logistics", "b");
+        trie.put("acme transport", "c");
+
+        trie.remove("acme logistics", "b");
+        trie.remove("acme", "a");
+
+        assertThat(trie.findByPrefix("acme", 10)).containsExactly("c");
+        assertThat(trie.findByPrefix("acme l", 10)).isEmpty();
+        assertThat(trie.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should ignore keys that normalize to nothing")
+    void shouldIgnoreEmptyKeys() {
+        final PrefixTrie<String> trie = new PrefixTrie<>();
+        trie.put(" -- ", "x");
+        trie.put("acme", "a");
+
+        assertThat(trie.findByPrefix("", 10)).containsExactly("a");
+        assertThat(trie.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,35 @@
+package br.com.logistics.tms.commons.infrastructure.telemetry;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class FakeCounterable implements Counterable {
+
+    private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+
+    @Override
+    public MetricCounter createLongCounter(final String name, final String description) {
+        return counter(name);
+    }
+
+    @Override
+    public MetricCounter createDoubleCounter(final String name, final String description) {
+        return counter(name);
+    }
+
+    public long valueOf(final String name) {
+        final AtomicLong counter = counters.get(name);
+        return counter == null ? 0 : counter.get();
+    }
+
+    private MetricCounter counter(final String name) {
+        final AtomicLong counter = counters.computeIfAbsent(name, key -> new AtomicLong());
+        return new MetricCounter() {
+            @Override
+            public <T extends Number> void add(final T value, final Map<String, String> attributes) {
+                counter.addAndGet(value.longValue());
+            }
+        };
+    }
+}
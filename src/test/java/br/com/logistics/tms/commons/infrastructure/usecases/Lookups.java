@@ -0,0 +1,81 @@
+package br.com.logistics.tms.commons.infrastructure.usecases;
+
+import br.com.logistics.tms.commons.application.annotation.Cqrs;
+import br.com.logistics.tms.commons.application.annotation.DatabaseRole;
+import br.com.logistics.tms.commons.application.annotation.SingleFlight;
+import br.com.logistics.tms.commons.application.annotation.UseCaseCache;
+import br.com.logistics.tms.commons.application.usecases.UseCase;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class Lookups {
+
+    private Lookups() {
+    }
+
+    public record Input(UUID companyId) {
+    }
+
+    public record Output(UUID companyId, int execution) {
+    }
+
+    @Cqrs(DatabaseRole.READ)
+    @UseCaseCache(region = "test")
+    @SingleFlight
+    public static class Lookup implements UseCase<Input, Output> {
+
+        private final AtomicInteger executions = new AtomicInteger();
+        private final CountDownLatch release;
+
+        public Lookup() {
+            this(new CountDownLatch(0));
+        }
+
+        public Lookup(final CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public Output execute(final Input input) {
+            final int execution = executions.incrementAndGet();
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new Output(input.companyId(), execution);
+        }
+
+        public int executions() {
+            return executions.get();
+        }
+    }
+
+    @Cqrs(DatabaseRole.READ)
+    public static class PlainLookup implements UseCase<Input, Output> {
+
+        private final AtomicInteger executions = new AtomicInteger();
+
+        @Override
+        public Output execute(final Input input) {
+            return new Output(input.companyId(), executions.incrementAndGet());
+        }
+
+        public int executions() {
+            return executions.get();
+        }
+    }
+
+    @Cqrs(DatabaseRole.WRITE)
+    @UseCaseCache(region = "test")
+    @SingleFlight
+    public static class WriteLookup implements UseCase<Input, Output> {
+
+        @Override
+        public Output execute(final Input input) {
+            return new Output(input.companyId(), 0);
+        }
+    }
+}
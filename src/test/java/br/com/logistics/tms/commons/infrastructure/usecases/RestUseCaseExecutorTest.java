@@ -0,0 +1,140 @@
+package br.com.logistics.tms.commons.infrastructure.usecases;
+
+import br.com.logistics.tms.AbstractTestBase;
+import br.com.logistics.tms.commons.application.mapper.Mapper;
+import br.com.logistics.tms.commons.application.usecases.UseCaseInterceptor;
+import br.com.logistics.tms.commons.application.usecases.UseCaseMapperProvider;
+import br.com.logistics.tms.commons.infrastructure.cache.UseCaseResultCache;
+import br.com.logistics.tms.commons.infrastructure.database.transaction.TransactionContextHolder;
+import br.com.logistics.tms.commons.infrastructure.database.transaction.Transactional;
+import br.com.logistics.tms.commons.infrastructure.presenters.rest.DefaultRestPresenter;
+import br.com.logistics.tms.commons.infrastructure.telemetry.FakeCounterable;
+import br.com.logistics.tms.commons.infrastructure.telemetry.log.Slf4jLoggerAdapter;
+import br.com.logistics.tms.commons.infrastructure.usecases.Lookups.Input;
+import br.com.logistics.tms.commons.infrastructure.usecases.Lookups.Lookup;
+import br.com.logistics.tms.commons.infrastructure.usecases.Lookups.Output;
+import br.com.logistics.tms.commons.infrastructure.usecases.Lookups.PlainLookup;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RestUseCaseExecutorTest extends AbstractTestBase {
+
+    private FakeCounterable counterable;
+    private CountingTransactional transactional;
+    private RestUseCaseExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        UseCaseMapperProvider.setMapper(new Mapper() {
+            @Override
+            public <S, D> D map(final S source, final Class<D> clazz) {
+                return clazz.cast(source);
+            }
+        });
+        counterable = new FakeCounterable();
+        transactional = new CountingTransactional();
+        executor = new RestUseCaseExecutor(new DefaultRestPresenter(null), new Slf4jLoggerAdapter(), transactional,
+                new UseCaseResultCache(counterable), new UseCaseSingleFlight(counterable));
+    }
+
+    @Test
+    @DisplayName("Should serve cache hits without opening a transaction")
+    void shouldServeCacheHitsWithoutTransaction() {
+        final Lookup useCase = new Lookup();
+        final Input input = new Input(UUID.randomUUID());
+
+        final ResponseEntity<?> first = executor.from(useCase).withInput(input).execute();
+        final ResponseEntity<?> second = executor.from(useCase).withInput(input).execute();
+
+        assertThat(second.getBody()).isEqualTo(first.getBody());
+        assertThat(useCase.executions()).isEqualTo(1);
+        assertThat(transactional.transactions).containsExactly(true);
+    }
+
+    @Test
+    @DisplayName("Should let flight joiners wait without opening a transaction")
+    void shouldNotOpenTransactionsForFlightJoiners() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final Lookup useCase = new Lookup(release);
+        final Input input = new Input(UUID.randomUUID());
+        final int callers = 4;
+
+        final ExecutorService pool = Executors.newFixedThreadPool(callers);
+        try {
+            final List<Future<ResponseEntity<?>>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(pool.submit(() -> executor.from(useCase).withInput(input).<ResponseEntity<?>>execute()));
+            }
+
+            while (counterable.valueOf("usecase.singleflight.coalesced") < callers - 1) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            for (final Future<ResponseEntity<?>> result : results) {
+                assertThat(((Output) result.get(5, TimeUnit.SECONDS).getBody()).execution()).isEqualTo(1);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(transactional.transactions).containsExactly(true);
+    }
+
+    @Test
+    @DisplayName("Should run use cases without input-keyed interceptors in a transaction per call")
+    void shouldRunPlainUseCasesInTransaction() {
+        final PlainLookup useCase = new PlainLookup();
+        final Input input = new Input(UUID.randomUUID());
+
+        executor.from(useCase).withInput(input).execute();
+        executor.from(useCase).withInput(input).execute();
+
+        assertThat(useCase.executions()).isEqualTo(2);
+        assertThat(transactional.transactions).containsExactly(true, true);
+    }
+
+    private static final class CountingTransactional implements Transactional, UseCaseInterceptor {
+
+        private final List<Boolean> transactions = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void runWithinTransaction(final Runnable action) {
+            runWithinTransactionAndReturn(() -> {
+                action.run();
+                return null;
+            });
+        }
+
+        @Override
+        public void runWithinReadOnlyTransaction(final Runnable action) {
+            runWithinTransaction(action);
+        }
+
+        @Override
+        public <T> T runWithinTransactionAndReturn(final Supplier<T> action) {
+            transactions.add(TransactionContextHolder.isReadOnly());
+            return action.get();
+        }
+
+        @Override
+        public <T> T runWithinReadOnlyTransactionAndReturn(final Supplier<T> action) {
+            return runWithinTransactionAndReturn(action);
+        }
+
+        @Override
+        public <T> T intercept(final Supplier<T> next) {
+            return runWithinTransactionAndReturn(next);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package br.com.logistics.tms.commons.infrastructure.usecases;
+
+import br.com.logistics.tms.AbstractTestBase;
+import br.com.logistics.tms.commons.application.usecases.UseCaseInterceptor;
+import br.com.logistics.tms.commons.infrastructure.telemetry.FakeCounterable;
+import br.com.logistics.tms.commons.infrastructure.usecases.Lookups.Input;
+import br.com.logistics.tms.commons.infrastructure.usecases.Lookups.Lookup;
+import br.com.logistics.tms.commons.infrastructure.usecases.Lookups.Output;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UseCaseSingleFlightTest extends AbstractTestBase {
+
+    private FakeCounterable counterable;
+    private UseCaseSingleFlight singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        counterable = new FakeCounterable();
+        singleFlight = new UseCaseSingleFlight(counterable);
+    }
+
+    @Test
+    @DisplayName("Should share one execution between concurrent calls with equal input")
+    void shouldShareOneExecutionBetweenConcurrentCalls() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final Lookup useCase = new Lookup(release);
+        final Input input = new Input(UUID.randomUUID());
+        final int callers = 8;
+
+        final ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            final List<Future<Output>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> execute(useCase, input)));
+            }
+
+            while (counterable.valueOf("usecase.singleflight.coalesced") < callers - 1) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            for (final Future<Output> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS).execution()).isEqualTo(1);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(useCase.executions()).isEqualTo(1);
+        assertThat(counterable.valueOf("usecase.singleflight.executions")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not keep results once the flight has landed")
+    void shouldNotKeepResultsAfterFlight() {
+        final Lookup useCase = new Lookup();
+        final Input input = new Input(UUID.randomUUID());
+
+        execute(useCase, input);
+        execute(useCase, input);
+
+        assertThat(useCase.executions()).isEqualTo(2);
+        assertThat(counterable.valueOf("usecase.singleflight.coalesced")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should propagate the failure and allow a new flight afterwards")
+    void shouldPropagateFailureAndAllowNewFlight() {
+        final Input input = new Input(UUID.randomUUID());
+        final UseCaseInterceptor interceptor = singleFlight.interceptorFor(new Lookup()).orElseThrow();
+
+        assertThatThrownBy(() -> interceptor.interceptExecution(input, () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(interceptor.<String>interceptExecution(input, () -> "ok")).isEqualTo("ok");
+    }
+
+    @Test
+    @DisplayName("Should only coalesce read use cases that opt in")
+    void shouldOnlyCoalesceReadUseCasesThatOptIn() {
+        assertThat(singleFlight.interceptorFor(new Lookups.WriteLookup())).isEmpty();
+        assertThat(singleFlight.interceptorFor(new Lookups.PlainLookup())).isEmpty();
+    }
+
+    private Output execute(final Lookup useCase, final Input input) {
+        final UseCaseInterceptor interceptor = singleFlight.interceptorFor(useCase).orElseThrow();
+        return interceptor.interceptExecution(input, () -> useCase.execute(input));
+    }
+}
@@ -0,0 +1,42 @@
+package br.com.logistics.tms.company.application.repositories;
+
+import br.com.logistics.tms.company.domain.Agreement;
+import br.com.logistics.tms.company.domain.CompanyId;
+
+import java.time.Instant;
+import java.util.*;
+
+public class FakeAgreementGraphRepository implements AgreementGraphRepository {
+
+    private final List<Agreement> agreements = new ArrayList<>();
+
+    @Override
+    public List<CompanyId> traverse(final CompanyId start, final List<Hop> hops, final Instant at, final int limit) {
+        Set<CompanyId> frontier = Set.of(start);
+        for (final Hop hop : hops) {
+            final Set<CompanyId> next = new LinkedHashSet<>();
+            for (final Agreement agreement : agreements) {
+                if (!hop.types().contains(agreement.type()) || !isValidAt(agreement, at)) {
+                    continue;
+                }
+
+                if (hop.direction() == Direction.OUTBOUND && frontier.contains(agreement.from())) {
+                    next.add(agreement.to());
+                } else if (hop.direction() == Direction.INBOUND && frontier.contains(agreement.to())) {
+                    next.add(agreement.from());
+                }
+            }
+            frontier = next;
+        }
+
+        return frontier.stream().filter(companyId -> !companyId.equals(start)).limit(limit).toList();
+    }
+
+    private static boolean isValidAt(final Agreement agreement, final Instant at) {
+        return !agreement.validFrom().isAfter(at) && (agreement.validTo() == null || agreement.validTo().isAfter(at));
+    }
+
+    public void save(final Agreement agreement) {
+        agreements.add(agreement);
+    }
+}
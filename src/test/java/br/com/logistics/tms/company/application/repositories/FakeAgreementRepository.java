@@ -0,0 +1,73 @@
+package br.com.logistics.tms.company.application.repositories;
+
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
+import br.com.logistics.tms.company.domain.Agreement;
+import br.com.logistics.tms.company.domain.AgreementId;
+import br.com.logistics.tms.company.domain.CompanyId;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class FakeAgreementRepository implements AgreementRepository {
+
+    private final Map<AgreementId, Agreement> storage = new HashMap<>();
+
+    @Override
+    public Optional<Agreement> findById(final AgreementId agreementId) {
+        return Optional.ofNullable(storage.get(agreementId));
+    }
+
+    @Override
+    public List<AgreementBoundary> findBoundariesUntil(final Instant now, final Instant until, final int limit) {
+        return storage.values().stream()
+                .filter(agreement -> agreement.isActive()
+                        ? agreement.validTo() != null && !agreement.validTo().isAfter(until)
+                        : !agreement.validFrom().isAfter(until) && (agreement.validTo() == null || agreement.validTo().isAfter(now)))
+                .map(agreement -> new AgreementBoundary(
+                        agreement.agreementId(),
+                        agreement.isActive() ? agreement.validTo() : agreement.validFrom()))
+                .sorted(Comparator.comparing(AgreementBoundary::at))
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public Agreement create(final Agreement agreement) {
+        rejectOverlaps(agreement);
+        storage.put(agreement.agreementId(), agreement);
+        return agreement;
+    }
+
+    @Override
+    public Agreement update(final Agreement agreement) {
+        rejectOverlaps(agreement);
+        storage.put(agreement.agreementId(), agreement);
+        return agreement;
+    }
+
+    @Override
+    public void delete(final Agreement agreement) {
+        storage.remove(agreement.agreementId());
+    }
+
+    public List<Agreement> findBySource(final CompanyId source) {
+        return storage.values().stream()
+                .filter(agreement -> agreement.from().equals(source))
+                .toList();
+    }
+
+    // Mirrors the ex_agreement_overlap exclusion constraint
+    private void rejectOverlaps(final Agreement agreement) {
+        final boolean overlappingExists = storage.values().stream()
+                .filter(other -> !other.agreementId().equals(agreement.agreementId()))
+                .filter(other -> other.from().equals(agreement.from()))
+                .anyMatch(other -> other.overlapsWith(agreement));
+        if (overlappingExists) {
+            throw new ValidationException("Overlapping active agreement already exists");
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package br.com.logistics.tms.company.application.repositories;
+
+import br.com.logistics.tms.company.domain.Agreement;
+import br.com.logistics.tms.company.domain.AgreementId;
+import br.com.logistics.tms.company.domain.CompanyId;
+
+import java.util.*;
+
+public class FakeAgreementViewRepository implements AgreementViewRepository {
+
+    private final Map<UUID, AgreementView> storage = new TreeMap<>();
+    private final List<AgreementId> refreshed = new ArrayList<>();
+
+    @Override
+    public Optional<AgreementView> findById(final AgreementId agreementId) {
+        return Optional.ofNullable(storage.get(agreementId.value()));
+    }
+
+    @Override
+    public List<AgreementView> findBySource(final CompanyId source, final AgreementViewFilter filter, final int limit) {
+        return storage.values().stream()
+                .filter(view -> view.source().equals(source.value()))
+                .filter(view -> filter.type() == null || view.type() == filter.type())
+                .filter(view -> filter.destination() == null || view.destination().equals(filter.destination()))
+                .filter(view -> filter.active() == null || view.active() == filter.active())
+                .filter(view -> filter.validUntil() == null || !view.validFrom().isAfter(filter.validUntil()))
+                .filter(view -> filter.validFrom() == null || view.validTo() == null || !view.validTo().isBefore(filter.validFrom()))
+                .filter(view -> filter.after() == null || view.agreementId().compareTo(filter.after()) > 0)
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public List<AgreementView> findByDestination(final CompanyId destination, final InboundAgreementFilter filter, final int limit) {
+        return storage.values().stream()
+                .filter(view -> view.destination().equals(destination.value()))
+                .filter(view -> filter.type() == null || view.type() == filter.type())
+                .filter(view -> filter.active() == null || view.active() == filter.active())
+                .filter(view -> filter.after() == null || view.agreementId().compareTo(filter.after()) > 0)
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public void refresh(final AgreementId agreementId) {
+        refreshed.add(agreementId);
+    }
+
+    public void save(final Agreement agreement) {
+        storage.put(agreement.agreementId().value(), new AgreementView(
+                agreement.agreementId().value(),
+                agreement.from().value(),
+                agreement.to().value(),
+                agreement.type(),
+                agreement.validFrom(),
+                agreement.validTo(),
+                agreement.conditions().size(),
+                agreement.conditions(),
+                agreement.isActive()
+        ));
+    }
+
+    public List<AgreementId> refreshed() {
+        return List.copyOf(refreshed);
+    }
+}
@@ -0,0 +1,51 @@
+package br.com.logistics.tms.company.application.repositories;
+
+import br.com.logistics.tms.commons.domain.Status;
+import br.com.logistics.tms.commons.domain.pagination.Cursor;
+import br.com.logistics.tms.commons.domain.pagination.CursorPage;
+import br.com.logistics.tms.commons.domain.pagination.CursorPageRequest;
+import br.com.logistics.tms.company.domain.Cnpj;
+import br.com.logistics.tms.company.domain.CompanyId;
+import br.com.logistics.tms.company.domain.CompanyType;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+public class FakeCompanyListingRepository implements CompanyListingRepository {
+
+    private static final Comparator<CompanyListing> NEWEST_FIRST = Comparator
+            .comparing(CompanyListing::createdAt)
+            .thenComparing(company -> company.companyId().value())
+            .reversed();
+
+    private final List<CompanyListing> storage = new ArrayList<>();
+
+    @Override
+    public CursorPage<CompanyListing> findAll(final CompanyListingFilter filter, final CursorPageRequest pageRequest) {
+        final Cursor after = pageRequest.after();
+        final List<CompanyListing> fetched = storage.stream()
+                .filter(company -> company.status().equals(filter.status()))
+                .filter(company -> filter.type() == null || company.types().contains(filter.type()))
+                .filter(company -> filter.createdFrom() == null || !company.createdAt().isBefore(filter.createdFrom()))
+                .filter(company -> filter.createdTo() == null || company.createdAt().isBefore(filter.createdTo()))
+                .filter(company -> after == null || isBefore(company, after))
+                .sorted(NEWEST_FIRST)
+                .limit(pageRequest.size() + 1L)
+                .toList();
+
+        return CursorPage.of(fetched, pageRequest.size(),
+                company -> new Cursor(company.createdAt(), company.companyId().value()), null);
+    }
+
+    public void save(final String name, final String cnpj, final Status status, final Set<CompanyType> types, final Instant createdAt) {
+        storage.add(new CompanyListing(CompanyId.unique(), name, Cnpj.with(cnpj), status, types, createdAt));
+    }
+
+    private static boolean isBefore(final CompanyListing company, final Cursor after) {
+        final int byCreatedAt = company.createdAt().compareTo(after.position());
+        return byCreatedAt < 0 || byCreatedAt == 0 && company.companyId().value().compareTo(after.id()) < 0;
+    }
+}
@@ -1,9 +1,9 @@
 package br.com.logistics.tms.company.application.repositories;
 
-import br.com.logistics.tms.company.domain.AgreementId;
 import br.com.logistics.tms.company.domain.Cnpj;
 import br.com.logistics.tms.company.domain.Company;
 import br.com.logistics.tms.company.domain.CompanyId;
+import br.com.logistics.tms.company.domain.ConfigurationPatch;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -26,11 +26,8 @@ public class FakeCompanyRepository implements CompanyRepository {
     }
 
     @Override
-    public Optional<Company> findCompanyByAgreementId(final AgreementId agreementId) {
-        return storage.values().stream()
-                .filter(company -> company.getAgreements().stream()
-                        .anyMatch(agreement -> agreement.agreementId().equals(agreementId)))
-                .findFirst();
+    public boolean existsByCnpj(final Cnpj cnpj) {
+        return getCompanyByCnpj(cnpj).isPresent();
     }
 
     @Override
@@ -45,6 +42,12 @@ public class FakeCompanyRepository implements CompanyRepository {
         return company;
     }
 
+    @Override
+    public Company patchConfigurations(final Company company, final ConfigurationPatch patch) {
+        storage.put(company.getCompanyId(), company);
+        return company;
+    }
+
     @Override
     public void delete(final Company company) {
         storage.remove(company.getCompanyId());
@@ -0,0 +1,50 @@
+package br.com.logistics.tms.company.application.repositories;
+
+import br.com.logistics.tms.company.domain.Cnpj;
+import br.com.logistics.tms.company.domain.CompanyId;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+public class FakeCompanySearchRepository implements CompanySearchRepository {
+
+    private final Map<CompanyId, CompanySummary> storage = new LinkedHashMap<>();
+    private final List<String> databaseQueries = new ArrayList<>();
+
+    @Override
+    public List<CompanySummary> findByNamePrefix(final String prefix, final int limit) {
+        final String lower = prefix.toLowerCase(Locale.ROOT);
+        return find(company -> Arrays.stream(company.name().toLowerCase(Locale.ROOT).split(" "))
+                .anyMatch(word -> word.startsWith(lower)) || company.name().toLowerCase(Locale.ROOT).startsWith(lower), limit);
+    }
+
+    @Override
+    public List<CompanySummary> findByCnpjPrefix(final String digits, final int limit) {
+        return find(company -> String.format("%014d", company.cnpj().number()).startsWith(digits), limit);
+    }
+
+    @Override
+    public List<CompanySummary> searchByName(final String text, final int limit) {
+        databaseQueries.add(text);
+        final String lower = text.toLowerCase(Locale.ROOT);
+        return find(company -> company.name().toLowerCase(Locale.ROOT).contains(lower), limit);
+    }
+
+    @Override
+    public List<CompanySummary> searchByCnpj(final String digits, final int limit) {
+        databaseQueries.add(digits);
+        return find(company -> String.format("%014d", company.cnpj().number()).contains(digits), limit);
+    }
+
+    public void save(final CompanyId companyId, final String name, final String cnpj) {
+        storage.put(companyId, new CompanySummary(companyId, name, Cnpj.with(cnpj)));
+    }
+
+    public List<String> databaseQueries() {
+        return List.copyOf(databaseQueries);
+    }
+
+    private List<CompanySummary> find(final Predicate<CompanySummary> filter, final int limit) {
+        return storage.values().stream().filter(filter).limit(limit).toList();
+    }
+}
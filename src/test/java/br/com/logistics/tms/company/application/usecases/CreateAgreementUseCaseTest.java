@@ -2,6 +2,7 @@ package br.com.logistics.tms.company.application.usecases;
 
 import br.com.logistics.tms.builders.domain.company.AgreementBuilder;
 import br.com.logistics.tms.commons.domain.exception.ValidationException;
+import br.com.logistics.tms.company.application.repositories.FakeAgreementRepository;
 import br.com.logistics.tms.company.application.repositories.FakeCompanyRepository;
 import br.com.logistics.tms.company.domain.*;
 import br.com.logistics.tms.company.domain.exception.CompanyNotFoundException;
@@ -23,12 +24,14 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 class CreateAgreementUseCaseTest extends br.com.logistics.tms.AbstractTestBase {
 
     private FakeCompanyRepository companyRepository;
+    private FakeAgreementRepository agreementRepository;
     private CreateAgreementUseCase useCase;
 
     @BeforeEach
     void setUp() {
         companyRepository = new FakeCompanyRepository();
-        useCase = new CreateAgreementUseCase(companyRepository);
+        agreementRepository = new FakeAgreementRepository();
+        useCase = new CreateAgreementUseCase(companyRepository, agreementRepository);
     }
 
     @Test
@@ -36,13 +39,13 @@ class CreateAgreementUseCaseTest extends br.com.logistics.tms.AbstractTestBase {
     void shouldCreateAgreementBetweenTwoCompanies() {
         final Company sourceCompany = Company.createCompany(
                 "Shoppe Logistics",
-                "12.345.678/9012-34",
+                "12.345.678/0001-95",
                 Set.of(CompanyType.SELLER),
                 Map.of("region", "SP")
         );
         final Company destinationCompany = Company.createCompany(
                 "Loggi Transportes",
-                "98.765.432/1098-76",
+                "98.765.432/0001-98",
                 Set.of(CompanyType.LOGISTICS_PROVIDER),
                 Map.of("region", "SP")
         );
@@ -78,11 +81,10 @@ class CreateAgreementUseCaseTest extends br.com.logistics.tms.AbstractTestBase {
         assertThat(output.destinationCompanyId()).isEqualTo(destinationCompany.getCompanyId().value());
         assertThat(output.agreementType()).isEqualTo("DELIVERS_WITH");
 
-        final Company updatedCompany = companyRepository.getCompanyById(sourceCompany.getCompanyId())
+        assertThat(agreementRepository.findBySource(sourceCompany.getCompanyId())).hasSize(1);
+
+        final Agreement agreement = agreementRepository.findById(AgreementId.with(output.agreementId()))
                 .orElseThrow();
-        assertThat(updatedCompany.getAgreements()).hasSize(1);
-        
-        final Agreement agreement = updatedCompany.getAgreements().iterator().next();
         assertThatAgreement(agreement)
                 .hasFrom(sourceCompany.getCompanyId())
                 .hasTo(destinationCompany.getCompanyId())
@@ -95,13 +97,13 @@ class CreateAgreementUseCaseTest extends br.com.logistics.tms.AbstractTestBase {
     void shouldCreateAgreementWithoutConditions() {
         final Company sourceCompany = Company.createCompany(
                 "Company A",
-                "11.111.111/1111-11",
+                "11.111.111/0001-91",
                 Set.of(CompanyType.SELLER),
                 Map.of("test", "value")
         );
         final Company destinationCompany = Company.createCompany(
                 "Company B",
-                "22.222.222/2222-22",
+                "22.222.222/0001-91",
                 Set.of(CompanyType.LOGISTICS_PROVIDER),
                 Map.of("test", "value")
         );
@@ -122,9 +124,8 @@ class CreateAgreementUseCaseTest extends br.com.logistics.tms.AbstractTestBase {
 
         assertThat(output.agreementId()).isNotNull();
         
-        final Company updatedCompany = companyRepository.getCompanyById(sourceCompany.getCompanyId())
+        final Agreement agreement = agreementRepository.findById(AgreementId.with(output.agreementId()))
                 .orElseThrow();
-        final Agreement agreement = updatedCompany.getAgreements().iterator().next();
         assertThatAgreement(agreement).hasEmptyConditions();
     }
 
@@ -133,7 +134,7 @@ class CreateAgreementUseCaseTest extends br.com.logistics.tms.AbstractTestBase {
     void shouldFailWhenSourceCompanyNotFound() {
         final Company destinationCompany = Company.createCompany(
                 "Company B",
-                "22.222.222/2222-22",
+                "22.222.222/0001-91",
                 Set.of(CompanyType.LOGISTICS_PROVIDER),
                 Map.of("test", "value")
         );
@@ -159,7 +160,7 @@ class CreateAgreementUseCaseTest extends br.com.logistics.tms.AbstractTestBase {
     void shouldFailWhenDestinationCompanyNotFound() {
         final Company sourceCompany = Company.createCompany(
                 "Company A",
-                "11.111.111/1111-11",
+                "11.111.111/0001-91",
                 Set.of(CompanyType.SELLER),
                 Map.of("test", "value")
         );
@@ -185,7 +186,7 @@ class CreateAgreementUseCaseTest extends br.com.logistics.tms.AbstractTestBase {
     void shouldFailWhenCreatingSelfReferencingAgreement() {
         final Company company = Company.createCompany(
                 "Company A",
-                "11.111.111/1111-11",
+                "11.111.111/0001-91",
                 Set.of(CompanyType.SELLER),
                 Map.of("test", "value")
         );
@@ -211,13 +212,13 @@ class CreateAgreementUseCaseTest extends br.com.logistics.tms.AbstractTestBase {
     void shouldFailWhenCreatingDuplicateAgreement() {
         final Company sourceCompany = Company.createCompany(
                 "Company A",
-                "11.111.111/1111-11",
+                "11.111.111/0001-91",
                 Set.of(CompanyType.SELLER),
                 Map.of("test", "value")
         );
         final Company destinationCompany = Company.createCompany(
                 "Company B",
-                "22.222.222/2222-22",
+                "22.222.222/0001-91",
                 Set.of(CompanyType.LOGISTICS_PROVIDER),
                 Map.of("test", "value")
         );
@@ -229,8 +230,7 @@ class CreateAgreementUseCaseTest extends br.com.logistics.tms.AbstractTestBase {
                 .withTo(destinationCompany.getCompanyId())
                 .withType(AgreementType.DELIVERS_WITH)
                 .build();
-        final Company companyWithAgreement = sourceCompany.addAgreement(existingAgreement);
-        companyRepository.update(companyWithAgreement);
+        agreementRepository.create(existingAgreement);
 
         final CreateAgreementUseCase.Input input = new CreateAgreementUseCase.Input(
                 sourceCompany.getCompanyId().value(),
@@ -244,7 +244,7 @@ class CreateAgreementUseCaseTest extends br.com.logistics.tms.AbstractTestBase {
 
         assertThatThrownBy(() -> useCase.execute(input))
                 .isInstanceOf(ValidationException.class)
-                .hasMessageContaining("already exists");
+                .hasMessageContaining("Overlapping");
     }
 
     @Test
@@ -252,13 +252,13 @@ class CreateAgreementUseCaseTest extends br.com.logistics.tms.AbstractTestBase {
     void shouldFailWhenCreatingOverlappingAgreement() {
         final Company sourceCompany = Company.createCompany(
                 "Company A",
-                "11.111.111/1111-11",
+                "11.111.111/0001-91",
                 Set.of(CompanyType.SELLER),
                 Map.of("test", "value")
         );
         final Company destinationCompany = Company.createCompany(
                 "Company B",
-                "22.222.222/2222-22",
+                "22.222.222/0001-91",
                 Set.of(CompanyType.LOGISTICS_PROVIDER),
                 Map.of("test", "value")
         );
@@ -275,8 +275,7 @@ class CreateAgreementUseCaseTest extends br.com.logistics.tms.AbstractTestBase {
                 .withValidFrom(validFrom)
                 .withValidTo(validTo)
                 .build();
-        final Company companyWithAgreement = sourceCompany.addAgreement(existingAgreement);
-        companyRepository.update(companyWithAgreement);
+        agreementRepository.create(existingAgreement);
 
         final Instant overlappingValidFrom = validFrom.plus(180, ChronoUnit.DAYS);
         final CreateAgreementUseCase.Input input = new CreateAgreementUseCase.Input(
@@ -299,13 +298,13 @@ class CreateAgreementUseCaseTest extends br.com.logistics.tms.AbstractTestBase {
     void shouldCreateAgreementWithMultipleConditions() {
         final Company sourceCompany = Company.createCompany(
                 "Company A",
-                "11.111.111/1111-11",
+                "11.111.111/0001-91",
                 Set.of(CompanyType.SELLER),
                 Map.of("test", "value")
         );
         final Company destinationCompany = Company.createCompany(
                 "Company B",
-                "22.222.222/2222-22",
+                "22.222.222/0001-91",
                 Set.of(CompanyType.LOGISTICS_PROVIDER),
                 Map.of("test", "value")
         );
@@ -337,9 +336,8 @@ class CreateAgreementUseCaseTest extends br.com.logistics.tms.AbstractTestBase {
 
         final CreateAgreementUseCase.Output output = useCase.execute(input);
 
-        final Company updatedCompany = companyRepository.getCompanyById(sourceCompany.getCompanyId())
+        final Agreement agreement = agreementRepository.findById(AgreementId.with(output.agreementId()))
                 .orElseThrow();
-        final Agreement agreement = updatedCompany.getAgreements().iterator().next();
         assertThatAgreement(agreement).hasConditionsCount(2);
     }
 
@@ -348,13 +346,13 @@ class CreateAgreementUseCaseTest extends br.com.logistics.tms.AbstractTestBase {
     void shouldCreateOpenEndedAgreementWhenValidToIsNull() {
         final Company sourceCompany = Company.createCompany(
                 "Company A",
-                "11.111.111/1111-11",
+                "11.111.111/0001-91",
                 Set.of(CompanyType.SELLER),
                 Map.of("test", "value")
         );
         final Company destinationCompany = Company.createCompany(
                 "Company B",
-                "22.222.222/2222-22",
+                "22.222.222/0001-91",
                 Set.of(CompanyType.LOGISTICS_PROVIDER),
                 Map.of("test", "value")
         );
@@ -371,11 +369,10 @@ class CreateAgreementUseCaseTest extends br.com.logistics.tms.AbstractTestBase {
                 null
         );
 
-        useCase.execute(input);
+        final CreateAgreementUseCase.Output output = useCase.execute(input);
 
-        final Company updatedCompany = companyRepository.getCompanyById(sourceCompany.getCompanyId())
+        final Agreement agreement = agreementRepository.findById(AgreementId.with(output.agreementId()))
                 .orElseThrow();
-        final Agreement agreement = updatedCompany.getAgreements().iterator().next();
         assertThatAgreement(agreement).hasNoValidTo();
     }
 
@@ -384,13 +381,13 @@ class CreateAgreementUseCaseTest extends br.com.logistics.tms.AbstractTestBase {
     void shouldCreateAgreementWithFutureStartDate() {
         final Company sourceCompany = Company.createCompany(
                 "Company A",
-                "11.111.111/1111-11",
+                "11.111.111/0001-91",
                 Set.of(CompanyType.SELLER),
                 Map.of("test", "value")
         );
         final Company destinationCompany = Company.createCompany(
                 "Company B",
-                "22.222.222/2222-22",
+                "22.222.222/0001-91",
                 Set.of(CompanyType.LOGISTICS_PROVIDER),
                 Map.of("test", "value")
         );
@@ -408,11 +405,10 @@ class CreateAgreementUseCaseTest extends br.com.logistics.tms.AbstractTestBase {
                 null
         );
 
-        useCase.execute(input);
+        final CreateAgreementUseCase.Output output = useCase.execute(input);
 
-        final Company updatedCompany = companyRepository.getCompanyById(sourceCompany.getCompanyId())
+        final Agreement agreement = agreementRepository.findById(AgreementId.with(output.agreementId()))
                 .orElseThrow();
-        final Agreement agreement = updatedCompany.getAgreements().iterator().next();
         assertThatAgreement(agreement)
                 .hasValidFrom(futureValidFrom)
                 .isNotActive();
@@ -0,0 +1,90 @@
+package br.com.logistics.tms.company.application.usecases;
+
+import br.com.logistics.tms.AbstractTestBase;
+import br.com.logistics.tms.builders.domain.company.AgreementBuilder;
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
+import br.com.logistics.tms.company.application.repositories.FakeAgreementGraphRepository;
+import br.com.logistics.tms.company.domain.AgreementType;
+import br.com.logistics.tms.company.domain.CompanyId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FindReachableCompaniesUseCaseTest extends AbstractTestBase {
+
+    private FakeAgreementGraphRepository agreementGraphRepository;
+    private FindReachableCompaniesUseCase useCase;
+    private CompanyId seller;
+    private CompanyId marketplace;
+    private CompanyId carrier;
+    private CompanyId pudo;
+
+    @BeforeEach
+    void setUp() {
+        agreementGraphRepository = new FakeAgreementGraphRepository();
+        useCase = new FindReachableCompaniesUseCase(agreementGraphRepository);
+        seller = CompanyId.unique();
+        marketplace = CompanyId.unique();
+        carrier = CompanyId.unique();
+        pudo = CompanyId.unique();
+
+        agreementGraphRepository.save(AgreementBuilder.anAgreement().withFrom(seller).withTo(marketplace)
+                .withType(AgreementType.SELLS_ON).build());
+        agreementGraphRepository.save(AgreementBuilder.anAgreement().withFrom(marketplace).withTo(carrier)
+                .withType(AgreementType.DELIVERS_WITH).build());
+        agreementGraphRepository.save(AgreementBuilder.anAgreement().withFrom(pudo).withTo(carrier)
+                .withType(AgreementType.OFFERS_PICKUP).build());
+    }
+
+    @Test
+    @DisplayName("Should reach pickup points through the marketplace's carriers")
+    void shouldReachPickupPointsThroughCarriers() {
+        final FindReachableCompaniesUseCase.Output output = useCase.execute(new FindReachableCompaniesUseCase.Input(
+                seller.value(), List.of("SELLS_ON", "DELIVERS_WITH", "in:OFFERS_PICKUP"), null, null));
+
+        assertThat(output.companies()).containsExactly(pudo.value());
+        assertThat(output.truncated()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should only follow agreements valid at the requested instant")
+    void shouldOnlyFollowAgreementsValidAtInstant() {
+        final Instant past = Instant.now().minus(30, ChronoUnit.DAYS);
+
+        final FindReachableCompaniesUseCase.Output output = useCase.execute(new FindReachableCompaniesUseCase.Input(
+                seller.value(), List.of("SELLS_ON|OPERATES", "DELIVERS_WITH"), past, null));
+
+        assertThat(output.companies()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should flag answers cut by the limit")
+    void shouldFlagTruncatedAnswers() {
+        agreementGraphRepository.save(AgreementBuilder.anAgreement().withFrom(marketplace)
+                .withType(AgreementType.DELIVERS_WITH).build());
+
+        final FindReachableCompaniesUseCase.Output output = useCase.execute(new FindReachableCompaniesUseCase.Input(
+                seller.value(), List.of("SELLS_ON", "DELIVERS_WITH"), null, 1));
+
+        assertThat(output.companies()).hasSize(1);
+        assertThat(output.truncated()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject unknown types and too many hops")
+    void shouldRejectInvalidHops() {
+        assertThatThrownBy(() -> useCase.execute(new FindReachableCompaniesUseCase.Input(
+                seller.value(), List.of("SHIPS_WITH"), null, null)))
+                .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> useCase.execute(new FindReachableCompaniesUseCase.Input(
+                seller.value(), List.of("SELLS_ON", "SELLS_ON", "SELLS_ON", "SELLS_ON", "SELLS_ON"), null, null)))
+                .isInstanceOf(ValidationException.class);
+    }
+}
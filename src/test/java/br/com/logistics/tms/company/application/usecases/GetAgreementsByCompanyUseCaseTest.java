@@ -0,0 +1,85 @@
+package br.com.logistics.tms.company.application.usecases;
+
+import br.com.logistics.tms.AbstractTestBase;
+import br.com.logistics.tms.builders.domain.company.AgreementBuilder;
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
+import br.com.logistics.tms.company.application.repositories.FakeAgreementViewRepository;
+import br.com.logistics.tms.company.domain.AgreementType;
+import br.com.logistics.tms.company.domain.CompanyId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GetAgreementsByCompanyUseCaseTest extends AbstractTestBase {
+
+    private FakeAgreementViewRepository agreementViewRepository;
+    private GetAgreementsByCompanyUseCase useCase;
+    private CompanyId source;
+
+    @BeforeEach
+    void setUp() {
+        agreementViewRepository = new FakeAgreementViewRepository();
+        useCase = new GetAgreementsByCompanyUseCase(agreementViewRepository);
+        source = CompanyId.unique();
+    }
+
+    @Test
+    @DisplayName("Should walk all agreements page by page using the returned cursor")
+    void shouldWalkAllAgreementsUsingCursor() {
+        for (int i = 0; i < 5; i++) {
+            agreementViewRepository.save(AgreementBuilder.anAgreement().withFrom(source).build());
+        }
+
+        final GetAgreementsByCompanyUseCase.Output first = useCase.execute(
+                new GetAgreementsByCompanyUseCase.Input(source.value(), null, null, null, null, 2));
+        final GetAgreementsByCompanyUseCase.Output second = useCase.execute(
+                new GetAgreementsByCompanyUseCase.Input(source.value(), null, null, null, first.nextCursor(), 2));
+        final GetAgreementsByCompanyUseCase.Output last = useCase.execute(
+                new GetAgreementsByCompanyUseCase.Input(source.value(), null, null, null, second.nextCursor(), 2));
+
+        assertThat(first.agreements()).hasSize(2);
+        assertThat(second.agreements()).hasSize(2);
+        assertThat(last.agreements()).hasSize(1);
+        assertThat(last.nextCursor()).isNull();
+        assertThat(first.agreements()).doesNotContainAnyElementsOf(second.agreements());
+    }
+
+    @Test
+    @DisplayName("Should filter agreements by type and active status")
+    void shouldFilterByTypeAndActiveStatus() {
+        final Instant yesterday = Instant.now().minus(1, ChronoUnit.DAYS);
+        agreementViewRepository.save(AgreementBuilder.anAgreement().withFrom(source)
+                .withType(AgreementType.DELIVERS_WITH).build());
+        agreementViewRepository.save(AgreementBuilder.anAgreement().withFrom(source)
+                .withType(AgreementType.DELIVERS_WITH)
+                .withValidFrom(yesterday.minus(1, ChronoUnit.DAYS))
+                .withValidTo(yesterday).build());
+        agreementViewRepository.save(AgreementBuilder.anAgreement().withFrom(source)
+                .withType(AgreementType.SELLS_ON).build());
+
+        final GetAgreementsByCompanyUseCase.Output output = useCase.execute(
+                new GetAgreementsByCompanyUseCase.Input(source.value(), "DELIVERS_WITH", null, true, null, null));
+
+        assertThat(output.agreements()).hasSize(1);
+        assertThat(output.agreements().getFirst().type()).isEqualTo("DELIVERS_WITH");
+        assertThat(output.agreements().getFirst().isActive()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject limit above maximum")
+    void shouldRejectLimitAboveMaximum() {
+        final UUID companyId = source.value();
+
+        assertThatThrownBy(() -> useCase.execute(
+                new GetAgreementsByCompanyUseCase.Input(companyId, null, null, null, null, 1000)))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("limit");
+    }
+}
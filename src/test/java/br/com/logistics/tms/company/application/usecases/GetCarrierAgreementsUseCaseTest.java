@@ -0,0 +1,58 @@
+package br.com.logistics.tms.company.application.usecases;
+
+import br.com.logistics.tms.AbstractTestBase;
+import br.com.logistics.tms.builders.domain.company.AgreementBuilder;
+import br.com.logistics.tms.company.application.repositories.FakeAgreementViewRepository;
+import br.com.logistics.tms.company.domain.Agreement;
+import br.com.logistics.tms.company.domain.AgreementCondition;
+import br.com.logistics.tms.company.domain.AgreementConditionId;
+import br.com.logistics.tms.company.domain.AgreementConditionType;
+import br.com.logistics.tms.company.domain.AgreementType;
+import br.com.logistics.tms.company.domain.CompanyId;
+import br.com.logistics.tms.company.domain.Conditions;
+import br.com.logistics.tms.company.infrastructure.gateways.JaninoAgreementConditionEngine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GetCarrierAgreementsUseCaseTest extends AbstractTestBase {
+
+    private FakeAgreementViewRepository agreementViewRepository;
+    private GetCarrierAgreementsUseCase useCase;
+    private CompanyId shipper;
+
+    @BeforeEach
+    void setUp() {
+        agreementViewRepository = new FakeAgreementViewRepository();
+        useCase = new GetCarrierAgreementsUseCase(agreementViewRepository, new JaninoAgreementConditionEngine());
+        shipper = CompanyId.unique();
+    }
+
+    @Test
+    @DisplayName("Should list every carrier and the discount its conditions grant the shipment")
+    void shouldListCarriersWithDiscount() {
+        final Agreement plain = AgreementBuilder.anAgreement().withFrom(shipper).build();
+        final Agreement discounted = AgreementBuilder.anAgreement().withFrom(shipper)
+                .withCondition(new AgreementCondition(AgreementConditionId.unique(), AgreementConditionType.DISCOUNT_PERCENTAGE,
+                        Conditions.with(Map.of("percentage", 5, "when", Map.of("weightKg", Map.of("max", 10))))))
+                .build();
+        agreementViewRepository.save(plain);
+        agreementViewRepository.save(discounted);
+        agreementViewRepository.save(AgreementBuilder.anAgreement().withFrom(shipper).withType(AgreementType.SELLS_ON).build());
+
+        final GetCarrierAgreementsUseCase.Output output = useCase.execute(
+                new GetCarrierAgreementsUseCase.Input(shipper.value(), null, Map.of("weightKg", 4)));
+
+        assertThat(output.carriers()).hasSize(2);
+        assertThat(output.carriers()).filteredOn(carrier -> carrier.carrierId().equals(discounted.to().value()))
+                .singleElement()
+                .extracting(GetCarrierAgreementsUseCase.CarrierAgreement::discountPercentage).isEqualTo(5.0);
+        assertThat(output.carriers()).filteredOn(carrier -> carrier.carrierId().equals(plain.to().value()))
+                .singleElement()
+                .extracting(GetCarrierAgreementsUseCase.CarrierAgreement::discountPercentage).isNull();
+    }
+}
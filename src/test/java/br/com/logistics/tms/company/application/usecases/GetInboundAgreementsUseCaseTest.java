@@ -0,0 +1,83 @@
+package br.com.logistics.tms.company.application.usecases;
+
+import br.com.logistics.tms.AbstractTestBase;
+import br.com.logistics.tms.builders.domain.company.AgreementBuilder;
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
+import br.com.logistics.tms.company.application.repositories.FakeAgreementViewRepository;
+import br.com.logistics.tms.company.domain.AgreementType;
+import br.com.logistics.tms.company.domain.CompanyId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GetInboundAgreementsUseCaseTest extends AbstractTestBase {
+
+    private FakeAgreementViewRepository agreementViewRepository;
+    private GetInboundAgreementsUseCase useCase;
+    private CompanyId carrier;
+
+    @BeforeEach
+    void setUp() {
+        agreementViewRepository = new FakeAgreementViewRepository();
+        useCase = new GetInboundAgreementsUseCase(agreementViewRepository);
+        carrier = CompanyId.unique();
+    }
+
+    @Test
+    @DisplayName("Should list every source contracting the destination page by page")
+    void shouldWalkInboundAgreementsUsingCursor() {
+        for (int i = 0; i < 3; i++) {
+            agreementViewRepository.save(AgreementBuilder.anAgreement().withTo(carrier).build());
+        }
+        agreementViewRepository.save(AgreementBuilder.anAgreement().withFrom(carrier).build());
+
+        final GetInboundAgreementsUseCase.Output first = useCase.execute(
+                new GetInboundAgreementsUseCase.Input(carrier.value(), null, null, null, 2));
+        final GetInboundAgreementsUseCase.Output last = useCase.execute(
+                new GetInboundAgreementsUseCase.Input(carrier.value(), null, null, first.nextCursor(), 2));
+
+        assertThat(first.agreements()).hasSize(2);
+        assertThat(last.agreements()).hasSize(1);
+        assertThat(last.nextCursor()).isNull();
+        assertThat(first.agreements()).doesNotContainAnyElementsOf(last.agreements());
+    }
+
+    @Test
+    @DisplayName("Should filter inbound agreements by type and active status")
+    void shouldFilterByTypeAndActiveStatus() {
+        final Instant yesterday = Instant.now().minus(1, ChronoUnit.DAYS);
+        agreementViewRepository.save(AgreementBuilder.anAgreement().withTo(carrier)
+                .withType(AgreementType.DELIVERS_WITH).build());
+        agreementViewRepository.save(AgreementBuilder.anAgreement().withTo(carrier)
+                .withType(AgreementType.DELIVERS_WITH)
+                .withValidFrom(yesterday.minus(1, ChronoUnit.DAYS))
+                .withValidTo(yesterday).build());
+        agreementViewRepository.save(AgreementBuilder.anAgreement().withTo(carrier)
+                .withType(AgreementType.SELLS_ON).build());
+
+        final GetInboundAgreementsUseCase.Output output = useCase.execute(
+                new GetInboundAgreementsUseCase.Input(carrier.value(), "DELIVERS_WITH", true, null, null));
+
+        assertThat(output.agreements()).hasSize(1);
+        assertThat(output.agreements().getFirst().type()).isEqualTo("DELIVERS_WITH");
+        assertThat(output.agreements().getFirst().isActive()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject limit above maximum")
+    void shouldRejectLimitAboveMaximum() {
+        final UUID companyId = carrier.value();
+
+        assertThatThrownBy(() -> useCase.execute(
+                new GetInboundAgreementsUseCase.Input(companyId, null, null, null, 1000)))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("limit");
+    }
+}
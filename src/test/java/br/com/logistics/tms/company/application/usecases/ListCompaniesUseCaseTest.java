@@ -0,0 +1,71 @@
+package br.com.logistics.tms.company.application.usecases;
+
+import br.com.logistics.tms.AbstractTestBase;
+import br.com.logistics.tms.commons.domain.Status;
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
+import br.com.logistics.tms.company.application.repositories.FakeCompanyListingRepository;
+import br.com.logistics.tms.company.domain.CompanyType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ListCompaniesUseCaseTest extends AbstractTestBase {
+
+    private ListCompaniesUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        final FakeCompanyListingRepository companyListingRepository = new FakeCompanyListingRepository();
+        useCase = new ListCompaniesUseCase(companyListingRepository);
+        companyListingRepository.save("Shoppe", "42.123.456/0001-99", Status.active(),
+                Set.of(CompanyType.MARKETPLACE), Instant.parse("2025-01-01T00:00:00Z"));
+        companyListingRepository.save("Loggi", "13.895.286/0001-62", Status.active(),
+                Set.of(CompanyType.LOGISTICS_PROVIDER), Instant.parse("2025-02-01T00:00:00Z"));
+        companyListingRepository.save("Biquelo", "28.765.432/0001-02", Status.active(),
+                Set.of(CompanyType.SELLER, CompanyType.MARKETPLACE), Instant.parse("2025-03-01T00:00:00Z"));
+        companyListingRepository.save("Closed", "11.111.111/0001-91", Status.suspended(),
+                Set.of(CompanyType.MARKETPLACE), Instant.parse("2025-04-01T00:00:00Z"));
+    }
+
+    @Test
+    @DisplayName("Should page active companies newest first until the cursor runs out")
+    void shouldPageNewestFirst() {
+        final ListCompaniesUseCase.Output first = useCase.execute(new ListCompaniesUseCase.Input(null, null, null, null, null, 2));
+        final ListCompaniesUseCase.Output second = useCase.execute(new ListCompaniesUseCase.Input(null, null, null, null, first.nextCursor(), 2));
+
+        assertThat(first.companies()).extracting(ListCompaniesUseCase.CompanyItem::name).containsExactly("Biquelo", "Loggi");
+        assertThat(second.companies()).extracting(ListCompaniesUseCase.CompanyItem::name).containsExactly("Shoppe");
+        assertThat(second.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should filter by type, status and creation window")
+    void shouldFilterByTypeStatusAndCreationWindow() {
+        final ListCompaniesUseCase.Output marketplaces = useCase.execute(new ListCompaniesUseCase.Input(
+                "MARKETPLACE", null, Instant.parse("2025-02-01T00:00:00Z"), null, null, 20));
+        final ListCompaniesUseCase.Output suspended = useCase.execute(new ListCompaniesUseCase.Input(
+                null, "S", null, null, null, 20));
+
+        assertThat(marketplaces.companies()).extracting(ListCompaniesUseCase.CompanyItem::name).containsExactly("Biquelo");
+        assertThat(marketplaces.companies().getFirst().types()).containsExactly("MARKETPLACE", "SELLER");
+        assertThat(suspended.companies()).extracting(ListCompaniesUseCase.CompanyItem::name).containsExactly("Closed");
+    }
+
+    @Test
+    @DisplayName("Should reject unknown types, inverted windows and out of range sizes")
+    void shouldRejectInvalidInput() {
+        assertThatThrownBy(() -> useCase.execute(new ListCompaniesUseCase.Input("CARRIER", null, null, null, null, 20)))
+                .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> useCase.execute(new ListCompaniesUseCase.Input(null, null,
+                Instant.parse("2025-03-01T00:00:00Z"), Instant.parse("2025-01-01T00:00:00Z"), null, 20)))
+                .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> useCase.execute(new ListCompaniesUseCase.Input(null, null, null, null, null, 201)))
+                .isInstanceOf(ValidationException.class);
+    }
+}
@@ -0,0 +1,113 @@
+package br.com.logistics.tms.company.application.usecases;
+
+import br.com.logistics.tms.AbstractTestBase;
+import br.com.logistics.tms.builders.domain.company.AgreementBuilder;
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
+import br.com.logistics.tms.company.application.repositories.FakeAgreementViewRepository;
+import br.com.logistics.tms.company.domain.Agreement;
+import br.com.logistics.tms.company.domain.AgreementCondition;
+import br.com.logistics.tms.company.domain.AgreementConditionId;
+import br.com.logistics.tms.company.domain.AgreementConditionType;
+import br.com.logistics.tms.company.domain.CompanyId;
+import br.com.logistics.tms.company.domain.Conditions;
+import br.com.logistics.tms.company.infrastructure.gateways.JaninoAgreementConditionEngine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MatchShipmentAgreementsUseCaseTest extends AbstractTestBase {
+
+    private FakeAgreementViewRepository agreementViewRepository;
+    private MatchShipmentAgreementsUseCase useCase;
+    private CompanyId seller;
+
+    @BeforeEach
+    void setUp() {
+        agreementViewRepository = new FakeAgreementViewRepository();
+        useCase = new MatchShipmentAgreementsUseCase(agreementViewRepository, new JaninoAgreementConditionEngine());
+        seller = CompanyId.unique();
+    }
+
+    @Test
+    @DisplayName("Should match each shipment to the agreements whose conditions hold")
+    void shouldMatchShipmentsToAgreements() {
+        final Agreement light = AgreementBuilder.anAgreement().withFrom(seller)
+                .withCondition(condition(AgreementConditionType.DISCOUNT_PERCENTAGE,
+                        Map.of("percentage", 8, "when", Map.of("weightKg", Map.of("max", 30)))))
+                .build();
+        final Agreement express = AgreementBuilder.anAgreement().withFrom(seller)
+                .withCondition(condition(AgreementConditionType.DELIVERY_SLA_DAYS,
+                        Map.of("maxDays", 1, "when", Map.of("service", "EXPRESS"))))
+                .build();
+        agreementViewRepository.save(light);
+        agreementViewRepository.save(express);
+
+        final MatchShipmentAgreementsUseCase.Output output = useCase.execute(new MatchShipmentAgreementsUseCase.Input(
+                seller.value(), null, List.of(
+                        new MatchShipmentAgreementsUseCase.Shipment("S-1", null, Map.of("weightKg", 10, "service", "EXPRESS")),
+                        new MatchShipmentAgreementsUseCase.Shipment("S-2", null, Map.of("weightKg", 50)))));
+
+        assertThat(output.shipments()).hasSize(2);
+        assertThat(output.shipments().get(0).agreements())
+                .extracting(MatchShipmentAgreementsUseCase.AppliedAgreement::agreementId)
+                .containsExactlyInAnyOrder(light.agreementId().value(), express.agreementId().value());
+        assertThat(output.shipments().get(1).agreements()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should skip agreements not valid at the shipment instant")
+    void shouldSkipAgreementsNotValidAtShipmentInstant() {
+        final Instant now = Instant.now();
+        agreementViewRepository.save(AgreementBuilder.anAgreement().withFrom(seller)
+                .withValidTo(now.plus(1, ChronoUnit.DAYS))
+                .withCondition(condition(AgreementConditionType.DELIVERY_SLA_DAYS, Map.of("maxDays", 2)))
+                .build());
+
+        final MatchShipmentAgreementsUseCase.Output output = useCase.execute(new MatchShipmentAgreementsUseCase.Input(
+                seller.value(), null, List.of(
+                        new MatchShipmentAgreementsUseCase.Shipment("S-1", now.plus(2, ChronoUnit.HOURS), Map.of()),
+                        new MatchShipmentAgreementsUseCase.Shipment("S-2", now.plus(2, ChronoUnit.DAYS), Map.of()))));
+
+        assertThat(output.shipments().get(0).agreements()).singleElement()
+                .extracting(MatchShipmentAgreementsUseCase.AppliedAgreement::slaDays).isEqualTo(2);
+        assertThat(output.shipments().get(1).agreements()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should match future shipments to agreements not yet active")
+    void shouldMatchFutureShipmentsToAgreementsNotYetActive() {
+        final Instant now = Instant.now();
+        agreementViewRepository.save(AgreementBuilder.anAgreement().withFrom(seller)
+                .withValidFrom(now.plus(1, ChronoUnit.DAYS))
+                .withCondition(condition(AgreementConditionType.DELIVERY_SLA_DAYS, Map.of("maxDays", 3)))
+                .build());
+
+        final MatchShipmentAgreementsUseCase.Output output = useCase.execute(new MatchShipmentAgreementsUseCase.Input(
+                seller.value(), null, List.of(
+                        new MatchShipmentAgreementsUseCase.Shipment("S-1", now.plus(2, ChronoUnit.HOURS), Map.of()),
+                        new MatchShipmentAgreementsUseCase.Shipment("S-2", now.plus(2, ChronoUnit.DAYS), Map.of()))));
+
+        assertThat(output.shipments().get(0).agreements()).isEmpty();
+        assertThat(output.shipments().get(1).agreements()).singleElement()
+                .extracting(MatchShipmentAgreementsUseCase.AppliedAgreement::slaDays).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should reject an empty shipment batch")
+    void shouldRejectEmptyBatch() {
+        assertThatThrownBy(() -> useCase.execute(new MatchShipmentAgreementsUseCase.Input(seller.value(), null, List.of())))
+                .isInstanceOf(ValidationException.class);
+    }
+
+    private static AgreementCondition condition(final AgreementConditionType type, final Map<String, Object> value) {
+        return new AgreementCondition(AgreementConditionId.unique(), type, Conditions.with(value));
+    }
+}
@@ -0,0 +1,91 @@
+package br.com.logistics.tms.company.application.usecases;
+
+import br.com.logistics.tms.AbstractTestBase;
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
+import br.com.logistics.tms.company.application.repositories.FakeCompanyRepository;
+import br.com.logistics.tms.company.domain.Company;
+import br.com.logistics.tms.company.domain.CompanyType;
+import br.com.logistics.tms.company.domain.CompanyUpdated;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PatchCompanyConfigurationUseCaseTest extends AbstractTestBase {
+
+    private FakeCompanyRepository companyRepository;
+    private PatchCompanyConfigurationUseCase useCase;
+    private Company company;
+
+    @BeforeEach
+    void setUp() {
+        companyRepository = new FakeCompanyRepository();
+        useCase = new PatchCompanyConfigurationUseCase(companyRepository);
+        company = companyRepository.create(Company.createCompany(
+                "Company A",
+                "11.111.111/0001-91",
+                Set.of(CompanyType.SELLER),
+                Map.of("webhook", "http://old", "timeout", 30, "legacy", true)));
+    }
+
+    @Test
+    @DisplayName("Should set and remove keys and emit only the changed keys")
+    void shouldPatchConfigurationAndEmitOnlyChangedKeys() {
+        final PatchCompanyConfigurationUseCase.Output output = useCase.execute(new PatchCompanyConfigurationUseCase.Input(
+                company.getCompanyId().value(),
+                Map.of("webhook", "http://new", "timeout", 30),
+                Set.of("legacy")));
+
+        assertThat(output.configuration()).containsExactlyInAnyOrderEntriesOf(Map.of("webhook", "http://new", "timeout", 30));
+
+        final Company saved = companyRepository.getCompanyById(company.getCompanyId()).orElseThrow();
+        assertThat(saved.getDomainEvents())
+                .filteredOn(CompanyUpdated.class::isInstance)
+                .map(CompanyUpdated.class::cast)
+                .singleElement()
+                .satisfies(event -> {
+                    assertThat(event.getProperty()).isEqualTo("configurations");
+                    assertThat(event.getOldValue()).isEqualTo("{legacy=true, webhook=http://old}");
+                    assertThat(event.getNewValue()).isEqualTo("{webhook=http://new}");
+                });
+    }
+
+    @Test
+    @DisplayName("Should not emit an event when the patch changes nothing")
+    void shouldNotEmitEventForNoOpPatch() {
+        useCase.execute(new PatchCompanyConfigurationUseCase.Input(
+                company.getCompanyId().value(),
+                Map.of("timeout", 30),
+                Set.of("missing")));
+
+        final Company saved = companyRepository.getCompanyById(company.getCompanyId()).orElseThrow();
+        assertThat(saved.getDomainEvents()).noneMatch(CompanyUpdated.class::isInstance);
+    }
+
+    @Test
+    @DisplayName("Should reject a patch that sets and removes the same key")
+    void shouldRejectConflictingPatch() {
+        assertThatThrownBy(() -> useCase.execute(new PatchCompanyConfigurationUseCase.Input(
+                company.getCompanyId().value(),
+                Map.of("webhook", "http://new"),
+                Set.of("webhook"))))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("same key");
+    }
+
+    @Test
+    @DisplayName("Should reject a patch that removes every key")
+    void shouldRejectPatchThatEmptiesConfiguration() {
+        assertThatThrownBy(() -> useCase.execute(new PatchCompanyConfigurationUseCase.Input(
+                company.getCompanyId().value(),
+                Map.of(),
+                Set.of("webhook", "timeout", "legacy"))))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("Configuration cannot be null or empty");
+    }
+}
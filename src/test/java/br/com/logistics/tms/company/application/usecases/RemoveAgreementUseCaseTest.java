@@ -2,6 +2,7 @@ package br.com.logistics.tms.company.application.usecases;
 
 import br.com.logistics.tms.AbstractTestBase;
 import br.com.logistics.tms.builders.domain.company.AgreementBuilder;
+import br.com.logistics.tms.company.application.repositories.FakeAgreementRepository;
 import br.com.logistics.tms.company.application.repositories.FakeCompanyRepository;
 import br.com.logistics.tms.company.domain.*;
 import br.com.logistics.tms.company.domain.exception.AgreementNotFoundException;
@@ -20,26 +21,28 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 class RemoveAgreementUseCaseTest extends AbstractTestBase {
 
     private FakeCompanyRepository companyRepository;
+    private FakeAgreementRepository agreementRepository;
     private RemoveAgreementUseCase useCase;
 
     @BeforeEach
     void setUp() {
         companyRepository = new FakeCompanyRepository();
-        useCase = new RemoveAgreementUseCase(companyRepository);
+        agreementRepository = new FakeAgreementRepository();
+        useCase = new RemoveAgreementUseCase(agreementRepository);
     }
 
     @Test
-    @DisplayName("Should remove agreement from company")
+    @DisplayName("Should remove agreement")
     void shouldRemoveAgreementFromCompany() {
         final Company sourceCompany = Company.createCompany(
                 "Company A",
-                "11.111.111/1111-11",
+                "11.111.111/0001-91",
                 Set.of(CompanyType.SELLER),
                 Map.of("test", "value")
         );
         final Company destinationCompany = Company.createCompany(
                 "Company B",
-                "22.222.222/2222-22",
+                "22.222.222/0001-91",
                 Set.of(CompanyType.LOGISTICS_PROVIDER),
                 Map.of("test", "value")
         );
@@ -51,8 +54,7 @@ class RemoveAgreementUseCaseTest extends AbstractTestBase {
                 .withTo(destinationCompany.getCompanyId())
                 .withType(AgreementType.DELIVERS_WITH)
                 .build();
-        final Company companyWithAgreement = sourceCompany.addAgreement(agreement);
-        companyRepository.update(companyWithAgreement);
+        agreementRepository.create(agreement);
 
         final RemoveAgreementUseCase.Input input = new RemoveAgreementUseCase.Input(
                 agreement.agreementId().value()
@@ -63,9 +65,7 @@ class RemoveAgreementUseCaseTest extends AbstractTestBase {
         assertThat(output.agreementId()).isEqualTo(agreement.agreementId().value());
         assertThat(output.companyId()).isEqualTo(sourceCompany.getCompanyId().value());
 
-        final Company updatedCompany = companyRepository.getCompanyById(sourceCompany.getCompanyId())
-                .orElseThrow();
-        assertThat(updatedCompany.getAgreements()).isEmpty();
+        assertThat(agreementRepository.findBySource(sourceCompany.getCompanyId())).isEmpty();
     }
 
     @Test
@@ -85,19 +85,19 @@ class RemoveAgreementUseCaseTest extends AbstractTestBase {
     void shouldRemoveOnlySpecifiedAgreementLeavingOthersIntact() {
         final Company sourceCompany = Company.createCompany(
                 "Company A",
-                "11.111.111/1111-11",
+                "11.111.111/0001-91",
                 Set.of(CompanyType.SELLER),
                 Map.of("test", "value")
         );
         final Company destinationCompany1 = Company.createCompany(
                 "Company B",
-                "22.222.222/2222-22",
+                "22.222.222/0001-91",
                 Set.of(CompanyType.LOGISTICS_PROVIDER),
                 Map.of("test", "value")
         );
         final Company destinationCompany2 = Company.createCompany(
                 "Company C",
-                "33.333.333/3333-33",
+                "33.333.333/0001-91",
                 Set.of(CompanyType.LOGISTICS_PROVIDER),
                 Map.of("test", "value")
         );
@@ -116,9 +116,8 @@ class RemoveAgreementUseCaseTest extends AbstractTestBase {
                 .withType(AgreementType.DELIVERS_WITH)
                 .build();
         
-        Company companyWithAgreements = sourceCompany.addAgreement(agreement1);
-        companyWithAgreements = companyWithAgreements.addAgreement(agreement2);
-        companyRepository.update(companyWithAgreements);
+        agreementRepository.create(agreement1);
+        agreementRepository.create(agreement2);
 
         final RemoveAgreementUseCase.Input input = new RemoveAgreementUseCase.Input(
                 agreement1.agreementId().value()
@@ -126,11 +125,9 @@ class RemoveAgreementUseCaseTest extends AbstractTestBase {
 
         useCase.execute(input);
 
-        final Company updatedCompany = companyRepository.getCompanyById(sourceCompany.getCompanyId())
-                .orElseThrow();
-        assertThat(updatedCompany.getAgreements()).hasSize(1);
-        
-        final Agreement remainingAgreement = updatedCompany.getAgreements().iterator().next();
+        assertThat(agreementRepository.findBySource(sourceCompany.getCompanyId())).hasSize(1);
+
+        final Agreement remainingAgreement = agreementRepository.findBySource(sourceCompany.getCompanyId()).get(0);
         assertThat(remainingAgreement.agreementId()).isEqualTo(agreement2.agreementId());
         assertThat(remainingAgreement.to()).isEqualTo(destinationCompany2.getCompanyId());
     }
@@ -140,13 +137,13 @@ class RemoveAgreementUseCaseTest extends AbstractTestBase {
     void shouldRemoveExpiredAgreement() {
         final Company sourceCompany = Company.createCompany(
                 "Company A",
-                "11.111.111/1111-11",
+                "11.111.111/0001-91",
                 Set.of(CompanyType.SELLER),
                 Map.of("test", "value")
         );
         final Company destinationCompany = Company.createCompany(
                 "Company B",
-                "22.222.222/2222-22",
+                "22.222.222/0001-91",
                 Set.of(CompanyType.LOGISTICS_PROVIDER),
                 Map.of("test", "value")
         );
@@ -163,8 +160,7 @@ class RemoveAgreementUseCaseTest extends AbstractTestBase {
                 .withValidFrom(pastValidFrom)
                 .withValidTo(pastValidTo)
                 .build();
-        final Company companyWithAgreement = sourceCompany.addAgreement(expiredAgreement);
-        companyRepository.update(companyWithAgreement);
+        agreementRepository.create(expiredAgreement);
 
         final RemoveAgreementUseCase.Input input = new RemoveAgreementUseCase.Input(
                 expiredAgreement.agreementId().value()
@@ -172,9 +168,7 @@ class RemoveAgreementUseCaseTest extends AbstractTestBase {
 
         useCase.execute(input);
 
-        final Company updatedCompany = companyRepository.getCompanyById(sourceCompany.getCompanyId())
-                .orElseThrow();
-        assertThat(updatedCompany.getAgreements()).isEmpty();
+        assertThat(agreementRepository.findBySource(sourceCompany.getCompanyId())).isEmpty();
     }
 
     @Test
@@ -182,13 +176,13 @@ class RemoveAgreementUseCaseTest extends AbstractTestBase {
     void shouldRemoveFutureAgreement() {
         final Company sourceCompany = Company.createCompany(
                 "Company A",
-                "11.111.111/1111-11",
+                "11.111.111/0001-91",
                 Set.of(CompanyType.SELLER),
                 Map.of("test", "value")
         );
         final Company destinationCompany = Company.createCompany(
                 "Company B",
-                "22.222.222/2222-22",
+                "22.222.222/0001-91",
                 Set.of(CompanyType.LOGISTICS_PROVIDER),
                 Map.of("test", "value")
         );
@@ -204,8 +198,7 @@ class RemoveAgreementUseCaseTest extends AbstractTestBase {
                 .withValidFrom(futureValidFrom)
                 .withNoValidTo()
                 .build();
-        final Company companyWithAgreement = sourceCompany.addAgreement(futureAgreement);
-        companyRepository.update(companyWithAgreement);
+        agreementRepository.create(futureAgreement);
 
         final RemoveAgreementUseCase.Input input = new RemoveAgreementUseCase.Input(
                 futureAgreement.agreementId().value()
@@ -213,9 +206,7 @@ class RemoveAgreementUseCaseTest extends AbstractTestBase {
 
         useCase.execute(input);
 
-        final Company updatedCompany = companyRepository.getCompanyById(sourceCompany.getCompanyId())
-                .orElseThrow();
-        assertThat(updatedCompany.getAgreements()).isEmpty();
+        assertThat(agreementRepository.findBySource(sourceCompany.getCompanyId())).isEmpty();
     }
 
     @Test
@@ -223,13 +214,13 @@ class RemoveAgreementUseCaseTest extends AbstractTestBase {
     void shouldAllowRecreationOfRemovedAgreement() {
         final Company sourceCompany = Company.createCompany(
                 "Company A",
-                "11.111.111/1111-11",
+                "11.111.111/0001-91",
                 Set.of(CompanyType.SELLER),
                 Map.of("test", "value")
         );
         final Company destinationCompany = Company.createCompany(
                 "Company B",
-                "22.222.222/2222-22",
+                "22.222.222/0001-91",
                 Set.of(CompanyType.LOGISTICS_PROVIDER),
                 Map.of("test", "value")
         );
@@ -241,8 +232,7 @@ class RemoveAgreementUseCaseTest extends AbstractTestBase {
                 .withTo(destinationCompany.getCompanyId())
                 .withType(AgreementType.DELIVERS_WITH)
                 .build();
-        Company companyWithAgreement = sourceCompany.addAgreement(firstAgreement);
-        companyRepository.update(companyWithAgreement);
+        agreementRepository.create(firstAgreement);
 
         final RemoveAgreementUseCase.Input removeInput = new RemoveAgreementUseCase.Input(
                 firstAgreement.agreementId().value()
@@ -254,17 +244,11 @@ class RemoveAgreementUseCaseTest extends AbstractTestBase {
                 .withTo(destinationCompany.getCompanyId())
                 .withType(AgreementType.DELIVERS_WITH)
                 .build();
-        
-        final Company updatedCompany = companyRepository.getCompanyById(sourceCompany.getCompanyId())
-                .orElseThrow();
-        final Company companyWithNewAgreement = updatedCompany.addAgreement(newAgreement);
-        companyRepository.update(companyWithNewAgreement);
-
-        final Company finalCompany = companyRepository.getCompanyById(sourceCompany.getCompanyId())
-                .orElseThrow();
-        assertThat(finalCompany.getAgreements()).hasSize(1);
-        
-        final Agreement recreatedAgreement = finalCompany.getAgreements().iterator().next();
+        agreementRepository.create(newAgreement);
+
+        assertThat(agreementRepository.findBySource(sourceCompany.getCompanyId())).hasSize(1);
+
+        final Agreement recreatedAgreement = agreementRepository.findBySource(sourceCompany.getCompanyId()).get(0);
         assertThat(recreatedAgreement.agreementId()).isNotEqualTo(firstAgreement.agreementId());
     }
 
@@ -273,13 +257,13 @@ class RemoveAgreementUseCaseTest extends AbstractTestBase {
     void shouldRemoveAgreementWithConditions() {
         final Company sourceCompany = Company.createCompany(
                 "Company A",
-                "11.111.111/1111-11",
+                "11.111.111/0001-91",
                 Set.of(CompanyType.SELLER),
                 Map.of("test", "value")
         );
         final Company destinationCompany = Company.createCompany(
                 "Company B",
-                "22.222.222/2222-22",
+                "22.222.222/0001-91",
                 Set.of(CompanyType.LOGISTICS_PROVIDER),
                 Map.of("test", "value")
         );
@@ -304,8 +288,7 @@ class RemoveAgreementUseCaseTest extends AbstractTestBase {
                 .withCondition(condition1)
                 .withCondition(condition2)
                 .build();
-        final Company companyWithAgreement = sourceCompany.addAgreement(agreementWithConditions);
-        companyRepository.update(companyWithAgreement);
+        agreementRepository.create(agreementWithConditions);
 
         final RemoveAgreementUseCase.Input input = new RemoveAgreementUseCase.Input(
                 agreementWithConditions.agreementId().value()
@@ -313,9 +296,7 @@ class RemoveAgreementUseCaseTest extends AbstractTestBase {
 
         useCase.execute(input);
 
-        final Company updatedCompany = companyRepository.getCompanyById(sourceCompany.getCompanyId())
-                .orElseThrow();
-        assertThat(updatedCompany.getAgreements()).isEmpty();
+        assertThat(agreementRepository.findBySource(sourceCompany.getCompanyId())).isEmpty();
     }
 
     @Test
@@ -323,19 +304,19 @@ class RemoveAgreementUseCaseTest extends AbstractTestBase {
     void shouldRemoveAllAgreementsWhenExecutedMultipleTimes() {
         final Company sourceCompany = Company.createCompany(
                 "Company A",
-                "11.111.111/1111-11",
+                "11.111.111/0001-91",
                 Set.of(CompanyType.SELLER),
                 Map.of("test", "value")
         );
         final Company destinationCompany1 = Company.createCompany(
                 "Company B",
-                "22.222.222/2222-22",
+                "22.222.222/0001-91",
                 Set.of(CompanyType.LOGISTICS_PROVIDER),
                 Map.of("test", "value")
         );
         final Company destinationCompany2 = Company.createCompany(
                 "Company C",
-                "33.333.333/3333-33",
+                "33.333.333/0001-91",
                 Set.of(CompanyType.LOGISTICS_PROVIDER),
                 Map.of("test", "value")
         );
@@ -352,15 +333,12 @@ class RemoveAgreementUseCaseTest extends AbstractTestBase {
                 .withTo(destinationCompany2.getCompanyId())
                 .build();
         
-        Company companyWithAgreements = sourceCompany.addAgreement(agreement1);
-        companyWithAgreements = companyWithAgreements.addAgreement(agreement2);
-        companyRepository.update(companyWithAgreements);
+        agreementRepository.create(agreement1);
+        agreementRepository.create(agreement2);
 
         useCase.execute(new RemoveAgreementUseCase.Input(agreement1.agreementId().value()));
         useCase.execute(new RemoveAgreementUseCase.Input(agreement2.agreementId().value()));
 
-        final Company finalCompany = companyRepository.getCompanyById(sourceCompany.getCompanyId())
-                .orElseThrow();
-        assertThat(finalCompany.getAgreements()).isEmpty();
+        assertThat(agreementRepository.findBySource(sourceCompany.getCompanyId())).isEmpty();
     }
 }
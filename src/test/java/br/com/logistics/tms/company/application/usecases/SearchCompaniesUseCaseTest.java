@@ -0,0 +1,92 @@
+package br.com.logistics.tms.company.application.usecases;
+
+import br.com.logistics.tms.AbstractTestBase;
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
+import br.com.logistics.tms.company.application.repositories.FakeCompanySearchRepository;
+import br.com.logistics.tms.company.domain.CompanyId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SearchCompaniesUseCaseTest extends AbstractTestBase {
+
+    private FakeCompanySearchRepository companySearchRepository;
+    private SearchCompaniesUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        companySearchRepository = new FakeCompanySearchRepository();
+        useCase = new SearchCompaniesUseCase(companySearchRepository);
+        companySearchRepository.save(CompanyId.unique(), "Shoppe Marketplace", "42.123.456/0001-99");
+        companySearchRepository.save(CompanyId.unique(), "Loggi Logistics", "13.895.286/0001-62");
+        companySearchRepository.save(CompanyId.unique(), "Biquelo", "28.765.432/0001-02");
+        companySearchRepository.save(CompanyId.unique(), "99 Transportes", "11.444.777/0001-61");
+    }
+
+    @Test
+    @DisplayName("Should answer name typeahead from the prefix index without querying the database")
+    void shouldAnswerTypeaheadFromIndex() {
+        final SearchCompaniesUseCase.Output output = useCase.execute(new SearchCompaniesUseCase.Input("log", null, null));
+
+        assertThat(output.companies())
+                .extracting(SearchCompaniesUseCase.CompanyMatch::name)
+                .containsExactly("Loggi Logistics");
+        assertThat(companySearchRepository.databaseQueries()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should treat digits and CNPJ punctuation as a CNPJ prefix")
+    void shouldSearchByCnpjPrefix() {
+        final SearchCompaniesUseCase.Output output = useCase.execute(new SearchCompaniesUseCase.Input("13.895", null, null));
+
+        assertThat(output.companies())
+                .extracting(SearchCompaniesUseCase.CompanyMatch::cnpj)
+                .containsExactly("13.895.286/0001-62");
+    }
+
+    @Test
+    @DisplayName("Should run contains searches against the database")
+    void shouldRunContainsSearchAgainstDatabase() {
+        final SearchCompaniesUseCase.Output output = useCase.execute(new SearchCompaniesUseCase.Input("quel", "contains", 5));
+
+        assertThat(output.companies())
+                .extracting(SearchCompaniesUseCase.CompanyMatch::name)
+                .containsExactly("Biquelo");
+        assertThat(companySearchRepository.databaseQueries()).containsExactly("quel");
+    }
+
+    @Test
+    @DisplayName("Should match CNPJ digits anywhere when contains is requested")
+    void shouldSearchCnpjDigitsAnywhereWhenContains() {
+        final SearchCompaniesUseCase.Output output = useCase.execute(new SearchCompaniesUseCase.Input("286/0001", "contains", null));
+
+        assertThat(output.companies())
+                .extracting(SearchCompaniesUseCase.CompanyMatch::cnpj)
+                .containsExactly("13.895.286/0001-62");
+        assertThat(companySearchRepository.databaseQueries()).containsExactly("2860001");
+    }
+
+    @Test
+    @DisplayName("Should also match names for a query of bare digits")
+    void shouldMatchNumericNames() {
+        final SearchCompaniesUseCase.Output output = useCase.execute(new SearchCompaniesUseCase.Input("99", null, null));
+
+        assertThat(output.companies())
+                .extracting(SearchCompaniesUseCase.CompanyMatch::name)
+                .containsExactly("99 Transportes");
+    }
+
+    @Test
+    @DisplayName("Should reject too short queries and out of range limits")
+    void shouldRejectInvalidInput() {
+        assertThatThrownBy(() -> useCase.execute(new SearchCompaniesUseCase.Input("a", null, null)))
+                .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> useCase.execute(new SearchCompaniesUseCase.Input("loggi", null, 51)))
+                .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> useCase.execute(new SearchCompaniesUseCase.Input("123456789012345", null, null)))
+                .isInstanceOf(ValidationException.class);
+    }
+}
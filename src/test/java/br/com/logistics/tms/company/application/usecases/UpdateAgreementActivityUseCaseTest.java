@@ -0,0 +1,110 @@
+package br.com.logistics.tms.company.application.usecases;
+
+import br.com.logistics.tms.AbstractTestBase;
+import br.com.logistics.tms.builders.domain.company.AgreementBuilder;
+import br.com.logistics.tms.company.application.repositories.FakeAgreementRepository;
+import br.com.logistics.tms.company.domain.Agreement;
+import br.com.logistics.tms.company.domain.AgreementActivationEvent;
+import br.com.logistics.tms.company.domain.AgreementExpirationEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UpdateAgreementActivityUseCaseTest extends AbstractTestBase {
+
+    private FakeAgreementRepository agreementRepository;
+    private UpdateAgreementActivityUseCase useCase;
+    private FindAgreementBoundariesUseCase findBoundaries;
+
+    @BeforeEach
+    void setUp() {
+        agreementRepository = new FakeAgreementRepository();
+        useCase = new UpdateAgreementActivityUseCase(agreementRepository);
+        findBoundaries = new FindAgreementBoundariesUseCase(agreementRepository);
+    }
+
+    @Test
+    @DisplayName("Should activate a pending agreement once its validFrom is reached")
+    void shouldActivatePendingAgreement() {
+        final Instant validFrom = Instant.now().plus(1, ChronoUnit.HOURS);
+        final Agreement agreement = AgreementBuilder.anAgreement()
+                .withValidFrom(validFrom)
+                .withNoValidTo()
+                .build();
+        agreementRepository.create(agreement);
+
+        final UpdateAgreementActivityUseCase.Output output = useCase.execute(
+                new UpdateAgreementActivityUseCase.Input(agreement.agreementId().value(), validFrom));
+
+        assertThat(output.changed()).isTrue();
+        assertThat(output.active()).isTrue();
+        final Agreement updated = agreementRepository.findById(agreement.agreementId()).orElseThrow();
+        assertThat(updated.isActive()).isTrue();
+        assertThat(updated.getDomainEvents()).anyMatch(AgreementActivationEvent.class::isInstance);
+    }
+
+    @Test
+    @DisplayName("Should expire an active agreement at its validTo and leave it unchanged afterwards")
+    void shouldExpireActiveAgreement() {
+        final Instant validTo = Instant.now().plus(1, ChronoUnit.HOURS);
+        final Agreement agreement = AgreementBuilder.anAgreement()
+                .withValidFrom(Instant.now().minus(1, ChronoUnit.DAYS))
+                .withValidTo(validTo)
+                .build();
+        agreementRepository.create(agreement);
+
+        final UpdateAgreementActivityUseCase.Output expired = useCase.execute(
+                new UpdateAgreementActivityUseCase.Input(agreement.agreementId().value(), validTo));
+        final UpdateAgreementActivityUseCase.Output repeated = useCase.execute(
+                new UpdateAgreementActivityUseCase.Input(agreement.agreementId().value(), validTo));
+
+        assertThat(expired.changed()).isTrue();
+        assertThat(expired.active()).isFalse();
+        assertThat(repeated.changed()).isFalse();
+        assertThat(agreementRepository.findById(agreement.agreementId()).orElseThrow().getDomainEvents())
+                .anyMatch(AgreementExpirationEvent.class::isInstance);
+    }
+
+    @Test
+    @DisplayName("Should report no change for an agreement removed before the flip")
+    void shouldIgnoreRemovedAgreement() {
+        final UpdateAgreementActivityUseCase.Output output = useCase.execute(
+                new UpdateAgreementActivityUseCase.Input(UUID.randomUUID(), Instant.now()));
+
+        assertThat(output.changed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should list the upcoming boundary of pending and active agreements within the horizon")
+    void shouldListUpcomingBoundaries() {
+        final Instant now = Instant.now();
+        final Agreement starting = AgreementBuilder.anAgreement()
+                .withValidFrom(now.plus(10, ChronoUnit.MINUTES))
+                .withNoValidTo()
+                .build();
+        final Agreement ending = AgreementBuilder.anAgreement()
+                .withValidFrom(now.minus(1, ChronoUnit.DAYS))
+                .withValidTo(now.plus(5, ChronoUnit.MINUTES))
+                .build();
+        final Agreement beyondHorizon = AgreementBuilder.anAgreement()
+                .withValidFrom(now.plus(2, ChronoUnit.DAYS))
+                .withNoValidTo()
+                .build();
+        agreementRepository.create(starting);
+        agreementRepository.create(ending);
+        agreementRepository.create(beyondHorizon);
+
+        final FindAgreementBoundariesUseCase.Output output = findBoundaries.execute(
+                new FindAgreementBoundariesUseCase.Input(now, now.plus(1, ChronoUnit.HOURS), 10));
+
+        assertThat(output.boundaries())
+                .extracting(FindAgreementBoundariesUseCase.Boundary::agreementId)
+                .containsExactly(ending.agreementId().value(), starting.agreementId().value());
+    }
+}
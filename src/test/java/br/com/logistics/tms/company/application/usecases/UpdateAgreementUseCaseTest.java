@@ -0,0 +1,113 @@
+package br.com.logistics.tms.company.application.usecases;
+
+import br.com.logistics.tms.AbstractTestBase;
+import br.com.logistics.tms.builders.domain.company.AgreementBuilder;
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
+import br.com.logistics.tms.company.application.repositories.FakeAgreementRepository;
+import br.com.logistics.tms.company.domain.*;
+import br.com.logistics.tms.company.domain.exception.AgreementNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UpdateAgreementUseCaseTest extends AbstractTestBase {
+
+    private FakeAgreementRepository agreementRepository;
+    private UpdateAgreementUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        agreementRepository = new FakeAgreementRepository();
+        useCase = new UpdateAgreementUseCase(agreementRepository);
+    }
+
+    @Test
+    @DisplayName("Should update validTo and record the change on the agreement")
+    void shouldUpdateValidTo() {
+        final Instant validFrom = Instant.parse("2026-01-01T00:00:00Z");
+        final Agreement agreement = AgreementBuilder.anAgreement()
+                .withValidFrom(validFrom)
+                .withNoValidTo()
+                .build();
+        agreementRepository.create(agreement);
+
+        final Instant newValidTo = validFrom.plus(90, ChronoUnit.DAYS);
+        final UpdateAgreementUseCase.Output output = useCase.execute(
+                new UpdateAgreementUseCase.Input(agreement.agreementId().value(), newValidTo, null));
+
+        assertThat(output.agreementId()).isEqualTo(agreement.agreementId().value());
+
+        final Agreement updated = agreementRepository.findById(agreement.agreementId()).orElseThrow();
+        assertThat(updated.validTo()).isEqualTo(newValidTo);
+        assertThat(updated.getDomainEvents())
+                .anyMatch(event -> event instanceof AgreementUpdated updatedEvent
+                        && updatedEvent.getFieldChanged().equals("validTo")
+                        && updatedEvent.getAggregateId().equals(agreement.from().value()));
+    }
+
+    @Test
+    @DisplayName("Should replace agreement conditions")
+    void shouldReplaceConditions() {
+        final Agreement agreement = AgreementBuilder.anAgreement().build();
+        agreementRepository.create(agreement);
+
+        final AgreementCondition condition = new AgreementCondition(
+                AgreementConditionId.unique(),
+                AgreementConditionType.DELIVERY_SLA_DAYS,
+                Conditions.with(Map.of("value", 3))
+        );
+        useCase.execute(new UpdateAgreementUseCase.Input(agreement.agreementId().value(), null, Set.of(condition)));
+
+        final Agreement updated = agreementRepository.findById(agreement.agreementId()).orElseThrow();
+        assertThat(updated.conditions()).containsExactly(condition);
+    }
+
+    @Test
+    @DisplayName("Should reject update that would create overlap")
+    void shouldRejectUpdateCreatingOverlap() {
+        final CompanyId source = CompanyId.unique();
+        final CompanyId destination = CompanyId.unique();
+        final Instant baseDate = Instant.parse("2026-01-01T00:00:00Z");
+
+        final Agreement first = AgreementBuilder.anAgreement()
+                .withFrom(source)
+                .withTo(destination)
+                .withValidFrom(baseDate)
+                .withValidTo(baseDate.plus(30, ChronoUnit.DAYS))
+                .build();
+        final Agreement second = AgreementBuilder.anAgreement()
+                .withFrom(source)
+                .withTo(destination)
+                .withValidFrom(baseDate.plus(60, ChronoUnit.DAYS))
+                .withValidTo(baseDate.plus(90, ChronoUnit.DAYS))
+                .build();
+        agreementRepository.create(first);
+        agreementRepository.create(second);
+
+        final UpdateAgreementUseCase.Input input = new UpdateAgreementUseCase.Input(
+                first.agreementId().value(), baseDate.plus(80, ChronoUnit.DAYS), null);
+
+        assertThatThrownBy(() -> useCase.execute(input))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("Overlapping");
+    }
+
+    @Test
+    @DisplayName("Should fail when agreement not found")
+    void shouldFailWhenAgreementNotFound() {
+        final UpdateAgreementUseCase.Input input = new UpdateAgreementUseCase.Input(
+                AgreementId.unique().value(), Instant.now(), null);
+
+        assertThatThrownBy(() -> useCase.execute(input))
+                .isInstanceOf(AgreementNotFoundException.class)
+                .hasMessageContaining("Agreement not found");
+    }
+}
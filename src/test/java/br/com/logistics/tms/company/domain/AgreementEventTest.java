@@ -4,6 +4,7 @@ import br.com.logistics.tms.AbstractTestBase;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Instant;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
@@ -18,18 +19,23 @@ class AgreementEventTest extends AbstractTestBase {
         final UUID agreementId = UUID.randomUUID();
         final UUID destinationCompanyId = UUID.randomUUID();
         final String agreementType = "DELIVERS_WITH";
+        final Instant validFrom = Instant.parse("2025-01-01T00:00:00Z");
 
         final AgreementAdded event = new AgreementAdded(
                 sourceCompanyId,
                 agreementId,
                 destinationCompanyId,
-                agreementType
+                agreementType,
+                validFrom,
+                null
         );
 
         assertThat(event.getSourceCompanyId()).isEqualTo(sourceCompanyId);
         assertThat(event.getAgreementId()).isEqualTo(agreementId);
         assertThat(event.getDestinationCompanyId()).isEqualTo(destinationCompanyId);
         assertThat(event.getAgreementType()).isEqualTo(agreementType);
+        assertThat(event.getValidFrom()).isEqualTo(validFrom);
+        assertThat(event.getValidTo()).isNull();
         assertThat(event.getAggregateId()).isEqualTo(sourceCompanyId);
         assertThat(event.getDomainEventId()).isNotNull();
         assertThat(event.getOccurredOn()).isNotNull();
@@ -88,14 +94,14 @@ class AgreementEventTest extends AbstractTestBase {
     void shouldVerifyAgreementAddedEventInAggregate() {
         final Company company = Company.createCompany(
                 "Test Company",
-                "12.345.678/9012-34",
+                "12.345.678/0001-95",
                 java.util.Set.of(CompanyType.MARKETPLACE),
                 java.util.Map.of("test", "value")
         );
 
         final Company destination = Company.createCompany(
                 "Destination Company",
-                "98.765.432/1098-76",
+                "98.765.432/0001-98",
                 java.util.Set.of(CompanyType.LOGISTICS_PROVIDER),
                 java.util.Map.of("test", "value")
         );
@@ -110,11 +116,10 @@ class AgreementEventTest extends AbstractTestBase {
                 null
         );
 
-        final Company updated = company.addAgreement(agreement);
-
-        assertThat(updated.getDomainEvents())
+        assertThat(agreement.getDomainEvents())
                 .isNotEmpty()
-                .anyMatch(event -> event instanceof AgreementAdded);
+                .anyMatch(event -> event instanceof AgreementAdded
+                        && event.getAggregateId().equals(company.getCompanyId().value()));
     }
 
     @Test
@@ -122,14 +127,14 @@ class AgreementEventTest extends AbstractTestBase {
     void shouldVerifyAgreementRemovedEventInAggregate() {
         final Company company = Company.createCompany(
                 "Test Company",
-                "11.111.111/1111-11",
+                "11.111.111/0001-91",
                 java.util.Set.of(CompanyType.MARKETPLACE),
                 java.util.Map.of("test", "value")
         );
 
         final Company destination = Company.createCompany(
                 "Destination Company",
-                "22.222.222/2222-22",
+                "22.222.222/0001-91",
                 java.util.Set.of(CompanyType.LOGISTICS_PROVIDER),
                 java.util.Map.of("test", "value")
         );
@@ -144,10 +149,9 @@ class AgreementEventTest extends AbstractTestBase {
                 null
         );
 
-        final Company withAgreement = company.addAgreement(agreement);
-        final Company updated = withAgreement.removeAgreement(agreement.agreementId());
+        final Agreement removed = agreement.remove();
 
-        assertThat(updated.getDomainEvents())
+        assertThat(removed.getDomainEvents())
                 .anyMatch(event -> event instanceof AgreementRemoved);
     }
 
@@ -156,14 +160,14 @@ class AgreementEventTest extends AbstractTestBase {
     void shouldVerifyAgreementUpdatedEventInAggregate() {
         final Company company = Company.createCompany(
                 "Test Company",
-                "33.333.333/3333-33",
+                "33.333.333/0001-91",
                 java.util.Set.of(CompanyType.MARKETPLACE),
                 java.util.Map.of("test", "value")
         );
 
         final Company destination = Company.createCompany(
                 "Destination Company",
-                "44.444.444/4444-44",
+                "44.444.444/0001-91",
                 java.util.Set.of(CompanyType.LOGISTICS_PROVIDER),
                 java.util.Map.of("test", "value")
         );
@@ -179,14 +183,11 @@ class AgreementEventTest extends AbstractTestBase {
                 null
         );
 
-        final Company withAgreement = company.addAgreement(agreement);
-
         final java.time.Instant newValidTo = validFrom.plus(365, java.time.temporal.ChronoUnit.DAYS);
         final Agreement updatedAgreement = agreement.updateValidTo(newValidTo);
 
-        final Company updated = withAgreement.updateAgreement(agreement.agreementId(), updatedAgreement);
-
-        assertThat(updated.getDomainEvents())
-                .anyMatch(event -> event instanceof AgreementUpdated);
+        assertThat(updatedAgreement.getDomainEvents())
+                .anyMatch(event -> event instanceof AgreementUpdated updated
+                        && updated.getFieldChanged().equals("validTo"));
     }
 }
@@ -84,7 +84,10 @@ class AgreementTest extends AbstractTestBase {
                 Configurations.with(Map.of("test", "value")),
                 Set.of(),
                 validFrom,
-                null
+                null,
+                false,
+                Set.of(),
+                Map.of()
         ))
                 .isInstanceOf(ValidationException.class)
                 .hasMessageContaining("Invalid agreementId");
@@ -97,7 +100,10 @@ class AgreementTest extends AbstractTestBase {
                 Configurations.with(Map.of("test", "value")),
                 Set.of(),
                 validFrom,
-                null
+                null,
+                false,
+                Set.of(),
+                Map.of()
         ))
                 .isInstanceOf(ValidationException.class)
                 .hasMessageContaining("Invalid from");
@@ -110,7 +116,10 @@ class AgreementTest extends AbstractTestBase {
                 Configurations.with(Map.of("test", "value")),
                 Set.of(),
                 validFrom,
-                null
+                null,
+                false,
+                Set.of(),
+                Map.of()
         ))
                 .isInstanceOf(ValidationException.class)
                 .hasMessageContaining("Invalid to");
@@ -132,7 +141,10 @@ class AgreementTest extends AbstractTestBase {
                 Configurations.with(Map.of("test", "value")),
                 Set.of(),
                 validFrom,
-                validTo
+                validTo,
+                false,
+                Set.of(),
+                Map.of()
         ))
                 .isInstanceOf(ValidationException.class)
                 .hasMessageContaining("validFrom must be before validTo");
@@ -397,6 +409,36 @@ class AgreementTest extends AbstractTestBase {
         assertThat(expiredAgreement.isActive()).isFalse();
     }
 
+    @Test
+    @DisplayName("Should flip active flag at validity boundaries and record the transition")
+    void shouldUpdateActivityAtBoundaries() {
+        final Instant validFrom = Instant.parse("2026-01-01T00:00:00Z");
+        final Instant validTo = Instant.parse("2026-02-01T00:00:00Z");
+        final Agreement pending = new Agreement(
+                AgreementId.unique(),
+                CompanyId.unique(),
+                CompanyId.unique(),
+                AgreementType.DELIVERS_WITH,
+                Configurations.with(Map.of("test", "value")),
+                Set.of(),
+                validFrom,
+                validTo,
+                false,
+                Set.of(),
+                Map.of()
+        );
+
+        assertThat(pending.updateActivity(validFrom.minusSeconds(1))).isSameAs(pending);
+
+        final Agreement activated = pending.updateActivity(validFrom);
+        assertThat(activated.isActive()).isTrue();
+        assertThat(activated.getDomainEvents()).anyMatch(event -> event instanceof AgreementActivationEvent);
+
+        final Agreement expired = activated.updateActivity(validTo);
+        assertThat(expired.isActive()).isFalse();
+        assertThat(expired.getDomainEvents()).anyMatch(event -> event instanceof AgreementExpirationEvent);
+    }
+
     @Test
     @DisplayName("Should check if valid on specific date")
     void shouldCheckIfValidOnDate() {
@@ -419,4 +461,170 @@ class AgreementTest extends AbstractTestBase {
         assertThat(agreement.isValidOn(Instant.parse("2025-12-31T23:59:59Z"))).isFalse();
         assertThat(agreement.isValidOn(Instant.parse("2027-01-01T00:00:01Z"))).isFalse();
     }
+
+    @Test
+    @DisplayName("Should place AgreementAdded event with source, destination and type")
+    void shouldPlaceAgreementAddedEventWithDetails() {
+        final CompanyId from = CompanyId.unique();
+        final CompanyId to = CompanyId.unique();
+        final Agreement agreement = Agreement.createAgreement(
+                from,
+                to,
+                AgreementType.DELIVERS_WITH,
+                Map.of("priority", "high"),
+                Set.of(),
+                Instant.now().truncatedTo(ChronoUnit.SECONDS),
+                null
+        );
+
+        final AgreementAdded event = agreement.getDomainEvents().stream()
+                .filter(AgreementAdded.class::isInstance)
+                .map(AgreementAdded.class::cast)
+                .findFirst()
+                .orElseThrow();
+
+        assertThat(event.getSourceCompanyId()).isEqualTo(from.value());
+        assertThat(event.getAgreementId()).isEqualTo(agreement.agreementId().value());
+        assertThat(event.getDestinationCompanyId()).isEqualTo(to.value());
+        assertThat(event.getAgreementType()).isEqualTo("DELIVERS_WITH");
+    }
+
+    @Test
+    @DisplayName("Should remove agreement into a new instance carrying AgreementRemoved")
+    void shouldRemoveImmutably() {
+        final CompanyId from = CompanyId.unique();
+        final CompanyId to = CompanyId.unique();
+        final Agreement agreement = Agreement.createAgreement(
+                from,
+                to,
+                AgreementType.DELIVERS_WITH,
+                Map.of("test", "value"),
+                Set.of(),
+                Instant.now().truncatedTo(ChronoUnit.SECONDS),
+                null
+        );
+
+        final Agreement removed = agreement.remove();
+
+        assertThat(removed).isNotSameAs(agreement);
+        assertThat(agreement.getDomainEvents()).noneMatch(AgreementRemoved.class::isInstance);
+
+        final AgreementRemoved event = removed.getDomainEvents().stream()
+                .filter(AgreementRemoved.class::isInstance)
+                .map(AgreementRemoved.class::cast)
+                .findFirst()
+                .orElseThrow();
+
+        assertThat(event.getSourceCompanyId()).isEqualTo(from.value());
+        assertThat(event.getAgreementId()).isEqualTo(agreement.agreementId().value());
+        assertThat(event.getDestinationCompanyId()).isEqualTo(to.value());
+    }
+
+    @Test
+    @DisplayName("Should place AgreementUpdated event for validTo changes only")
+    void shouldPlaceAgreementUpdatedEventForValidTo() {
+        final CompanyId from = CompanyId.unique();
+        final Instant validFrom = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        final Agreement agreement = Agreement.createAgreement(
+                from,
+                CompanyId.unique(),
+                AgreementType.DELIVERS_WITH,
+                Map.of("test", "value"),
+                Set.of(),
+                validFrom,
+                null
+        );
+
+        final Agreement updated = agreement.updateValidTo(validFrom.plus(180, ChronoUnit.DAYS));
+
+        final AgreementUpdated event = updated.getDomainEvents().stream()
+                .filter(AgreementUpdated.class::isInstance)
+                .map(AgreementUpdated.class::cast)
+                .findFirst()
+                .orElseThrow();
+
+        assertThat(event.getSourceCompanyId()).isEqualTo(from.value());
+        assertThat(event.getAgreementId()).isEqualTo(agreement.agreementId().value());
+        assertThat(event.getFieldChanged()).isEqualTo("validTo");
+        assertThat(agreement.getDomainEvents()).noneMatch(AgreementUpdated.class::isInstance);
+        assertThat(agreement.updateValidTo(null)).isSameAs(agreement);
+    }
+
+    @Test
+    @DisplayName("Should detect overlap when validTo is extended into a later agreement")
+    void shouldDetectOverlapAfterExtendingValidTo() {
+        final CompanyId from = CompanyId.unique();
+        final CompanyId to = CompanyId.unique();
+        final Instant baseDate = Instant.parse("2026-01-01T00:00:00Z");
+        final Agreement earlier = Agreement.createAgreement(
+                from,
+                to,
+                AgreementType.DELIVERS_WITH,
+                Map.of("test", "value"),
+                Set.of(),
+                baseDate,
+                baseDate.plus(30, ChronoUnit.DAYS)
+        );
+        final Agreement later = Agreement.createAgreement(
+                from,
+                to,
+                AgreementType.DELIVERS_WITH,
+                Map.of("test", "value"),
+                Set.of(),
+                baseDate.plus(40, ChronoUnit.DAYS),
+                baseDate.plus(90, ChronoUnit.DAYS)
+        );
+
+        assertThat(earlier.overlapsWith(later)).isFalse();
+        assertThat(earlier.updateValidTo(baseDate.plus(80, ChronoUnit.DAYS)).overlapsWith(later)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should NOT detect overlap when one agreement starts as the other ends")
+    void shouldNotDetectOverlapForAdjacentAgreements() {
+        final CompanyId from = CompanyId.unique();
+        final CompanyId to = CompanyId.unique();
+        final Instant boundary = Instant.parse("2026-02-01T00:00:00Z");
+        final Agreement ending = Agreement.createAgreement(
+                from,
+                to,
+                AgreementType.DELIVERS_WITH,
+                Map.of("test", "value"),
+                Set.of(),
+                boundary.minus(30, ChronoUnit.DAYS),
+                boundary
+        );
+        final Agreement starting = Agreement.createAgreement(
+                from,
+                to,
+                AgreementType.DELIVERS_WITH,
+                Map.of("test", "value"),
+                Set.of(),
+                boundary,
+                null
+        );
+
+        assertThat(ending.overlapsWith(starting)).isFalse();
+        assertThat(starting.overlapsWith(ending)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should check if agreement is between a source and destination")
+    void shouldCheckIsBetween() {
+        final CompanyId from = CompanyId.unique();
+        final CompanyId to = CompanyId.unique();
+        final Agreement agreement = Agreement.createAgreement(
+                from,
+                to,
+                AgreementType.DELIVERS_WITH,
+                Map.of("test", "value"),
+                Set.of(),
+                Instant.now().truncatedTo(ChronoUnit.SECONDS),
+                null
+        );
+
+        assertThat(agreement.isBetween(from, to)).isTrue();
+        assertThat(agreement.isBetween(to, from)).isFalse();
+        assertThat(agreement.isBetween(from, CompanyId.unique())).isFalse();
+    }
 }
@@ -0,0 +1,58 @@
+package br.com.logistics.tms.company.domain;
+
+import br.com.logistics.tms.AbstractTestBase;
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CnpjTest extends AbstractTestBase {
+
+    @Test
+    @DisplayName("Should accept masked and bare digits and keep the masked form")
+    void shouldNormalizeToMaskedForm() {
+        final Cnpj masked = Cnpj.with("42.123.456/0001-99");
+        final Cnpj bare = Cnpj.with("42123456000199");
+
+        assertThat(bare).isEqualTo(masked);
+        assertThat(bare.value()).isEqualTo("42.123.456/0001-99");
+    }
+
+    @Test
+    @DisplayName("Should round trip through its numeric form, keeping leading zeros")
+    void shouldRoundTripThroughNumber() {
+        final Cnpj cnpj = Cnpj.with("04.252.011/0001-10");
+
+        assertThat(cnpj.number()).isEqualTo(4_252_011_000_110L);
+        assertThat(Cnpj.with(cnpj.number())).isEqualTo(cnpj);
+    }
+
+    @Test
+    @DisplayName("Should reject wrong check digits and repeated digits")
+    void shouldRejectInvalidCheckDigits() {
+        assertThatThrownBy(() -> Cnpj.with("42.123.456/0001-98"))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("check digits");
+        assertThatThrownBy(() -> Cnpj.with("11.111.111/1111-11"))
+                .isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject malformed values")
+    void shouldRejectMalformedValues() {
+        assertThatThrownBy(() -> Cnpj.with((String) null)).isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> Cnpj.with("42.123.456/0001")).isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> Cnpj.with("42-123-456-0001-99")).isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    @DisplayName("Should rebuild a stored CNPJ without checking its digits again")
+    void shouldNotValidateCheckDigitsOfStoredCnpj() {
+        final Cnpj legacy = Cnpj.with(42_123_456_000_198L);
+
+        assertThat(legacy.value()).isEqualTo("42.123.456/0001-98");
+        assertThat(legacy.number()).isEqualTo(42_123_456_000_198L);
+    }
+}
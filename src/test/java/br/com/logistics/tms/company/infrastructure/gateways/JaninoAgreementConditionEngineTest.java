@@ -0,0 +1,103 @@
+package br.com.logistics.tms.company.infrastructure.gateways;
+
+import br.com.logistics.tms.AbstractTestBase;
+import br.com.logistics.tms.company.application.gateways.AgreementConditionEngine.AgreementRules;
+import br.com.logistics.tms.company.application.gateways.AgreementConditionEngine.AgreementTerms;
+import br.com.logistics.tms.company.domain.AgreementCondition;
+import br.com.logistics.tms.company.domain.AgreementConditionId;
+import br.com.logistics.tms.company.domain.AgreementConditionType;
+import br.com.logistics.tms.company.domain.Conditions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JaninoAgreementConditionEngineTest extends AbstractTestBase {
+
+    private JaninoAgreementConditionEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new JaninoAgreementConditionEngine();
+    }
+
+    @Test
+    @DisplayName("Should grant the terms whose guards hold for the shipment")
+    void shouldGrantTermsWhoseGuardsHold() {
+        final AgreementRules rules = engine.rulesFor(UUID.randomUUID(), Set.of(
+                condition(AgreementConditionType.DISCOUNT_PERCENTAGE, Map.of("percentage", 10,
+                        "when", Map.of("weightKg", Map.of("max", 30), "state", Map.of("in", List.of("SP", "RJ"))))),
+                condition(AgreementConditionType.DISCOUNT_PERCENTAGE, Map.of("percentage", 15,
+                        "when", Map.of("service", "EXPRESS"))),
+                condition(AgreementConditionType.DELIVERY_SLA_DAYS, Map.of("maxDays", 3))
+        ));
+
+        final AgreementTerms terms = rules.evaluate(Map.of("weightKg", 12.5, "state", "SP", "service", "EXPRESS")).orElseThrow();
+        assertThat(terms.discountPercentage()).isEqualTo(15.0);
+        assertThat(terms.slaDays()).isEqualTo(3);
+
+        final AgreementTerms heavy = rules.evaluate(Map.of("weightKg", "45", "state", "SP")).orElseThrow();
+        assertThat(heavy.discountPercentage()).isNull();
+        assertThat(heavy.slaDays()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should not apply when no condition holds")
+    void shouldNotApplyWhenNoConditionHolds() {
+        final AgreementRules rules = engine.rulesFor(UUID.randomUUID(), Set.of(
+                condition(AgreementConditionType.USES_PROVIDER, Map.of("providerId", "carrier-a",
+                        "when", Map.of("weightKg", Map.of("min", 10))))
+        ));
+
+        assertThat(rules.evaluate(Map.of("weightKg", 5))).isEmpty();
+        assertThat(rules.evaluate(Map.of())).isEmpty();
+        assertThat(rules.evaluate(Map.of("weightKg", 10)).orElseThrow().providers()).containsExactly("carrier-a");
+    }
+
+    @Test
+    @DisplayName("Should treat condition text as data, never as code")
+    void shouldTreatConditionTextAsData() {
+        final String hostile = "x\"); System.exit(1); //\\u0022";
+        final AgreementRules rules = engine.rulesFor(UUID.randomUUID(), Set.of(
+                condition(AgreementConditionType.USES_PROVIDER, Map.of("providerId", hostile, "when", Map.of(hostile, hostile)))
+        ));
+
+        assertThat(rules.evaluate(Map.of(hostile, hostile)).orElseThrow().providers()).containsExactly(hostile);
+    }
+
+    @Test
+    @DisplayName("Should never apply an agreement whose conditions cannot be compiled")
+    void shouldNeverApplyMalformedConditions() {
+        final AgreementRules rules = engine.rulesFor(UUID.randomUUID(), Set.of(
+                condition(AgreementConditionType.DISCOUNT_PERCENTAGE, Map.of("percentage", 10,
+                        "when", Map.of("weightKg", Map.of("between", 30))))
+        ));
+
+        assertThat(rules.evaluate(Map.of("weightKg", 30))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reuse the compiled rules until the conditions change")
+    void shouldReuseCompiledRulesUntilConditionsChange() {
+        final UUID agreementId = UUID.randomUUID();
+        final Set<AgreementCondition> conditions = Set.of(condition(AgreementConditionType.DELIVERY_SLA_DAYS, Map.of("maxDays", 2)));
+
+        final AgreementRules compiled = engine.rulesFor(agreementId, conditions);
+        assertThat(engine.rulesFor(agreementId, conditions)).isSameAs(compiled);
+
+        final AgreementRules changed = engine.rulesFor(agreementId,
+                Set.of(condition(AgreementConditionType.DELIVERY_SLA_DAYS, Map.of("maxDays", 4))));
+        assertThat(changed).isNotSameAs(compiled);
+        assertThat(changed.evaluate(Map.of()).orElseThrow().slaDays()).isEqualTo(4);
+    }
+
+    private static AgreementCondition condition(final AgreementConditionType type, final Map<String, Object> value) {
+        return new AgreementCondition(AgreementConditionId.unique(), type, Conditions.with(value));
+    }
+}
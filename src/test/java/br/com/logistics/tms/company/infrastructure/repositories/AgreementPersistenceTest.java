@@ -0,0 +1,205 @@
+package br.com.logistics.tms.company.infrastructure.repositories;
+
+import br.com.logistics.tms.AbstractIntegrationTest;
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
+import br.com.logistics.tms.company.application.repositories.AgreementRepository;
+import br.com.logistics.tms.company.application.repositories.CompanyRepository;
+import br.com.logistics.tms.company.domain.*;
+import br.com.logistics.tms.utils.CnpjGenerator;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Transactional
+class AgreementPersistenceTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private AgreementRepository agreementRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void shouldPersistAgreementWithoutWritingSourceCompany() {
+        final Company savedSource = createCompany("Source Company", CompanyType.MARKETPLACE);
+        final Company savedDestination = createCompany("Destination Company", CompanyType.LOGISTICS_PROVIDER);
+        entityManager.flush();
+        final Integer sourceVersion = companyJpaRepository.findById(savedSource.getCompanyId().value())
+                .orElseThrow()
+                .getVersion();
+
+        final Agreement agreement = newAgreement(savedSource, savedDestination, 10.0,
+                Instant.now().truncatedTo(ChronoUnit.SECONDS), null);
+        agreementRepository.create(agreement);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        final Agreement reloadedAgreement = agreementRepository.findById(agreement.agreementId())
+                .orElseThrow();
+        assertThat(reloadedAgreement.from()).isEqualTo(savedSource.getCompanyId());
+        assertThat(reloadedAgreement.to()).isEqualTo(savedDestination.getCompanyId());
+        assertThat(reloadedAgreement.type()).isEqualTo(AgreementType.DELIVERS_WITH);
+        assertThat(reloadedAgreement.conditions()).hasSize(1);
+        assertThat(reloadedAgreement.getPersistentMetadata()).containsEntry("version", 0);
+
+        assertThat(companyJpaRepository.findById(savedSource.getCompanyId().value()).orElseThrow().getVersion())
+                .isEqualTo(sourceVersion);
+    }
+
+    @Test
+    void shouldDeleteAgreementWithItsConditions() {
+        final Company savedSource = createCompany("Source Company", CompanyType.MARKETPLACE);
+        final Company savedDestination = createCompany("Destination Company", CompanyType.LOGISTICS_PROVIDER);
+
+        final Agreement agreement = newAgreement(savedSource, savedDestination, 15.0,
+                Instant.now().truncatedTo(ChronoUnit.SECONDS),
+                Instant.now().plus(30, ChronoUnit.DAYS).truncatedTo(ChronoUnit.SECONDS));
+        agreementRepository.create(agreement);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        final Agreement persisted = agreementRepository.findById(agreement.agreementId()).orElseThrow();
+        agreementRepository.delete(persisted.remove());
+
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(agreementRepository.findById(agreement.agreementId())).isEmpty();
+    }
+
+    @Test
+    void shouldIncrementVersionWhenUpdatingAgreement() {
+        final Company savedSource = createCompany("Source Company", CompanyType.MARKETPLACE);
+        final Company savedDestination = createCompany("Destination Company", CompanyType.LOGISTICS_PROVIDER);
+
+        final Instant validFrom = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        final Agreement agreement = newAgreement(savedSource, savedDestination, 20.0, validFrom, null);
+        agreementRepository.create(agreement);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        final Agreement persisted = agreementRepository.findById(agreement.agreementId()).orElseThrow();
+        agreementRepository.update(persisted.updateValidTo(validFrom.plus(10, ChronoUnit.DAYS)));
+
+        entityManager.flush();
+        entityManager.clear();
+
+        final Agreement reloaded = agreementRepository.findById(agreement.agreementId()).orElseThrow();
+        assertThat(reloaded.validTo()).isEqualTo(validFrom.plus(10, ChronoUnit.DAYS));
+        assertThat(reloaded.getPersistentMetadata()).containsEntry("version", 1);
+    }
+
+    @Test
+    void shouldRejectOverlappingAgreementThroughExclusionConstraint() {
+        final Company savedSource = createCompany("Source Company", CompanyType.MARKETPLACE);
+        final Company savedDestination = createCompany("Destination Company", CompanyType.LOGISTICS_PROVIDER);
+
+        final Instant validFrom = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        agreementRepository.create(newAgreement(savedSource, savedDestination, 10.0,
+                validFrom, validFrom.plus(30, ChronoUnit.DAYS)));
+
+        final Agreement overlapping = newAgreement(savedSource, savedDestination, 12.0,
+                validFrom.plus(10, ChronoUnit.DAYS), null);
+
+        assertThatThrownBy(() -> agreementRepository.create(overlapping))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("Overlapping active agreement already exists");
+    }
+
+    @Test
+    void shouldRejectUpdateExtendingIntoLaterAgreementThroughExclusionConstraint() {
+        final Company savedSource = createCompany("Source Company", CompanyType.MARKETPLACE);
+        final Company savedDestination = createCompany("Destination Company", CompanyType.LOGISTICS_PROVIDER);
+
+        final Instant validFrom = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        final Agreement earlier = newAgreement(savedSource, savedDestination, 10.0,
+                validFrom, validFrom.plus(30, ChronoUnit.DAYS));
+        agreementRepository.create(earlier);
+        agreementRepository.create(newAgreement(savedSource, savedDestination, 12.0,
+                validFrom.plus(40, ChronoUnit.DAYS), null));
+
+        entityManager.flush();
+        entityManager.clear();
+
+        final Agreement persisted = agreementRepository.findById(earlier.agreementId()).orElseThrow();
+        final Agreement extended = persisted.updateValidTo(validFrom.plus(80, ChronoUnit.DAYS));
+
+        assertThatThrownBy(() -> agreementRepository.update(extended))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("Overlapping active agreement already exists");
+    }
+
+    @Test
+    void shouldAcceptAgreementStartingWhenPreviousOneEnds() {
+        final Company savedSource = createCompany("Source Company", CompanyType.MARKETPLACE);
+        final Company savedDestination = createCompany("Destination Company", CompanyType.LOGISTICS_PROVIDER);
+
+        final Instant boundary = Instant.now().plus(30, ChronoUnit.DAYS).truncatedTo(ChronoUnit.SECONDS);
+        final Agreement ending = newAgreement(savedSource, savedDestination, 10.0,
+                Instant.now().truncatedTo(ChronoUnit.SECONDS), boundary);
+        final Agreement starting = newAgreement(savedSource, savedDestination, 12.0, boundary, null);
+
+        agreementRepository.create(ending);
+        agreementRepository.create(starting);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(agreementRepository.findById(ending.agreementId())).isPresent();
+        assertThat(agreementRepository.findById(starting.agreementId()))
+                .get()
+                .satisfies(reloaded -> {
+                    assertThat(reloaded.validFrom()).isEqualTo(boundary);
+                    assertThat(reloaded.conditions()).hasSize(1);
+                });
+    }
+
+    private Company createCompany(final String name, final CompanyType type) {
+        return companyRepository.create(Company.createCompany(
+                name,
+                CnpjGenerator.randomCnpj(),
+                Set.of(type),
+                Map.of("test", name)
+        ));
+    }
+
+    private static Agreement newAgreement(final Company source,
+                                          final Company destination,
+                                          final double percentage,
+                                          final Instant validFrom,
+                                          final Instant validTo) {
+        final Map<String, Object> conditionsData = new HashMap<>();
+        conditionsData.put("percentage", percentage);
+        final AgreementCondition condition = new AgreementCondition(
+                AgreementConditionId.unique(),
+                AgreementConditionType.USES_PROVIDER,
+                Conditions.with(conditionsData)
+        );
+
+        return Agreement.createAgreement(
+                source.getCompanyId(),
+                destination.getCompanyId(),
+                AgreementType.DELIVERS_WITH,
+                Map.of("priority", "high"),
+                Set.of(condition),
+                validFrom,
+                validTo
+        );
+    }
+}
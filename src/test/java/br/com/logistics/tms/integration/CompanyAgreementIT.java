@@ -16,7 +16,7 @@ import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
-import java.util.Set;
+import java.util.List;
 
 import static br.com.logistics.tms.assertions.jpa.AgreementEntityAssert.assertThatAgreement;
 import static br.com.logistics.tms.assertions.jpa.CompanyEntityAssert.assertThatCompany;
@@ -71,18 +71,11 @@ class CompanyAgreementIT extends AbstractIntegrationTest {
                         .build()
         );
 
-        // Story Part 4: Verify agreement persisted in database
-        final CompanyEntity shoppeWithAgreement = entityManager.createQuery(
-                "SELECT c FROM CompanyEntity c LEFT JOIN FETCH c.agreements WHERE c.id = :id",
-                CompanyEntity.class
-        ).setParameter("id", shoppeId.value()).getSingleResult();
-        
-        assertThatCompany(shoppeWithAgreement)
-                .hasName("Shoppe");
+        // Story Part 4: Verify agreement persisted in database without writing the company row
+        final List<AgreementEntity> shoppeAgreements = findAgreementsBySource(shoppeId);
+        assertThat(shoppeAgreements).hasSize(1);
 
-        assertThat(shoppeWithAgreement.getAgreements()).hasSize(1);
-        
-        final AgreementEntity agreement = shoppeWithAgreement.getAgreements().iterator().next();
+        final AgreementEntity agreement = shoppeAgreements.get(0);
         assertThatAgreement(agreement)
                 .hasId(agreementId.value())
                 .hasFrom(shoppeId.value())
@@ -101,14 +94,10 @@ class CompanyAgreementIT extends AbstractIntegrationTest {
         );
 
         // Story Part 6: Verify update in database
-        final CompanyEntity shoppeWithUpdatedAgreement = entityManager.createQuery(
-                "SELECT c FROM CompanyEntity c LEFT JOIN FETCH c.agreements WHERE c.id = :id",
-                CompanyEntity.class
-        ).setParameter("id", shoppeId.value()).getSingleResult();
-        
-        assertThat(shoppeWithUpdatedAgreement.getAgreements()).hasSize(1);
+        final List<AgreementEntity> shoppeUpdatedAgreements = findAgreementsBySource(shoppeId);
+        assertThat(shoppeUpdatedAgreements).hasSize(1);
 
-        final AgreementEntity updatedAgreement = shoppeWithUpdatedAgreement.getAgreements().iterator().next();
+        final AgreementEntity updatedAgreement = shoppeUpdatedAgreements.get(0);
         assertThatAgreement(updatedAgreement)
                 .hasId(agreementId.value())
                 .hasFrom(shoppeId.value())
@@ -116,25 +105,30 @@ class CompanyAgreementIT extends AbstractIntegrationTest {
                 .hasRelationType("DELIVERS_WITH")
                 .hasValidFrom(validFrom)
                 .hasValidTo(validTo);
+        assertThat(updatedAgreement.getVersion()).isEqualTo(agreement.getVersion() + 1);
 
         // Story Part 7: Remove agreement
         agreementFixture.removeAgreement(shoppeId.value(), agreementId.value());
 
         // Story Part 8: Verify deletion (agreement gone, companies still exist)
-        final CompanyEntity shoppeAfterRemoval = entityManager.createQuery(
-                "SELECT c FROM CompanyEntity c LEFT JOIN FETCH c.agreements WHERE c.id = :id",
-                CompanyEntity.class
-        ).setParameter("id", shoppeId.value()).getSingleResult();
-        
+        final CompanyEntity shoppeAfterRemoval = companyJpaRepository.findById(shoppeId.value()).orElseThrow();
         assertThatCompany(shoppeAfterRemoval)
                 .hasName("Shoppe")
                 .isActive();
+        assertThat(shoppeAfterRemoval.getVersion()).isEqualTo(shoppe.getVersion());
 
-        assertThat(shoppeAfterRemoval.getAgreements()).isEmpty();
+        assertThat(findAgreementsBySource(shoppeId)).isEmpty();
 
         final CompanyEntity loggiAfterRemoval = companyJpaRepository.findById(loggiId.value()).orElseThrow();
         assertThatCompany(loggiAfterRemoval)
                 .hasName("Loggi")
                 .isActive();
     }
+
+    private List<AgreementEntity> findAgreementsBySource(final CompanyId sourceId) {
+        return entityManager.createQuery(
+                "SELECT a FROM AgreementEntity a WHERE a.sourceId = :source",
+                AgreementEntity.class
+        ).setParameter("source", sourceId.value()).getResultList();
+    }
 }
@@ -22,7 +22,7 @@ import static br.com.logistics.tms.assertions.jpa.ShipmentOrderEntityAssert.asse
 class CompanyShipmentOrderIT extends AbstractIntegrationTest {
 
     @Test
-    void shouldCreateAndUpdateCompanyThenCreateShipmentOrderAndIncrementCompanyOrders() throws Exception {
+    void shouldCreateAndUpdateCompanyThenCreateShipmentOrderWithOrderNumber() throws Exception {
         final CompanyId companyId = companyFixture.createCompany(
                 CreateCompanyDTOBuilder.aCreateCompanyDTO()
                         .withName("Test Company")
@@ -88,15 +88,12 @@ class CompanyShipmentOrderIT extends AbstractIntegrationTest {
                 .hasCompanyId(companyId.value())
                 .hasShipperId(shipperId.value())
                 .hasExternalId("EXT-ORDER-001")
+                .hasOrderNumber(1)
                 .isNotArchived();
-
-        final CompanyEntity finalCompany = companyJpaRepository.findById(companyId.value()).orElseThrow();
-        assertThatCompany(finalCompany)
-                .hasShipmentOrderCount(1);
     }
 
     @Test
-    void shouldIncrementCompanyCounterForMultipleShipmentOrders() throws Exception {
+    void shouldAssignSequentialOrderNumbersForMultipleShipmentOrders() throws Exception {
         final CompanyId companyId = companyFixture.createCompany(
                 CreateCompanyDTOBuilder.aCreateCompanyDTO()
                         .withName("Multi Order Company")
@@ -109,30 +106,33 @@ class CompanyShipmentOrderIT extends AbstractIntegrationTest {
                         .build()
         );
 
-        shipmentOrderFixture.createShipmentOrder(
+        final ShipmentOrderId firstOrderId = shipmentOrderFixture.createShipmentOrder(
                 CreateShipmentOrderDTOBuilder.aCreateShipmentOrderDTO()
                         .withCompanyId(companyId.value())
                         .withShipperId(shipperId.value())
                         .build()
         );
 
-        shipmentOrderFixture.createShipmentOrder(
+        final ShipmentOrderId secondOrderId = shipmentOrderFixture.createShipmentOrder(
                 CreateShipmentOrderDTOBuilder.aCreateShipmentOrderDTO()
                         .withCompanyId(companyId.value())
                         .withShipperId(shipperId.value())
                         .build()
         );
 
-        shipmentOrderFixture.createShipmentOrder(
+        final ShipmentOrderId thirdOrderId = shipmentOrderFixture.createShipmentOrder(
                 CreateShipmentOrderDTOBuilder.aCreateShipmentOrderDTO()
                         .withCompanyId(companyId.value())
                         .withShipperId(shipperId.value())
                         .build()
         );
 
-        final CompanyEntity company = companyJpaRepository.findById(companyId.value()).orElseThrow();
-        assertThatCompany(company)
-                .hasShipmentOrderCount(3);
+        assertThatShipmentOrder(shipmentOrderJpaRepository.findById(firstOrderId.value()).orElseThrow())
+                .hasOrderNumber(1);
+        assertThatShipmentOrder(shipmentOrderJpaRepository.findById(secondOrderId.value()).orElseThrow())
+                .hasOrderNumber(2);
+        assertThatShipmentOrder(shipmentOrderJpaRepository.findById(thirdOrderId.value()).orElseThrow())
+                .hasOrderNumber(3);
     }
 
     @Test
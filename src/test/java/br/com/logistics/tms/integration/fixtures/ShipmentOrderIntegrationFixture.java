@@ -1,7 +1,6 @@
 package br.com.logistics.tms.integration.fixtures;
 
 import br.com.logistics.tms.commons.infrastructure.gateways.outbox.AbstractOutboxEntity;
-import br.com.logistics.tms.company.infrastructure.jpa.repositories.CompanyJpaRepository;
 import br.com.logistics.tms.shipmentorder.domain.ShipmentOrderId;
 import br.com.logistics.tms.shipmentorder.infrastructure.dto.CreateShipmentOrderDTO;
 import br.com.logistics.tms.shipmentorder.infrastructure.jpa.repositories.ShipmentOrderOutboxJpaRepository;
@@ -23,22 +22,18 @@ public class ShipmentOrderIntegrationFixture {
     private final MockMvc mockMvc;
     private final ObjectMapper objectMapper;
     private final ShipmentOrderOutboxJpaRepository shipmentOrderOutboxJpaRepository;
-    private final CompanyJpaRepository companyJpaRepository;
 
     public ShipmentOrderIntegrationFixture(final MockMvc mockMvc,
                                            final ObjectMapper objectMapper,
-                                           final ShipmentOrderOutboxJpaRepository shipmentOrderOutboxJpaRepository,
-                                           final CompanyJpaRepository companyJpaRepository) {
+                                           final ShipmentOrderOutboxJpaRepository shipmentOrderOutboxJpaRepository) {
         this.mockMvc = mockMvc;
         this.objectMapper = objectMapper;
         this.shipmentOrderOutboxJpaRepository = shipmentOrderOutboxJpaRepository;
-        this.companyJpaRepository = companyJpaRepository;
     }
 
     public ShipmentOrderId createShipmentOrder(final CreateShipmentOrderDTO dto) throws Exception {
         final ShipmentOrderId shipmentOrderId = createShipmentOrderWithoutWaiting(dto);
         waitForOutboxPublished(shipmentOrderId);
-        waitForCompanyCounterIncremented(dto.companyId());
         return shipmentOrderId;
     }
 
@@ -87,13 +82,4 @@ public class ShipmentOrderIntegrationFixture {
                         .isEqualTo(br.com.logistics.tms.commons.infrastructure.gateways.outbox.OutboxStatus.PUBLISHED));
     }
 
-    private void waitForCompanyCounterIncremented(final java.util.UUID companyId) {
-        await().atMost(Duration.ofSeconds(30))
-                .pollInterval(Duration.ofMillis(200))
-                .untilAsserted(() -> assertThat(companyJpaRepository.findById(companyId))
-                        .isPresent()
-                        .get()
-                        .extracting(company -> company.getConfiguration().get("shipmentOrderNumber"))
-                        .isNotNull());
-    }
 }
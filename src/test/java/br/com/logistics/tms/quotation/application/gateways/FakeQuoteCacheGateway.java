@@ -0,0 +1,41 @@
+package br.com.logistics.tms.quotation.application.gateways;
+
+import br.com.logistics.tms.quotation.domain.CompanyId;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class FakeQuoteCacheGateway implements QuoteCacheGateway {
+
+    private final Map<Fingerprint, CachedQuote> entries = new ConcurrentHashMap<>();
+    private long generation;
+
+    @Override
+    public Optional<CachedQuote> find(final Fingerprint fingerprint) {
+        return Optional.ofNullable(entries.get(fingerprint));
+    }
+
+    @Override
+    public long generation() {
+        return generation;
+    }
+
+    @Override
+    public void put(final Fingerprint fingerprint, final CachedQuote quote, final long generation) {
+        if (this.generation == generation) {
+            entries.put(fingerprint, quote);
+        }
+    }
+
+    @Override
+    public void invalidate(final Collection<CompanyId> companyIds) {
+        generation++;
+        entries.keySet().removeIf(fingerprint -> companyIds.contains(fingerprint.shipperId()));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+}
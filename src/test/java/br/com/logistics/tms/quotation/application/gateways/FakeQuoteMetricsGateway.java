@@ -0,0 +1,43 @@
+package br.com.logistics.tms.quotation.application.gateways;
+
+import br.com.logistics.tms.quotation.domain.CompanyId;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class FakeQuoteMetricsGateway implements QuoteMetricsGateway {
+
+    private final List<Boolean> quotes = new CopyOnWriteArrayList<>();
+    private final Map<CompanyId, CarrierOutcome> carriers = new ConcurrentHashMap<>();
+    private final Map<CompanyId, Integer> cacheHits = new ConcurrentHashMap<>();
+
+    @Override
+    public void recordQuote(final Duration elapsed, final boolean partial) {
+        quotes.add(partial);
+    }
+
+    @Override
+    public void recordCarrier(final CompanyId carrierId, final Duration elapsed, final CarrierOutcome outcome) {
+        carriers.put(carrierId, outcome);
+    }
+
+    @Override
+    public void recordCacheLookup(final CompanyId carrierId, final boolean hit) {
+        if (hit) cacheHits.merge(carrierId, 1, Integer::sum);
+    }
+
+    public List<Boolean> quotes() {
+        return List.copyOf(quotes);
+    }
+
+    public CarrierOutcome outcomeOf(final CompanyId carrierId) {
+        return carriers.get(carrierId);
+    }
+
+    public int cacheHitsOf(final CompanyId carrierId) {
+        return cacheHits.getOrDefault(carrierId, 0);
+    }
+}
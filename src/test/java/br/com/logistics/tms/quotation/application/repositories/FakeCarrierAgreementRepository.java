@@ -0,0 +1,26 @@
+package br.com.logistics.tms.quotation.application.repositories;
+
+import br.com.logistics.tms.quotation.domain.CompanyId;
+
+import java.time.Instant;
+import java.util.*;
+
+public class FakeCarrierAgreementRepository implements CarrierAgreementRepository {
+
+    private final Map<CompanyId, List<CarrierAgreement>> storage = new HashMap<>();
+    private final List<Map<String, Object>> shipments = new ArrayList<>();
+
+    @Override
+    public List<CarrierAgreement> findEligible(final CompanyId shipperId, final Instant at, final Map<String, Object> shipment) {
+        shipments.add(Map.copyOf(shipment));
+        return List.copyOf(storage.getOrDefault(shipperId, List.of()));
+    }
+
+    public void save(final CompanyId shipperId, final CarrierAgreement agreement) {
+        storage.computeIfAbsent(shipperId, id -> new ArrayList<>()).add(agreement);
+    }
+
+    public List<Map<String, Object>> shipments() {
+        return List.copyOf(shipments);
+    }
+}
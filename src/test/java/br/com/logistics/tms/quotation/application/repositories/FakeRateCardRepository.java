@@ -0,0 +1,26 @@
+package br.com.logistics.tms.quotation.application.repositories;
+
+import br.com.logistics.tms.quotation.domain.CompanyId;
+import br.com.logistics.tms.quotation.domain.RateCard;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class FakeRateCardRepository implements RateCardRepository {
+
+    private final Map<CompanyId, List<RateCard>> versions = new HashMap<>();
+
+    @Override
+    public int save(final CompanyId carrierId, final RateCard card) {
+        final List<RateCard> cards = versions.computeIfAbsent(carrierId, ignored -> new ArrayList<>());
+        cards.add(card);
+        return cards.size();
+    }
+
+    public RateCard active(final CompanyId carrierId) {
+        final List<RateCard> cards = versions.get(carrierId);
+        return cards == null ? null : cards.getLast();
+    }
+}
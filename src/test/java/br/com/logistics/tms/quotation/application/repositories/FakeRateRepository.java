@@ -0,0 +1,69 @@
+package br.com.logistics.tms.quotation.application.repositories;
+
+import br.com.logistics.tms.quotation.domain.CarrierTariff;
+import br.com.logistics.tms.quotation.domain.CompanyId;
+import br.com.logistics.tms.quotation.domain.Lane;
+import br.com.logistics.tms.quotation.domain.Rate;
+import br.com.logistics.tms.quotation.domain.ServiceLevel;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class FakeRateRepository implements RateRepository {
+
+    private final Map<String, CarrierTariff> tariffs = new ConcurrentHashMap<>();
+    private final Map<CompanyId, Duration> delays = new ConcurrentHashMap<>();
+    private final Map<CompanyId, Integer> rateCardVersions = new ConcurrentHashMap<>();
+    private Granularity granularity = new Granularity(0, 1000);
+
+    @Override
+    public Optional<Rate> findRate(final CompanyId carrierId, final Lane lane, final double weightKg, final ServiceLevel serviceLevel) {
+        final Duration delay = delays.get(carrierId);
+        if (delay != null) {
+            try {
+                Thread.sleep(delay);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+        return Optional.ofNullable(tariffs.get(key(carrierId, serviceLevel))).map(tariff -> tariff.rateFor(weightKg));
+    }
+
+    @Override
+    public int rateCardVersion(final CompanyId carrierId) {
+        return rateCardVersions.getOrDefault(carrierId, 0);
+    }
+
+    @Override
+    public Optional<RateCardStats> findRateCardStats(final CompanyId carrierId) {
+        return Optional.empty();
+    }
+
+    @Override
+    public Granularity granularity() {
+        return granularity;
+    }
+
+    public void granularity(final Granularity granularity) {
+        this.granularity = granularity;
+    }
+
+    public void save(final CarrierTariff tariff) {
+        tariffs.put(key(tariff.carrierId(), tariff.serviceLevel()), tariff);
+    }
+
+    public void rateCardVersion(final CompanyId carrierId, final int version) {
+        rateCardVersions.put(carrierId, version);
+    }
+
+    public void delay(final CompanyId carrierId, final Duration delay) {
+        delays.put(carrierId, delay);
+    }
+
+    private static String key(final CompanyId carrierId, final ServiceLevel serviceLevel) {
+        return carrierId.value() + ":" + serviceLevel;
+    }
+}
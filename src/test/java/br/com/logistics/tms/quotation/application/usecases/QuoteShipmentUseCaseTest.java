@@ -0,0 +1,180 @@
+package br.com.logistics.tms.quotation.application.usecases;
+
+import br.com.logistics.tms.AbstractTestBase;
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
+import br.com.logistics.tms.quotation.application.gateways.FakeQuoteCacheGateway;
+import br.com.logistics.tms.quotation.application.gateways.FakeQuoteMetricsGateway;
+import br.com.logistics.tms.quotation.application.gateways.QuoteMetricsGateway.CarrierOutcome;
+import br.com.logistics.tms.quotation.application.repositories.CarrierAgreementRepository.CarrierAgreement;
+import br.com.logistics.tms.quotation.application.repositories.FakeCarrierAgreementRepository;
+import br.com.logistics.tms.quotation.application.repositories.FakeRateRepository;
+import br.com.logistics.tms.quotation.application.repositories.RateRepository.Granularity;
+import br.com.logistics.tms.quotation.domain.CarrierTariff;
+import br.com.logistics.tms.quotation.domain.CompanyId;
+import br.com.logistics.tms.quotation.domain.ServiceLevel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QuoteShipmentUseCaseTest extends AbstractTestBase {
+
+    private FakeCarrierAgreementRepository carrierAgreementRepository;
+    private FakeRateRepository rateRepository;
+    private FakeQuoteMetricsGateway quoteMetricsGateway;
+    private FakeQuoteCacheGateway quoteCacheGateway;
+    private QuoteShipmentUseCase useCase;
+    private CompanyId shipper;
+    private CompanyId cheap;
+    private CompanyId discounted;
+
+    @BeforeEach
+    void setUp() {
+        carrierAgreementRepository = new FakeCarrierAgreementRepository();
+        rateRepository = new FakeRateRepository();
+        quoteMetricsGateway = new FakeQuoteMetricsGateway();
+        quoteCacheGateway = new FakeQuoteCacheGateway();
+        useCase = new QuoteShipmentUseCase(carrierAgreementRepository, rateRepository, quoteMetricsGateway, quoteCacheGateway);
+        shipper = CompanyId.unique();
+        cheap = CompanyId.unique();
+        discounted = CompanyId.unique();
+
+        carrierAgreementRepository.save(shipper, new CarrierAgreement(UUID.randomUUID(), cheap, null));
+        carrierAgreementRepository.save(shipper, new CarrierAgreement(UUID.randomUUID(), discounted, 30.0));
+        rateRepository.save(new CarrierTariff(cheap, ServiceLevel.STANDARD, 1000, 200, 4));
+        rateRepository.save(new CarrierTariff(discounted, ServiceLevel.STANDARD, 1500, 200, 2));
+    }
+
+    @Test
+    @DisplayName("Should rank carriers by their discounted price")
+    void shouldRankCarriersByDiscountedPrice() {
+        final QuoteShipmentUseCase.Output output = useCase.execute(input(2.5, null));
+
+        assertThat(output.options()).extracting(QuoteShipmentUseCase.QuoteOption::carrierId)
+                .containsExactly(discounted.value(), cheap.value());
+        assertThat(output.options().get(0).basePrice()).isEqualByComparingTo("21.00");
+        assertThat(output.options().get(0).price()).isEqualByComparingTo("14.70");
+        assertThat(output.options().get(1).price()).isEqualByComparingTo("16.00");
+        assertThat(output.partial()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should return partial results when a carrier misses the deadline")
+    void shouldReturnPartialResultsAfterDeadline() {
+        rateRepository.delay(cheap, Duration.ofSeconds(5));
+
+        final long started = System.nanoTime();
+        final QuoteShipmentUseCase.Output output = useCase.execute(input(1.0, 200));
+
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(2));
+        assertThat(output.options()).extracting(QuoteShipmentUseCase.QuoteOption::carrierId).containsExactly(discounted.value());
+        assertThat(output.pendingCarriers()).containsExactly(cheap.value());
+        assertThat(output.partial()).isTrue();
+        assertThat(quoteMetricsGateway.outcomeOf(cheap)).isEqualTo(CarrierOutcome.TIMED_OUT);
+        assertThat(quoteMetricsGateway.quotes()).containsExactly(true);
+    }
+
+    @Test
+    @DisplayName("Should report carriers without a rate for the service level as unavailable")
+    void shouldReportCarriersWithoutRate() {
+        final QuoteShipmentUseCase.Output output = useCase.execute(new QuoteShipmentUseCase.Input(
+                shipper.value(), "01310-100", "20040-002", 1.0, "EXPRESS", null, null, null, null));
+
+        assertThat(output.options()).isEmpty();
+        assertThat(output.unavailableCarriers()).containsExactlyInAnyOrder(cheap.value(), discounted.value());
+        assertThat(quoteMetricsGateway.outcomeOf(cheap)).isEqualTo(CarrierOutcome.NO_RATE);
+    }
+
+    @Test
+    @DisplayName("Should expose lane, weight and service level to agreement conditions")
+    void shouldExposeShipmentToAgreementConditions() {
+        useCase.execute(new QuoteShipmentUseCase.Input(
+                shipper.value(), "01310-100", "20040-002", 3.0, null, null, Map.of("weightKg", 99, "fragile", true), null, null));
+
+        assertThat(carrierAgreementRepository.shipments()).singleElement().satisfies(shipment -> assertThat(shipment)
+                .containsEntry("weightKg", 3.0)
+                .containsEntry("origin", "01310100")
+                .containsEntry("serviceLevel", "STANDARD")
+                .containsEntry("fragile", true));
+    }
+
+    @Test
+    @DisplayName("Should serve requotes in the same postal prefixes and weight band from cache")
+    void shouldServeRequotesFromCache() {
+        final QuoteShipmentUseCase.Output first = useCase.execute(input("01310-100", "20040-002", 2.1, null, false));
+        final QuoteShipmentUseCase.Output second = useCase.execute(input("01310-999", "20040-555", 2.9, null, false));
+
+        assertThat(second).isEqualTo(first);
+        assertThat(carrierAgreementRepository.shipments()).hasSize(1);
+        assertThat(quoteMetricsGateway.cacheHitsOf(cheap)).isEqualTo(1);
+
+        useCase.execute(input("01310-100", "20040-002", 3.1, null, false));
+        assertThat(carrierAgreementRepository.shipments()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should share cached quotes no wider than the finest rate card prices")
+    void shouldKeyCacheByFinestRateCardGranularity() {
+        rateRepository.granularity(new Granularity(8, 500));
+
+        useCase.execute(input("01310-100", "20040-002", 2.1, null, false));
+        useCase.execute(input("01310-100", "20040-002", 2.4, null, false));
+        assertThat(carrierAgreementRepository.shipments()).hasSize(1);
+
+        useCase.execute(input("01310-100", "20040-002", 2.6, null, false));
+        useCase.execute(input("01310-999", "20040-002", 2.6, null, false));
+        assertThat(carrierAgreementRepository.shipments()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Should price again once a carrier's rate card version changes")
+    void shouldPriceAgainAfterRateCardChange() {
+        useCase.execute(input(2.5, null));
+        rateRepository.rateCardVersion(discounted, 2);
+        useCase.execute(input(2.5, null));
+        useCase.execute(input(2.5, null));
+
+        assertThat(carrierAgreementRepository.shipments()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should bypass the cache when asked and never cache partial quotes")
+    void shouldBypassCacheAndSkipPartialQuotes() {
+        useCase.execute(input(2.5, null));
+        useCase.execute(input("01310-100", "20040-002", 2.5, null, true));
+        assertThat(carrierAgreementRepository.shipments()).hasSize(2);
+
+        rateRepository.delay(cheap, Duration.ofSeconds(5));
+        useCase.execute(input(7.0, 200));
+        useCase.execute(input(7.0, 200));
+        assertThat(carrierAgreementRepository.shipments()).hasSize(4);
+        assertThat(quoteCacheGateway.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid weights, postal codes and deadlines")
+    void shouldRejectInvalidInput() {
+        assertThatThrownBy(() -> useCase.execute(input(0.0, null))).isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> useCase.execute(input(1.0, 60_000))).isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> useCase.execute(new QuoteShipmentUseCase.Input(
+                shipper.value(), "0131", "20040-002", 1.0, null, null, null, null, null))).isInstanceOf(ValidationException.class);
+    }
+
+    private QuoteShipmentUseCase.Input input(final double weightKg, final Integer deadlineMillis) {
+        return input("01310-100", "20040-002", weightKg, deadlineMillis, false);
+    }
+
+    private QuoteShipmentUseCase.Input input(final String origin,
+                                             final String destination,
+                                             final double weightKg,
+                                             final Integer deadlineMillis,
+                                             final boolean bypassCache) {
+        return new QuoteShipmentUseCase.Input(shipper.value(), origin, destination, weightKg, "standard", null, null, deadlineMillis, bypassCache);
+    }
+}
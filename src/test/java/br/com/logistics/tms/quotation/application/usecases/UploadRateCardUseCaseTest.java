@@ -0,0 +1,78 @@
+package br.com.logistics.tms.quotation.application.usecases;
+
+import br.com.logistics.tms.AbstractTestBase;
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
+import br.com.logistics.tms.quotation.application.repositories.FakeRateCardRepository;
+import br.com.logistics.tms.quotation.domain.CompanyId;
+import br.com.logistics.tms.quotation.domain.Lane;
+import br.com.logistics.tms.quotation.domain.Rate;
+import br.com.logistics.tms.quotation.domain.ServiceLevel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UploadRateCardUseCaseTest extends AbstractTestBase {
+
+    private FakeRateCardRepository rateCardRepository;
+    private UploadRateCardUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        rateCardRepository = new FakeRateCardRepository();
+        useCase = new UploadRateCardUseCase(rateCardRepository);
+    }
+
+    @Test
+    @DisplayName("Should store each upload as the carrier's next rate card version")
+    void shouldStoreUploadAsNextVersion() {
+        final CompanyId carrierId = CompanyId.unique();
+        final String csv = """
+                origin_prefix,destination_prefix,service_level,max_weight_kg,price,transit_days
+                01310,20040,STANDARD,5,15.00,2
+                01310,20040,STANDARD,10.5,25.90,2
+
+                01310,30110,EXPRESS,5,40,1
+                """;
+
+        useCase.execute(new UploadRateCardUseCase.Input(carrierId.value(), csv("01310,20040,ECONOMY,5,9.90,5")));
+        final UploadRateCardUseCase.Output output = useCase.execute(new UploadRateCardUseCase.Input(carrierId.value(), csv(csv)));
+
+        assertThat(output.version()).isEqualTo(2);
+        assertThat(output.prefixLength()).isEqualTo(5);
+        assertThat(output.lanes()).isEqualTo(2);
+        assertThat(output.rows()).isEqualTo(3);
+        assertThat(rateCardRepository.active(carrierId).rateFor(Lane.of("01310-100", "20040-020"), 7, ServiceLevel.STANDARD))
+                .contains(new Rate(2590, 2));
+    }
+
+    @Test
+    @DisplayName("Should reject a rate card row with the wrong number of columns, naming the line")
+    void shouldRejectMalformedRow() {
+        final String csv = """
+                01310,20040,STANDARD,5,15.00,2
+                01310,20040,STANDARD,10,25.90
+                """;
+
+        assertThatThrownBy(() -> useCase.execute(new UploadRateCardUseCase.Input(CompanyId.unique().value(), csv(csv))))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("line 2");
+    }
+
+    @Test
+    @DisplayName("Should reject prices with fractions of a cent")
+    void shouldRejectFractionalCents() {
+        assertThatThrownBy(() -> useCase.execute(new UploadRateCardUseCase.Input(CompanyId.unique().value(), csv("01310,20040,STANDARD,5,15.001,2"))))
+                .isInstanceOf(ValidationException.class);
+    }
+
+    private static InputStream csv(final String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,38 @@
+package br.com.logistics.tms.quotation.domain;
+
+import br.com.logistics.tms.AbstractTestBase;
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QuoteTest extends AbstractTestBase {
+
+    @Test
+    @DisplayName("Should round the discounted price half up to the cent")
+    void shouldRoundDiscountedPriceHalfUp() {
+        final Quote quote = new Quote(CompanyId.unique(), UUID.randomUUID(), ServiceLevel.STANDARD, new Rate(1999, 3), 12.5);
+
+        assertThat(quote.priceCents()).isEqualTo(1749);
+    }
+
+    @Test
+    @DisplayName("Should charge tariffs per started kilogram")
+    void shouldChargePerStartedKilogram() {
+        final CarrierTariff tariff = new CarrierTariff(CompanyId.unique(), ServiceLevel.EXPRESS, 500, 150, 1);
+
+        assertThat(tariff.rateFor(2.01).priceCents()).isEqualTo(950);
+        assertThat(tariff.rateFor(3.0).priceCents()).isEqualTo(950);
+    }
+
+    @Test
+    @DisplayName("Should reject discounts outside 0 to 100 percent")
+    void shouldRejectInvalidDiscount() {
+        assertThatThrownBy(() -> new Quote(CompanyId.unique(), UUID.randomUUID(), ServiceLevel.STANDARD, new Rate(100, 1), 120.0))
+                .isInstanceOf(ValidationException.class);
+    }
+}
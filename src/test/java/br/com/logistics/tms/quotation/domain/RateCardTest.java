@@ -0,0 +1,97 @@
+package br.com.logistics.tms.quotation.domain;
+
+import br.com.logistics.tms.AbstractTestBase;
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RateCardTest extends AbstractTestBase {
+
+    private static final Lane SAO_PAULO_TO_RIO = Lane.of("01310-100", "20040-020");
+
+    @Test
+    @DisplayName("Should price a shipment with the first weight band that fits it")
+    void shouldPriceWithFirstFittingBand() {
+        final RateCard card = RateCard.builder(5)
+                .add("01310", "20040", ServiceLevel.STANDARD, 30, 4500, 3)
+                .add("01310", "20040", ServiceLevel.STANDARD, 5, 1500, 2)
+                .add("01310", "20040", ServiceLevel.STANDARD, 10, 2500, 2)
+                .add("01310", "20040", ServiceLevel.EXPRESS, 5, 3000, 1)
+                .build();
+
+        assertThat(card.rateFor(SAO_PAULO_TO_RIO, 0.3, ServiceLevel.STANDARD)).contains(new Rate(1500, 2));
+        assertThat(card.rateFor(SAO_PAULO_TO_RIO, 5.0, ServiceLevel.STANDARD)).contains(new Rate(1500, 2));
+        assertThat(card.rateFor(SAO_PAULO_TO_RIO, 5.001, ServiceLevel.STANDARD)).contains(new Rate(2500, 2));
+        assertThat(card.rateFor(SAO_PAULO_TO_RIO, 12, ServiceLevel.STANDARD)).contains(new Rate(4500, 3));
+        assertThat(card.rateFor(SAO_PAULO_TO_RIO, 4, ServiceLevel.EXPRESS)).contains(new Rate(3000, 1));
+    }
+
+    @Test
+    @DisplayName("Should not price lanes, service levels or weights the card does not cover")
+    void shouldNotPriceUncoveredShipments() {
+        final RateCard card = RateCard.builder(5)
+                .add("01310", "20040", ServiceLevel.STANDARD, 10, 2500, 2)
+                .add("20040", "01310", ServiceLevel.STANDARD, 10, 2600, 2)
+                .build();
+
+        assertThat(card.rateFor(Lane.of("01311-000", "20040-020"), 1, ServiceLevel.STANDARD)).isEmpty();
+        assertThat(card.rateFor(SAO_PAULO_TO_RIO, 1, ServiceLevel.ECONOMY)).isEmpty();
+        assertThat(card.rateFor(SAO_PAULO_TO_RIO, 10.5, ServiceLevel.STANDARD)).isEmpty();
+        assertThat(card.lanes()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should report the largest weight step all of its breakpoints fall on")
+    void shouldReportWeightStep() {
+        assertThat(RateCard.builder(5)
+                .add("01310", "20040", ServiceLevel.STANDARD, 5, 1500, 2)
+                .add("01310", "20040", ServiceLevel.STANDARD, 30, 4500, 3)
+                .build().weightStepGrams()).isEqualTo(5000);
+        assertThat(RateCard.builder(5)
+                .add("01310", "20040", ServiceLevel.STANDARD, 5, 1500, 2)
+                .add("01310", "20040", ServiceLevel.STANDARD, 10.5, 2590, 2)
+                .build().weightStepGrams()).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("Should price the same after being written and read back")
+    void shouldRoundTripThroughBinaryForm() throws IOException {
+        final RateCard.Builder builder = RateCard.builder(3);
+        for (int origin = 100; origin < 130; origin++) {
+            for (int destination = 200; destination < 230; destination++) {
+                for (int band = 1; band <= 4; band++) {
+                    builder.add(String.valueOf(origin), String.valueOf(destination), ServiceLevel.ECONOMY, band * 10, origin + destination + band, band);
+                }
+            }
+        }
+        final RateCard card = builder.build();
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        card.writeTo(new DataOutputStream(bytes));
+        final RateCard restored = RateCard.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        final Lane lane = Lane.of("12500-000", "21700-000");
+        assertThat(restored.rows()).isEqualTo(3600);
+        assertThat(restored.footprintBytes()).isEqualTo(card.footprintBytes());
+        assertThat(restored.rateFor(lane, 25, ServiceLevel.ECONOMY)).contains(new Rate(125 + 217 + 3, 3));
+    }
+
+    @Test
+    @DisplayName("Should reject a weight band repeated on the same lane and service level")
+    void shouldRejectRepeatedWeightBand() {
+        final RateCard.Builder builder = RateCard.builder(5)
+                .add("01310", "20040", ServiceLevel.STANDARD, 10, 2500, 2)
+                .add("01310", "20040", ServiceLevel.STANDARD, 10, 2700, 2);
+
+        assertThatThrownBy(builder::build).isInstanceOf(ValidationException.class);
+    }
+}
@@ -0,0 +1,68 @@
+package br.com.logistics.tms.quotation.infrastructure.gateways;
+
+import br.com.logistics.tms.AbstractTestBase;
+import br.com.logistics.tms.quotation.application.gateways.QuoteCacheGateway.CachedQuote;
+import br.com.logistics.tms.quotation.application.gateways.QuoteCacheGateway.Fingerprint;
+import br.com.logistics.tms.quotation.domain.CompanyId;
+import br.com.logistics.tms.quotation.domain.ServiceLevel;
+import br.com.logistics.tms.quotation.infrastructure.config.QuoteCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CaffeineQuoteCacheGatewayTest extends AbstractTestBase {
+
+    private CaffeineQuoteCacheGateway gateway;
+    private CompanyId shipper;
+    private CompanyId carrier;
+
+    @BeforeEach
+    void setUp() {
+        gateway = new CaffeineQuoteCacheGateway(new QuoteCacheProperties(Duration.ofMinutes(1), 1024 * 1024));
+        shipper = CompanyId.unique();
+        carrier = CompanyId.unique();
+    }
+
+    @Test
+    @DisplayName("Should drop entries quoted for or priced by a company whose agreements changed")
+    void shouldInvalidateByShipperOrCarrier() {
+        final Fingerprint quotedBefore = fingerprint(shipper, 1);
+        final Fingerprint pricedByCarrier = fingerprint(CompanyId.unique(), 1);
+        final Fingerprint unrelated = fingerprint(CompanyId.unique(), 2);
+        gateway.put(quotedBefore, quote(CompanyId.unique()), gateway.generation());
+        gateway.put(pricedByCarrier, quote(carrier), gateway.generation());
+        gateway.put(unrelated, quote(CompanyId.unique()), gateway.generation());
+
+        gateway.invalidate(Set.of(shipper, carrier));
+
+        assertThat(gateway.find(quotedBefore)).isEmpty();
+        assertThat(gateway.find(pricedByCarrier)).isEmpty();
+        assertThat(gateway.find(unrelated)).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should not keep a quote priced across an invalidation")
+    void shouldNotKeepQuotePricedAcrossInvalidation() {
+        final long generation = gateway.generation();
+        gateway.invalidate(Set.of(CompanyId.unique()));
+
+        gateway.put(fingerprint(shipper, 1), quote(carrier), generation);
+
+        assertThat(gateway.find(fingerprint(shipper, 1))).isEmpty();
+    }
+
+    private static Fingerprint fingerprint(final CompanyId shipperId, final int weightBand) {
+        return new Fingerprint(shipperId, "01310", "20040", weightBand, ServiceLevel.STANDARD, Map.of());
+    }
+
+    private static CachedQuote quote(final CompanyId carrierId) {
+        return new CachedQuote(List.of(), List.of(carrierId.value()), Map.of(carrierId, 0));
+    }
+}
@@ -1,15 +1,22 @@
 package br.com.logistics.tms.shipmentorder.application.repositories;
 
+import br.com.logistics.tms.commons.domain.Status;
 import br.com.logistics.tms.shipmentorder.domain.Company;
 import br.com.logistics.tms.shipmentorder.domain.CompanyId;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 public class FakeCompanyRepository implements CompanyRepository {
 
     private final Map<CompanyId, Company> storage = new HashMap<>();
+    private final Map<CompanyId, Instant> dataVersions = new HashMap<>();
+    private final Map<CompanyId, Instant> statusVersions = new HashMap<>();
 
     @Override
     public Company save(final Company company) {
@@ -17,6 +24,36 @@ public class FakeCompanyRepository implements CompanyRepository {
         return company;
     }
 
+    @Override
+    public boolean synchronize(final CompanyId companyId,
+                               final Map<String, Object> data,
+                               final Status status,
+                               final Instant occurredOn) {
+        final Company existing = storage.get(companyId);
+        if (existing == null) {
+            final Company created = Company.createCompany(companyId.value(), data.isEmpty() ? Map.of("types", List.of()) : data);
+            storage.put(companyId, status != null ? created.updateStatus(status) : created);
+            advance(status != null ? statusVersions : dataVersions, companyId, occurredOn);
+            return true;
+        }
+
+        Company updated = existing;
+        final boolean awaitingCreation = !dataVersions.containsKey(companyId) && statusVersions.containsKey(companyId);
+        if (!data.isEmpty() && (existing.getStatus().isActive() || awaitingCreation)
+                && isNotOlder(dataVersions.get(companyId), occurredOn)) {
+            updated = updated.updateData(data);
+            advance(dataVersions, companyId, occurredOn);
+        }
+
+        if (status != null && isNotOlder(statusVersions.get(companyId), occurredOn)) {
+            updated = updated.updateStatus(status);
+            advance(statusVersions, companyId, occurredOn);
+        }
+
+        storage.put(companyId, updated);
+        return updated != existing;
+    }
+
     @Override
     public Optional<Company> findById(final CompanyId companyId) {
         return Optional.ofNullable(storage.get(companyId));
@@ -27,11 +64,40 @@ public class FakeCompanyRepository implements CompanyRepository {
         return storage.containsKey(companyId);
     }
 
+    @Override
+    public Map<CompanyId, Company> findAllById(final Collection<CompanyId> companyIds) {
+        return companyIds.stream()
+                .filter(storage::containsKey)
+                .collect(Collectors.toMap(id -> id, storage::get));
+    }
+
+    @Override
+    public Optional<Company> findReplicatedById(final CompanyId companyId) {
+        return findById(companyId);
+    }
+
+    @Override
+    public Map<CompanyId, Company> findAllReplicatedById(final Collection<CompanyId> companyIds) {
+        return findAllById(companyIds);
+    }
+
     public void clear() {
         storage.clear();
+        dataVersions.clear();
+        statusVersions.clear();
     }
 
     public int count() {
         return storage.size();
     }
+
+    private static boolean isNotOlder(final Instant stored, final Instant incoming) {
+        return stored == null || incoming == null || !stored.isAfter(incoming);
+    }
+
+    private static void advance(final Map<CompanyId, Instant> versions, final CompanyId companyId, final Instant occurredOn) {
+        if (occurredOn != null) {
+            versions.merge(companyId, occurredOn, (current, incoming) -> current.isAfter(incoming) ? current : incoming);
+        }
+    }
 }
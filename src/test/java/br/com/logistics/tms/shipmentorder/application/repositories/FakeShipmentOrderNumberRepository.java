@@ -0,0 +1,15 @@
+package br.com.logistics.tms.shipmentorder.application.repositories;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+public class FakeShipmentOrderNumberRepository implements ShipmentOrderNumberRepository {
+
+    private final Map<UUID, Long> lastNumbers = new HashMap<>();
+
+    @Override
+    public long next(final UUID companyId) {
+        return lastNumbers.merge(companyId, 1L, Long::sum);
+    }
+}
@@ -0,0 +1,100 @@
+package br.com.logistics.tms.shipmentorder.application.repositories;
+
+import br.com.logistics.tms.commons.domain.pagination.Cursor;
+import br.com.logistics.tms.commons.domain.pagination.CursorPage;
+import br.com.logistics.tms.commons.domain.pagination.CursorPageRequest;
+import br.com.logistics.tms.shipmentorder.domain.ShipmentOrder;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+public class FakeShipmentOrderRepository implements ShipmentOrderRepository {
+
+    private final Map<UUID, ShipmentOrder> storage = new LinkedHashMap<>();
+
+    @Override
+    public boolean existsByExternalId(final UUID companyId, final String externalId) {
+        return storage.values().stream()
+                .anyMatch(so -> so.getCompany().equals(companyId) && so.getExternalId().equals(externalId));
+    }
+
+    @Override
+    public CursorPage<ShipmentOrder> getShipmentOrderByCompanyId(final UUID companyId, final ShipmentOrderFilter filter, final CursorPageRequest pageRequest) {
+        final List<ShipmentOrder> ordered = storage.values().stream()
+                .filter(so -> so.getCompany().equals(companyId))
+                .filter(so -> filter.includeArchived() || !so.isArchived())
+                .filter(so -> filter.createdFrom() == null || !so.getCreatedAt().isBefore(filter.createdFrom()))
+                .filter(so -> filter.createdTo() == null || so.getCreatedAt().isBefore(filter.createdTo()))
+                .sorted(Comparator.comparing(ShipmentOrder::getCreatedAt)
+                        .thenComparing(so -> so.getShipmentOrderId().value())
+                        .reversed())
+                .toList();
+        return CursorPage.of(ordered.subList(0, Math.min(ordered.size(), pageRequest.size() + 1)),
+                pageRequest.size(),
+                so -> new Cursor(so.getCreatedAt(), so.getShipmentOrderId().value()),
+                null);
+    }
+
+    @Override
+    public long streamByCompanyId(final UUID companyId,
+                                  final ShipmentOrderFilter filter,
+                                  final Cursor after,
+                                  final Consumer<ShipmentOrder> consumer) {
+        final Comparator<ShipmentOrder> order = Comparator.comparing(ShipmentOrder::getCreatedAt)
+                .thenComparing(so -> so.getShipmentOrderId().value());
+        final List<ShipmentOrder> matching = storage.values().stream()
+                .filter(so -> so.getCompany().equals(companyId))
+                .filter(so -> filter.includeArchived() || !so.isArchived())
+                .filter(so -> filter.createdFrom() == null || !so.getCreatedAt().isBefore(filter.createdFrom()))
+                .filter(so -> filter.createdTo() == null || so.getCreatedAt().isBefore(filter.createdTo()))
+                .filter(so -> after == null || so.getCreatedAt().isAfter(after.position())
+                        || (so.getCreatedAt().equals(after.position()) && so.getShipmentOrderId().value().compareTo(after.id()) > 0))
+                .sorted(order)
+                .toList();
+        matching.forEach(consumer);
+        return matching.size();
+    }
+
+    @Override
+    public Set<String> findExistingExternalIds(final UUID companyId, final Collection<String> externalIds) {
+        return storage.values().stream()
+                .filter(so -> so.getCompany().equals(companyId))
+                .map(ShipmentOrder::getExternalId)
+                .filter(externalIds::contains)
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public ShipmentOrder create(final ShipmentOrder shipmentOrder) {
+        storage.put(shipmentOrder.getShipmentOrderId().value(), shipmentOrder);
+        return shipmentOrder;
+    }
+
+    @Override
+    public List<ShipmentOrder> createAll(final List<ShipmentOrder> shipmentOrders) {
+        shipmentOrders.forEach(this::create);
+        return shipmentOrders;
+    }
+
+    @Override
+    public int archiveCreatedBefore(final Instant cutoff, final int limit) {
+        final List<ShipmentOrder> candidates = storage.values().stream()
+                .filter(so -> !so.isArchived() && so.getCreatedAt().isBefore(cutoff))
+                .sorted(Comparator.comparing(ShipmentOrder::getCreatedAt))
+                .limit(limit)
+                .toList();
+        candidates.forEach(so -> storage.put(so.getShipmentOrderId().value(), new ShipmentOrder(so.getShipmentOrderId(),
+                true, so.getCompany(), so.getShipper(), so.getExternalId(), so.getOrderNumber(), so.getCreatedAt(), so.getUpdatedAt(), Set.of())));
+        return candidates.size();
+    }
+
+    public int count() {
+        return storage.size();
+    }
+
+    public ShipmentOrder get(final UUID shipmentOrderId) {
+        return storage.get(shipmentOrderId);
+    }
+}
@@ -0,0 +1,68 @@
+package br.com.logistics.tms.shipmentorder.application.usecases;
+
+import br.com.logistics.tms.AbstractTestBase;
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
+import br.com.logistics.tms.commons.domain.pagination.CursorPageRequest;
+import br.com.logistics.tms.shipmentorder.application.repositories.FakeShipmentOrderRepository;
+import br.com.logistics.tms.shipmentorder.application.repositories.ShipmentOrderRepository.ShipmentOrderFilter;
+import br.com.logistics.tms.shipmentorder.domain.ShipmentOrder;
+import br.com.logistics.tms.shipmentorder.domain.ShipmentOrderId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ArchiveShipmentOrdersUseCaseTest extends AbstractTestBase {
+
+    private FakeShipmentOrderRepository shipmentOrderRepository;
+    private ArchiveShipmentOrdersUseCase useCase;
+    private UUID companyId;
+
+    @BeforeEach
+    void setUp() {
+        shipmentOrderRepository = new FakeShipmentOrderRepository();
+        useCase = new ArchiveShipmentOrdersUseCase(shipmentOrderRepository);
+        companyId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should archive only orders older than the cutoff, bounded by batch size")
+    void shouldArchiveOnlyOldOrdersInBoundedBatches() {
+        final Instant now = Instant.now();
+        for (int i = 0; i < 3; i++) {
+            shipmentOrderRepository.create(orderCreatedAt(now.minus(100 + i, ChronoUnit.DAYS)));
+        }
+        shipmentOrderRepository.create(orderCreatedAt(now.minus(1, ChronoUnit.DAYS)));
+
+        final Instant cutoff = now.minus(90, ChronoUnit.DAYS);
+        final ArchiveShipmentOrdersUseCase.Output first = useCase.execute(new ArchiveShipmentOrdersUseCase.Input(cutoff, 2));
+        final ArchiveShipmentOrdersUseCase.Output second = useCase.execute(new ArchiveShipmentOrdersUseCase.Input(cutoff, 2));
+
+        assertThat(first.archived()).isEqualTo(2);
+        assertThat(second.archived()).isEqualTo(1);
+        assertThat(shipmentOrderRepository.getShipmentOrderByCompanyId(companyId, new ShipmentOrderFilter(false, null, null), new CursorPageRequest(null, 10, false))
+                .content()).hasSize(1);
+        assertThat(shipmentOrderRepository.getShipmentOrderByCompanyId(companyId, new ShipmentOrderFilter(true, null, null), new CursorPageRequest(null, 10, false))
+                .content()).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid batch size")
+    void shouldRejectInvalidBatchSize() {
+        assertThatThrownBy(() -> useCase.execute(new ArchiveShipmentOrdersUseCase.Input(Instant.now(), 0)))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("batchSize");
+    }
+
+    private ShipmentOrder orderCreatedAt(final Instant createdAt) {
+        return new ShipmentOrder(ShipmentOrderId.unique(), false, companyId, null,
+                "ext-" + UUID.randomUUID(), null, createdAt, createdAt, Set.of());
+    }
+}
@@ -0,0 +1,95 @@
+package br.com.logistics.tms.shipmentorder.application.usecases;
+
+import br.com.logistics.tms.AbstractTestBase;
+import br.com.logistics.tms.builders.domain.shipmentorder.CompanyBuilder;
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
+import br.com.logistics.tms.shipmentorder.application.repositories.FakeCompanyRepository;
+import br.com.logistics.tms.shipmentorder.application.repositories.FakeShipmentOrderNumberRepository;
+import br.com.logistics.tms.shipmentorder.application.repositories.FakeShipmentOrderRepository;
+import br.com.logistics.tms.shipmentorder.domain.Company;
+import br.com.logistics.tms.shipmentorder.domain.ShipmentOrder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CreateShipmentOrderBatchUseCaseTest extends AbstractTestBase {
+
+    private FakeShipmentOrderRepository shipmentOrderRepository;
+    private FakeCompanyRepository companyRepository;
+    private CreateShipmentOrderBatchUseCase useCase;
+
+    private Company company;
+    private Company shipper;
+
+    @BeforeEach
+    void setUp() {
+        shipmentOrderRepository = new FakeShipmentOrderRepository();
+        companyRepository = new FakeCompanyRepository();
+        useCase = new CreateShipmentOrderBatchUseCase(shipmentOrderRepository, companyRepository, new FakeShipmentOrderNumberRepository());
+
+        company = companyRepository.save(CompanyBuilder.aCompany().withTypes("SELLER").build());
+        shipper = companyRepository.save(CompanyBuilder.aCompany().withTypes("LOGISTICS_PROVIDER").build());
+    }
+
+    @Test
+    @DisplayName("Should create valid orders and report a per-item result for rejected ones")
+    void shouldCreateValidOrdersAndRejectInvalidOnes() {
+        shipmentOrderRepository.create(ShipmentOrder.createShipmentOrder(company.getCompanyId().value(), null, "EXISTING", 1));
+
+        final CreateShipmentOrderBatchUseCase.Output output = useCase.execute(new CreateShipmentOrderBatchUseCase.Input(List.of(
+                order(company.getCompanyId().value(), shipper.getCompanyId().value(), "A"),
+                order(company.getCompanyId().value(), null, "EXISTING"),
+                order(company.getCompanyId().value(), null, "A"),
+                order(UUID.randomUUID(), null, "B"),
+                order(company.getCompanyId().value(), company.getCompanyId().value(), "C")
+        )));
+
+        assertThat(output.created()).isEqualTo(1);
+        assertThat(output.rejected()).isEqualTo(4);
+        assertThat(output.results()).extracting(CreateShipmentOrderBatchUseCase.Output.Result::status)
+                .containsExactly("CREATED", "REJECTED", "REJECTED", "REJECTED", "REJECTED");
+        assertThat(output.results().get(1).error()).contains("already exists");
+        assertThat(output.results().get(2).error()).contains("Duplicate externalId");
+        assertThat(output.results().get(3).error()).contains("Company not found");
+        assertThat(output.results().get(4).error()).contains("logistics provider");
+        assertThat(shipmentOrderRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should number created orders per company without reusing numbers")
+    void shouldNumberCreatedOrdersPerCompany() {
+        final Company otherCompany = companyRepository.save(CompanyBuilder.aCompany().withTypes("SELLER").build());
+
+        final CreateShipmentOrderBatchUseCase.Output output = useCase.execute(new CreateShipmentOrderBatchUseCase.Input(List.of(
+                order(company.getCompanyId().value(), null, "A"),
+                order(otherCompany.getCompanyId().value(), null, "A"),
+                order(company.getCompanyId().value(), null, "B")
+        )));
+
+        assertThat(output.results())
+                .extracting(result -> shipmentOrderRepository.get(result.shipmentOrderId()).getOrderNumber())
+                .containsExactly(1L, 1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Should reject batch above the maximum size")
+    void shouldRejectBatchAboveMaximumSize() {
+        final List<CreateShipmentOrderBatchUseCase.Input.Order> orders =
+                Collections.nCopies(501, order(company.getCompanyId().value(), null, "X"));
+
+        assertThatThrownBy(() -> useCase.execute(new CreateShipmentOrderBatchUseCase.Input(orders)))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("at most");
+    }
+
+    private static CreateShipmentOrderBatchUseCase.Input.Order order(final UUID companyId, final UUID shipperId, final String externalId) {
+        return new CreateShipmentOrderBatchUseCase.Input.Order(companyId, shipperId, externalId);
+    }
+}
@@ -0,0 +1,82 @@
+package br.com.logistics.tms.shipmentorder.application.usecases;
+
+import br.com.logistics.tms.AbstractTestBase;
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
+import br.com.logistics.tms.shipmentorder.application.repositories.FakeShipmentOrderRepository;
+import br.com.logistics.tms.shipmentorder.domain.ShipmentOrder;
+import br.com.logistics.tms.shipmentorder.domain.ShipmentOrderId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExportShipmentOrdersUseCaseTest extends AbstractTestBase {
+
+    private FakeShipmentOrderRepository shipmentOrderRepository;
+    private ExportShipmentOrdersUseCase useCase;
+    private UUID companyId;
+    private Instant base;
+
+    @BeforeEach
+    void setUp() {
+        shipmentOrderRepository = new FakeShipmentOrderRepository();
+        useCase = new ExportShipmentOrdersUseCase(shipmentOrderRepository);
+        companyId = UUID.randomUUID();
+        base = Instant.parse("2025-06-01T00:00:00Z");
+        for (int i = 0; i < 5; i++) {
+            final Instant createdAt = base.plus(i, ChronoUnit.HOURS);
+            shipmentOrderRepository.create(new ShipmentOrder(ShipmentOrderId.unique(), false, companyId, null,
+                    "ext-" + i, null, createdAt, createdAt, Set.of()));
+        }
+    }
+
+    @Test
+    @DisplayName("Should export rows in creation order and resume after the last received token")
+    void shouldResumeFromLastReceivedToken() {
+        final List<ExportShipmentOrdersUseCase.Output.Row> firstAttempt = new ArrayList<>();
+        useCase.execute(new ExportShipmentOrdersUseCase.Input(companyId, null, null, false, null))
+                .export()
+                .writeTo(row -> {
+                    if (firstAttempt.size() < 2) firstAttempt.add(row);
+                });
+
+        final List<ExportShipmentOrdersUseCase.Output.Row> resumed = new ArrayList<>();
+        final long exported = useCase.execute(new ExportShipmentOrdersUseCase.Input(companyId, null, null, false,
+                        firstAttempt.getLast().resumeToken()))
+                .export()
+                .writeTo(resumed::add);
+
+        assertThat(firstAttempt).extracting(ExportShipmentOrdersUseCase.Output.Row::externalId).containsExactly("ext-0", "ext-1");
+        assertThat(exported).isEqualTo(3);
+        assertThat(resumed).extracting(ExportShipmentOrdersUseCase.Output.Row::externalId).containsExactly("ext-2", "ext-3", "ext-4");
+    }
+
+    @Test
+    @DisplayName("Should restrict export to the requested date range")
+    void shouldRestrictToDateRange() {
+        final List<ExportShipmentOrdersUseCase.Output.Row> rows = new ArrayList<>();
+        useCase.execute(new ExportShipmentOrdersUseCase.Input(companyId, base.plus(1, ChronoUnit.HOURS),
+                        base.plus(3, ChronoUnit.HOURS), false, null))
+                .export()
+                .writeTo(rows::add);
+
+        assertThat(rows).extracting(ExportShipmentOrdersUseCase.Output.Row::externalId).containsExactly("ext-1", "ext-2");
+    }
+
+    @Test
+    @DisplayName("Should reject an inverted date range before reading any row")
+    void shouldRejectInvertedRange() {
+        assertThatThrownBy(() -> useCase.execute(new ExportShipmentOrdersUseCase.Input(companyId, base, base, false, null)))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("createdFrom");
+    }
+}
@@ -9,6 +9,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.UUID;
 
@@ -392,4 +394,71 @@ class SynchronizeCompanyUseCaseTest {
         assertThatCompany(savedCompany)
                 .isActive();
     }
+
+    @Test
+    @DisplayName("Should ignore a types change older than the one already applied")
+    void shouldIgnoreOlderTypesChange() {
+        final UUID companyId = UUID.randomUUID();
+        final Instant now = Instant.now();
+        useCase.execute(SynchronizeCompanyInputBuilder.anInput()
+                .withCompanyId(companyId)
+                .withTypes("LOGISTICS_PROVIDER")
+                .withOccurredOn(now)
+                .build());
+
+        useCase.execute(SynchronizeCompanyInputBuilder.anInput()
+                .withCompanyId(companyId)
+                .withTypes("SELLER")
+                .withOccurredOn(now.minus(1, ChronoUnit.MINUTES))
+                .build());
+
+        assertThatCompany(companyRepository.findById(CompanyId.with(companyId)).orElseThrow())
+                .hasTypes("LOGISTICS_PROVIDER")
+                .hasTypesCount(1);
+    }
+
+    @Test
+    @DisplayName("Should ignore a status change older than the one already applied")
+    void shouldIgnoreOlderStatusChange() {
+        final UUID companyId = UUID.randomUUID();
+        final Instant now = Instant.now();
+        companyRepository.save(CompanyBuilder.aCompany().withCompanyId(companyId).withTypes("SELLER").build());
+
+        useCase.execute(SynchronizeCompanyInputBuilder.anInput()
+                .withCompanyId(companyId)
+                .withDataEntry("status", "D")
+                .withOccurredOn(now)
+                .build());
+        useCase.execute(SynchronizeCompanyInputBuilder.anInput()
+                .withCompanyId(companyId)
+                .withDataEntry("status", "A")
+                .withOccurredOn(now.minus(1, ChronoUnit.MINUTES))
+                .build());
+
+        assertThatCompany(companyRepository.findById(CompanyId.with(companyId)).orElseThrow())
+                .isDeleted();
+    }
+
+    @Test
+    @DisplayName("Should keep a status that arrived before the company creation and still take the creation types")
+    void shouldKeepStatusReceivedBeforeCreation() {
+        final UUID companyId = UUID.randomUUID();
+        final Instant now = Instant.now();
+
+        useCase.execute(SynchronizeCompanyInputBuilder.anInput()
+                .withCompanyId(companyId)
+                .withDataEntry("status", "S")
+                .withOccurredOn(now)
+                .build());
+        useCase.execute(SynchronizeCompanyInputBuilder.anInput()
+                .withCompanyId(companyId)
+                .withTypes("SELLER")
+                .withOccurredOn(now.minus(1, ChronoUnit.MINUTES))
+                .build());
+
+        assertThatCompany(companyRepository.findById(CompanyId.with(companyId)).orElseThrow())
+                .isSuspended()
+                .hasTypes("SELLER")
+                .hasTypesCount(1);
+    }
 }
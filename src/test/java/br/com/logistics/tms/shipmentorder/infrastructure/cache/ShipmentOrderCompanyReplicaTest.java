@@ -0,0 +1,135 @@
+package br.com.logistics.tms.shipmentorder.infrastructure.cache;
+
+import br.com.logistics.tms.AbstractTestBase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ShipmentOrderCompanyReplicaTest extends AbstractTestBase {
+
+    @Test
+    @DisplayName("Should answer loaded companies without reading the table")
+    void shouldServeLoadedCompaniesFromMemory() {
+        final ShipmentOrderCompanyReplica replica = new ShipmentOrderCompanyReplica();
+        final ShipmentOrderCompanyRow company = company(UUID.randomUUID());
+        final AtomicInteger reads = new AtomicInteger();
+
+        assertThat(replica.load(List.of(company))).isEqualTo(1);
+
+        final Map<UUID, ShipmentOrderCompanyRow> found = replica.findAll(Set.of(company.companyId()), ids -> {
+            reads.incrementAndGet();
+            return Map.of();
+        });
+
+        assertThat(found).containsEntry(company.companyId(), company);
+        assertThat(reads).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("Should not let the startup snapshot overwrite a company changed while loading")
+    void shouldKeepChangesMadeWhileLoading() {
+        final ShipmentOrderCompanyReplica replica = new ShipmentOrderCompanyReplica();
+        final UUID id = UUID.randomUUID();
+        final ShipmentOrderCompanyRow stale = company(id);
+        final ShipmentOrderCompanyRow saved = company(id);
+
+        replica.put(saved);
+        replica.load(List.of(stale));
+
+        assertThat(replica.findAll(Set.of(id), ids -> Map.of()).get(id))
+                .isSameAs(saved);
+    }
+
+    @Test
+    @DisplayName("Should not fill the replica from the table before loading finishes")
+    void shouldNotFillBeforeLoading() {
+        final ShipmentOrderCompanyReplica replica = new ShipmentOrderCompanyReplica();
+        final ShipmentOrderCompanyRow company = company(UUID.randomUUID());
+        final Table table = new Table(company);
+
+        replica.findAll(Set.of(company.companyId()), table::read);
+        replica.findAll(Set.of(company.companyId()), table::read);
+
+        assertThat(replica.isLoaded()).isFalse();
+        assertThat(table.reads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should read an evicted company from the table once, then serve it from memory")
+    void shouldRefillAfterEviction() {
+        final ShipmentOrderCompanyReplica replica = new ShipmentOrderCompanyReplica();
+        final ShipmentOrderCompanyRow company = company(UUID.randomUUID());
+        final Table table = new Table(company);
+        replica.load(List.of(company));
+
+        replica.evict(company.companyId());
+        replica.findAll(Set.of(company.companyId()), table::read);
+        replica.findAll(Set.of(company.companyId()), table::read);
+
+        assertThat(table.reads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should drop a table read that raced with an eviction")
+    void shouldNotFillFromReadThatRacedWithEviction() {
+        final ShipmentOrderCompanyReplica replica = new ShipmentOrderCompanyReplica();
+        final ShipmentOrderCompanyRow stale = company(UUID.randomUUID());
+        final UUID id = stale.companyId();
+        final Table table = new Table(stale);
+        replica.load(List.of());
+
+        replica.findAll(Set.of(id), ids -> {
+            replica.evict(id);
+            return table.read(ids);
+        });
+        replica.findAll(Set.of(id), table::read);
+
+        assertThat(table.reads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should re-read a company from the table once its copy has expired")
+    void shouldRereadExpiredCompany() {
+        final ShipmentOrderCompanyReplica replica = new ShipmentOrderCompanyReplica(Duration.ZERO);
+        final ShipmentOrderCompanyRow company = company(UUID.randomUUID());
+        final Table table = new Table(company);
+        replica.load(List.of(company));
+
+        replica.findAll(Set.of(company.companyId()), table::read);
+        replica.findAll(Set.of(company.companyId()), table::read);
+
+        assertThat(table.reads).hasValue(2);
+    }
+
+    private static ShipmentOrderCompanyRow company(final UUID id) {
+        return new ShipmentOrderCompanyRow(id, Map.of("types", List.of("SELLER")), 'A');
+    }
+
+    private static final class Table {
+
+        private final ShipmentOrderCompanyRow company;
+        private final AtomicInteger reads = new AtomicInteger();
+
+        private Table(final ShipmentOrderCompanyRow company) {
+            this.company = company;
+        }
+
+        private Map<UUID, ShipmentOrderCompanyRow> read(final Set<UUID> ids) {
+            reads.incrementAndGet();
+            final Map<UUID, ShipmentOrderCompanyRow> rows = new HashMap<>();
+            if (ids.contains(company.companyId())) {
+                rows.put(company.companyId(), company);
+            }
+            return rows;
+        }
+    }
+}
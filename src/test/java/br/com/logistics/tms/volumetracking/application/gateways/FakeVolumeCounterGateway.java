@@ -0,0 +1,38 @@
+package br.com.logistics.tms.volumetracking.application.gateways;
+
+import br.com.logistics.tms.volumetracking.domain.Granularity;
+import br.com.logistics.tms.volumetracking.domain.VolumeCount;
+import br.com.logistics.tms.volumetracking.domain.VolumeSubject;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public class FakeVolumeCounterGateway implements VolumeCounterGateway {
+
+    private final List<VolumeCount> pending = new ArrayList<>();
+
+    @Override
+    public void record(final VolumeSubject subject, final Instant occurredOn) {
+        for (final Granularity granularity : Granularity.values()) {
+            pending.add(new VolumeCount(subject, granularity, granularity.bucketOf(occurredOn), 1));
+        }
+    }
+
+    @Override
+    public List<VolumeCount> drain() {
+        final List<VolumeCount> drained = List.copyOf(pending);
+        pending.clear();
+        return drained;
+    }
+
+    @Override
+    public void restore(final Collection<VolumeCount> counts) {
+        pending.addAll(counts);
+    }
+
+    public List<VolumeCount> pending() {
+        return List.copyOf(pending);
+    }
+}
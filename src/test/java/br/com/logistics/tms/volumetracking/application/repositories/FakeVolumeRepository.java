@@ -0,0 +1,42 @@
+package br.com.logistics.tms.volumetracking.application.repositories;
+
+import br.com.logistics.tms.volumetracking.domain.Granularity;
+import br.com.logistics.tms.volumetracking.domain.VolumeCapacity;
+import br.com.logistics.tms.volumetracking.domain.VolumeSubject;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+public class FakeVolumeRepository implements VolumeRepository {
+
+    private final Map<VolumeSubject, Map<Granularity, Map<Long, Long>>> shipments = new HashMap<>();
+    private final Map<VolumeSubject, Map<Granularity, VolumeCapacity>> capacities = new HashMap<>();
+
+    @Override
+    public Map<Long, Long> findShipments(final VolumeSubject subject,
+                                         final Granularity granularity,
+                                         final long fromBucket,
+                                         final long toBucket) {
+        final Map<Long, Long> window = new HashMap<>();
+        shipments.getOrDefault(subject, Map.of()).getOrDefault(granularity, Map.of()).forEach((bucket, count) -> {
+            if (bucket >= fromBucket && bucket < toBucket) window.put(bucket, count);
+        });
+        return window;
+    }
+
+    @Override
+    public Optional<VolumeCapacity> findCapacity(final VolumeSubject subject, final Granularity granularity) {
+        return Optional.ofNullable(capacities.getOrDefault(subject, Map.of()).get(granularity));
+    }
+
+    public void save(final VolumeSubject subject, final Granularity granularity, final long bucket, final long count) {
+        shipments.computeIfAbsent(subject, ignored -> new HashMap<>())
+                .computeIfAbsent(granularity, ignored -> new HashMap<>())
+                .put(bucket, count);
+    }
+
+    public void save(final VolumeCapacity capacity) {
+        capacities.computeIfAbsent(capacity.subject(), ignored -> new HashMap<>()).put(capacity.granularity(), capacity);
+    }
+}
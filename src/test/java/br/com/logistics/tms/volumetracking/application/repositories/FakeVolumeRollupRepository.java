@@ -0,0 +1,35 @@
+package br.com.logistics.tms.volumetracking.application.repositories;
+
+import br.com.logistics.tms.volumetracking.domain.Granularity;
+import br.com.logistics.tms.volumetracking.domain.VolumeCount;
+import br.com.logistics.tms.volumetracking.domain.VolumeSubject;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+public class FakeVolumeRollupRepository implements VolumeRollupRepository {
+
+    private final Map<Key, Long> rollups = new HashMap<>();
+    private boolean failing;
+
+    @Override
+    public void add(final Collection<VolumeCount> counts) {
+        if (failing) {
+            throw new IllegalStateException("database unavailable");
+        }
+        counts.forEach(count -> rollups.merge(
+                new Key(count.subject(), count.granularity(), count.bucket()), count.shipments(), Long::sum));
+    }
+
+    public void failing(final boolean failing) {
+        this.failing = failing;
+    }
+
+    public long shipments(final VolumeSubject subject, final Granularity granularity, final long bucket) {
+        return rollups.getOrDefault(new Key(subject, granularity, bucket), 0L);
+    }
+
+    private record Key(VolumeSubject subject, Granularity granularity, long bucket) {
+    }
+}
@@ -0,0 +1,68 @@
+package br.com.logistics.tms.volumetracking.application.usecases;
+
+import br.com.logistics.tms.AbstractTestBase;
+import br.com.logistics.tms.volumetracking.application.gateways.FakeVolumeCounterGateway;
+import br.com.logistics.tms.volumetracking.application.repositories.FakeVolumeRollupRepository;
+import br.com.logistics.tms.volumetracking.domain.Granularity;
+import br.com.logistics.tms.volumetracking.domain.VolumeSubject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FlushVolumeCountersUseCaseTest extends AbstractTestBase {
+
+    private static final Instant AT = Instant.parse("2026-03-10T14:25:30Z");
+
+    private FakeVolumeCounterGateway volumeCounterGateway;
+    private FakeVolumeRollupRepository volumeRollupRepository;
+    private RecordShipmentVolumeUseCase recordUseCase;
+    private FlushVolumeCountersUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        volumeCounterGateway = new FakeVolumeCounterGateway();
+        volumeRollupRepository = new FakeVolumeRollupRepository();
+        recordUseCase = new RecordShipmentVolumeUseCase(volumeCounterGateway);
+        useCase = new FlushVolumeCountersUseCase(volumeCounterGateway, volumeRollupRepository);
+    }
+
+    @Test
+    @DisplayName("Should add each shipment to its company and shipper buckets at every granularity")
+    void shouldFlushCompanyAndShipperBuckets() {
+        final UUID companyId = UUID.randomUUID();
+        final UUID shipperId = UUID.randomUUID();
+        recordUseCase.execute(new RecordShipmentVolumeUseCase.Input(companyId, shipperId, AT));
+        recordUseCase.execute(new RecordShipmentVolumeUseCase.Input(companyId, null, AT.plusSeconds(60)));
+
+        final FlushVolumeCountersUseCase.Output output = useCase.execute();
+
+        assertThat(output.shipments()).isEqualTo(9);
+        final VolumeSubject company = VolumeSubject.company(companyId);
+        assertThat(volumeRollupRepository.shipments(company, Granularity.MINUTE, Granularity.MINUTE.bucketOf(AT))).isEqualTo(1);
+        assertThat(volumeRollupRepository.shipments(company, Granularity.HOUR, Granularity.HOUR.bucketOf(AT))).isEqualTo(2);
+        assertThat(volumeRollupRepository.shipments(company, Granularity.DAY, Granularity.DAY.bucketOf(AT))).isEqualTo(2);
+        assertThat(volumeRollupRepository.shipments(VolumeSubject.shipper(shipperId), Granularity.DAY, Granularity.DAY.bucketOf(AT))).isEqualTo(1);
+        assertThat(volumeCounterGateway.pending()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep drained counts for the next flush when storing them fails")
+    void shouldRestoreCountsWhenStoringFails() {
+        final UUID companyId = UUID.randomUUID();
+        recordUseCase.execute(new RecordShipmentVolumeUseCase.Input(companyId, null, AT));
+        volumeRollupRepository.failing(true);
+
+        assertThatThrownBy(() -> useCase.execute()).isInstanceOf(IllegalStateException.class);
+        assertThat(volumeCounterGateway.pending()).hasSize(3);
+
+        volumeRollupRepository.failing(false);
+        useCase.execute();
+        assertThat(volumeRollupRepository.shipments(VolumeSubject.company(companyId), Granularity.HOUR, Granularity.HOUR.bucketOf(AT))).isEqualTo(1);
+    }
+}
@@ -0,0 +1,80 @@
+package br.com.logistics.tms.volumetracking.application.usecases;
+
+import br.com.logistics.tms.AbstractTestBase;
+import br.com.logistics.tms.commons.domain.exception.ValidationException;
+import br.com.logistics.tms.volumetracking.application.repositories.FakeVolumeRepository;
+import br.com.logistics.tms.volumetracking.domain.Granularity;
+import br.com.logistics.tms.volumetracking.domain.VolumeCapacity;
+import br.com.logistics.tms.volumetracking.domain.VolumeSubject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GetVolumeUseCaseTest extends AbstractTestBase {
+
+    private static final Instant FROM = Instant.parse("2026-03-10T10:00:00Z");
+    private static final Instant TO = Instant.parse("2026-03-10T13:59:59Z");
+
+    private FakeVolumeRepository volumeRepository;
+    private GetVolumeUseCase useCase;
+    private UUID shipperId;
+
+    @BeforeEach
+    void setUp() {
+        volumeRepository = new FakeVolumeRepository();
+        useCase = new GetVolumeUseCase(volumeRepository);
+        shipperId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should return every bucket in the window, with zero for buckets without shipments")
+    void shouldZeroFillWindow() {
+        final VolumeSubject shipper = VolumeSubject.shipper(shipperId);
+        volumeRepository.save(shipper, Granularity.HOUR, Granularity.HOUR.bucketOf(FROM), 30);
+        volumeRepository.save(shipper, Granularity.HOUR, Granularity.HOUR.bucketOf(FROM.plusSeconds(7200)), 10);
+        volumeRepository.save(shipper, Granularity.HOUR, Granularity.HOUR.bucketOf(FROM.plusSeconds(4 * 3600)), 99);
+
+        final GetVolumeUseCase.Output output = useCase.execute(new GetVolumeUseCase.Input("shipper", shipperId, "hour", FROM, TO));
+
+        assertThat(output.buckets()).extracting(GetVolumeUseCase.Bucket::shipments).containsExactly(30L, 0L, 10L, 0L);
+        assertThat(output.buckets().get(1).start()).isEqualTo(FROM.plusSeconds(3600));
+        assertThat(output.shipments()).isEqualTo(40);
+        assertThat(output.to()).isEqualTo(FROM.plusSeconds(4 * 3600));
+        assertThat(output.capacity()).isNull();
+        assertThat(output.peakUtilization()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should report utilization against the capacity configured for the granularity")
+    void shouldReportUtilizationAgainstCapacity() {
+        final VolumeSubject shipper = VolumeSubject.shipper(shipperId);
+        volumeRepository.save(shipper, Granularity.HOUR, Granularity.HOUR.bucketOf(FROM), 30);
+        volumeRepository.save(shipper, Granularity.HOUR, Granularity.HOUR.bucketOf(FROM.plusSeconds(3600)), 10);
+        volumeRepository.save(new VolumeCapacity(shipper, Granularity.HOUR, 40));
+        volumeRepository.save(new VolumeCapacity(shipper, Granularity.DAY, 1));
+
+        final GetVolumeUseCase.Output output = useCase.execute(new GetVolumeUseCase.Input("SHIPPER", shipperId, "HOUR", FROM, TO));
+
+        assertThat(output.capacity()).isEqualTo(40);
+        assertThat(output.buckets()).extracting(GetVolumeUseCase.Bucket::utilization).containsExactly(0.75, 0.25, 0.0, 0.0);
+        assertThat(output.peakUtilization()).isEqualTo(0.75);
+        assertThat(output.averageUtilization()).isEqualTo(0.25);
+    }
+
+    @Test
+    @DisplayName("Should reject unknown scopes, inverted windows and windows with too many buckets")
+    void shouldRejectInvalidWindows() {
+        assertThatThrownBy(() -> useCase.execute(new GetVolumeUseCase.Input("carrier", shipperId, "hour", FROM, TO)))
+                .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> useCase.execute(new GetVolumeUseCase.Input("shipper", shipperId, "hour", TO.plusSeconds(3600), FROM)))
+                .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> useCase.execute(new GetVolumeUseCase.Input("shipper", shipperId, "minute", FROM.minusSeconds(86400 * 2), TO)))
+                .isInstanceOf(ValidationException.class);
+    }
+}